@@ -48,15 +48,7 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionCall(ContractMethod method, List<Object> params) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        String functionSignature = ABI.buildFunctionString(method);
-
-        List<String> solTypeList = new ArrayList();
-
-        for (ContractIOType contractIOType : method.getInputs()) {
-            solTypeList.add(contractIOType.getTypeAsString());
-        }
-
-        return encodeFunctionCall(functionSignature, solTypeList, params);
+        return method.getInputCodec().encodeFunctionCall(method.getEncodedFunctionSignature(), params);
     }
 
     /**
@@ -214,12 +206,7 @@ public class ABI {
      * @throws IllegalAccessException
      */
     public static String encodeParameters(ContractMethod method, List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        List<String> solTypeList = new ArrayList<>();
-        for(ContractIOType type : method.getInputs()) {
-            solTypeList.add(type.getTypeAsString());
-        }
-
-        return encodeParameters(solTypeList, values);
+        return method.getInputCodec().encode(values);
     }
 
     /**
@@ -297,13 +284,7 @@ public class ABI {
      * @throws ClassNotFoundException
      */
     public static List<Type> decodeParameters(ContractMethod method, String encoded) throws ClassNotFoundException {
-        List<TypeReference<Type>> resultParams = new ArrayList<>();
-
-        for(ContractIOType ioType: method.getOutputs()) {
-            resultParams.add(TypeReference.makeTypeReference(ioType.getTypeAsString()));
-        }
-
-        return FunctionReturnDecoder.decode(encoded, resultParams);
+        return method.getOutputCodec().decode(encoded);
     }
 
     /**
@@ -338,6 +319,26 @@ public class ABI {
         return new EventValues(indexedValues, nonIndexedValues);
     }
 
+    /**
+     * Decodes an ABI encoded log data and indexed topic data with the codecs compiled in the ContractEvent.
+     * @param event A ContractEvent instance.
+     * @param data An ABI-encoded in the data field of a log
+     * @param topics A list of indexed parameter topics of the log.
+     * @return EventValues
+     * @throws ClassNotFoundException
+     */
+    public static EventValues decodeLog(ContractEvent event, String data, List<String> topics) throws ClassNotFoundException {
+        List<Type> nonIndexedValues = event.getNonIndexedCodec().decode(data);
+
+        ABICodec indexedCodec = event.getIndexedCodec();
+        List<Type> indexedValues = new ArrayList<>();
+        for(int i=0; i < indexedCodec.getSolidityTypes().size(); i++) {
+            indexedValues.add(indexedCodec.decodeIndexedValue(i, topics.get(i + 1)));
+        }
+
+        return new EventValues(indexedValues, nonIndexedValues);
+    }
+
     /**
      * Decodes a function call data that composed of function selector and encoded input argument.
      * <pre>Example :
@@ -410,13 +411,6 @@ public class ABI {
             throw new IllegalArgumentException("Invalid function signature: The function signature of the abi as a parameter and the function signatures extracted from the function call string do not match.");
         }
 
-        List<String> inputs = findMethod.getInputs()
-                .stream()
-                .map(ContractIOType::getTypeAsString)
-                .collect(Collectors.toList());
-
-        List<Type> decoded = decodeParameters(inputs, encodedParams);
-
-        return decoded;
+        return findMethod.getInputCodec().decode(encodedParams);
     }
 }
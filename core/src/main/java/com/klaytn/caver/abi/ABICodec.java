@@ -0,0 +1,872 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.Bytes32;
+import com.klaytn.caver.abi.datatypes.generated.Int256;
+import com.klaytn.caver.abi.datatypes.generated.Uint160;
+import com.klaytn.caver.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A precompiled ABI encoder/decoder for a list of solidity types.<p>
+ * Solidity type strings are parsed only once when a codec is compiled, and the constructors of solidity type classes are resolved at that time.
+ * After that, encoding writes values directly into a byte array, and decoding reads values from a byte array without parsing type strings or using reflection.<p>
+ * It produces the same results as {@link ABI#encodeParameters(List, List)} and {@link ABI#decodeParameters(List, String)}.
+ * A codec is immutable, so it can be shared by threads.
+ * <pre>Example :
+ * {@code
+ * ABICodec codec = ABICodec.compile(Arrays.asList("uint256", "tuple(address,string)"));
+ *
+ * String encoded = codec.encode(Arrays.asList(BigInteger.ONE, Arrays.asList("0x{address}", "text")));
+ * List<Type> decoded = codec.decode(encoded);
+ * }
+ * </pre>
+ */
+public class ABICodec {
+    private static final int WORD = Type.MAX_BYTE_LENGTH;
+
+    /**
+     * The list of solidity type strings of the codec.
+     */
+    private final List<String> solidityTypes;
+
+    /**
+     * The compiled type of each parameter.
+     */
+    private final Node[] nodes;
+
+    ABICodec(List<String> solidityTypes, Node[] nodes) {
+        this.solidityTypes = Collections.unmodifiableList(new ArrayList<>(solidityTypes));
+        this.nodes = nodes;
+    }
+
+    /**
+     * Compiles the list of solidity types into a codec.
+     * @param solidityTypes A list of solidity type strings. e.g. "uint256", "string[]", "tuple(address,uint256)"
+     * @return ABICodec
+     * @throws ClassNotFoundException
+     */
+    public static ABICodec compile(List<String> solidityTypes) throws ClassNotFoundException {
+        Node[] nodes = new Node[solidityTypes.size()];
+        for(int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(TypeReference.makeTypeReference(solidityTypes.get(i)));
+        }
+        return new ABICodec(solidityTypes, nodes);
+    }
+
+    /**
+     * Getter for the solidity types of the codec.
+     * @return List
+     */
+    public List<String> getSolidityTypes() {
+        return solidityTypes;
+    }
+
+    /**
+     * Converts values into solidity type instances.
+     * @param values A list of values. Its size must be the same with the number of solidity types.
+     * @return List
+     * @throws InstantiationException
+     */
+    public List<Type> instantiate(List<Object> values) throws InstantiationException {
+        checkSize(values.size());
+
+        List<Type> types = new ArrayList<>(nodes.length);
+        for(int i = 0; i < nodes.length; i++) {
+            types.add(nodes[i].instantiate(values.get(i)));
+        }
+        return types;
+    }
+
+    /**
+     * Encodes values to ABI representation.
+     * @param values A list of values. Its size must be the same with the number of solidity types.
+     * @return String - The hex string without "0x" prefix.
+     * @throws InstantiationException
+     */
+    public String encode(List<Object> values) throws InstantiationException {
+        return Numeric.toHexStringNoPrefix(encodeToBytes(values));
+    }
+
+    /**
+     * Encodes values to ABI representation.
+     * @param values A list of values. Its size must be the same with the number of solidity types.
+     * @return byte[]
+     * @throws InstantiationException
+     */
+    public byte[] encodeToBytes(List<Object> values) throws InstantiationException {
+        List<Type> types = instantiate(values);
+
+        byte[] out = new byte[sequenceSize(nodes, types)];
+        writeSequence(nodes, types, out, 0);
+        return out;
+    }
+
+    /**
+     * Encodes a function call with the encoded function signature and values.
+     * @param functionSelector The encoded function signature. e.g. "0xa9059cbb"
+     * @param values A list of values. Its size must be the same with the number of solidity types.
+     * @return String
+     * @throws InstantiationException
+     */
+    public String encodeFunctionCall(String functionSelector, List<Object> values) throws InstantiationException {
+        return functionSelector + encode(values);
+    }
+
+    /**
+     * Decodes ABI encoded values.
+     * @param encoded The ABI encoded hex string.
+     * @return List
+     */
+    public List<Type> decode(String encoded) {
+        String input = Numeric.cleanHexPrefix(encoded);
+        if(input.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return decode(Numeric.hexStringToByteArray(input));
+    }
+
+    /**
+     * Decodes ABI encoded values.
+     * @param data The ABI encoded data.
+     * @return List
+     */
+    public List<Type> decode(byte[] data) {
+        if(data.length == 0) {
+            return Collections.emptyList();
+        }
+        return readSequence(nodes, data, 0);
+    }
+
+    /**
+     * Decodes an indexed event parameter from its topic.<p>
+     * Dynamic types and arrays are stored as a hash in a topic, so they are returned as Bytes32.
+     * @param index The index of the parameter in the codec.
+     * @param topic The topic hex string.
+     * @return Type
+     */
+    public Type decodeIndexedValue(int index, String topic) {
+        byte[] data = Numeric.hexStringToByteArray(topic);
+        Node node = nodes[index];
+
+        if(node instanceof ArrayNode || node instanceof DynamicBytesNode || node instanceof StringNode) {
+            return new Bytes32(Arrays.copyOf(data, WORD));
+        }
+        return node.read(data, 0);
+    }
+
+    private void checkSize(int size) {
+        if(size != nodes.length) {
+            throw new IllegalArgumentException("The number of values(" + size + ") does not match the number of types(" + nodes.length + ").");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node compile(TypeReference reference) throws ClassNotFoundException {
+        if(reference instanceof TypeReference.StructTypeReference) {
+            List<TypeReference> typeList = ((TypeReference.StructTypeReference)reference).getTypeList();
+
+            Node[] components = new Node[typeList.size()];
+            for(int i = 0; i < components.length; i++) {
+                components[i] = compile(typeList.get(i));
+            }
+            return new StructNode(reference.getClassType(), components);
+        }
+
+        Class<?> type = reference.getClassType();
+        if(reference instanceof TypeReference.StaticArrayTypeReference) {
+            TypeReference subTypeReference = reference.getSubTypeReference();
+            int size = ((TypeReference.StaticArrayTypeReference)reference).getSize();
+            return new StaticArrayNode(type, compile(subTypeReference), subTypeReference.getClassType(), size);
+        }
+        if(DynamicArray.class.isAssignableFrom(type)) {
+            TypeReference subTypeReference = reference.getSubTypeReference();
+            return new DynamicArrayNode(compile(subTypeReference), subTypeReference.getClassType());
+        }
+
+        if(NumericType.class.isAssignableFrom(type)) {
+            Function<BigInteger, NumericType> constructor = TypeFactory.numericType(type);
+            if(constructor == null) {
+                throw new ClassNotFoundException("Unsupported numeric type : " + type.getName());
+            }
+            boolean signed = Int.class.isAssignableFrom(type);
+            return new NumericNode(type, constructor, TypeDecoder.getTypeLengthInBytes((Class<NumericType>)type), signed);
+        }
+        if(Address.class.isAssignableFrom(type)) {
+            return new AddressNode();
+        }
+        if(Bool.class.isAssignableFrom(type)) {
+            return new BoolNode();
+        }
+        if(Bytes.class.isAssignableFrom(type)) {
+            Function<byte[], BytesType> constructor = TypeFactory.bytesType(type);
+            if(constructor == null) {
+                throw new ClassNotFoundException("Unsupported bytes type : " + type.getName());
+            }
+            int length = Integer.parseInt(type.getSimpleName().substring(Bytes.class.getSimpleName().length()));
+            return new BytesNode(type, constructor, length);
+        }
+        if(DynamicBytes.class.isAssignableFrom(type)) {
+            return new DynamicBytesNode();
+        }
+        if(Utf8String.class.isAssignableFrom(type)) {
+            return new StringNode();
+        }
+
+        throw new ClassNotFoundException("Unsupported solidity type : " + type.getName());
+    }
+
+    /**
+     * Returns the size of the encoding of a sequence (parameters, tuple components or array elements).
+     */
+    private static int sequenceSize(Node[] nodes, List<Type> values) {
+        int size = 0;
+        for(int i = 0; i < nodes.length; i++) {
+            size += nodes[i].headSize();
+            if(nodes[i].dynamic) {
+                size += nodes[i].size(values.get(i));
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes a sequence in the head-tail encoding. Offsets of dynamic values are relative to the start of the sequence.
+     */
+    private static void writeSequence(Node[] nodes, List<Type> values, byte[] out, int position) {
+        int head = position;
+        int tail = position;
+        for(Node node : nodes) {
+            tail += node.headSize();
+        }
+
+        for(int i = 0; i < nodes.length; i++) {
+            Node node = nodes[i];
+            Type value = values.get(i);
+            if(node.dynamic) {
+                writeInt(out, head, tail - position);
+                node.write(value, out, tail);
+                tail += node.size(value);
+                head += WORD;
+            } else {
+                node.write(value, out, head);
+                head += node.headSize();
+            }
+        }
+    }
+
+    private static List<Type> readSequence(Node[] nodes, byte[] data, int position) {
+        List<Type> values = new ArrayList<>(nodes.length);
+        int head = position;
+        for(Node node : nodes) {
+            if(node.dynamic) {
+                values.add(node.read(data, position + readInt(data, head)));
+                head += WORD;
+            } else {
+                values.add(node.read(data, head));
+                head += node.headSize();
+            }
+        }
+        return values;
+    }
+
+    private static void writeInt(byte[] out, int position, int value) {
+        int end = position + WORD;
+        out[end - 4] = (byte)(value >>> 24);
+        out[end - 3] = (byte)(value >>> 16);
+        out[end - 2] = (byte)(value >>> 8);
+        out[end - 1] = (byte)value;
+    }
+
+    private static int readInt(byte[] data, int position) {
+        checkBounds(data, position, WORD);
+        for(int i = position; i < position + WORD - 4; i++) {
+            if(data[i] != 0) {
+                throw new IllegalArgumentException("Invalid ABI encoding : too large offset or length at " + position);
+            }
+        }
+
+        int end = position + WORD;
+        int value = ((data[end - 4] & 0xff) << 24) | ((data[end - 3] & 0xff) << 16) | ((data[end - 2] & 0xff) << 8) | (data[end - 1] & 0xff);
+        if(value < 0) {
+            throw new IllegalArgumentException("Invalid ABI encoding : too large offset or length at " + position);
+        }
+        return value;
+    }
+
+    private static void checkBounds(byte[] data, int position, int length) {
+        if(position < 0 || length < 0 || position > data.length - length) {
+            throw new IllegalArgumentException("Invalid ABI encoding : the data is too short to read " + length + " bytes at " + position);
+        }
+    }
+
+    private static List toList(Object value) {
+        if(value instanceof List) {
+            return (List)value;
+        } else if(value.getClass().isArray()) {
+            return TypeDecoder.arrayToList(value);
+        }
+        throw new ClassCastException("Arg of type " + value.getClass() + " should be a list to instantiate Array");
+    }
+
+    private static InstantiationException instantiationException(Class<?> type, Object value) {
+        return new InstantiationException("Could not create type " + type + " from arg " + value.toString() + " of type " + value.getClass());
+    }
+
+    /**
+     * A compiled solidity type.
+     */
+    abstract static class Node {
+        final boolean dynamic;
+
+        Node(boolean dynamic) {
+            this.dynamic = dynamic;
+        }
+
+        /**
+         * Returns the size in the head of an enclosing sequence.
+         * It is the size of encoding for a static type, and the size of an offset for a dynamic type.
+         */
+        abstract int headSize();
+
+        /**
+         * Returns the size of encoding of the value.
+         */
+        int size(Type value) {
+            return headSize();
+        }
+
+        /**
+         * Converts a value into a solidity type instance like {@link TypeDecoder#instantiateType(TypeReference, Object)}.
+         */
+        abstract Type instantiate(Object value) throws InstantiationException;
+
+        /**
+         * Writes the encoding of the value at the position.
+         */
+        abstract void write(Type value, byte[] out, int position);
+
+        /**
+         * Reads a value encoded at the position.
+         */
+        abstract Type read(byte[] data, int position);
+
+        /**
+         * Returns the class used as a component type when instances of this type are decoded as static array elements.
+         */
+        Class<?> instanceClass() {
+            return null;
+        }
+    }
+
+    static final class NumericNode extends Node {
+        private final Class<?> type;
+        private final Function<BigInteger, NumericType> constructor;
+        private final int length;
+        private final boolean signed;
+
+        NumericNode(Class<?> type, Function<BigInteger, NumericType> constructor, int length, boolean signed) {
+            super(false);
+            this.type = type;
+            this.constructor = constructor;
+            this.length = length;
+            this.signed = signed;
+        }
+
+        @Override
+        int headSize() {
+            return WORD;
+        }
+
+        @Override
+        Type instantiate(Object value) throws InstantiationException {
+            BigInteger number = TypeDecoder.asBigInteger(value);
+            if(number == null) {
+                throw instantiationException(type, value);
+            }
+            return constructor.apply(number);
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            writeNumeric(((NumericType)value).getValue(), out, position);
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            checkBounds(data, position, WORD);
+
+            // The same with TypeDecoder.decodeNumeric(). A sign byte is prepended to the value bytes of the type length.
+            byte[] value = new byte[length + 1];
+            if(signed) {
+                value[0] = data[position];
+            }
+            System.arraycopy(data, position + WORD - length, value, 1, length);
+            return constructor.apply(new BigInteger(value));
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            // Uint and Int are encoded as a 256-bit type, so their instances are typed as "uint256" and "int256".
+            if(type == Uint.class) {
+                return Uint256.class;
+            } else if(type == Int.class) {
+                return Int256.class;
+            }
+            return type;
+        }
+
+        static void writeNumeric(BigInteger value, byte[] out, int position) {
+            if(value.signum() < 0) {
+                Arrays.fill(out, position, position + WORD, (byte)0xff);
+            }
+
+            byte[] bytes = value.toByteArray();
+            // A positive 256-bit value has a leading sign byte.
+            int skip = Math.max(0, bytes.length - WORD);
+            System.arraycopy(bytes, skip, out, position + WORD - (bytes.length - skip), bytes.length - skip);
+        }
+    }
+
+    static final class AddressNode extends Node {
+        AddressNode() {
+            super(false);
+        }
+
+        @Override
+        int headSize() {
+            return WORD;
+        }
+
+        @Override
+        Type instantiate(Object value) {
+            if(value instanceof BigInteger) {
+                return new Address((BigInteger)value);
+            } else if(value instanceof Uint) {
+                return new Address((Uint)value);
+            }
+            return new Address(value.toString());
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            NumericNode.writeNumeric(((Address)value).toUint().getValue(), out, position);
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            checkBounds(data, position, WORD);
+            byte[] value = Arrays.copyOfRange(data, position + WORD - Address.DEFAULT_LENGTH / 8, position + WORD);
+            return new Address(new Uint160(new BigInteger(1, value)));
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return Address.class;
+        }
+    }
+
+    static final class BoolNode extends Node {
+        BoolNode() {
+            super(false);
+        }
+
+        @Override
+        int headSize() {
+            return WORD;
+        }
+
+        @Override
+        Type instantiate(Object value) throws InstantiationException {
+            if(value instanceof Boolean) {
+                return new Bool((Boolean)value);
+            }
+
+            BigInteger number = TypeDecoder.asBigInteger(value);
+            if(number == null) {
+                throw instantiationException(Bool.class, value);
+            }
+            return new Bool(!number.equals(BigInteger.ZERO));
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            if(((Bool)value).getValue()) {
+                out[position + WORD - 1] = 1;
+            }
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            checkBounds(data, position, WORD);
+
+            // The same with TypeDecoder.decodeBool(). Only 1 is decoded as true.
+            for(int i = position; i < position + WORD - 1; i++) {
+                if(data[i] != 0) {
+                    return new Bool(false);
+                }
+            }
+            return new Bool(data[position + WORD - 1] == 1);
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return Bool.class;
+        }
+    }
+
+    static final class BytesNode extends Node {
+        private final Class<?> type;
+        private final Function<byte[], BytesType> constructor;
+        private final int length;
+
+        BytesNode(Class<?> type, Function<byte[], BytesType> constructor, int length) {
+            super(false);
+            this.type = type;
+            this.constructor = constructor;
+            this.length = length;
+        }
+
+        @Override
+        int headSize() {
+            return WORD;
+        }
+
+        @Override
+        Type instantiate(Object value) throws InstantiationException {
+            byte[] bytes = toBytes(value);
+            if(bytes == null) {
+                throw instantiationException(type, value);
+            }
+            return constructor.apply(bytes);
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            byte[] bytes = ((BytesType)value).getValue();
+            System.arraycopy(bytes, 0, out, position, bytes.length);
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            checkBounds(data, position, WORD);
+            return constructor.apply(Arrays.copyOfRange(data, position, position + length));
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return type;
+        }
+
+        static byte[] toBytes(Object value) {
+            if(value instanceof byte[]) {
+                return (byte[])value;
+            } else if(value instanceof BigInteger) {
+                return ((BigInteger)value).toByteArray();
+            } else if(value instanceof String) {
+                return Numeric.hexStringToByteArray((String)value);
+            }
+            return null;
+        }
+    }
+
+    static class DynamicBytesNode extends Node {
+        DynamicBytesNode() {
+            super(true);
+        }
+
+        @Override
+        int headSize() {
+            return WORD;
+        }
+
+        @Override
+        int size(Type value) {
+            return WORD + paddedLength(bytes(value).length);
+        }
+
+        @Override
+        Type instantiate(Object value) throws InstantiationException {
+            byte[] bytes = BytesNode.toBytes(value);
+            if(bytes == null) {
+                throw instantiationException(DynamicBytes.class, value);
+            }
+            return new DynamicBytes(bytes);
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            byte[] bytes = bytes(value);
+            writeInt(out, position, bytes.length);
+            System.arraycopy(bytes, 0, out, position + WORD, bytes.length);
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            return new DynamicBytes(readBytes(data, position));
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return DynamicBytes.class;
+        }
+
+        byte[] bytes(Type value) {
+            return ((DynamicBytes)value).getValue();
+        }
+
+        static byte[] readBytes(byte[] data, int position) {
+            int length = readInt(data, position);
+            checkBounds(data, position + WORD, length);
+            return Arrays.copyOfRange(data, position + WORD, position + WORD + length);
+        }
+
+        static int paddedLength(int length) {
+            return (length + WORD - 1) / WORD * WORD;
+        }
+    }
+
+    static final class StringNode extends DynamicBytesNode {
+        @Override
+        Type instantiate(Object value) {
+            return new Utf8String(value.toString());
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            return new Utf8String(new String(readBytes(data, position), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return Utf8String.class;
+        }
+
+        @Override
+        byte[] bytes(Type value) {
+            return ((Utf8String)value).getValue().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    abstract static class ArrayNode extends Node {
+        ArrayNode(boolean dynamic) {
+            super(dynamic);
+        }
+
+        @SuppressWarnings("unchecked")
+        static List<Type> elements(Type value) {
+            return ((Array<Type>)value).getValue();
+        }
+    }
+
+    static final class StaticArrayNode extends ArrayNode {
+        private final Class<?> type;
+        private final Node[] elements;
+        private final Class<?> componentType;
+        private final int size;
+
+        StaticArrayNode(Class<?> type, Node element, Class<?> componentType, int size) {
+            super(element.dynamic);
+            this.type = type;
+            this.componentType = componentType;
+            this.size = size;
+
+            this.elements = new Node[size];
+            Arrays.fill(this.elements, element);
+        }
+
+        @Override
+        int headSize() {
+            return dynamic ? WORD : size * elements[0].headSize();
+        }
+
+        @Override
+        int size(Type value) {
+            return dynamic ? sequenceSize(elements, elements(value)) : headSize();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Type instantiate(Object value) throws InstantiationException {
+            List values = toList(value);
+            List<Type> instances = new ArrayList<>(values.size());
+            for(Object element : values) {
+                instances.add(elements[0].instantiate(element));
+            }
+            return constructor(size).create((Class<Type>)componentType, instances);
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            List<Type> values = elements(value);
+            if(values.size() != size) {
+                throw new IllegalArgumentException("Expected a static array of " + size + " elements, but it has " + values.size() + " elements.");
+            }
+            writeSequence(elements, values, out, position);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Type read(byte[] data, int position) {
+            List<Type> values = readSequence(elements, data, position);
+
+            // The same with TypeDecoder.instantiateStaticArray(). The component type is derived from the decoded elements.
+            Class<?> instanceComponentType = elements[0].instanceClass();
+            return constructor(size).create((Class<Type>)instanceComponentType, values);
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return type;
+        }
+
+        private static TypeFactory.StaticArrayConstructor constructor(int size) {
+            TypeFactory.StaticArrayConstructor constructor = TypeFactory.staticArray(size);
+            if(constructor == null) {
+                throw new UnsupportedOperationException("Static arrays with a length greater than " + StaticArray.MAX_SIZE_OF_STATIC_ARRAY + " are not supported.");
+            }
+            return constructor;
+        }
+    }
+
+    static final class DynamicArrayNode extends ArrayNode {
+        private final Node element;
+        private final Class<?> componentType;
+
+        DynamicArrayNode(Node element, Class<?> componentType) {
+            super(true);
+            this.element = element;
+            this.componentType = componentType;
+        }
+
+        @Override
+        int headSize() {
+            return WORD;
+        }
+
+        @Override
+        int size(Type value) {
+            List<Type> values = elements(value);
+            return WORD + sequenceSize(repeat(values.size()), values);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Type instantiate(Object value) throws InstantiationException {
+            List values = toList(value);
+            List<Type> instances = new ArrayList<>(values.size());
+            for(Object element : values) {
+                instances.add(this.element.instantiate(element));
+            }
+            return new DynamicArray((Class<Type>)componentType, instances);
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            List<Type> values = elements(value);
+            writeInt(out, position, values.size());
+            writeSequence(repeat(values.size()), values, out, position + WORD);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Type read(byte[] data, int position) {
+            int length = readInt(data, position);
+            // Every element takes at least one word, so the length can't exceed the remaining data.
+            checkBounds(data, position + WORD, length * (long)WORD > Integer.MAX_VALUE ? -1 : length * WORD);
+
+            List<Type> values = readSequence(repeat(length), data, position + WORD);
+            return new DynamicArray((Class<Type>)componentType, values);
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return DynamicArray.class;
+        }
+
+        private Node[] repeat(int length) {
+            Node[] nodes = new Node[length];
+            Arrays.fill(nodes, element);
+            return nodes;
+        }
+    }
+
+    static final class StructNode extends ArrayNode {
+        private final Class<?> type;
+        private final Node[] components;
+
+        StructNode(Class<?> type, Node[] components) {
+            super(DynamicStruct.class.isAssignableFrom(type));
+            this.type = type;
+            this.components = components;
+        }
+
+        @Override
+        int headSize() {
+            if(dynamic) {
+                return WORD;
+            }
+
+            int size = 0;
+            for(Node component : components) {
+                size += component.headSize();
+            }
+            return size;
+        }
+
+        @Override
+        int size(Type value) {
+            return dynamic ? sequenceSize(components, elements(value)) : headSize();
+        }
+
+        @Override
+        Type instantiate(Object value) throws InstantiationException {
+            List values = toList(value);
+            List<Type> instances = new ArrayList<>(components.length);
+            for(int i = 0; i < components.length; i++) {
+                instances.add(components[i].instantiate(values.get(i)));
+            }
+            return dynamic ? new DynamicStruct(instances) : new StaticStruct(instances);
+        }
+
+        @Override
+        void write(Type value, byte[] out, int position) {
+            writeSequence(components, elements(value), out, position);
+        }
+
+        @Override
+        Type read(byte[] data, int position) {
+            List<Type> values = readSequence(components, data, position);
+            return dynamic ? new DynamicStruct(values) : new StaticStruct(values);
+        }
+
+        @Override
+        Class<?> instanceClass() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.BytesType;
+import com.klaytn.caver.abi.datatypes.Int;
+import com.klaytn.caver.abi.datatypes.NumericType;
+import com.klaytn.caver.abi.datatypes.StaticArray;
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.abi.datatypes.Uint;
+import com.klaytn.caver.abi.datatypes.generated.*;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Constructors of the generated solidity type classes.<p>
+ * It is used by {@link ABICodec} to create instances of solidity types without looking up the constructors by reflection.
+ */
+final class TypeFactory {
+    private static final Map<Class<?>, Function<BigInteger, NumericType>> NUMERIC_TYPES = new HashMap<>();
+    private static final Map<Class<?>, Function<byte[], BytesType>> BYTES_TYPES = new HashMap<>();
+    private static final StaticArrayConstructor[] STATIC_ARRAYS = new StaticArrayConstructor[StaticArray.MAX_SIZE_OF_STATIC_ARRAY + 1];
+
+    static {
+        NUMERIC_TYPES.put(Uint.class, Uint::new);
+        NUMERIC_TYPES.put(Int.class, Int::new);
+        NUMERIC_TYPES.put(Uint8.class, Uint8::new);
+        NUMERIC_TYPES.put(Uint16.class, Uint16::new);
+        NUMERIC_TYPES.put(Uint24.class, Uint24::new);
+        NUMERIC_TYPES.put(Uint32.class, Uint32::new);
+        NUMERIC_TYPES.put(Uint40.class, Uint40::new);
+        NUMERIC_TYPES.put(Uint48.class, Uint48::new);
+        NUMERIC_TYPES.put(Uint56.class, Uint56::new);
+        NUMERIC_TYPES.put(Uint64.class, Uint64::new);
+        NUMERIC_TYPES.put(Uint72.class, Uint72::new);
+        NUMERIC_TYPES.put(Uint80.class, Uint80::new);
+        NUMERIC_TYPES.put(Uint88.class, Uint88::new);
+        NUMERIC_TYPES.put(Uint96.class, Uint96::new);
+        NUMERIC_TYPES.put(Uint104.class, Uint104::new);
+        NUMERIC_TYPES.put(Uint112.class, Uint112::new);
+        NUMERIC_TYPES.put(Uint120.class, Uint120::new);
+        NUMERIC_TYPES.put(Uint128.class, Uint128::new);
+        NUMERIC_TYPES.put(Uint136.class, Uint136::new);
+        NUMERIC_TYPES.put(Uint144.class, Uint144::new);
+        NUMERIC_TYPES.put(Uint152.class, Uint152::new);
+        NUMERIC_TYPES.put(Uint160.class, Uint160::new);
+        NUMERIC_TYPES.put(Uint168.class, Uint168::new);
+        NUMERIC_TYPES.put(Uint176.class, Uint176::new);
+        NUMERIC_TYPES.put(Uint184.class, Uint184::new);
+        NUMERIC_TYPES.put(Uint192.class, Uint192::new);
+        NUMERIC_TYPES.put(Uint200.class, Uint200::new);
+        NUMERIC_TYPES.put(Uint208.class, Uint208::new);
+        NUMERIC_TYPES.put(Uint216.class, Uint216::new);
+        NUMERIC_TYPES.put(Uint224.class, Uint224::new);
+        NUMERIC_TYPES.put(Uint232.class, Uint232::new);
+        NUMERIC_TYPES.put(Uint240.class, Uint240::new);
+        NUMERIC_TYPES.put(Uint248.class, Uint248::new);
+        NUMERIC_TYPES.put(Uint256.class, Uint256::new);
+        NUMERIC_TYPES.put(Int8.class, Int8::new);
+        NUMERIC_TYPES.put(Int16.class, Int16::new);
+        NUMERIC_TYPES.put(Int24.class, Int24::new);
+        NUMERIC_TYPES.put(Int32.class, Int32::new);
+        NUMERIC_TYPES.put(Int40.class, Int40::new);
+        NUMERIC_TYPES.put(Int48.class, Int48::new);
+        NUMERIC_TYPES.put(Int56.class, Int56::new);
+        NUMERIC_TYPES.put(Int64.class, Int64::new);
+        NUMERIC_TYPES.put(Int72.class, Int72::new);
+        NUMERIC_TYPES.put(Int80.class, Int80::new);
+        NUMERIC_TYPES.put(Int88.class, Int88::new);
+        NUMERIC_TYPES.put(Int96.class, Int96::new);
+        NUMERIC_TYPES.put(Int104.class, Int104::new);
+        NUMERIC_TYPES.put(Int112.class, Int112::new);
+        NUMERIC_TYPES.put(Int120.class, Int120::new);
+        NUMERIC_TYPES.put(Int128.class, Int128::new);
+        NUMERIC_TYPES.put(Int136.class, Int136::new);
+        NUMERIC_TYPES.put(Int144.class, Int144::new);
+        NUMERIC_TYPES.put(Int152.class, Int152::new);
+        NUMERIC_TYPES.put(Int160.class, Int160::new);
+        NUMERIC_TYPES.put(Int168.class, Int168::new);
+        NUMERIC_TYPES.put(Int176.class, Int176::new);
+        NUMERIC_TYPES.put(Int184.class, Int184::new);
+        NUMERIC_TYPES.put(Int192.class, Int192::new);
+        NUMERIC_TYPES.put(Int200.class, Int200::new);
+        NUMERIC_TYPES.put(Int208.class, Int208::new);
+        NUMERIC_TYPES.put(Int216.class, Int216::new);
+        NUMERIC_TYPES.put(Int224.class, Int224::new);
+        NUMERIC_TYPES.put(Int232.class, Int232::new);
+        NUMERIC_TYPES.put(Int240.class, Int240::new);
+        NUMERIC_TYPES.put(Int248.class, Int248::new);
+        NUMERIC_TYPES.put(Int256.class, Int256::new);
+
+        BYTES_TYPES.put(Bytes1.class, Bytes1::new);
+        BYTES_TYPES.put(Bytes2.class, Bytes2::new);
+        BYTES_TYPES.put(Bytes3.class, Bytes3::new);
+        BYTES_TYPES.put(Bytes4.class, Bytes4::new);
+        BYTES_TYPES.put(Bytes5.class, Bytes5::new);
+        BYTES_TYPES.put(Bytes6.class, Bytes6::new);
+        BYTES_TYPES.put(Bytes7.class, Bytes7::new);
+        BYTES_TYPES.put(Bytes8.class, Bytes8::new);
+        BYTES_TYPES.put(Bytes9.class, Bytes9::new);
+        BYTES_TYPES.put(Bytes10.class, Bytes10::new);
+        BYTES_TYPES.put(Bytes11.class, Bytes11::new);
+        BYTES_TYPES.put(Bytes12.class, Bytes12::new);
+        BYTES_TYPES.put(Bytes13.class, Bytes13::new);
+        BYTES_TYPES.put(Bytes14.class, Bytes14::new);
+        BYTES_TYPES.put(Bytes15.class, Bytes15::new);
+        BYTES_TYPES.put(Bytes16.class, Bytes16::new);
+        BYTES_TYPES.put(Bytes17.class, Bytes17::new);
+        BYTES_TYPES.put(Bytes18.class, Bytes18::new);
+        BYTES_TYPES.put(Bytes19.class, Bytes19::new);
+        BYTES_TYPES.put(Bytes20.class, Bytes20::new);
+        BYTES_TYPES.put(Bytes21.class, Bytes21::new);
+        BYTES_TYPES.put(Bytes22.class, Bytes22::new);
+        BYTES_TYPES.put(Bytes23.class, Bytes23::new);
+        BYTES_TYPES.put(Bytes24.class, Bytes24::new);
+        BYTES_TYPES.put(Bytes25.class, Bytes25::new);
+        BYTES_TYPES.put(Bytes26.class, Bytes26::new);
+        BYTES_TYPES.put(Bytes27.class, Bytes27::new);
+        BYTES_TYPES.put(Bytes28.class, Bytes28::new);
+        BYTES_TYPES.put(Bytes29.class, Bytes29::new);
+        BYTES_TYPES.put(Bytes30.class, Bytes30::new);
+        BYTES_TYPES.put(Bytes31.class, Bytes31::new);
+        BYTES_TYPES.put(Bytes32.class, Bytes32::new);
+
+        STATIC_ARRAYS[1] = StaticArray1::new;
+        STATIC_ARRAYS[2] = StaticArray2::new;
+        STATIC_ARRAYS[3] = StaticArray3::new;
+        STATIC_ARRAYS[4] = StaticArray4::new;
+        STATIC_ARRAYS[5] = StaticArray5::new;
+        STATIC_ARRAYS[6] = StaticArray6::new;
+        STATIC_ARRAYS[7] = StaticArray7::new;
+        STATIC_ARRAYS[8] = StaticArray8::new;
+        STATIC_ARRAYS[9] = StaticArray9::new;
+        STATIC_ARRAYS[10] = StaticArray10::new;
+        STATIC_ARRAYS[11] = StaticArray11::new;
+        STATIC_ARRAYS[12] = StaticArray12::new;
+        STATIC_ARRAYS[13] = StaticArray13::new;
+        STATIC_ARRAYS[14] = StaticArray14::new;
+        STATIC_ARRAYS[15] = StaticArray15::new;
+        STATIC_ARRAYS[16] = StaticArray16::new;
+        STATIC_ARRAYS[17] = StaticArray17::new;
+        STATIC_ARRAYS[18] = StaticArray18::new;
+        STATIC_ARRAYS[19] = StaticArray19::new;
+        STATIC_ARRAYS[20] = StaticArray20::new;
+        STATIC_ARRAYS[21] = StaticArray21::new;
+        STATIC_ARRAYS[22] = StaticArray22::new;
+        STATIC_ARRAYS[23] = StaticArray23::new;
+        STATIC_ARRAYS[24] = StaticArray24::new;
+        STATIC_ARRAYS[25] = StaticArray25::new;
+        STATIC_ARRAYS[26] = StaticArray26::new;
+        STATIC_ARRAYS[27] = StaticArray27::new;
+        STATIC_ARRAYS[28] = StaticArray28::new;
+        STATIC_ARRAYS[29] = StaticArray29::new;
+        STATIC_ARRAYS[30] = StaticArray30::new;
+        STATIC_ARRAYS[31] = StaticArray31::new;
+        STATIC_ARRAYS[32] = StaticArray32::new;
+    }
+
+    private TypeFactory() {}
+
+    /**
+     * Returns the constructor of the numeric type class, or null if the class is not a known numeric type.
+     * @param type The numeric type class. e.g. Uint256.class
+     * @return Function
+     */
+    static Function<BigInteger, NumericType> numericType(Class<?> type) {
+        return NUMERIC_TYPES.get(type);
+    }
+
+    /**
+     * Returns the constructor of the fixed-size bytes type class, or null if the class is not a known bytes type.
+     * @param type The bytes type class. e.g. Bytes32.class
+     * @return Function
+     */
+    static Function<byte[], BytesType> bytesType(Class<?> type) {
+        return BYTES_TYPES.get(type);
+    }
+
+    /**
+     * Returns the constructor of the static array class that has the given size, or null if it is not generated.
+     * @param size The size of static array.
+     * @return StaticArrayConstructor
+     */
+    static StaticArrayConstructor staticArray(int size) {
+        if(size < 1 || size >= STATIC_ARRAYS.length) {
+            return null;
+        }
+        return STATIC_ARRAYS[size];
+    }
+
+    /**
+     * The constructor of a StaticArrayN class.
+     */
+    @FunctionalInterface
+    interface StaticArrayConstructor {
+        StaticArray create(Class<Type> componentType, List<Type> values);
+    }
+}
@@ -251,6 +251,18 @@ public class ABIWrapper {
         return ABI.decodeLog(inputs, data, topics);
     }
 
+    /**
+     * Decodes a ABI-encoded log data and indexed topic data
+     * @param event A ContractEvent instance.
+     * @param data An ABI-encoded in the data field of a log
+     * @param topics A list of indexed parameter topics of the log.
+     * @return EventValues
+     * @throws ClassNotFoundException
+     */
+    public EventValues decodeLog(ContractEvent event, String data, List<String> topics) throws ClassNotFoundException {
+        return ABI.decodeLog(event, data, topics);
+    }
+
     /**
      * Decodes a function call data that composed of function selector and encoded input argument.
      * <pre>Example :
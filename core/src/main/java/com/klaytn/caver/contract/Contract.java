@@ -16,8 +16,6 @@
 
 package com.klaytn.caver.contract;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.abi.ABI;
 import com.klaytn.caver.abi.datatypes.Type;
@@ -29,6 +27,7 @@ import com.klaytn.caver.methods.response.LogsNotification;
 import com.klaytn.caver.methods.response.TransactionReceipt;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.NonceManager;
 import com.klaytn.caver.transaction.response.PollingTransactionReceiptProcessor;
 import com.klaytn.caver.transaction.response.TransactionReceiptProcessor;
 import com.klaytn.caver.utils.Utils;
@@ -38,11 +37,11 @@ import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
 import java.util.*;
 
 public class Contract {
@@ -87,6 +86,11 @@ public class Contract {
      */
     IWallet wallet;
 
+    /**
+     * The nonce manager to allocate the nonces of the transactions sent by this contract.
+     */
+    NonceManager nonceManager;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(Contract.class);
 
     /**
@@ -327,6 +331,19 @@ public class Contract {
         return logs;
     }
 
+    /**
+     * Get past events for this contract in a block range.<p>
+     * The range is split into chunks fetched concurrently, and the logs are decoded and emitted in the order of blocks.
+     * See {@link EventBackfill} to change the chunk size and the parallelism.
+     * @param eventName The name of the event in the contract.
+     * @param fromBlock The first block number of the range.
+     * @param toBlock The last block number of the range.
+     * @return Flowable
+     */
+    public Flowable<ContractEventLog> getPastEvents(String eventName, BigInteger fromBlock, BigInteger toBlock) {
+        return new EventBackfill(this, eventName).fetch(fromBlock, toBlock);
+    }
+
     /**
      * Execute smart contract method in the EVM without sending any transaction.
      * @param methodName The smart contract method name to execute.
@@ -979,6 +996,27 @@ public class Contract {
         }
     }
 
+    /**
+     * Getter function for nonceManager
+     * @return NonceManager
+     */
+    public NonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    /**
+     * Setter function for nonceManager.<p>
+     * The transactions sent by the methods of this contract get their nonces from it instead of requesting them for each transaction.
+     * @param nonceManager The nonce manager to allocate the nonces of the transactions.
+     */
+    public void setNonceManager(NonceManager nonceManager) {
+        this.nonceManager = nonceManager;
+
+        if(this.methods != null && this.methods.size() != 0) {
+            this.getMethods().values().forEach(value -> value.setNonceManager(this.nonceManager));
+        }
+    }
+
     /**
      * Setter function for defaultSendOption
      * @param defaultSendOptions The sendOptions to set DefaultSendOptions field.
@@ -992,59 +1030,16 @@ public class Contract {
     }
 
     /**
-     * Parse ABI json string and generate the mapped data related to method and event.
+     * Parse ABI json string and generate the mapped data related to method and event.<p>
+     * The parsed ABI is shared by Contract instances created with the same ABI, and only the methods are copied to bind this contract's state.
      * @param abi The contract's ABI(Application Binary Interface) json string.
      * @throws IOException
      */
     private void init(String abi) throws IOException {
-        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
-
-        methods = new HashMap<>();
-        events = new HashMap<>();
-
-        JsonNode root = objectMapper.readTree(abi);
-        Iterator<JsonNode> iterator = root.iterator();
-
-        while(iterator.hasNext()) {
-            JsonNode element = iterator.next();
-            if(element.get("type").asText().equals("function")) {
-                ContractMethod newMethod = objectMapper.readValue(element.toString(), ContractMethod.class);
-                newMethod.setSignature(ABI.encodeFunctionSignature(newMethod));
-
-                ContractMethod existedMethod = this.methods.get(newMethod.getName());
-                if(existedMethod != null) {
-                    boolean isWarning = existedMethod.getNextContractMethods().stream().anyMatch(contractMethod -> {
-                        return contractMethod.getInputs().size() == newMethod.getInputs().size();
-                    });
-
-                    if(existedMethod.getInputs().size() == newMethod.getInputs().size() || isWarning) {
-                        LOGGER.warn("An overloaded function with the same number of parameters may not be executed normally. Please use *withSolidityWrapper methods in ContractMethod class.");
-                    }
-
-                    existedMethod.getNextContractMethods().add(newMethod);
-                } else {
-                    methods.put(newMethod.getName(), newMethod);
-                }
-
-            } else if(element.get("type").asText().equals("event")) {
-                ContractEvent event = objectMapper.readValue(element.toString(), ContractEvent.class);
-                event.setSignature(ABI.encodeEventSignature(event));
-                events.put(event.getName(), event);
-            } else if(element.get("type").asText().equals("constructor")) {
-                ContractMethod method = objectMapper.readValue(element.toString(), ContractMethod.class);
-                //add a constructor info in methods.
-                methods.put("constructor", method);
-                this.constructor = method;
-            }
-        }
-        //if the constructor is not existed in ABI, creates a dummy instance and adds it.
-        if(methods.get("constructor") == null) {
-            ContractMethod method = new ContractMethod();
-            method.setType(ContractMethod.TYPE_CONSTRUCTOR);
-            method.setInputs(new ArrayList<ContractIOType>());
-
-            methods.put("constructor", method);
-            this.constructor = method;
-        }
+        ParsedContractABI parsedABI = ParsedContractABI.of(abi);
+
+        methods = parsedABI.newMethods();
+        events = parsedABI.newEvents();
+        this.constructor = methods.get("constructor");
     }
 }
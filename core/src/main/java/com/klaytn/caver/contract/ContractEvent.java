@@ -17,6 +17,7 @@
 package com.klaytn.caver.contract;
 
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.ABICodec;
 import com.klaytn.caver.methods.request.KlayFilter;
 import com.klaytn.caver.methods.response.LogsNotification;
 import com.klaytn.caver.methods.response.Quantity;
@@ -26,6 +27,7 @@ import io.reactivex.functions.Consumer;
 import org.web3j.protocol.core.Request;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -54,6 +56,16 @@ public class ContractEvent {
      */
     List<ContractIOType> inputs;
 
+    /**
+     * The codec compiled from the indexed input types. It is created at the first use.
+     */
+    private volatile ABICodec indexedCodec;
+
+    /**
+     * The codec compiled from the non-indexed input types. It is created at the first use.
+     */
+    private volatile ABICodec nonIndexedCodec;
+
     /**
      * Creates a ContractEvent instance.
      */
@@ -99,13 +111,43 @@ public class ContractEvent {
     }
 
     /**
-     * Getter function for input.
+     * Getter function for input.<p>
+     * The list of an event created by a Contract is shared by the contracts with the same ABI, so it can't be modified.
      * @return List
      */
     public List<ContractIOType> getInputs() {
         return inputs;
     }
 
+    /**
+     * Returns the codec compiled from the indexed input types of this event.
+     * @return ABICodec
+     * @throws ClassNotFoundException
+     */
+    public ABICodec getIndexedCodec() throws ClassNotFoundException {
+        ABICodec codec = indexedCodec;
+        if(codec == null) {
+            codec = ABICodec.compile(toTypeStrings(true));
+            indexedCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the codec compiled from the non-indexed input types of this event.<p>
+     * The codec is compiled once and reused to decode the data field of logs.
+     * @return ABICodec
+     * @throws ClassNotFoundException
+     */
+    public ABICodec getNonIndexedCodec() throws ClassNotFoundException {
+        ABICodec codec = nonIndexedCodec;
+        if(codec == null) {
+            codec = ABICodec.compile(toTypeStrings(false));
+            nonIndexedCodec = codec;
+        }
+        return codec;
+    }
+
     /**
      * Setter function for name.
      * @param name A function name.
@@ -128,6 +170,8 @@ public class ContractEvent {
      */
     void setInputs(List<ContractIOType> inputs) {
         this.inputs = inputs;
+        this.indexedCodec = null;
+        this.nonIndexedCodec = null;
     }
 
     /**
@@ -187,4 +231,16 @@ public class ContractEvent {
         final Flowable<LogsNotification> events = caver.rpc.klay.subscribeFlowable("logs", filter);
         return events;
     }
+
+    private List<String> toTypeStrings(boolean indexed) {
+        List<String> solidityTypes = new ArrayList<>();
+        if(inputs != null) {
+            for(ContractIOType input : inputs) {
+                if(input.isIndexed() == indexed) {
+                    solidityTypes.add(input.getTypeAsString());
+                }
+            }
+        }
+        return solidityTypes;
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.klaytn.caver.abi.EventValues;
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.methods.response.KlayLogs;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Representing a log of a contract event with its decoded values.
+ */
+public class ContractEventLog {
+
+    /**
+     * The event name.
+     */
+    private final String eventName;
+
+    /**
+     * The raw log.
+     */
+    private final KlayLogs.Log log;
+
+    /**
+     * The values decoded from the topics and the data of the log.
+     */
+    private final EventValues eventValues;
+
+    /**
+     * Creates a ContractEventLog instance.
+     * @param eventName The event name.
+     * @param log The raw log.
+     * @param eventValues The values decoded from the log.
+     */
+    public ContractEventLog(String eventName, KlayLogs.Log log, EventValues eventValues) {
+        this.eventName = eventName;
+        this.log = log;
+        this.eventValues = eventValues;
+    }
+
+    /**
+     * Getter function for event name.
+     * @return String
+     */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * Getter function for the raw log.
+     * @return KlayLogs.Log
+     */
+    public KlayLogs.Log getLog() {
+        return log;
+    }
+
+    /**
+     * Getter function for the decoded values.
+     * @return EventValues
+     */
+    public EventValues getEventValues() {
+        return eventValues;
+    }
+
+    /**
+     * Returns the values of indexed parameters.
+     * @return List
+     */
+    public List<Type> getIndexedValues() {
+        return eventValues.getIndexedValues();
+    }
+
+    /**
+     * Returns the values of non-indexed parameters.
+     * @return List
+     */
+    public List<Type> getNonIndexedValues() {
+        return eventValues.getNonIndexedValues();
+    }
+
+    /**
+     * Returns the block number of the log.
+     * @return BigInteger
+     */
+    public BigInteger getBlockNumber() {
+        return log.getBlockNumber();
+    }
+
+    /**
+     * Returns the transaction hash of the log.
+     * @return String
+     */
+    public String getTransactionHash() {
+        return log.getTransactionHash();
+    }
+
+    /**
+     * Returns the index of the log in the block.
+     * @return BigInteger
+     */
+    public BigInteger getLogIndex() {
+        return log.getLogIndex();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.klaytn.caver.contract;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -60,6 +61,23 @@ public class ContractIOType {
         this.indexed = indexed;
     }
 
+    /**
+     * Returns an unmodifiable view of the given list, and makes the components lists of its elements unmodifiable as well.
+     * It returns null if the given list is null.
+     * @param ioTypes The list of ContractIOType.
+     * @return List
+     */
+    static List<ContractIOType> unmodifiableList(List<ContractIOType> ioTypes) {
+        if(ioTypes == null) {
+            return null;
+        }
+
+        for(ContractIOType ioType : ioTypes) {
+            ioType.components = unmodifiableList(ioType.components);
+        }
+        return Collections.unmodifiableList(ioTypes);
+    }
+
     /**
      * Getter function for name
      * @return String
@@ -18,6 +18,7 @@ package com.klaytn.caver.contract;
 
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.ABICodec;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.methods.request.CallObject;
 import com.klaytn.caver.methods.response.Bytes;
@@ -26,9 +27,11 @@ import com.klaytn.caver.methods.response.Quantity;
 import com.klaytn.caver.methods.response.TransactionReceipt;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.NonceManager;
 import com.klaytn.caver.transaction.TxPropertyBuilder;
 import com.klaytn.caver.transaction.response.PollingTransactionReceiptProcessor;
 import com.klaytn.caver.transaction.response.TransactionReceiptProcessor;
+import com.klaytn.caver.utils.FutureUtils;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.IWallet;
 import org.slf4j.Logger;
@@ -40,6 +43,8 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Representing a Contract's method information.
@@ -93,9 +98,19 @@ public class ContractMethod {
      */
     IWallet wallet;
 
+    /**
+     * The nonce manager to allocate the nonces of the transactions sent by this method. If it is null, the nonce is requested for each transaction.
+     */
+    NonceManager nonceManager;
+
 
     List<ContractMethod> nextContractMethods = new ArrayList<>();
 
+    /**
+     * The codecs and the encoded function signature compiled from this method's ABI.
+     * It is shared with the ContractMethod instances copied from this method.
+     */
+    private volatile Compiled compiled = new Compiled();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContractMethod.class);
 
@@ -125,6 +140,25 @@ public class ContractMethod {
         this.contractAddress = contractAddress;
     }
 
+    /**
+     * Creates a ContractMethod instance that has the same ABI information with the template.<p>
+     * The inputs, outputs and the compiled codecs are shared with the template, and the overloaded methods are copied.
+     * Caver, contract address, send options and wallet are not copied.
+     * @param template The ContractMethod instance to copy.
+     */
+    ContractMethod(ContractMethod template) {
+        this.type = template.type;
+        this.name = template.name;
+        this.inputs = template.inputs;
+        this.outputs = template.outputs;
+        this.signature = template.signature;
+        this.compiled = template.compiled;
+
+        for(ContractMethod nextMethod : template.nextContractMethods) {
+            this.nextContractMethods.add(new ContractMethod(nextMethod));
+        }
+    }
+
     /**
      * Execute smart contract method in the EVM without sending any transaction.
      * @param arguments A List of parameter to call smart contract method.
@@ -510,6 +544,136 @@ public class ContractMethod {
         return estimateGas(encodedFunctionCall, callObject);
     }
 
+    /**
+     * Execute smart contract method in the EVM without sending any transaction asynchronously.
+     * @param arguments A List of parameter to call smart contract method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<List<Type>> callAsync(List<Object> arguments) {
+        return callAsync(arguments, CallObject.createCallObject());
+    }
+
+    /**
+     * Execute smart contract method in the EVM without sending any transaction asynchronously.<p>
+     * When creating CallObject, it need not to fill 'data', 'to' fields.<p>
+     * The 'data', 'to' fields automatically filled in callAsync() method.
+     * @param arguments A List of parameter to call smart contract method.
+     * @param callObject A CallObject instance to 'call' smart contract method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<List<Type>> callAsync(List<Object> arguments, CallObject callObject) {
+        ContractMethod matchedMethod;
+        String encodedFunction;
+        try {
+            List<Object> functionParams = new ArrayList<>();
+            if(arguments != null) {
+                functionParams.addAll(arguments);
+            }
+
+            matchedMethod = findMatchedInstance(functionParams);
+            encodedFunction = ABI.encodeFunctionCall(matchedMethod, functionParams);
+        } catch(Exception e) {
+            return FutureUtils.failedFuture(e);
+        }
+
+        return callFunctionAsync(matchedMethod, encodedFunction, callObject);
+    }
+
+    /**
+     * Send a transaction to deploy smart contract or execute smart contract's method asynchronously.<p>
+     * It is used defaultSendOption field to sendOptions.
+     * It sets TransactionReceiptProcessor to PollingTransactionReceiptProcessor.
+     * @param arguments A List of parameter to call smart contract method.
+     * @return CompletableFuture
+     * @see #sendAsync(List, SendOptions, TransactionReceiptProcessor)
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(List<Object> arguments) {
+        return sendAsync(arguments, null, new PollingTransactionReceiptProcessor(caver, 1000, 15));
+    }
+
+    /**
+     * Send a transaction to deploy smart contract or execute smart contract's method asynchronously.<p>
+     * It sets TransactionReceiptProcessor to PollingTransactionReceiptProcessor.
+     * @param arguments A List of parameter to call smart contract method.
+     * @param options An option to deploy or execute smart contract method.
+     * @return CompletableFuture
+     * @see #sendAsync(List, SendOptions, TransactionReceiptProcessor)
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(List<Object> arguments, SendOptions options) {
+        return sendAsync(arguments, options, new PollingTransactionReceiptProcessor(caver, 1000, 15));
+    }
+
+    /**
+     * Send a transaction to deploy smart contract or execute smart contract's method asynchronously.<p>
+     * The empty fields of the transaction are filled with {@link AbstractTransaction#fillTransactionAsync()},
+     * and the receipt is waited with {@link TransactionReceiptProcessor#waitForTransactionReceiptAsync(String)}.
+     * With a Web3jService which sends requests without blocking (e.g. {@link com.klaytn.caver.rpc.AsyncHttpService}),
+     * no thread is blocked while the transaction is pending.
+     * <pre>
+     * If the 'type' field is a "constructor", the arguments parsed as follow.
+     *   - arguments[0] : Smart contract's bytecode.
+     *   - others : The constructor arguments to deploy smart contract.
+     * <code>
+     *     Caver caver = new Caver(new AsyncHttpService(Caver.DEFAULT_URL));
+     *     Contract contract = caver.contract.create(abi, contractAddress);
+     *
+     *     SendOptions sendOptions = new SendOptions();
+     *     sendOptions.setFrom("0x{from}");
+     *     sendOptions.setGas(BigInteger.valueOf(100000000));
+     *
+     *     CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt; future = contract.getMethod("set").sendAsync(Arrays.asList("key", "value"), sendOptions, new PollingTransactionReceiptProcessor(caver, 1000, 15));
+     * </code>
+     * </pre>
+     * @param arguments A List of parameter to call smart contract method.
+     * @param options An option to deploy or execute smart contract method.
+     * @param processor A TransactionReceiptProcessor to get receipt.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(List<Object> arguments, SendOptions options, TransactionReceiptProcessor processor) {
+        SendOptions determinedOption;
+        AbstractTransaction transaction;
+        try {
+            String encoded = encodeABI(arguments);
+            determinedOption = makeSendOption(options);
+            transaction = createTransaction(determinedOption, encoded);
+
+            if(determinedOption.getFeeDelegation() != null && determinedOption.getFeeDelegation()) {
+                if(determinedOption.getFeePayer() == null || !Utils.isAddress(determinedOption.getFeePayer())) {
+                    throw new IllegalArgumentException("The fee payer value is not valid. feePayer address - " + determinedOption.getFeePayer());
+                }
+            }
+        } catch(Exception e) {
+            return FutureUtils.failedFuture(e);
+        }
+
+        return transaction.fillTransactionAsync()
+                .thenApply(ignored -> signTransaction(transaction, determinedOption))
+                .thenCompose(signedTransaction -> sendTransactionAsync(signedTransaction, processor));
+    }
+
+    /**
+     * Estimate the gas to execute the contract's method asynchronously.
+     * @param arguments A List of parameter to execute smart contract method.
+     * @param callObject An option to execute smart contract method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<String> estimateGasAsync(List<Object> arguments, CallObject callObject) {
+        String encodedFunctionCall;
+        try {
+            encodedFunctionCall = encodeABI(arguments);
+        } catch(Exception e) {
+            return FutureUtils.failedFuture(e);
+        }
+
+        if(callObject.getData() != null || callObject.getTo() != null) {
+            LOGGER.warn("The 'to' and 'data' fields of the CallObject will be overwritten.");
+        }
+        callObject.setData(encodedFunctionCall);
+        callObject.setTo(this.getContractAddress());
+
+        return caver.rpc.klay.estimateGas(callObject).sendAsync().thenApply(FutureUtils::resultOf);
+    }
+
     /**
      * Execute smart contract method in the EVM without sending any transaction.<p>
      * It is recommended to use this function when you want to execute one of the functions with the same number of parameters.
@@ -753,7 +917,8 @@ public class ContractMethod {
     }
 
     /**
-     * Getter function for input.
+     * Getter function for input.<p>
+     * The list of a method created by a Contract is shared by the contracts with the same ABI, so it can't be modified.
      * @return List
      */
     public List<ContractIOType> getInputs() {
@@ -761,7 +926,8 @@ public class ContractMethod {
     }
 
     /**
-     * Getter function for output.
+     * Getter function for output.<p>
+     * The list of a method created by a Contract is shared by the contracts with the same ABI, so it can't be modified.
      * @return List
      */
     public List<ContractIOType> getOutputs() {
@@ -796,6 +962,52 @@ public class ContractMethod {
         return nextContractMethods;
     }
 
+    /**
+     * Returns the codec compiled from the input types of this method.<p>
+     * The codec is compiled once and reused to encode arguments of this method.
+     * @return ABICodec
+     * @throws ClassNotFoundException
+     */
+    public ABICodec getInputCodec() throws ClassNotFoundException {
+        Compiled compiled = this.compiled;
+        ABICodec codec = compiled.inputCodec;
+        if(codec == null) {
+            codec = ABICodec.compile(toTypeStrings(inputs));
+            compiled.inputCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the codec compiled from the output types of this method.<p>
+     * The codec is compiled once and reused to decode return values of this method.
+     * @return ABICodec
+     * @throws ClassNotFoundException
+     */
+    public ABICodec getOutputCodec() throws ClassNotFoundException {
+        Compiled compiled = this.compiled;
+        ABICodec codec = compiled.outputCodec;
+        if(codec == null) {
+            codec = ABICodec.compile(toTypeStrings(outputs));
+            compiled.outputCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the encoded function signature(function selector) of this method. e.g. "0xa9059cbb"
+     * @return String
+     */
+    public String getEncodedFunctionSignature() {
+        Compiled compiled = this.compiled;
+        String encoded = compiled.encodedFunctionSignature;
+        if(encoded == null) {
+            encoded = ABI.encodeFunctionSignature(this);
+            compiled.encodedFunctionSignature = encoded;
+        }
+        return encoded;
+    }
+
     /**
      * Setter function for Caver.
      * @param caver The Caver instance.
@@ -810,6 +1022,7 @@ public class ContractMethod {
      */
     void setType(String type) {
         this.type = type;
+        this.compiled = new Compiled();
     }
 
     /**
@@ -818,6 +1031,7 @@ public class ContractMethod {
      */
     void setName(String name) {
         this.name = name;
+        this.compiled = new Compiled();
     }
 
     /**
@@ -826,6 +1040,7 @@ public class ContractMethod {
      */
     void setInputs(List<ContractIOType> inputs) {
         this.inputs = inputs;
+        this.compiled = new Compiled();
     }
 
     /**
@@ -834,6 +1049,7 @@ public class ContractMethod {
      */
     void setOutputs(List<ContractIOType> outputs) {
         this.outputs = outputs;
+        this.compiled = new Compiled();
     }
 
     /**
@@ -873,6 +1089,23 @@ public class ContractMethod {
         this.wallet = wallet;
     }
 
+    /**
+     * Getter function for nonceManager
+     * @return NonceManager
+     */
+    public NonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    /**
+     * Setter function for nonceManager.<p>
+     * The transactions sent by this method get their nonces from it, and they are sent with it so that a failed transaction releases its nonce.
+     * @param nonceManager The nonce manager to allocate the nonces of the transactions.
+     */
+    public void setNonceManager(NonceManager nonceManager) {
+        this.nonceManager = nonceManager;
+    }
+
     void setNextContractMethods(List<ContractMethod> nextContractMethods) {
         this.nextContractMethods = nextContractMethods;
     }
@@ -951,6 +1184,25 @@ public class ContractMethod {
         return findMethod;
     }
 
+    /**
+     * The values compiled from the ABI of a method. They are created at the first use.
+     */
+    private static class Compiled {
+        volatile ABICodec inputCodec;
+        volatile ABICodec outputCodec;
+        volatile String encodedFunctionSignature;
+    }
+
+    private static List<String> toTypeStrings(List<ContractIOType> ioTypes) {
+        List<String> solidityTypes = new ArrayList<>();
+        if(ioTypes != null) {
+            for(ContractIOType ioType : ioTypes) {
+                solidityTypes.add(ioType.getTypeAsString());
+            }
+        }
+        return solidityTypes;
+    }
+
     private List<ContractMethod> getAllMethod() {
         List<ContractMethod> methodList = new ArrayList<>();
         methodList.add(this);
@@ -1001,7 +1253,7 @@ public class ContractMethod {
         }
     }
 
-    private ContractMethod findMatchedInstance(List arguments) {
+    ContractMethod findMatchedInstance(List arguments) {
         // Check the parameter type defined in function and the parameter type passed are the same.
         List<ContractMethod> matchedMethod = new ArrayList<>();
 
@@ -1062,7 +1314,7 @@ public class ContractMethod {
     }
 
     private TransactionReceipt.TransactionReceiptData sendTransaction(AbstractTransaction transaction, TransactionReceiptProcessor processor) throws IOException, TransactionException {
-        Bytes32 response = caver.rpc.klay.sendRawTransaction(transaction).send();
+        Bytes32 response = nonceManager != null ? nonceManager.sendRawTransaction(transaction) : caver.rpc.klay.sendRawTransaction(transaction).send();
         if(response.hasError()) {
             throw new IOException(response.getError().getMessage());
         }
@@ -1070,6 +1322,41 @@ public class ContractMethod {
         return processor.waitForTransactionReceipt(response.getResult());
     }
 
+    private AbstractTransaction signTransaction(AbstractTransaction transaction, SendOptions sendOptions) {
+        try {
+            // The empty fields of the transaction are filled already, so signing doesn't send requests.
+            AbstractTransaction signed = this.wallet.sign(sendOptions.getFrom(), transaction);
+            if(sendOptions.getFeeDelegation() != null && sendOptions.getFeeDelegation()) {
+                signed = this.wallet.signAsFeePayer(sendOptions.getFeePayer(), (AbstractFeeDelegatedTransaction)signed);
+            }
+            return signed;
+        } catch(IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private CompletableFuture<TransactionReceipt.TransactionReceiptData> sendTransactionAsync(AbstractTransaction transaction, TransactionReceiptProcessor processor) {
+        CompletableFuture<Bytes32> response = nonceManager != null ? nonceManager.sendRawTransactionAsync(transaction) : caver.rpc.klay.sendRawTransaction(transaction).sendAsync();
+        return response
+                .thenCompose(response -> processor.waitForTransactionReceiptAsync(FutureUtils.resultOf(response)));
+    }
+
+    private CompletableFuture<List<Type>> callFunctionAsync(ContractMethod method, String encodedInput, CallObject callObject) {
+        if(callObject.getData() != null || callObject.getTo() != null) {
+            LOGGER.warn("'to' and 'data' field in CallObject will overwrite.");
+        }
+        callObject.setData(encodedInput);
+        callObject.setTo(method.getContractAddress());
+
+        return caver.rpc.klay.call(callObject).sendAsync().thenApply(response -> {
+            try {
+                return ABI.decodeParameters(method, FutureUtils.resultOf(response));
+            } catch(ClassNotFoundException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
     private List<Type> callFunction(ContractMethod method, String encodedInput, CallObject callObject) throws IOException, ClassNotFoundException {
         if(callObject.getData() != null || callObject.getTo() != null) {
             LOGGER.warn("'to' and 'data' field in CallObject will overwrite.");
@@ -1101,6 +1388,12 @@ public class ContractMethod {
     }
 
     private AbstractTransaction createTransaction(SendOptions sendOptions, String encoded) {
+        AbstractTransaction transaction = createTransactionOfType(sendOptions, encoded);
+        transaction.setNonceManager(nonceManager);
+        return transaction;
+    }
+
+    private AbstractTransaction createTransactionOfType(SendOptions sendOptions, String encoded) {
         checkSendOption(sendOptions);
 
         if(getType().equals("constructor")) { // contract deploy
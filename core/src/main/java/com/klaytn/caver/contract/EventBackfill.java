@@ -0,0 +1,434 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.methods.request.KlayLogFilter;
+import com.klaytn.caver.methods.response.KlayLogs;
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fetches past logs of a contract event over a block range.<p>
+ * The range is split into chunks and the chunks are fetched concurrently with "klay_getLogs".
+ * When a node rejects a chunk because it has too many results or the request timed out, the chunk is split in half and fetched again,
+ * and the size of the next chunks shrinks. When chunks have few logs, the size of the next chunks grows.
+ * A chunk which failed with another error is fetched again after a backoff which doubles at each retry.<p>
+ * Logs are decoded with the event's ABI and emitted in the order of blocks. A log which can't be decoded fails the backfill without a retry.
+ * Chunks are fetched only while the subscriber requests logs, so a slow subscriber doesn't make logs pile up in memory.
+ * While an earlier chunk is being fetched, the later chunks are kept until they can be emitted,
+ * and no more chunks are fetched when {@code parallelism * MAX_BUFFERED_CHUNKS_PER_THREAD} of them are kept.
+ * <pre>Example :
+ * {@code
+ * KIP7 kip7 = new KIP7(caver, "0x{token address}");
+ * EventBackfill backfill = new EventBackfill(kip7, "Transfer");
+ *
+ * backfill.fetch(BigInteger.ZERO, latestBlockNumber)
+ *         .blockingForEach(eventLog -> {
+ *             String from = (String)eventLog.getIndexedValues().get(0).getValue();
+ *             ...
+ *         });
+ * }
+ * </pre>
+ */
+public class EventBackfill {
+    public static final int DEFAULT_INITIAL_CHUNK_SIZE = 2_000;
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 100_000;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_TARGET_RESULTS = 5_000;
+
+    /**
+     * The number of retries of a chunk which failed with an error other than too many results.
+     */
+    static final int MAX_RETRIES = 3;
+
+    /**
+     * The delay in milliseconds before the first retry of a chunk. It doubles at each retry.
+     */
+    static final long INITIAL_RETRY_BACKOFF = 100;
+
+    /**
+     * The max number of fetched chunks per thread kept until they can be emitted in the order of blocks.
+     */
+    static final int MAX_BUFFERED_CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The start of the error message of a node when the logs in the requested range are more than its limit.
+     */
+    static final String TOO_MANY_RESULTS_MESSAGE = "query returned more than";
+
+    /**
+     * A contract which emits the event.
+     */
+    private final Contract contract;
+
+    /**
+     * The event to fetch.
+     */
+    private final ContractEvent event;
+
+    /**
+     * The number of blocks in the first chunk.
+     */
+    private final int initialChunkSize;
+
+    /**
+     * The max number of blocks in a chunk.
+     */
+    private final int maxChunkSize;
+
+    /**
+     * The max number of chunks fetched at the same time.
+     */
+    private final int parallelism;
+
+    /**
+     * The number of logs expected in a chunk. The chunk size grows when a chunk has less than half of it.
+     */
+    private final int targetResults;
+
+    /**
+     * Creates an EventBackfill instance with default options.
+     * @param contract A contract which emits the event. Its contract address must be set.
+     * @param eventName The name of the event.
+     */
+    public EventBackfill(Contract contract, String eventName) {
+        this(contract, eventName, DEFAULT_INITIAL_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE, DEFAULT_PARALLELISM, DEFAULT_TARGET_RESULTS);
+    }
+
+    /**
+     * Creates an EventBackfill instance.
+     * @param contract A contract which emits the event. Its contract address must be set.
+     * @param eventName The name of the event.
+     * @param initialChunkSize The number of blocks in the first chunk.
+     * @param maxChunkSize The max number of blocks in a chunk.
+     * @param parallelism The max number of chunks fetched at the same time.
+     * @param targetResults The number of logs expected in a chunk. The chunk size grows when a chunk has less than half of it.
+     */
+    public EventBackfill(Contract contract, String eventName, int initialChunkSize, int maxChunkSize, int parallelism, int targetResults) {
+        if(contract.getContractAddress() == null) {
+            throw new IllegalArgumentException("The contract address of the contract is not set.");
+        }
+        if(initialChunkSize < 1 || maxChunkSize < initialChunkSize) {
+            throw new IllegalArgumentException("initialChunkSize must be greater than 0 and not greater than maxChunkSize.");
+        }
+        if(parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0.");
+        }
+        if(targetResults < 1) {
+            throw new IllegalArgumentException("targetResults must be greater than 0.");
+        }
+
+        this.contract = contract;
+        this.event = contract.getEvent(eventName);
+        this.initialChunkSize = initialChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.parallelism = parallelism;
+        this.targetResults = targetResults;
+    }
+
+    /**
+     * Returns a Flowable which emits the decoded logs of the event in the block range.<p>
+     * Chunks are fetched when logs are requested, and the requesting thread waits until the next log is fetched.
+     * Use {@code subscribeOn} to wait on another thread.
+     * @param fromBlock The first block number of the range.
+     * @param toBlock The last block number of the range.
+     * @return Flowable
+     */
+    public Flowable<ContractEventLog> fetch(BigInteger fromBlock, BigInteger toBlock) {
+        if(fromBlock.compareTo(toBlock) > 0) {
+            throw new IllegalArgumentException("fromBlock must not be greater than toBlock.");
+        }
+
+        long from = fromBlock.longValueExact();
+        long to = toBlock.longValueExact();
+        return Flowable.generate(() -> new Backfill(from, to), Backfill::next, Backfill::close);
+    }
+
+    /**
+     * Getter function for event.
+     * @return ContractEvent
+     */
+    public ContractEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Getter function for initialChunkSize.
+     * @return int
+     */
+    public int getInitialChunkSize() {
+        return initialChunkSize;
+    }
+
+    /**
+     * Getter function for maxChunkSize.
+     * @return int
+     */
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    /**
+     * Getter function for parallelism.
+     * @return int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Getter function for targetResults.
+     * @return int
+     */
+    public int getTargetResults() {
+        return targetResults;
+    }
+
+    private Chunk fetchChunk(Chunk chunk) {
+        try {
+            if(chunk.backoff > 0) {
+                Thread.sleep(chunk.backoff);
+            }
+
+            KlayLogFilter filter = new KlayLogFilter(
+                    new DefaultBlockParameterNumber(chunk.start),
+                    new DefaultBlockParameterNumber(chunk.end),
+                    contract.getContractAddress(),
+                    null);
+            filter.addSingleTopic(event.getSignature());
+
+            KlayLogs response = contract.getCaver().rpc.klay.getLogs(filter).send();
+            if(response.hasError()) {
+                throw new IOException(response.getError().getMessage());
+            }
+
+            try {
+                chunk.logs = decodeLogs(response);
+            } catch(IllegalArgumentException e) {
+                chunk.decodeFailed = true;
+                throw e;
+            }
+        } catch(Exception e) {
+            chunk.error = e;
+        }
+        return chunk;
+    }
+
+    /**
+     * Decodes the logs of a response. It throws an IllegalArgumentException if a log can't be decoded with the event's ABI.
+     * Fetching the chunk again doesn't change the log, so the chunk is not retried.
+     */
+    private List<ContractEventLog> decodeLogs(KlayLogs response) {
+        List<ContractEventLog> logs = new ArrayList<>();
+        if(response.getLogs() == null) {
+            return logs;
+        }
+
+        for(KlayLogs.LogResult logResult : response.getLogs()) {
+            KlayLogs.Log log = (KlayLogs.Log)logResult.get();
+            try {
+                logs.add(new ContractEventLog(event.getName(), log, ABI.decodeLog(event, log.getData(), log.getTopics())));
+            } catch(Exception e) {
+                throw new IllegalArgumentException("Failed to decode the " + event.getName() + " log at block " + log.getBlockNumberRaw() + ": " + e.getMessage(), e);
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Returns true if the error means that the range of the chunk is too large.
+     * It is the error of a node which has more logs in the range than its limit, or a timeout while fetching a large range.
+     */
+    static boolean isTooManyResults(Exception error) {
+        if(error instanceof InterruptedIOException) {
+            return true;
+        }
+
+        return error.getMessage() != null && error.getMessage().startsWith(TOO_MANY_RESULTS_MESSAGE);
+    }
+
+    /**
+     * The state of a subscription to the Flowable returned by {@link #fetch(BigInteger, BigInteger)}.
+     * It is only accessed by the thread which requests logs.
+     */
+    private class Backfill {
+        final long toBlock;
+        final ExecutorService executorService;
+        final CompletionService<Chunk> completionService;
+
+        // The chunks not emitted yet, ordered by block number. A chunk waiting to be fetched again stays here,
+        // so the logs of the later chunks are not emitted before it.
+        final TreeMap<Long, Chunk> chunks = new TreeMap<>();
+        // The chunks to fetch again. The chunk with a lower block number is fetched first to emit logs as soon as possible.
+        final PriorityQueue<Chunk> retries = new PriorityQueue<>(Comparator.comparingLong((Chunk chunk) -> chunk.start));
+        // The logs of the fetched chunks which can be emitted in the order of blocks.
+        final Queue<ContractEventLog> ready = new ArrayDeque<>();
+
+        long cursor;
+        long chunkSize = initialChunkSize;
+        int inFlight = 0;
+        // The number of fetched chunks in chunks. A new chunk is not fetched while too many chunks wait for an earlier chunk.
+        int buffered = 0;
+        final int maxBuffered = parallelism * MAX_BUFFERED_CHUNKS_PER_THREAD;
+
+        Backfill(long fromBlock, long toBlock) {
+            this.cursor = fromBlock;
+            this.toBlock = toBlock;
+            this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "caver-event-backfill");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.completionService = new ExecutorCompletionService<>(executorService);
+        }
+
+        /**
+         * Emits the next log, fetching chunks until one is ready. It completes the emitter when all chunks are emitted.
+         */
+        void next(Emitter<ContractEventLog> emitter) throws Exception {
+            while(ready.isEmpty()) {
+                submitChunks();
+                if(inFlight == 0) {
+                    emitter.onComplete();
+                    return;
+                }
+                takeChunk();
+            }
+            emitter.onNext(ready.poll());
+        }
+
+        void close() {
+            executorService.shutdownNow();
+        }
+
+        private void submitChunks() {
+            while(inFlight < parallelism) {
+                Chunk chunk;
+                if(!retries.isEmpty()) {
+                    chunk = retries.poll();
+                } else if(cursor <= toBlock && buffered < maxBuffered) {
+                    long end = Math.min(toBlock, cursor + chunkSize - 1);
+                    chunk = new Chunk(cursor, end);
+                    chunks.put(chunk.start, chunk);
+                    cursor = end + 1;
+                } else {
+                    break;
+                }
+
+                completionService.submit(() -> fetchChunk(chunk));
+                inFlight++;
+            }
+        }
+
+        /**
+         * Waits for a fetched chunk, and moves the logs of the chunks which can be emitted to the ready queue.
+         */
+        private void takeChunk() throws Exception {
+            Chunk done;
+            try {
+                done = completionService.take().get();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+            inFlight--;
+
+            if(done.error == null) {
+                done.completed = true;
+                buffered++;
+                if(done.logs.size() < targetResults / 2 && done.size() >= chunkSize) {
+                    chunkSize = Math.min(maxChunkSize, chunkSize * 2);
+                }
+            } else if(done.decodeFailed) {
+                throw done.error;
+            } else if(isTooManyResults(done.error) && done.size() > 1) {
+                long middle = done.start + done.size() / 2;
+                Chunk first = new Chunk(done.start, middle - 1);
+                Chunk second = new Chunk(middle, done.end);
+                // The first half replaces the chunk in chunks.
+                chunks.put(first.start, first);
+                chunks.put(second.start, second);
+                retries.add(first);
+                retries.add(second);
+                chunkSize = Math.max(1, Math.min(chunkSize, done.size() / 2));
+                return;
+            } else if(done.attempts < MAX_RETRIES) {
+                done.backoff = INITIAL_RETRY_BACKOFF << done.attempts;
+                done.attempts++;
+                done.error = null;
+                retries.add(done);
+                return;
+            } else {
+                throw done.error;
+            }
+
+            while(!chunks.isEmpty() && chunks.firstEntry().getValue().completed) {
+                buffered--;
+                ready.addAll(chunks.pollFirstEntry().getValue().logs);
+            }
+        }
+    }
+
+    /**
+     * A block range fetched with a "klay_getLogs" request.
+     */
+    private static class Chunk {
+        final long start;
+        final long end;
+
+        int attempts;
+
+        /**
+         * The delay in milliseconds before the chunk is fetched again.
+         */
+        long backoff;
+        List<ContractEventLog> logs;
+        Exception error;
+        boolean decodeFailed;
+
+        /**
+         * It is only accessed by the thread which requests logs.
+         */
+        boolean completed;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long size() {
+            return end - start + 1;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representing the progress of an {@link EventStream}.<p>
+ * It holds the last processed block and the recently processed blocks before it,
+ * which are used to find the common ancestor when the processed blocks are replaced by a reorg.
+ */
+public class EventCheckpoint {
+    /**
+     * The max number of blocks kept in a checkpoint.
+     */
+    public static final int MAX_BLOCKS = 64;
+
+    /**
+     * The processed blocks in ascending order. The last one is the last processed block.
+     */
+    private List<BlockReference> blocks = new ArrayList<>();
+
+    /**
+     * Creates an empty EventCheckpoint instance.
+     */
+    public EventCheckpoint() {
+    }
+
+    /**
+     * Creates an EventCheckpoint instance.
+     * @param blocks The processed blocks in ascending order.
+     */
+    public EventCheckpoint(List<BlockReference> blocks) {
+        this.blocks = new ArrayList<>(blocks);
+    }
+
+    /**
+     * Returns a new checkpoint which has the given block as the last processed block.
+     * @param blockNumber The number of the processed block.
+     * @param blockHash The hash of the processed block.
+     * @return EventCheckpoint
+     */
+    public EventCheckpoint next(BigInteger blockNumber, String blockHash) {
+        if(!blocks.isEmpty() && blockNumber.compareTo(getBlockNumber()) <= 0) {
+            throw new IllegalArgumentException("The block number must be greater than the last processed block " + getBlockNumber());
+        }
+
+        List<BlockReference> next = new ArrayList<>(blocks.subList(Math.max(0, blocks.size() - MAX_BLOCKS + 1), blocks.size()));
+        next.add(new BlockReference(blockNumber, blockHash));
+        return new EventCheckpoint(next);
+    }
+
+    /**
+     * Returns a new checkpoint which has the block at the given index as the last processed block.
+     * @param index The index of the block in the blocks of this checkpoint.
+     * @return EventCheckpoint
+     */
+    EventCheckpoint rollbackTo(int index) {
+        return new EventCheckpoint(blocks.subList(0, index + 1));
+    }
+
+    /**
+     * Returns the number of the last processed block.
+     * @return BigInteger
+     */
+    @JsonIgnore
+    public BigInteger getBlockNumber() {
+        return blocks.isEmpty() ? null : blocks.get(blocks.size() - 1).getNumber();
+    }
+
+    /**
+     * Returns the hash of the last processed block.
+     * @return String
+     */
+    @JsonIgnore
+    public String getBlockHash() {
+        return blocks.isEmpty() ? null : blocks.get(blocks.size() - 1).getHash();
+    }
+
+    /**
+     * Getter function for blocks.
+     * @return List
+     */
+    public List<BlockReference> getBlocks() {
+        return Collections.unmodifiableList(blocks);
+    }
+
+    /**
+     * Setter function for blocks.
+     * @param blocks The processed blocks in ascending order.
+     */
+    public void setBlocks(List<BlockReference> blocks) {
+        this.blocks = new ArrayList<>(blocks);
+    }
+
+    /**
+     * Representing a processed block.
+     */
+    public static class BlockReference {
+        private BigInteger number;
+        private String hash;
+
+        public BlockReference() {
+        }
+
+        public BlockReference(BigInteger number, String hash) {
+            this.number = number;
+            this.hash = hash;
+        }
+
+        /**
+         * Getter function for number.
+         * @return BigInteger
+         */
+        public BigInteger getNumber() {
+            return number;
+        }
+
+        /**
+         * Setter function for number.
+         * @param number The block number.
+         */
+        public void setNumber(BigInteger number) {
+            this.number = number;
+        }
+
+        /**
+         * Getter function for hash.
+         * @return String
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        /**
+         * Setter function for hash.
+         * @param hash The block hash.
+         */
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import java.io.IOException;
+
+/**
+ * The storage of the checkpoint of an {@link EventStream}.
+ * @see FileEventCheckpointStore
+ */
+public interface EventCheckpointStore {
+
+    /**
+     * Loads the saved checkpoint.
+     * @return EventCheckpoint. It returns null if no checkpoint is saved.
+     * @throws IOException
+     */
+    EventCheckpoint load() throws IOException;
+
+    /**
+     * Saves the checkpoint. It replaces the previously saved checkpoint.
+     * @param checkpoint The checkpoint to save.
+     * @throws IOException
+     */
+    void save(EventCheckpoint checkpoint) throws IOException;
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.NewHeadsNotification;
+import com.klaytn.caver.methods.response.Quantity;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.web3j.utils.Numeric;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers logs of a contract event from a block and keeps delivering new logs, saving the progress as a checkpoint.<p>
+ * Past logs are fetched with {@link EventBackfill}, and new logs are fetched with "klay_getLogs" whenever a new block is found
+ * by polling the block number or by "newHeads" notifications. Since logs are always fetched from the checkpoint,
+ * a disconnected subscription or a restarted process does not miss logs. When the "newHeads" subscription terminates,
+ * the stream falls back to polling the block number.<p>
+ * A block is processed after it has the given number of confirmations. The checkpoint is saved once after the logs of a block range are delivered,
+ * or after the logs of the last completed block when delivering fails. The hash of the last block of a range is read before and after fetching its logs,
+ * and the range is rolled back and processed again if it is replaced while the logs are fetched.<p>
+ * The hash of the checkpoint block is verified before processing new blocks. When the hash does not match because of a reorg,
+ * the stream rolls back to the latest processed block which is still in the chain and notifies {@link Listener#onRollback(BigInteger)}.
+ * If no block in the checkpoint is in the chain, the stream rolls back {@link EventCheckpoint#MAX_BLOCKS} blocks more from the oldest block in the checkpoint
+ * and fetches the logs again from there.
+ * <pre>Example :
+ * {@code
+ * KIP7 kip7 = new KIP7(caver, "0x{token address}");
+ * EventCheckpointStore store = new FileEventCheckpointStore(Paths.get("transfer.checkpoint"));
+ * EventStream stream = new EventStream(kip7, "Transfer", store, BigInteger.valueOf(deployedBlockNumber), 0);
+ *
+ * stream.start(eventLog -> {
+ *     String from = (String)eventLog.getIndexedValues().get(0).getValue();
+ *     ...
+ * });
+ * ...
+ * stream.close();
+ * }
+ * </pre>
+ */
+public class EventStream implements Closeable {
+    public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+    public static final int DEFAULT_WINDOW_SIZE = 100_000;
+
+    /**
+     * The listener of an EventStream.
+     */
+    public interface Listener {
+
+        /**
+         * Called for each log in the order of blocks. If it throws an exception, the logs from the block of the log are delivered again.
+         * @param eventLog The decoded log.
+         * @throws Exception
+         */
+        void onEvent(ContractEventLog eventLog) throws Exception;
+
+        /**
+         * Called when the delivered logs after the given block are removed by a reorg.
+         * The logs of the new chain are delivered after it.
+         * @param blockNumber The number of the latest block which is still in the chain.
+         * @throws Exception
+         */
+        default void onRollback(BigInteger blockNumber) throws Exception {
+        }
+
+        /**
+         * Called when processing blocks failed. The blocks are processed again with the next new block.
+         * @param error The error.
+         */
+        default void onError(Exception error) {
+        }
+    }
+
+    private final Contract contract;
+    private final EventBackfill backfill;
+    private final EventCheckpointStore store;
+    private final BigInteger startBlock;
+    private final int confirmations;
+    private final long pollingFrequency;
+    private final Flowable<NewHeadsNotification> newHeads;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+    private Disposable subscription;
+    private Listener listener;
+
+    /**
+     * The last checkpoint. It is only updated in the thread of scheduledExecutorService.
+     */
+    private volatile EventCheckpoint checkpoint;
+
+    /**
+     * The latest block number notified by "newHeads".
+     */
+    private volatile BigInteger latestBlock;
+
+    /**
+     * True if processing the latest block is scheduled.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates an EventStream instance which finds new blocks by polling the block number.
+     * @param contract A contract which emits the event. Its contract address must be set.
+     * @param eventName The name of the event.
+     * @param store The storage of the checkpoint.
+     * @param startBlock The block number to start from when the store has no checkpoint.
+     * @param confirmations The number of blocks after a block to process the block.
+     */
+    public EventStream(Contract contract, String eventName, EventCheckpointStore store, BigInteger startBlock, int confirmations) {
+        this(contract, eventName, store, startBlock, confirmations, DEFAULT_POLLING_FREQUENCY);
+    }
+
+    /**
+     * Creates an EventStream instance which finds new blocks by polling the block number.
+     * @param contract A contract which emits the event. Its contract address must be set.
+     * @param eventName The name of the event.
+     * @param store The storage of the checkpoint.
+     * @param startBlock The block number to start from when the store has no checkpoint.
+     * @param confirmations The number of blocks after a block to process the block.
+     * @param pollingFrequency The interval in milliseconds to poll the block number.
+     */
+    public EventStream(Contract contract, String eventName, EventCheckpointStore store, BigInteger startBlock, int confirmations, long pollingFrequency) {
+        this(contract, new EventBackfill(contract, eventName), store, startBlock, confirmations, pollingFrequency, null);
+    }
+
+    /**
+     * Creates an EventStream instance which finds new blocks with "newHeads" notifications.
+     * @param contract A contract which emits the event. Its contract address must be set.
+     * @param eventName The name of the event.
+     * @param store The storage of the checkpoint.
+     * @param startBlock The block number to start from when the store has no checkpoint.
+     * @param confirmations The number of blocks after a block to process the block.
+     * @param newHeads The flowable returned by {@code caver.rpc.klay.subscribeFlowable("newHeads")}.
+     */
+    public EventStream(Contract contract, String eventName, EventCheckpointStore store, BigInteger startBlock, int confirmations, Flowable<NewHeadsNotification> newHeads) {
+        this(contract, new EventBackfill(contract, eventName), store, startBlock, confirmations, 0, newHeads);
+    }
+
+    /**
+     * Creates an EventStream instance.
+     * @param contract A contract which emits the event. Its contract address must be set.
+     * @param backfill The EventBackfill to fetch logs of the event.
+     * @param store The storage of the checkpoint.
+     * @param startBlock The block number to start from when the store has no checkpoint.
+     * @param confirmations The number of blocks after a block to process the block.
+     * @param pollingFrequency The interval in milliseconds to poll the block number. If newHeads is given, it is used after the subscription terminates,
+     *                         and {@link #DEFAULT_POLLING_FREQUENCY} is used if it is not positive.
+     * @param newHeads The flowable returned by {@code caver.rpc.klay.subscribeFlowable("newHeads")}. It can be null.
+     */
+    public EventStream(Contract contract, EventBackfill backfill, EventCheckpointStore store, BigInteger startBlock, int confirmations,
+                       long pollingFrequency, Flowable<NewHeadsNotification> newHeads) {
+        if(confirmations < 0) {
+            throw new IllegalArgumentException("confirmations must not be negative.");
+        }
+        if(newHeads == null && pollingFrequency <= 0) {
+            throw new IllegalArgumentException("pollingFrequency must be greater than 0.");
+        }
+
+        this.contract = contract;
+        this.backfill = backfill;
+        this.store = store;
+        this.startBlock = startBlock;
+        this.confirmations = confirmations;
+        this.pollingFrequency = pollingFrequency;
+        this.newHeads = newHeads;
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-event-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the checkpoint from the store and starts delivering logs to the listener.
+     * @param listener The listener to receive logs.
+     * @throws IOException
+     */
+    public synchronized void start(Listener listener) throws IOException {
+        if(this.listener != null) {
+            throw new IllegalStateException("The stream is already started.");
+        }
+        if(closed) {
+            throw new IllegalStateException("The stream is closed.");
+        }
+
+        this.listener = listener;
+        this.checkpoint = store.load();
+
+        if(newHeads == null) {
+            scheduledExecutorService.scheduleWithFixedDelay(this::pollBlockNumber, 0, pollingFrequency, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        scheduledExecutorService.execute(this::pollBlockNumber);
+        subscription = newHeads.subscribe(notification -> {
+            latestBlock = Numeric.decodeQuantity(notification.getParams().getResult().getNumber());
+            if(scheduled.compareAndSet(false, true)) {
+                scheduledExecutorService.execute(() -> {
+                    scheduled.set(false);
+                    processBlocks(latestBlock);
+                });
+            }
+        }, this::fallbackToPolling, () -> fallbackToPolling(new IOException("The newHeads subscription is completed.")));
+    }
+
+    /**
+     * Reports the termination of the "newHeads" subscription and starts polling the block number instead.
+     * @param error The error which terminated the subscription.
+     */
+    private synchronized void fallbackToPolling(Throwable error) {
+        if(closed) {
+            return;
+        }
+
+        listener.onError(error instanceof Exception ? (Exception)error : new RuntimeException(error));
+
+        long frequency = pollingFrequency > 0 ? pollingFrequency : DEFAULT_POLLING_FREQUENCY;
+        scheduledExecutorService.scheduleWithFixedDelay(this::pollBlockNumber, 0, frequency, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops delivering logs. The listener is not called after the logs of the block being processed.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if(subscription != null) {
+            subscription.dispose();
+        }
+        scheduledExecutorService.shutdownNow();
+    }
+
+    /**
+     * Getter function for the last checkpoint.
+     * @return EventCheckpoint. It returns null if no block is processed.
+     */
+    public EventCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Getter function for confirmations.
+     * @return int
+     */
+    public int getConfirmations() {
+        return confirmations;
+    }
+
+    private void pollBlockNumber() {
+        try {
+            Quantity blockNumber = contract.getCaver().rpc.klay.getBlockNumber().send();
+            if(blockNumber.hasError()) {
+                throw new IOException(blockNumber.getError().getMessage());
+            }
+            processBlocks(blockNumber.getValue());
+        } catch(Exception e) {
+            // An exception stops a periodic task, so it is reported and retried at the next polling.
+            listener.onError(e);
+        }
+    }
+
+    /**
+     * Processes the confirmed blocks from the next one of the checkpoint.<p>
+     * If it fails, the remaining blocks are processed with the next new block.
+     * @param latestBlock The latest block number.
+     */
+    private void processBlocks(BigInteger latestBlock) {
+        try {
+            BigInteger target = latestBlock.subtract(BigInteger.valueOf(confirmations));
+            if(checkpoint != null) {
+                verifyCheckpoint();
+            }
+
+            BigInteger from = (checkpoint == null) ? startBlock : checkpoint.getBlockNumber().add(BigInteger.ONE);
+            while(from.compareTo(target) <= 0 && !closed) {
+                BigInteger to = target.min(from.add(BigInteger.valueOf(DEFAULT_WINDOW_SIZE - 1)));
+                if(!processRange(from, to)) {
+                    // The range is rolled back, so the checkpoint is verified again with the next new block.
+                    return;
+                }
+                from = to.add(BigInteger.ONE);
+            }
+        } catch(Exception e) {
+            listener.onError(e);
+        }
+    }
+
+    /**
+     * Delivers the logs in the block range and saves a checkpoint once after all of them are delivered.<p>
+     * The blocks which have logs are added to the checkpoint as well, so a later reorg can be rolled back to one of them.
+     * If delivering fails, the checkpoint of the blocks whose logs are all delivered is saved before the exception is thrown.
+     * @return false if the last block of the range is replaced while fetching logs. The delivered logs of the range are rolled back.
+     */
+    private boolean processRange(BigInteger from, BigInteger to) throws Exception {
+        String toHash = getBlockHash(to);
+
+        // The checkpoint of the blocks whose logs are all delivered, and the block of the logs being delivered.
+        EventCheckpoint[] progress = { checkpoint };
+        EventCheckpoint.BlockReference[] current = new EventCheckpoint.BlockReference[1];
+        try {
+            backfill.fetch(from, to).blockingForEach(eventLog -> {
+                if(closed) {
+                    throw new InterruptedException("The stream is closed.");
+                }
+
+                BigInteger blockNumber = eventLog.getBlockNumber();
+                if(current[0] != null && !current[0].getNumber().equals(blockNumber)) {
+                    progress[0] = next(progress[0], current[0].getNumber(), current[0].getHash());
+                }
+                current[0] = new EventCheckpoint.BlockReference(blockNumber, eventLog.getLog().getBlockHash());
+                listener.onEvent(eventLog);
+            });
+        } catch(Exception e) {
+            if(progress[0] != checkpoint) {
+                save(progress[0]);
+            }
+            throw e;
+        }
+
+        // The logs may come from a chain which is replaced while they are fetched, so the hash is read again after fetching them.
+        if(!toHash.equalsIgnoreCase(getBlockHash(to))) {
+            listener.onRollback(from.subtract(BigInteger.ONE));
+            return false;
+        }
+
+        if(current[0] != null && !current[0].getNumber().equals(to)) {
+            progress[0] = next(progress[0], current[0].getNumber(), current[0].getHash());
+        }
+        save(next(progress[0], to, toHash));
+        return true;
+    }
+
+    /**
+     * Checks that the checkpoint block is still in the chain, and rolls back to the latest processed block in the chain if not.
+     */
+    private void verifyCheckpoint() throws Exception {
+        if(checkpoint.getBlockHash().equalsIgnoreCase(getBlockHash(checkpoint.getBlockNumber()))) {
+            return;
+        }
+
+        List<EventCheckpoint.BlockReference> blocks = checkpoint.getBlocks();
+        for(int i = blocks.size() - 2; i >= 0; i--) {
+            EventCheckpoint.BlockReference block = blocks.get(i);
+            if(block.getHash().equalsIgnoreCase(getBlockHash(block.getNumber()))) {
+                listener.onRollback(block.getNumber());
+
+                checkpoint = checkpoint.rollbackTo(i);
+                store.save(checkpoint);
+                return;
+            }
+        }
+
+        // The reorg is deeper than the blocks in the checkpoint, so the logs are fetched again from a block before the oldest one.
+        BigInteger safeBlock = blocks.get(0).getNumber().subtract(BigInteger.valueOf(EventCheckpoint.MAX_BLOCKS)).max(startBlock.subtract(BigInteger.ONE));
+        listener.onRollback(safeBlock);
+
+        if(safeBlock.compareTo(startBlock) < 0) {
+            checkpoint = null;
+        } else {
+            save(next(null, safeBlock, getBlockHash(safeBlock)));
+        }
+    }
+
+    private EventCheckpoint next(EventCheckpoint base, BigInteger blockNumber, String blockHash) {
+        return (base == null) ? new EventCheckpoint().next(blockNumber, blockHash) : base.next(blockNumber, blockHash);
+    }
+
+    private void save(EventCheckpoint next) throws IOException {
+        store.save(next);
+        checkpoint = next;
+    }
+
+    private String getBlockHash(BigInteger blockNumber) throws IOException {
+        Block block = contract.getCaver().rpc.klay.getBlockByNumber(blockNumber.longValueExact()).send();
+        if(block.hasError() || block.getResult() == null) {
+            throw new IOException("Failed to get the block " + blockNumber);
+        }
+        return block.getResult().getHash();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.web3j.protocol.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link EventCheckpointStore} which saves the checkpoint as a JSON file.<p>
+ * The checkpoint is written and flushed to a temporary file and moved to the path, so a crash while saving does not corrupt the saved checkpoint.
+ */
+public class FileEventCheckpointStore implements EventCheckpointStore {
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    /**
+     * The path of the checkpoint file.
+     */
+    private final Path path;
+
+    /**
+     * Creates a FileEventCheckpointStore instance.
+     * @param path The path of the checkpoint file.
+     */
+    public FileEventCheckpointStore(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public EventCheckpoint load() throws IOException {
+        if(!Files.exists(path)) {
+            return null;
+        }
+        return objectMapper.readValue(path.toFile(), EventCheckpoint.class);
+    }
+
+    @Override
+    public void save(EventCheckpoint checkpoint) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(objectMapper.writeValueAsBytes(checkpoint));
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while(buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // The content is flushed to the disk before the move, so a crash doesn't leave an empty checkpoint.
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch(AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Getter function for path.
+     * @return Path
+     */
+    public Path getPath() {
+        return path;
+    }
+}
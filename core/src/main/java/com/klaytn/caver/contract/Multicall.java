@@ -0,0 +1,402 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.ABICodec;
+import com.klaytn.caver.abi.datatypes.Bool;
+import com.klaytn.caver.abi.datatypes.DynamicArray;
+import com.klaytn.caver.abi.datatypes.DynamicBytes;
+import com.klaytn.caver.abi.datatypes.DynamicStruct;
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.methods.request.CallObject;
+import com.klaytn.caver.methods.response.Bytes;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates read-only calls of contract methods.<p>
+ * If an aggregator contract address is given, calls are encoded into a single "klay_call" to the aggregator's
+ * {@code tryAggregate(bool,(address,bytes)[])} function, which is implemented in Multicall2 and Multicall3 contracts.
+ * If no aggregator is given, or the aggregator call fails, calls are sent as a JSON-RPC batch request.<p>
+ * A failure of a call doesn't affect other calls. Each call has its own {@link Result}.
+ * <pre>Example :
+ * {@code
+ * KIP7 kip7 = new KIP7(caver, "0x{token address}");
+ * Multicall multicall = new Multicall(caver, "0x{aggregator address}");
+ *
+ * List<Multicall.Call> calls = new ArrayList<>();
+ * for(String holder : holders) {
+ *     calls.add(Multicall.Call.of(kip7.getMethod("balanceOf"), holder));
+ * }
+ *
+ * List<Multicall.Result> results = multicall.aggregate(calls);
+ * BigInteger balance = (BigInteger)results.get(0).getValues().get(0).getValue();
+ * }
+ * </pre>
+ */
+public class Multicall {
+    public static final int DEFAULT_MAX_CALLS_PER_REQUEST = 500;
+
+    static final String TRY_AGGREGATE_FUNCTION = "tryAggregate(bool,(address,bytes)[])";
+    static final String TRY_AGGREGATE_SELECTOR = ABI.encodeFunctionSignature(TRY_AGGREGATE_FUNCTION);
+    static final ABICodec TRY_AGGREGATE_INPUT = compile(Arrays.asList("bool", "tuple(address,bytes)[]"));
+    static final ABICodec TRY_AGGREGATE_OUTPUT = compile(Collections.singletonList("tuple(bool,bytes)[]"));
+
+    /**
+     * A caver instance.
+     */
+    private final Caver caver;
+
+    /**
+     * The address of the aggregator contract. If it is null, calls are sent as a JSON-RPC batch request.
+     */
+    private final String aggregatorAddress;
+
+    /**
+     * The max number of calls in an aggregator call or a batch request.
+     */
+    private final int maxCallsPerRequest;
+
+    /**
+     * Creates a Multicall instance which sends calls as a JSON-RPC batch request.
+     * @param caver A Caver instance.
+     */
+    public Multicall(Caver caver) {
+        this(caver, null);
+    }
+
+    /**
+     * Creates a Multicall instance.
+     * @param caver A Caver instance.
+     * @param aggregatorAddress The address of a Multicall2 or Multicall3 contract. If it is null, calls are sent as a JSON-RPC batch request.
+     */
+    public Multicall(Caver caver, String aggregatorAddress) {
+        this(caver, aggregatorAddress, DEFAULT_MAX_CALLS_PER_REQUEST);
+    }
+
+    /**
+     * Creates a Multicall instance.
+     * @param caver A Caver instance.
+     * @param aggregatorAddress The address of a Multicall2 or Multicall3 contract. If it is null, calls are sent as a JSON-RPC batch request.
+     * @param maxCallsPerRequest The max number of calls in an aggregator call or a batch request.
+     */
+    public Multicall(Caver caver, String aggregatorAddress, int maxCallsPerRequest) {
+        if(maxCallsPerRequest < 1) {
+            throw new IllegalArgumentException("maxCallsPerRequest must be greater than 0.");
+        }
+
+        this.caver = caver;
+        this.aggregatorAddress = aggregatorAddress;
+        this.maxCallsPerRequest = maxCallsPerRequest;
+    }
+
+    /**
+     * Executes calls at the latest block.
+     * @param calls A list of calls.
+     * @return List - The results in the same order as the calls.
+     * @throws IOException
+     */
+    public List<Result> aggregate(List<Call> calls) throws IOException {
+        return aggregate(calls, DefaultBlockParameterName.LATEST);
+    }
+
+    /**
+     * Executes calls at the given block.
+     * @param calls A list of calls.
+     * @param blockTag The block number or the block tag to execute calls.
+     * @return List - The results in the same order as the calls.
+     * @throws IOException
+     */
+    public List<Result> aggregate(List<Call> calls, DefaultBlockParameter blockTag) throws IOException {
+        Result[] results = new Result[calls.size()];
+        List<EncodedCall> encodedCalls = new ArrayList<>();
+
+        for(int i = 0; i < calls.size(); i++) {
+            Call call = calls.get(i);
+            try {
+                ContractMethod method = call.method.findMatchedInstance(call.arguments);
+                if(method.getContractAddress() == null) {
+                    throw new IllegalArgumentException("The contract address of the method is not set.");
+                }
+                encodedCalls.add(new EncodedCall(i, method, ABI.encodeFunctionCall(method, call.arguments)));
+            } catch(Exception e) {
+                results[i] = Result.failure(call, "Failed to encode the call : " + e.getMessage());
+            }
+        }
+
+        for(int from = 0; from < encodedCalls.size(); from += maxCallsPerRequest) {
+            List<EncodedCall> chunk = encodedCalls.subList(from, Math.min(from + maxCallsPerRequest, encodedCalls.size()));
+
+            if(aggregatorAddress == null || !aggregateWithContract(calls, chunk, blockTag, results)) {
+                aggregateWithBatch(calls, chunk, blockTag, results);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Getter function for aggregator address.
+     * @return String
+     */
+    public String getAggregatorAddress() {
+        return aggregatorAddress;
+    }
+
+    /**
+     * Getter function for max calls per request.
+     * @return int
+     */
+    public int getMaxCallsPerRequest() {
+        return maxCallsPerRequest;
+    }
+
+    /**
+     * Executes calls with the aggregator contract.<p>
+     * An IOException of the aggregator call (e.g. a timeout or a response too large for a single call) is not thrown,
+     * because the calls may still succeed as separate requests of a batch.
+     * @return boolean - false if the aggregator call failed and the calls should be sent in another way.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean aggregateWithContract(List<Call> calls, List<EncodedCall> chunk, DefaultBlockParameter blockTag, Result[] results) {
+        List<Object> targets = new ArrayList<>();
+        for(EncodedCall encodedCall : chunk) {
+            targets.add(Arrays.asList(encodedCall.method.getContractAddress(), encodedCall.data));
+        }
+
+        Bytes response;
+        try {
+            String data = TRY_AGGREGATE_INPUT.encodeFunctionCall(TRY_AGGREGATE_SELECTOR, Arrays.asList(false, targets));
+            response = caver.rpc.klay.call(createCallObject(aggregatorAddress, data), blockTag).send();
+        } catch(InstantiationException | IOException e) {
+            return false;
+        }
+
+        // The aggregator call returns an error or an empty result when the aggregator isn't deployed at the address.
+        if(response.hasError() || response.getResult() == null || Numeric.cleanHexPrefix(response.getResult()).isEmpty()) {
+            return false;
+        }
+
+        List<Type> returnData;
+        try {
+            List<Type> decoded = TRY_AGGREGATE_OUTPUT.decode(response.getResult());
+            returnData = ((DynamicArray<Type>)decoded.get(0)).getValue();
+        } catch(RuntimeException e) {
+            return false;
+        }
+        if(returnData.size() != chunk.size()) {
+            return false;
+        }
+
+        for(int i = 0; i < chunk.size(); i++) {
+            EncodedCall encodedCall = chunk.get(i);
+            List<Type> values = ((DynamicStruct)returnData.get(i)).getValue();
+            boolean success = ((Bool)values.get(0)).getValue();
+            String output = Numeric.toHexString(((DynamicBytes)values.get(1)).getValue());
+
+            Call call = calls.get(encodedCall.index);
+            results[encodedCall.index] = success ? decode(call, encodedCall.method, output) : Result.failure(call, "The call is reverted.");
+        }
+        return true;
+    }
+
+    /**
+     * Executes calls as a JSON-RPC batch request.
+     */
+    private void aggregateWithBatch(List<Call> calls, List<EncodedCall> chunk, DefaultBlockParameter blockTag, Result[] results) throws IOException {
+        BatchRequest batchRequest = caver.rpc.newBatch();
+        Map<Long, EncodedCall> requestMap = new HashMap<>();
+
+        for(EncodedCall encodedCall : chunk) {
+            Request<?, Bytes> request = caver.rpc.klay.call(createCallObject(encodedCall.method.getContractAddress(), encodedCall.data), blockTag);
+            requestMap.put(request.getId(), encodedCall);
+            batchRequest.add(request);
+        }
+
+        BatchResponse batchResponse = batchRequest.send();
+
+        // Responses of a batch may be returned in any order, so they are matched with requests by id.
+        for(Response<?> response : batchResponse.getResponses()) {
+            EncodedCall encodedCall = requestMap.remove(response.getId());
+            if(encodedCall == null) {
+                continue;
+            }
+
+            Call call = calls.get(encodedCall.index);
+            if(response.hasError()) {
+                results[encodedCall.index] = Result.failure(call, response.getError().getMessage());
+            } else {
+                results[encodedCall.index] = decode(call, encodedCall.method, (String)response.getResult());
+            }
+        }
+
+        for(EncodedCall encodedCall : requestMap.values()) {
+            results[encodedCall.index] = Result.failure(calls.get(encodedCall.index), "There is no response for the call in the batch.");
+        }
+    }
+
+    private static Result decode(Call call, ContractMethod method, String output) {
+        try {
+            return Result.success(call, ABI.decodeParameters(method, output));
+        } catch(Exception e) {
+            return Result.failure(call, "Failed to decode the result : " + e.getMessage());
+        }
+    }
+
+    private static CallObject createCallObject(String to, String data) {
+        CallObject callObject = CallObject.createCallObject();
+        callObject.setTo(to);
+        callObject.setData(data);
+        return callObject;
+    }
+
+    private static ABICodec compile(List<String> solidityTypes) {
+        try {
+            return ABICodec.compile(solidityTypes);
+        } catch(ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A call of a contract method. The method must be bound to a contract address.
+     */
+    public static class Call {
+        private final ContractMethod method;
+        private final List<Object> arguments;
+
+        /**
+         * Creates a Call instance.
+         * @param method A ContractMethod instance to call. If it is overloaded, the method is chosen by the number of arguments.
+         * @param arguments A List of parameter to call the method.
+         */
+        public Call(ContractMethod method, List<Object> arguments) {
+            this.method = method;
+            this.arguments = arguments == null ? new ArrayList<>() : new ArrayList<>(arguments);
+        }
+
+        /**
+         * Creates a Call instance.
+         * @param method A ContractMethod instance to call. If it is overloaded, the method is chosen by the number of arguments.
+         * @param arguments The parameters to call the method.
+         * @return Call
+         */
+        public static Call of(ContractMethod method, Object... arguments) {
+            return new Call(method, Arrays.asList(arguments));
+        }
+
+        /**
+         * Getter function for method.
+         * @return ContractMethod
+         */
+        public ContractMethod getMethod() {
+            return method;
+        }
+
+        /**
+         * Getter function for arguments.
+         * @return List
+         */
+        public List<Object> getArguments() {
+            return arguments;
+        }
+    }
+
+    /**
+     * The result of a call.
+     */
+    public static class Result {
+        private final Call call;
+        private final boolean success;
+        private final List<Type> values;
+        private final String errorMessage;
+
+        Result(Call call, boolean success, List<Type> values, String errorMessage) {
+            this.call = call;
+            this.success = success;
+            this.values = values;
+            this.errorMessage = errorMessage;
+        }
+
+        static Result success(Call call, List<Type> values) {
+            return new Result(call, true, values, null);
+        }
+
+        static Result failure(Call call, String errorMessage) {
+            return new Result(call, false, null, errorMessage);
+        }
+
+        /**
+         * Getter function for call.
+         * @return Call
+         */
+        public Call getCall() {
+            return call;
+        }
+
+        /**
+         * Returns true if the call succeeded.
+         * @return boolean
+         */
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * Getter function for the decoded return values. It is null if the call failed.
+         * @return List
+         */
+        public List<Type> getValues() {
+            return values;
+        }
+
+        /**
+         * Getter function for the error message. It is null if the call succeeded.
+         * @return String
+         */
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+
+    private static class EncodedCall {
+        final int index;
+        final ContractMethod method;
+        final String data;
+
+        EncodedCall(int index, ContractMethod method, String data) {
+            this.index = index;
+            this.method = method;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.abi.ABI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The methods and events parsed from a contract ABI json string.<p>
+ * A parsed ABI is cached per ABI content and shared by every Contract instance created with the same ABI,
+ * so the ABI json is parsed and the signatures are hashed only once.
+ * The parsed ABI information is immutable once it is cached: the lists of inputs, outputs and tuple components are unmodifiable.
+ * Events are shared by those Contract instances as they are. Each Contract instance gets its own copies of the method templates
+ * only to bind its own Caver, contract address and wallet, and the copies share the inputs, outputs and compiled codecs of the templates.
+ */
+final class ParsedContractABI {
+    /**
+     * The max number of parsed ABIs kept in the cache. The least recently used one is removed when it is exceeded.
+     */
+    static final int MAX_CACHE_SIZE = 256;
+
+    private static final Map<String, ParsedContractABI> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, ParsedContractABI>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedContractABI> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            });
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedContractABI.class);
+
+    /**
+     * The map where method name string and ContractMethod template mapped.
+     */
+    private final Map<String, ContractMethod> methods;
+
+    /**
+     * The map where event name string and ContractEvent mapped.
+     */
+    private final Map<String, ContractEvent> events;
+
+    private ParsedContractABI(Map<String, ContractMethod> methods, Map<String, ContractEvent> events) {
+        this.methods = methods;
+        this.events = events;
+    }
+
+    /**
+     * Returns the parsed ABI of the ABI json string. It is parsed only if it doesn't exist in the cache.
+     * @param abi The contract's ABI(Application Binary Interface) json string.
+     * @return ParsedContractABI
+     * @throws IOException
+     */
+    static ParsedContractABI of(String abi) throws IOException {
+        ParsedContractABI parsed = CACHE.get(abi);
+        if(parsed == null) {
+            // Parsing the same ABI concurrently is harmless, both results are the same.
+            parsed = parse(abi);
+            CACHE.put(abi, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Removes all parsed ABIs in the cache.
+     */
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Returns the number of parsed ABIs in the cache.
+     * @return int
+     */
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Creates a map of ContractMethod instances copied from the method templates.
+     * @return Map
+     */
+    Map<String, ContractMethod> newMethods() {
+        Map<String, ContractMethod> copied = new HashMap<>();
+        methods.forEach((name, template) -> copied.put(name, new ContractMethod(template)));
+        return copied;
+    }
+
+    /**
+     * Creates a map of ContractEvent instances. ContractEvent doesn't have a state bound to a contract, so events are shared.
+     * @return Map
+     */
+    Map<String, ContractEvent> newEvents() {
+        return new HashMap<>(events);
+    }
+
+    /**
+     * Parse ABI json string and generate the mapped data related to method and event.
+     * @param abi The contract's ABI(Application Binary Interface) json string.
+     * @return ParsedContractABI
+     * @throws IOException
+     */
+    private static ParsedContractABI parse(String abi) throws IOException {
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+        Map<String, ContractMethod> methods = new HashMap<>();
+        Map<String, ContractEvent> events = new HashMap<>();
+
+        JsonNode root = objectMapper.readTree(abi);
+        Iterator<JsonNode> iterator = root.iterator();
+
+        while(iterator.hasNext()) {
+            JsonNode element = iterator.next();
+            if(element.get("type").asText().equals("function")) {
+                ContractMethod newMethod = objectMapper.readValue(element.toString(), ContractMethod.class);
+                newMethod.setSignature(ABI.encodeFunctionSignature(newMethod));
+
+                ContractMethod existedMethod = methods.get(newMethod.getName());
+                if(existedMethod != null) {
+                    boolean isWarning = existedMethod.getNextContractMethods().stream().anyMatch(contractMethod -> {
+                        return contractMethod.getInputs().size() == newMethod.getInputs().size();
+                    });
+
+                    if(existedMethod.getInputs().size() == newMethod.getInputs().size() || isWarning) {
+                        LOGGER.warn("An overloaded function with the same number of parameters may not be executed normally. Please use *withSolidityWrapper methods in ContractMethod class.");
+                    }
+
+                    existedMethod.getNextContractMethods().add(newMethod);
+                } else {
+                    methods.put(newMethod.getName(), newMethod);
+                }
+
+            } else if(element.get("type").asText().equals("event")) {
+                ContractEvent event = objectMapper.readValue(element.toString(), ContractEvent.class);
+                event.setSignature(ABI.encodeEventSignature(event));
+                events.put(event.getName(), event);
+            } else if(element.get("type").asText().equals("constructor")) {
+                ContractMethod method = objectMapper.readValue(element.toString(), ContractMethod.class);
+                //add a constructor info in methods.
+                methods.put("constructor", method);
+            }
+        }
+        //if the constructor is not existed in ABI, creates a dummy instance and adds it.
+        if(methods.get("constructor") == null) {
+            ContractMethod method = new ContractMethod();
+            method.setType(ContractMethod.TYPE_CONSTRUCTOR);
+            method.setInputs(new ArrayList<ContractIOType>());
+
+            methods.put("constructor", method);
+        }
+
+        for(ContractMethod method : methods.values()) {
+            freeze(method);
+            method.getNextContractMethods().forEach(ParsedContractABI::freeze);
+        }
+        for(ContractEvent event : events.values()) {
+            event.inputs = ContractIOType.unmodifiableList(event.inputs);
+        }
+
+        return new ParsedContractABI(methods, events);
+    }
+
+    /**
+     * Makes the inputs and outputs of the method template unmodifiable, because they are shared by every copy of it.
+     * @param method The ContractMethod template.
+     */
+    private static void freeze(ContractMethod method) {
+        method.inputs = ContractIOType.unmodifiableList(method.inputs);
+        method.outputs = ContractIOType.unmodifiableList(method.outputs);
+    }
+}
@@ -0,0 +1,647 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.crypto;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.Arrays;
+
+/**
+ * Public key recovery on the secp256k1 curve.<p>
+ * It recovers the same public key as {@code Sign.recoverFromSignature} of web3j, but it is specialized for secp256k1:
+ * <ul>
+ *     <li>Field elements are ten 26-bit limbs held in longs, and the reduction uses the special form of the prime.</li>
+ *     <li>The multiple of the generator is summed from a precomputed table of 4-bit windows, so it needs no doublings.</li>
+ *     <li>The multiple of the point R is split into two 128-bit halves with the GLV endomorphism and computed with width-5 NAFs at once.</li>
+ * </ul>
+ * Recovered public keys are returned as raw 64 bytes (x || y) to compare them without hex conversions.
+ * It is used to verify signatures, so it is not designed to run in constant time.
+ */
+public final class Secp256k1 {
+    /**
+     * The byte length of a raw public key (x || y).
+     */
+    public static final int PUBLIC_KEY_LENGTH = 64;
+
+    static final BigInteger P = new BigInteger("fffffffffffffffffffffffffffffffffffffffffffffffffffffffefffffc2f", 16);
+    static final BigInteger N = new BigInteger("fffffffffffffffffffffffffffffffebaaedce6af48a03bbfd25e8cd0364141", 16);
+    static final BigInteger GX = new BigInteger("79be667ef9dcbbac55a06295ce870b07029bfcdb2dce28d959f2815b16f81798", 16);
+    static final BigInteger GY = new BigInteger("483ada7726a3c4655da4fbfc0e1108a8fd17b448a68554199c47d08ffb10d4b8", 16);
+
+    // The GLV endomorphism: LAMBDA * (x, y) = (BETA * x, y).
+    static final BigInteger LAMBDA = new BigInteger("5363ad4cc05c30e0a5261c028812645a122e22ea20816678df02967c1b23bd72", 16);
+    static final BigInteger BETA = new BigInteger("7ae96a2b657c07106e64479eac3434e99cf0497512f58995c1396c28719501ee", 16);
+
+    // The basis to split a scalar k into k1 + k2 * LAMBDA.
+    static final BigInteger A1 = new BigInteger("3086d221a7d46bcde86c90e49284eb15", 16);
+    static final BigInteger B1 = new BigInteger("-e4437ed6010e88286f547fa90abfe4c3", 16);
+    static final BigInteger A2 = new BigInteger("114ca50f7a8e2f3f657c1108d9d44cfd8", 16);
+    static final BigInteger B2 = A1;
+    static final BigInteger HALF_N = N.shiftRight(1);
+
+    private static final int WINDOW = 5;
+
+    private static final long[] BETA_FE = Field.fromBigInteger(BETA);
+    private static final long[] SEVEN = Field.fromInt(7);
+
+    /**
+     * G_TABLE[i][j] is j * 16^i * G in affine coordinates. G_TABLE[i][0] is unused.
+     */
+    private static final long[][][][] G_TABLE = createGeneratorTable();
+
+    private Secp256k1() {
+    }
+
+    /**
+     * Recovers the public key from a signature.
+     * @param recId The recovery id. It is 0 or 1 in most cases, and 2 or 3 if R.x is greater than the curve order.
+     * @param r The r value of the signature. It is a 32-byte big-endian number.
+     * @param s The s value of the signature. It is a 32-byte big-endian number.
+     * @param messageHash The signed hash.
+     * @return byte[] - The raw 64-byte public key. It returns null if no public key can be recovered.
+     * @throws SignatureException It throws when the recovery id is not in range of 0 to 3.
+     */
+    public static byte[] recoverPublicKey(int recId, byte[] r, byte[] s, byte[] messageHash) throws SignatureException {
+        if(recId < 0 || recId > 3) {
+            throw new SignatureException("recId must be in range of 0 to 3: " + recId);
+        }
+
+        BigInteger rValue = new BigInteger(1, r);
+        BigInteger sValue = new BigInteger(1, s);
+        if(rValue.mod(N).signum() == 0) {
+            return null;
+        }
+
+        // R.x is r + (recId / 2) * N, and its y parity is recId % 2.
+        BigInteger x = rValue.add(N.multiply(BigInteger.valueOf(recId >> 1)));
+        if(x.compareTo(P) >= 0) {
+            return null;
+        }
+        long[][] pointR = decompress(Field.fromBigInteger(x), (recId & 1) == 1);
+        if(pointR == null) {
+            return null;
+        }
+
+        // Q = r^-1 * (s * R - e * G)
+        BigInteger rInv = rValue.modInverse(N);
+        BigInteger e = new BigInteger(1, messageHash);
+        BigInteger u1 = N.subtract(e.mod(N)).multiply(rInv).mod(N);
+        BigInteger u2 = sValue.multiply(rInv).mod(N);
+
+        long[][] q = add(multiply(pointR, u2), multiplyGenerator(u1));
+        if(q == null) {
+            return null;
+        }
+
+        long[][] affine = toAffine(q);
+        byte[] publicKey = new byte[PUBLIC_KEY_LENGTH];
+        Field.toBytes(affine[0], publicKey, 0);
+        Field.toBytes(affine[1], publicKey, 32);
+        return publicKey;
+    }
+
+    /**
+     * Decodes a public key in the compressed (33 bytes) or the uncompressed (64 or 65 bytes) format into a raw 64-byte public key.
+     * @param publicKey The encoded public key.
+     * @return byte[] - The raw 64-byte public key.
+     */
+    public static byte[] decodePublicKey(byte[] publicKey) {
+        if(publicKey.length == PUBLIC_KEY_LENGTH) {
+            return publicKey.clone();
+        }
+        if(publicKey.length == PUBLIC_KEY_LENGTH + 1 && publicKey[0] == 0x04) {
+            byte[] raw = new byte[PUBLIC_KEY_LENGTH];
+            System.arraycopy(publicKey, 1, raw, 0, PUBLIC_KEY_LENGTH);
+            return raw;
+        }
+        if(publicKey.length == 33 && (publicKey[0] == 0x02 || publicKey[0] == 0x03)) {
+            // An x of P or more is congruent to a smaller one, so it is not a canonical encoding.
+            if(new BigInteger(1, Arrays.copyOfRange(publicKey, 1, 33)).compareTo(P) >= 0) {
+                throw new IllegalArgumentException("Invalid public key: x is not less than the field prime.");
+            }
+            long[] x = Field.fromBytes(publicKey, 1);
+            long[][] point = decompress(x, publicKey[0] == 0x03);
+            if(point == null) {
+                throw new IllegalArgumentException("Invalid public key: x is not on the curve.");
+            }
+
+            byte[] raw = new byte[PUBLIC_KEY_LENGTH];
+            Field.toBytes(point[0], raw, 0);
+            Field.toBytes(point[1], raw, 32);
+            return raw;
+        }
+        throw new IllegalArgumentException("Invalid public key length: " + publicKey.length);
+    }
+
+    /**
+     * Returns the point (x, y) in Jacobian coordinates where y has the given parity, or null if x is not on the curve.
+     */
+    static long[][] decompress(long[] x, boolean odd) {
+        // y^2 = x^3 + 7
+        long[] y2 = Field.mul(Field.sqr(x), x);
+        y2 = Field.add(y2, SEVEN);
+
+        long[] y = Field.sqrt(y2);
+        if(y == null) {
+            return null;
+        }
+        Field.normalize(y);
+        if(((y[0] & 1) == 1) != odd) {
+            y = Field.neg(y);
+        }
+        return new long[][] {x.clone(), y, Field.fromInt(1)};
+    }
+
+    /**
+     * Returns k * point with the GLV endomorphism and width-5 NAFs.
+     */
+    static long[][] multiply(long[][] point, BigInteger k) {
+        // k = k1 + k2 * LAMBDA (mod N), where k1 and k2 have about 128 bits.
+        BigInteger c1 = divideRound(B2.multiply(k));
+        BigInteger c2 = divideRound(B1.negate().multiply(k));
+        BigInteger k1 = k.subtract(c1.multiply(A1)).subtract(c2.multiply(A2));
+        BigInteger k2 = c1.multiply(B1).add(c2.multiply(B2)).negate();
+
+        // The odd multiples point, 3 * point, ..., 15 * point, and their images by the endomorphism.
+        long[][][] table1 = oddMultiples(point);
+        long[][][] table2 = new long[table1.length][][];
+        for(int i = 0; i < table1.length; i++) {
+            table2[i] = new long[][] {Field.mul(table1[i][0], BETA_FE), table1[i][1], table1[i][2]};
+        }
+
+        boolean negative1 = k1.signum() < 0;
+        boolean negative2 = k2.signum() < 0;
+        int[] naf1 = wnaf(k1.abs());
+        int[] naf2 = wnaf(k2.abs());
+
+        long[][] result = null;
+        for(int i = Math.max(naf1.length, naf2.length) - 1; i >= 0; i--) {
+            result = doubles(result);
+            if(i < naf1.length && naf1[i] != 0) {
+                result = add(result, select(table1, naf1[i], negative1));
+            }
+            if(i < naf2.length && naf2[i] != 0) {
+                result = add(result, select(table2, naf2[i], negative2));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns k * G by summing the precomputed multiples of 4-bit windows.
+     */
+    static long[][] multiplyGenerator(BigInteger k) {
+        long[][] result = null;
+        for(int i = 0; i < 64; i++) {
+            int nibble = 0;
+            for(int bit = 3; bit >= 0; bit--) {
+                nibble = (nibble << 1) | (k.testBit(i * 4 + bit) ? 1 : 0);
+            }
+            if(nibble != 0) {
+                result = addAffine(result, G_TABLE[i][nibble]);
+            }
+        }
+        return result;
+    }
+
+    private static BigInteger divideRound(BigInteger value) {
+        return value.add(HALF_N).divide(N);
+    }
+
+    private static long[][][] oddMultiples(long[][] point) {
+        long[][][] table = new long[1 << (WINDOW - 2)][][];
+        long[][] twice = doubles(point);
+        table[0] = point;
+        for(int i = 1; i < table.length; i++) {
+            table[i] = add(table[i - 1], twice);
+        }
+        return table;
+    }
+
+    private static long[][] select(long[][][] table, int digit, boolean negative) {
+        long[][] point = table[(Math.abs(digit) - 1) >> 1];
+        return ((digit < 0) != negative) ? negate(point) : point;
+    }
+
+    /**
+     * Returns the width-5 NAF of k. The i-th digit is 0 or an odd number in range of -15 to 15.
+     */
+    static int[] wnaf(BigInteger k) {
+        int length = k.bitLength();
+        int[] naf = new int[length + 1];
+
+        int carry = 0;
+        int bit = 0;
+        while(bit < length) {
+            if((k.testBit(bit) ? 1 : 0) == carry) {
+                bit++;
+                continue;
+            }
+
+            int width = Math.min(WINDOW, length - bit);
+            int word = carry;
+            for(int i = 0; i < width; i++) {
+                word += (k.testBit(bit + i) ? 1 : 0) << i;
+            }
+            carry = (word >> (WINDOW - 1)) & 1;
+            word -= carry << WINDOW;
+            naf[bit] = word;
+            bit += width;
+        }
+        naf[length] = carry;
+        return naf;
+    }
+
+    // Points are in Jacobian coordinates {X, Y, Z}, where x = X / Z^2 and y = Y / Z^3. null is the point at infinity.
+
+    static long[][] negate(long[][] point) {
+        return new long[][] {point[0], Field.neg(point[1]), point[2]};
+    }
+
+    static long[][] doubles(long[][] point) {
+        if(point == null) {
+            return null;
+        }
+        long[] x = point[0], y = point[1], z = point[2];
+
+        // dbl-2009-l for a = 0. The curve has no point of order 2, so y is never 0.
+        long[] a = Field.sqr(x);
+        long[] b = Field.sqr(y);
+        long[] c = Field.sqr(b);
+        long[] d = Field.sub(Field.sub(Field.sqr(Field.add(x, b)), a), c);
+        d = Field.add(d, d);
+        long[] e = Field.mulInt(a, 3);
+        long[] f = Field.sqr(e);
+
+        long[] x3 = Field.sub(f, Field.add(d, d));
+        long[] y3 = Field.sub(Field.mul(e, Field.sub(d, x3)), Field.mulInt(c, 8));
+        long[] z3 = Field.mul(y, z);
+        z3 = Field.add(z3, z3);
+        return new long[][] {x3, y3, z3};
+    }
+
+    static long[][] add(long[][] p1, long[][] p2) {
+        if(p1 == null) {
+            return p2;
+        }
+        if(p2 == null) {
+            return p1;
+        }
+
+        // add-2007-bl
+        long[] z1z1 = Field.sqr(p1[2]);
+        long[] z2z2 = Field.sqr(p2[2]);
+        long[] u1 = Field.mul(p1[0], z2z2);
+        long[] u2 = Field.mul(p2[0], z1z1);
+        long[] s1 = Field.mul(Field.mul(p1[1], p2[2]), z2z2);
+        long[] s2 = Field.mul(Field.mul(p2[1], p1[2]), z1z1);
+
+        long[] h = Field.sub(u2, u1);
+        long[] r = Field.sub(s2, s1);
+        if(Field.isZero(h)) {
+            return Field.isZero(r) ? doubles(p1) : null;
+        }
+        r = Field.add(r, r);
+
+        long[] i = Field.add(h, h);
+        i = Field.sqr(i);
+        long[] j = Field.mul(h, i);
+        long[] v = Field.mul(u1, i);
+
+        long[] x3 = Field.sub(Field.sub(Field.sqr(r), j), Field.add(v, v));
+        long[] s1j = Field.mul(s1, j);
+        long[] y3 = Field.sub(Field.mul(r, Field.sub(v, x3)), Field.add(s1j, s1j));
+        long[] z3 = Field.mul(Field.sub(Field.sub(Field.sqr(Field.add(p1[2], p2[2])), z1z1), z2z2), h);
+        return new long[][] {x3, y3, z3};
+    }
+
+    /**
+     * Adds a point in affine coordinates {x, y}.
+     */
+    static long[][] addAffine(long[][] p1, long[][] p2) {
+        if(p1 == null) {
+            return new long[][] {p2[0], p2[1], Field.fromInt(1)};
+        }
+
+        // madd-2007-bl
+        long[] z1z1 = Field.sqr(p1[2]);
+        long[] u2 = Field.mul(p2[0], z1z1);
+        long[] s2 = Field.mul(Field.mul(p2[1], p1[2]), z1z1);
+
+        long[] h = Field.sub(u2, p1[0]);
+        long[] r = Field.sub(s2, p1[1]);
+        if(Field.isZero(h)) {
+            return Field.isZero(r) ? doubles(p1) : null;
+        }
+        r = Field.add(r, r);
+
+        long[] hh = Field.sqr(h);
+        long[] i = Field.mulInt(hh, 4);
+        long[] j = Field.mul(h, i);
+        long[] v = Field.mul(p1[0], i);
+
+        long[] x3 = Field.sub(Field.sub(Field.sqr(r), j), Field.add(v, v));
+        long[] y1j = Field.mul(p1[1], j);
+        long[] y3 = Field.sub(Field.mul(r, Field.sub(v, x3)), Field.add(y1j, y1j));
+        long[] z3 = Field.sub(Field.sub(Field.sqr(Field.add(p1[2], h)), z1z1), hh);
+        return new long[][] {x3, y3, z3};
+    }
+
+    static long[][] toAffine(long[][] point) {
+        long[] zInv = Field.inv(point[2]);
+        long[] zInv2 = Field.sqr(zInv);
+        long[] x = Field.mul(point[0], zInv2);
+        long[] y = Field.mul(Field.mul(point[1], zInv2), zInv);
+        Field.normalize(x);
+        Field.normalize(y);
+        return new long[][] {x, y};
+    }
+
+    private static long[][][][] createGeneratorTable() {
+        long[][][] jacobian = new long[64 * 16][][];
+        long[][] base = new long[][] {Field.fromBigInteger(GX), Field.fromBigInteger(GY), Field.fromInt(1)};
+        for(int i = 0; i < 64; i++) {
+            long[][] multiple = base;
+            for(int j = 1; j < 16; j++) {
+                jacobian[i * 16 + j] = multiple;
+                multiple = add(multiple, base);
+            }
+            base = multiple;
+        }
+
+        // Converts all points to affine coordinates with a single inversion.
+        long[][] prefix = new long[jacobian.length][];
+        long[] product = Field.fromInt(1);
+        for(int i = 0; i < jacobian.length; i++) {
+            if(jacobian[i] != null) {
+                prefix[i] = product;
+                product = Field.mul(product, jacobian[i][2]);
+            }
+        }
+
+        long[][][][] table = new long[64][16][][];
+        long[] inverse = Field.inv(product);
+        for(int i = jacobian.length - 1; i >= 0; i--) {
+            if(jacobian[i] == null) {
+                continue;
+            }
+            long[] zInv = Field.mul(inverse, prefix[i]);
+            inverse = Field.mul(inverse, jacobian[i][2]);
+
+            long[] zInv2 = Field.sqr(zInv);
+            long[] x = Field.mul(jacobian[i][0], zInv2);
+            long[] y = Field.mul(Field.mul(jacobian[i][1], zInv2), zInv);
+            table[i / 16][i % 16] = new long[][] {x, y};
+        }
+        return table;
+    }
+
+    /**
+     * The arithmetic of the field of secp256k1.<p>
+     * An element is ten limbs of 26 bits in little-endian order, where the last limb has 22 bits.
+     * All operations return a new array which is reduced to less than 2^256, but it can be greater than or equal to P.
+     * {@link #normalize(long[])} reduces it to less than P.
+     */
+    static final class Field {
+        static final int LIMBS = 10;
+        static final long M26 = 0x3ffffffL;
+        static final long M22 = 0x3fffffL;
+
+        private static final long[] TWO_P = new long[LIMBS];
+        private static final int[] INVERSE_EXPONENT = nibbles(P.subtract(BigInteger.valueOf(2)));
+        private static final int[] SQRT_EXPONENT = nibbles(P.add(BigInteger.ONE).shiftRight(2));
+
+        static {
+            // 2P is added limb by limb to keep the result of a subtraction positive.
+            long[] p = fromBigInteger(P);
+            for(int i = 0; i < LIMBS; i++) {
+                TWO_P[i] = p[i] * 2;
+            }
+        }
+
+        private Field() {
+        }
+
+        static long[] fromInt(int value) {
+            long[] r = new long[LIMBS];
+            r[0] = value;
+            return r;
+        }
+
+        static long[] fromBigInteger(BigInteger value) {
+            byte[] bytes = new byte[32];
+            byte[] source = value.toByteArray();
+            int length = Math.min(source.length, 32);
+            System.arraycopy(source, source.length - length, bytes, 32 - length, length);
+            return fromBytes(bytes, 0);
+        }
+
+        static long[] fromBytes(byte[] source, int offset) {
+            long[] r = new long[LIMBS];
+            for(int bit = 0; bit < 256; bit += 8) {
+                long value = source[offset + 31 - bit / 8] & 0xff;
+                int limb = bit / 26;
+                int shift = bit % 26;
+                r[limb] |= (value << shift) & M26;
+                if(shift + 8 > 26) {
+                    r[limb + 1] |= value >> (26 - shift);
+                }
+            }
+            return r;
+        }
+
+        static void toBytes(long[] a, byte[] target, int offset) {
+            long[] r = a.clone();
+            normalize(r);
+            for(int bit = 0; bit < 256; bit += 8) {
+                int limb = bit / 26;
+                int shift = bit % 26;
+                long value = r[limb] >> shift;
+                if(shift + 8 > 26 && limb + 1 < LIMBS) {
+                    value |= r[limb + 1] << (26 - shift);
+                }
+                target[offset + 31 - bit / 8] = (byte)value;
+            }
+        }
+
+        /**
+         * Carries the limbs and folds the bits over 2^256 with 2^256 = 2^32 + 977 (mod P).
+         */
+        static void carry(long[] r) {
+            while(true) {
+                for(int i = 0; i < LIMBS - 1; i++) {
+                    long c = r[i] >> 26;
+                    r[i] &= M26;
+                    r[i + 1] += c;
+                }
+                long c = r[LIMBS - 1] >> 22;
+                r[LIMBS - 1] &= M22;
+                if(c == 0) {
+                    return;
+                }
+                r[0] += c * 977;
+                r[1] += c << 6;
+            }
+        }
+
+        /**
+         * Reduces the element to less than P.
+         */
+        static void normalize(long[] r) {
+            carry(r);
+
+            // If r + 2^32 + 977 overflows 2^256, r is greater than or equal to P and the result without the overflow is r - P.
+            long[] t = r.clone();
+            t[0] += 977;
+            t[1] += 1 << 6;
+            for(int i = 0; i < LIMBS - 1; i++) {
+                t[i + 1] += t[i] >> 26;
+                t[i] &= M26;
+            }
+            if((t[LIMBS - 1] >> 22) != 0) {
+                t[LIMBS - 1] &= M22;
+                System.arraycopy(t, 0, r, 0, LIMBS);
+            }
+        }
+
+        static boolean isZero(long[] a) {
+            long[] r = a.clone();
+            normalize(r);
+            for(long limb : r) {
+                if(limb != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static long[] add(long[] a, long[] b) {
+            long[] r = new long[LIMBS];
+            for(int i = 0; i < LIMBS; i++) {
+                r[i] = a[i] + b[i];
+            }
+            carry(r);
+            return r;
+        }
+
+        static long[] sub(long[] a, long[] b) {
+            long[] r = new long[LIMBS];
+            for(int i = 0; i < LIMBS; i++) {
+                r[i] = a[i] - b[i] + TWO_P[i];
+            }
+            carry(r);
+            return r;
+        }
+
+        static long[] neg(long[] a) {
+            return sub(new long[LIMBS], a);
+        }
+
+        static long[] mulInt(long[] a, int k) {
+            long[] r = new long[LIMBS];
+            for(int i = 0; i < LIMBS; i++) {
+                r[i] = a[i] * k;
+            }
+            carry(r);
+            return r;
+        }
+
+        static long[] mul(long[] a, long[] b) {
+            // Each product has at most 52 bits, so a column of 10 products fits in a long.
+            long[] c = new long[2 * LIMBS];
+            for(int i = 0; i < LIMBS; i++) {
+                long ai = a[i];
+                for(int j = 0; j < LIMBS; j++) {
+                    c[i + j] += ai * b[j];
+                }
+            }
+            return reduce(c);
+        }
+
+        static long[] sqr(long[] a) {
+            // The products of different limbs appear twice, so they are computed once and doubled.
+            long[] c = new long[2 * LIMBS];
+            for(int i = 0; i < LIMBS; i++) {
+                long ai = a[i];
+                c[2 * i] += ai * ai;
+                ai <<= 1;
+                for(int j = i + 1; j < LIMBS; j++) {
+                    c[i + j] += ai * a[j];
+                }
+            }
+            return reduce(c);
+        }
+
+        private static long[] reduce(long[] c) {
+            for(int k = 0; k < 2 * LIMBS - 1; k++) {
+                c[k + 1] += c[k] >> 26;
+                c[k] &= M26;
+            }
+
+            // The limb k >= 10 has the weight 2^260 * 2^(26 * (k - 10)), and 2^260 = 2^36 + 15632 (mod P).
+            for(int k = 2 * LIMBS - 1; k >= LIMBS; k--) {
+                c[k - LIMBS] += c[k] * 15632;
+                c[k - LIMBS + 1] += c[k] << 10;
+            }
+
+            long[] r = new long[LIMBS];
+            System.arraycopy(c, 0, r, 0, LIMBS);
+            carry(r);
+            return r;
+        }
+
+        static long[] inv(long[] a) {
+            return pow(a, INVERSE_EXPONENT);
+        }
+
+        /**
+         * Returns a square root of the element, or null if it has no square root.
+         */
+        static long[] sqrt(long[] a) {
+            // P = 3 (mod 4), so a^((P + 1) / 4) is a square root if exists.
+            long[] root = pow(a, SQRT_EXPONENT);
+            long[] check = sub(sqr(root), a);
+            return isZero(check) ? root : null;
+        }
+
+        private static long[] pow(long[] a, int[] exponent) {
+            long[][] table = new long[16][];
+            table[1] = a;
+            for(int i = 2; i < 16; i++) {
+                table[i] = mul(table[i - 1], a);
+            }
+
+            long[] r = fromInt(1);
+            for(int nibble : exponent) {
+                r = sqr(sqr(sqr(sqr(r))));
+                if(nibble != 0) {
+                    r = mul(r, table[nibble]);
+                }
+            }
+            return r;
+        }
+
+        private static int[] nibbles(BigInteger exponent) {
+            String hex = exponent.toString(16);
+            int[] nibbles = new int[hex.length()];
+            for(int i = 0; i < hex.length(); i++) {
+                nibbles[i] = Character.digit(hex.charAt(i), 16);
+            }
+            return nibbles;
+        }
+    }
+}
@@ -20,14 +20,26 @@ import com.klaytn.caver.utils.Utils;
 import io.ipfs.api.JSONParser;
 import io.ipfs.api.MerkleNode;
 import io.ipfs.api.Multipart;
-import io.ipfs.api.NamedStreamable;
 import io.ipfs.multihash.Multihash;
 
 import java.io.*;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -45,11 +57,21 @@ public class IPFS {
      */
     IPFSOptions options;
 
+    /**
+     * The cache of files got from IPFS. It is null if files are not cached.
+     */
+    IPFSCache cache;
+
     private String protocol = "";
     private String host = "";
     private int port = -1;
     private String version = "/api/v0/";
 
+    /**
+     * The size of the buffer to stream the content of a file.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
 
     public IPFS() {
     }
@@ -97,14 +119,38 @@ public class IPFS {
     }
 
     /**
-     * Add file to IPFS.
+     * Add file to IPFS.<p>
+     * The whole file is streamed to IPFS without loading it in memory.
      * @param path A file path to add at IPFS.
      * @return String
      * @throws IOException
      */
     public String add(String path) throws IOException {
-        BufferedReader bufferedReader = new BufferedReader(new FileReader(path));
-        return add(bufferedReader.readLine().getBytes());
+        return add(Paths.get(path));
+    }
+
+    /**
+     * Add file to IPFS.<p>
+     * The whole file is streamed to IPFS without loading it in memory.
+     * @param path A file path to add at IPFS.
+     * @return String
+     * @throws IOException
+     */
+    public String add(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return add(inputStream, Files.size(path));
+        }
+    }
+
+    /**
+     * Add the content of an input stream to IPFS.<p>
+     * The content is streamed to IPFS in chunks until the end of the stream. The input stream is not closed.
+     * @param content An input stream to add at IPFS.
+     * @return String
+     * @throws IOException
+     */
+    public String add(InputStream content) throws IOException {
+        return add(content, -1);
     }
 
     /**
@@ -114,49 +160,89 @@ public class IPFS {
      * @throws IOException
      */
     public String add(byte[] content) throws IOException {
+        return add(new ByteArrayInputStream(content), content.length);
+    }
+
+    /**
+     * Add files to IPFS concurrently.
+     * @param paths The file paths to add at IPFS.
+     * @param parallelism The max number of files uploaded at the same time.
+     * @return List. The hashes of the files in the order of paths.
+     * @throws IOException
+     */
+    public List<String> add(List<Path> paths, int parallelism) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0.");
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, paths.size())), runnable -> {
+            Thread thread = new Thread(runnable, "caver-ipfs-add");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (Path path : paths) {
+                futures.add(executorService.submit(() -> add(path)));
+            }
+
+            List<String> hashes = new ArrayList<>();
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while adding files to IPFS.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Add the content to IPFS.
+     * @param content An input stream to add at IPFS.
+     * @param length The number of bytes in the content. If it is -1, the content is sent in chunks until the end of the stream.
+     * @return String
+     * @throws IOException
+     */
+    private String add(InputStream content, long length) throws IOException {
         // TODO: When IPFS library support setting basic auth, this function logic should be replaced
         URL target = new URL(this.protocol + "://" + this.host + ":"  + this.port + "/api/v0/add?stream-channels=true&progress=false&format=UTF-8");
         String boundary = Multipart.createBoundary();
 
+        // Below parts came from addFilePart and finish function of the Multipart.java
+        byte[] header = ("--" + boundary + "\r\n"
+                + "Content-Disposition: file; file=\"file\"\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "Content-Transfer-Encoding: binary\r\n"
+                + "\r\n").getBytes("UTF-8");
+        byte[] footer = ("\r\n--" + boundary + "--").getBytes("UTF-8");
+
         // Make a HttpURLConnection with basic auth (if auth is defined in IPFSOptions)
         HttpURLConnection conn = configureConnection(target, "POST", this.options);
 
         // This logic came from Multipart construction
         conn.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
 
-        // From below logic is came from addFilePart function of the Multipart.java
-        OutputStream out = conn.getOutputStream();
-        out.write("--".getBytes("UTF-8"));
-        out.write(boundary.getBytes("UTF-8"));
-        addLineFeed(out);
-        out.write("Content-Disposition: file; file=\"file\"".getBytes("UTF-8"));
-        addLineFeed(out);
-        out.write("Content-Type: application/octet-stream".getBytes("UTF-8"));
-        addLineFeed(out);
-        out.write("Content-Transfer-Encoding: binary".getBytes("UTF-8"));
-        addLineFeed(out);
-        addLineFeed(out);
-        out.flush();
-
-        NamedStreamable streamable = new NamedStreamable.ByteArrayWrapper(content);
-        try {
-            InputStream inputStream = streamable.getInputStream();
-            byte[] buffer = new byte[4096];
-            int r;
-            while ((r = inputStream.read(buffer)) != -1)
-                out.write(buffer, 0, r);
-            out.flush();
-            inputStream.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
+        // HttpURLConnection keeps the whole body in memory to set Content-Length unless a streaming mode is set.
+        if (length >= 0) {
+            conn.setFixedLengthStreamingMode(header.length + length + footer.length);
+        } else {
+            conn.setChunkedStreamingMode(BUFFER_SIZE);
         }
-        out.write("\r\n".getBytes("UTF-8"));
-        out.flush();
 
-        // Below logic is came from finish function of the Multipart
-        out.write(("--" + boundary + "--").getBytes("UTF-8"));
-        out.flush();
-        out.close();
+        try (OutputStream out = conn.getOutputStream()) {
+            out.write(header);
+            copy(content, out);
+            out.write(footer);
+        }
 
         StringBuilder b = new StringBuilder();
         int status = conn.getResponseCode();
@@ -196,33 +282,76 @@ public class IPFS {
      * @throws IOException
      */
     public byte[] get(String encodedHash) throws IOException {
-        // TODO: When IPFS library support setting basic auth, this function logic should be replaced
-        Multihash multihash = Multihash.fromBase58(encodedHash);
-        String path = "cat?arg=" + multihash;
-        URL target = new URL(this.protocol, this.host, this.port, this.version + path);
+        if (cache != null) {
+            ByteBuffer buffer = cache.get(encodedHash, () -> openCatStream(encodedHash));
+            byte[] content = new byte[buffer.remaining()];
+            buffer.get(content);
+            return content;
+        }
 
-        HttpURLConnection conn = configureConnection(target, "POST", this.options);
+        ByteArrayOutputStream resp = new ByteArrayOutputStream();
+        cat(encodedHash, resp);
+        return resp.toByteArray();
+    }
 
+    /**
+     * Get file from IPFS and write it to the given path.<p>
+     * The file is streamed to a temporary file in the same directory without loading it in memory,
+     * and the temporary file is moved to the path atomically. So an existing file is replaced only if the whole file is got.<p>
+     * An IOException writing the local file is thrown as it is, while a failure of IPFS is thrown as a RuntimeException.
+     * @param encodedHash A encoded multi hash string with base58.
+     * @param target The path to write the file.
+     * @return long. The number of bytes written.
+     * @throws IOException
+     */
+    public long get(String encodedHash, Path target) throws IOException {
+        Path temp = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
         try {
-            OutputStream out = conn.getOutputStream();
-            out.write(new byte[0]);
-            out.flush();
-            out.close();
-            InputStream in = conn.getInputStream();
-            ByteArrayOutputStream resp = new ByteArrayOutputStream();
+            long size;
+            if (cache != null) {
+                try (InputStream in = cache.getStream(encodedHash, () -> openCatStream(encodedHash));
+                     OutputStream out = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    size = copy(in, out);
+                }
+            } else {
+                try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    size = cat(encodedHash, out);
+                }
+            }
 
-            byte[] buf = new byte[4096];
-            int r;
-            while ((r = in.read(buf)) >= 0)
-                resp.write(buf, 0, r);
-            return resp.toByteArray();
-        } catch (ConnectException e) {
-            throw new RuntimeException("Couldn't connect to IPFS daemon at "+target+"\n Is IPFS running?");
-        } catch (IOException e) {
-            InputStream errorStream = conn.getErrorStream();
-            String err = errorStream == null ? e.getMessage() : new String(readFully(errorStream));
-            throw new RuntimeException("IOException contacting IPFS daemon.\n"+err+"\nTrailer: " + conn.getHeaderFields().get("Trailer"), e);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return size;
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get file from IPFS as an input stream.<p>
+     * The file is read from IPFS while reading the stream. Closing the stream closes the connection.
+     * If a cache is set, the file is read from the cache, or it is read from IPFS through the cache if it is not cached.
+     * <pre>Example :
+     * {@code
+     * try(InputStream inputStream = caver.ipfs.getStream(cid)) {
+     *     ...
+     * }
+     * }
+     * </pre>
+     * @param encodedHash A encoded multi hash string with base58.
+     * @return InputStream
+     * @throws IOException
+     */
+    public InputStream getStream(String encodedHash) throws IOException {
+        if (cache != null) {
+            return cache.getStream(encodedHash, () -> openCatStream(encodedHash));
         }
+
+        return openCatStream(encodedHash);
     }
 
     /**
@@ -253,6 +382,101 @@ public class IPFS {
         }
     }
 
+    /**
+     * Set a cache of files got from IPFS.<p>
+     * If it is set, {@link #get(String)}, {@link #get(String, Path)} and {@link #getStream(String)} use the cached file
+     * and fetch a file from IPFS only if it is not cached.
+     * @param cache The cache. If it is null, files are not cached.
+     */
+    public void setCache(IPFSCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Getter function for cache.
+     * @return IPFSCache. It returns null if files are not cached.
+     */
+    public IPFSCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Writes the file of the multihash got from IPFS to the output stream.<p>
+     * An IOException writing the output stream is thrown as it is, because it is not a failure of IPFS.
+     * @return long. The number of bytes written.
+     */
+    private long cat(String encodedHash, OutputStream out) throws IOException {
+        HttpURLConnection conn = openCat(encodedHash);
+        try (InputStream in = readCat(conn)) {
+            return copy(in, new OutputFailureStream(out));
+        } catch (OutputFailure e) {
+            throw e.getCause();
+        } catch (IOException e) {
+            throw catFailure(conn, e);
+        }
+    }
+
+    /**
+     * Opens the file of the multihash got from IPFS as an input stream. Closing the stream closes the connection.
+     */
+    private InputStream openCatStream(String encodedHash) throws IOException {
+        HttpURLConnection conn = openCat(encodedHash);
+        InputStream in;
+        try {
+            in = readCat(conn);
+        } catch (IOException e) {
+            throw catFailure(conn, e);
+        }
+
+        return new FilterInputStream(in) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    conn.disconnect();
+                }
+            }
+        };
+    }
+
+    private HttpURLConnection openCat(String encodedHash) throws IOException {
+        // TODO: When IPFS library support setting basic auth, this function logic should be replaced
+        Multihash multihash = Multihash.fromBase58(encodedHash);
+        String path = "cat?arg=" + multihash;
+        URL target = new URL(this.protocol, this.host, this.port, this.version + path);
+
+        return configureConnection(target, "POST", this.options);
+    }
+
+    private static InputStream readCat(HttpURLConnection conn) throws IOException {
+        OutputStream out = conn.getOutputStream();
+        out.write(new byte[0]);
+        out.flush();
+        out.close();
+        return conn.getInputStream();
+    }
+
+    private static RuntimeException catFailure(HttpURLConnection conn, IOException e) {
+        if (e instanceof ConnectException) {
+            return new RuntimeException("Couldn't connect to IPFS daemon at "+conn.getURL()+"\n Is IPFS running?");
+        }
+        InputStream errorStream = conn.getErrorStream();
+        String err = errorStream == null ? e.getMessage() : new String(readFully(errorStream));
+        return new RuntimeException("IOException contacting IPFS daemon.\n"+err+"\nTrailer: " + conn.getHeaderFields().get("Trailer"), e);
+    }
+
+    private static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long count = 0;
+        int r;
+        while ((r = in.read(buffer)) != -1) {
+            out.write(buffer, 0, r);
+            count += r;
+        }
+        return count;
+    }
+
     private static final byte[] readFully(InputStream in) {
         try {
             ByteArrayOutputStream resp = new ByteArrayOutputStream();
@@ -282,7 +506,45 @@ public class IPFS {
         return conn;
     }
 
-    private void addLineFeed(OutputStream out) throws IOException {
-        out.write("\r\n".getBytes("UTF-8"));
+    /**
+     * An IOException thrown while writing the output of {@link #cat(String, OutputStream)}.
+     */
+    private static class OutputFailure extends IOException {
+        OutputFailure(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    /**
+     * An output stream which wraps an IOException of the underlying stream with {@link OutputFailure},
+     * so that it is distinguished from an IOException reading the response of IPFS.
+     */
+    private static class OutputFailureStream extends FilterOutputStream {
+        OutputFailureStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                out.write(b);
+            } catch (IOException e) {
+                throw new OutputFailure(e);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                throw new OutputFailure(e);
+            }
+        }
     }
 }
@@ -0,0 +1,1012 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.ipfs;
+
+import io.ipfs.multihash.Multihash;
+import org.web3j.utils.Numeric;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A content-addressed cache of files fetched from IPFS.<p>
+ * A file on IPFS never changes for its multihash, so a cached file is used without revalidation.
+ * Files are kept in memory, and optionally in a directory on disk. Each tier removes the least recently used files when it is over its capacity.
+ * A file on disk larger than the memory mapping threshold is read with a memory-mapped buffer instead of being loaded in heap.<p>
+ * The multihash of a file is the hash of its UnixFS DAG rather than the hash of its content, so the SHA-256 digest of the content
+ * is saved next to a file on disk, and a file whose content does not match the digest is removed and fetched again.
+ * The digest is computed while a fetched file is written, and a file loaded from the directory is verified once when it is read at first.
+ * Later reads of a verified file don't compute the digest again.<p>
+ * {@link IPFS#getStream(String)} and {@link IPFS#get(String, Path)} stream a file not cached through the cache without loading it in heap.
+ * The file is kept in memory only if it fits in the memory capacity.<p>
+ * When a file not cached is requested by several threads at the same time, it is fetched from IPFS only once and the others wait for it.
+ * A file fetched with a stream is cached when the stream is read to the end, so close the stream even if it is not read to the end.
+ * <pre>Example :
+ * {@code
+ * IPFSCache cache = new IPFSCache(IPFSCache.DEFAULT_MEMORY_CAPACITY, Paths.get("ipfs-cache"), IPFSCache.DEFAULT_DISK_CAPACITY);
+ * caver.ipfs.setIPFSNode("ipfs.infura.io", 5001, true, options);
+ * caver.ipfs.setCache(cache);
+ *
+ * byte[] metadata = caver.ipfs.get(cid);
+ * }
+ * </pre>
+ */
+public class IPFSCache {
+    public static final long DEFAULT_MEMORY_CAPACITY = 64L * 1024 * 1024;
+    public static final long DEFAULT_DISK_CAPACITY = 1024L * 1024 * 1024;
+    public static final int DEFAULT_MEMORY_MAPPING_THRESHOLD = 1024 * 1024;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String DIGEST_FILE_SUFFIX = ".sha256";
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Opens the content of a file fetched from IPFS.
+     */
+    interface Fetcher {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * The max number of bytes of the files in memory.
+     */
+    private final long memoryCapacity;
+
+    /**
+     * The directory to keep files on disk. It is null if files are kept only in memory.
+     */
+    private final Path directory;
+
+    /**
+     * The max number of bytes of the files on disk.
+     */
+    private final long diskCapacity;
+
+    /**
+     * The size from which a file on disk is read with a memory-mapped buffer.
+     */
+    private final int memoryMappingThreshold;
+
+    /**
+     * The map where a multihash and the content of its file are mapped, in the order of access. It is guarded by itself.
+     */
+    private final LinkedHashMap<String, byte[]> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memorySize;
+
+    /**
+     * The map where a multihash and the size of its file on disk are mapped, in the order of access. It is guarded by itself.
+     */
+    private final LinkedHashMap<String, Long> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskSize;
+
+    /**
+     * The fetches in progress. A fetch is run by the first caller, and others with the same multihash wait for it.
+     * A fetch is completed when the file is cached or the fetch is finished without caching it.
+     */
+    private final Map<String, CompletableFuture<Void>> fetches = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the files on disk whose content is verified with their digests in this instance.
+     */
+    private final Set<String> verifiedKeys = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong memoryHitCount = new AtomicLong();
+    private final AtomicLong diskHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong sharedFetchCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Creates an IPFSCache instance which keeps files in memory up to {@link #DEFAULT_MEMORY_CAPACITY}.
+     */
+    public IPFSCache() {
+        this(DEFAULT_MEMORY_CAPACITY);
+    }
+
+    /**
+     * Creates an IPFSCache instance which keeps files in memory.
+     * @param memoryCapacity The max number of bytes of the files in memory.
+     */
+    public IPFSCache(long memoryCapacity) {
+        if(memoryCapacity < 0) {
+            throw new IllegalArgumentException("memoryCapacity must not be negative.");
+        }
+
+        this.memoryCapacity = memoryCapacity;
+        this.directory = null;
+        this.diskCapacity = 0;
+        this.memoryMappingThreshold = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates an IPFSCache instance which keeps files in memory and on disk.<p>
+     * The files already in the directory are used as cached files.
+     * @param memoryCapacity The max number of bytes of the files in memory.
+     * @param directory The directory to keep files. It is created if it does not exist.
+     * @param diskCapacity The max number of bytes of the files on disk.
+     * @throws IOException
+     */
+    public IPFSCache(long memoryCapacity, Path directory, long diskCapacity) throws IOException {
+        this(memoryCapacity, directory, diskCapacity, DEFAULT_MEMORY_MAPPING_THRESHOLD);
+    }
+
+    /**
+     * Creates an IPFSCache instance which keeps files in memory and on disk.<p>
+     * The files already in the directory are used as cached files.
+     * @param memoryCapacity The max number of bytes of the files in memory.
+     * @param directory The directory to keep files. It is created if it does not exist.
+     * @param diskCapacity The max number of bytes of the files on disk.
+     * @param memoryMappingThreshold The size from which a file on disk is read with a memory-mapped buffer instead of being kept in memory.
+     * @throws IOException
+     */
+    public IPFSCache(long memoryCapacity, Path directory, long diskCapacity, int memoryMappingThreshold) throws IOException {
+        if(memoryCapacity < 0 || diskCapacity < 0) {
+            throw new IllegalArgumentException("memoryCapacity and diskCapacity must not be negative.");
+        }
+        if(memoryMappingThreshold < 0) {
+            throw new IllegalArgumentException("memoryMappingThreshold must not be negative.");
+        }
+
+        this.memoryCapacity = memoryCapacity;
+        this.directory = directory;
+        this.diskCapacity = diskCapacity;
+        this.memoryMappingThreshold = memoryMappingThreshold;
+
+        Files.createDirectories(directory);
+        loadDiskEntries();
+    }
+
+    /**
+     * Returns the content of the file of the multihash. The file is fetched only if it is not cached.<p>
+     * It throws an IOException if the file is too large to be read in a buffer.
+     * @param encodedHash A encoded multi hash string with base58.
+     * @param fetcher The fetcher to run if the file is not cached.
+     * @return ByteBuffer - A read-only buffer of the content.
+     * @throws IOException
+     */
+    ByteBuffer get(String encodedHash, Fetcher fetcher) throws IOException {
+        String key = Multihash.fromBase58(encodedHash).toString();
+
+        boolean shared = false;
+        while(true) {
+            ByteBuffer cached = lookup(key, !shared);
+            if(cached != null) {
+                return cached;
+            }
+
+            CompletableFuture<Void> fetch = new CompletableFuture<>();
+            CompletableFuture<Void> existing = fetches.putIfAbsent(key, fetch);
+            if(existing != null) {
+                // The file is looked up again after the fetch in progress, which may be finished without caching it.
+                shared = true;
+                sharedFetchCount.incrementAndGet();
+                await(existing, encodedHash);
+                continue;
+            }
+
+            missCount.incrementAndGet();
+            try {
+                ByteBuffer buffer = fetch(key, fetcher);
+                finishFetch(key, fetch, null);
+                return buffer;
+            } catch(IOException | RuntimeException e) {
+                finishFetch(key, fetch, e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns an input stream of the file of the multihash.<p>
+     * A file in memory is read from memory, and a file on disk is read from disk without being loaded in heap.
+     * Its content is verified with the saved digest while it is read, and an IOException is thrown at the end of the stream if it does not match.<p>
+     * A file not cached is fetched while reading the stream. It is cached when the stream is read to the end,
+     * on disk if the cache has a directory, or in memory if it fits in the memory capacity.
+     * Other requests of the same file wait until the stream is read to the end or closed.
+     * @param encodedHash A encoded multi hash string with base58.
+     * @param fetcher The fetcher to run if the file is not cached.
+     * @return InputStream
+     * @throws IOException
+     */
+    InputStream getStream(String encodedHash, Fetcher fetcher) throws IOException {
+        String key = Multihash.fromBase58(encodedHash).toString();
+
+        boolean shared = false;
+        while(true) {
+            InputStream cached = openCached(key, !shared);
+            if(cached != null) {
+                return cached;
+            }
+
+            CompletableFuture<Void> fetch = new CompletableFuture<>();
+            CompletableFuture<Void> existing = fetches.putIfAbsent(key, fetch);
+            if(existing != null) {
+                shared = true;
+                sharedFetchCount.incrementAndGet();
+                await(existing, encodedHash);
+                continue;
+            }
+
+            try {
+                // The file may be cached by a fetch finished after the lookup above.
+                cached = openCached(key, false);
+                if(cached != null) {
+                    finishFetch(key, fetch, null);
+                    return cached;
+                }
+
+                missCount.incrementAndGet();
+                return new CachingInputStream(key, fetcher.open(), fetch);
+            } catch(IOException | RuntimeException e) {
+                finishFetch(key, fetch, e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Removes all files in memory and on disk.
+     * @throws IOException
+     */
+    public void invalidateAll() throws IOException {
+        synchronized(memoryEntries) {
+            memoryEntries.clear();
+            memorySize = 0;
+        }
+
+        if(directory != null) {
+            List<String> keys;
+            synchronized(diskEntries) {
+                keys = new ArrayList<>(diskEntries.keySet());
+                diskEntries.clear();
+                diskSize = 0;
+            }
+            verifiedKeys.clear();
+            for(String key : keys) {
+                deleteDiskFiles(key);
+            }
+        }
+    }
+
+    /**
+     * Getter function for memoryCapacity.
+     * @return long
+     */
+    public long getMemoryCapacity() {
+        return memoryCapacity;
+    }
+
+    /**
+     * Getter function for directory.
+     * @return Path. It returns null if files are kept only in memory.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Getter function for diskCapacity.
+     * @return long
+     */
+    public long getDiskCapacity() {
+        return diskCapacity;
+    }
+
+    /**
+     * Returns the number of bytes of the files in memory.
+     * @return long
+     */
+    public long getMemorySize() {
+        synchronized(memoryEntries) {
+            return memorySize;
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the files on disk.
+     * @return long
+     */
+    public long getDiskSize() {
+        synchronized(diskEntries) {
+            return diskSize;
+        }
+    }
+
+    /**
+     * Returns the number of requests served from memory.
+     * @return long
+     */
+    public long getMemoryHitCount() {
+        return memoryHitCount.get();
+    }
+
+    /**
+     * Returns the number of requests served from disk.
+     * @return long
+     */
+    public long getDiskHitCount() {
+        return diskHitCount.get();
+    }
+
+    /**
+     * Returns the number of requests served from memory or disk.
+     * @return long
+     */
+    public long getHitCount() {
+        return memoryHitCount.get() + diskHitCount.get();
+    }
+
+    /**
+     * Returns the number of requests which fetched the file from IPFS.
+     * @return long
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of requests which waited for the same file being fetched by another request.
+     * @return long
+     */
+    public long getSharedFetchCount() {
+        return sharedFetchCount.get();
+    }
+
+    /**
+     * Returns the number of files removed from memory or disk because of the capacity.
+     * @return long
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Returns the cached content of the key, or null if it is not cached or the file on disk is corrupted.
+     */
+    private ByteBuffer lookup(String key, boolean record) throws IOException {
+        synchronized(memoryEntries) {
+            byte[] content = memoryEntries.get(key);
+            if(content != null) {
+                if(record) {
+                    memoryHitCount.incrementAndGet();
+                }
+                return ByteBuffer.wrap(content).asReadOnlyBuffer();
+            }
+        }
+
+        if(directory == null) {
+            return null;
+        }
+
+        Long size;
+        synchronized(diskEntries) {
+            size = diskEntries.get(key);
+        }
+        if(size == null) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = read(key, size);
+            if(buffer != null && record) {
+                diskHitCount.incrementAndGet();
+            }
+            return buffer;
+        } catch(NoSuchFileException e) {
+            // The file or its digest is removed by another process.
+            removeCorrupted(key);
+            return null;
+        }
+    }
+
+    /**
+     * Returns an input stream of the cached file of the key, or null if it is not cached.
+     * A file on disk which is not verified yet is verified while it is read.
+     */
+    private InputStream openCached(String key, boolean record) throws IOException {
+        synchronized(memoryEntries) {
+            byte[] content = memoryEntries.get(key);
+            if(content != null) {
+                if(record) {
+                    memoryHitCount.incrementAndGet();
+                }
+                return new ByteArrayInputStream(content);
+            }
+        }
+
+        if(directory == null || !containsDiskEntry(key)) {
+            return null;
+        }
+
+        try {
+            InputStream inputStream;
+            if(verifiedKeys.contains(key)) {
+                inputStream = Files.newInputStream(directory.resolve(key));
+            } else {
+                byte[] digest = readDigest(key);
+                inputStream = new VerifyingInputStream(key, Files.newInputStream(directory.resolve(key)), digest);
+            }
+            if(record) {
+                diskHitCount.incrementAndGet();
+            }
+            return inputStream;
+        } catch(NoSuchFileException e) {
+            // The file or its digest is removed by another process.
+            removeCorrupted(key);
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the fetch in progress. It throws the error of the fetch if it has failed.
+     */
+    private void await(CompletableFuture<Void> fetch, String encodedHash) throws IOException {
+        try {
+            fetch.get();
+        } catch(ExecutionException e) {
+            // A failed fetch is not cached.
+            if(e.getCause() instanceof IOException) {
+                throw (IOException)e.getCause();
+            } else if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the file " + encodedHash);
+        }
+    }
+
+    /**
+     * Removes the fetch from the fetches in progress and wakes up the requests waiting for it.
+     */
+    private void finishFetch(String key, CompletableFuture<Void> fetch, Throwable error) {
+        fetches.remove(key, fetch);
+        if(error == null) {
+            fetch.complete(null);
+        } else {
+            fetch.completeExceptionally(error);
+        }
+    }
+
+    private ByteBuffer fetch(String key, Fetcher fetcher) throws IOException {
+        // The file may be cached by a fetch finished after the lookup of the caller.
+        ByteBuffer cached = lookup(key, false);
+        if(cached != null) {
+            return cached;
+        }
+
+        if(directory == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try(InputStream in = fetcher.open()) {
+                copy(in, out, null);
+            }
+            byte[] content = out.toByteArray();
+            putMemoryEntry(key, content);
+            return ByteBuffer.wrap(content).asReadOnlyBuffer();
+        }
+
+        // The file is written to a temporary file first, so a failed fetch never leaves a partial file in the cache.
+        Path tempFile = Files.createTempFile(directory, key, TEMP_FILE_SUFFIX);
+        try {
+            MessageDigest digest = newDigest();
+            long size;
+            try(InputStream in = fetcher.open(); OutputStream out = Files.newOutputStream(tempFile)) {
+                size = copy(in, out, digest);
+            }
+            if(size > Integer.MAX_VALUE) {
+                throw new IOException("The file " + key + " is too large to be read in a buffer. Use IPFS.getStream() or IPFS.get(String, Path) instead.");
+            }
+            commitDiskFile(key, tempFile, digest.digest());
+            // The digest is computed while the file is written, so it is not verified again when it is read.
+            verifiedKeys.add(key);
+
+            ByteBuffer buffer = read(key, size);
+            if(buffer == null) {
+                throw new IOException("The cached file of " + key + " is corrupted.");
+            }
+            putDiskEntry(key, size);
+            return buffer;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Reads the file of the key on disk. A small file is also kept in memory, and a large file is memory-mapped.<p>
+     * A file not verified yet is verified with the saved digest. It returns null and removes the file if its content does not match.
+     */
+    private ByteBuffer read(String key, long size) throws IOException {
+        if(size > Integer.MAX_VALUE) {
+            throw new IOException("The file " + key + " is too large to be read in a buffer. Use IPFS.getStream() or IPFS.get(String, Path) instead.");
+        }
+
+        Path file = directory.resolve(key);
+        byte[] content = null;
+        ByteBuffer buffer;
+        if(size < memoryMappingThreshold) {
+            content = Files.readAllBytes(file);
+            buffer = ByteBuffer.wrap(content).asReadOnlyBuffer();
+        } else {
+            // The mapping stays valid after the channel is closed.
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
+        if(!verifiedKeys.contains(key)) {
+            byte[] expected = readDigest(key);
+            MessageDigest digest = newDigest();
+            digest.update(buffer.duplicate());
+            if(!MessageDigest.isEqual(expected, digest.digest())) {
+                removeCorrupted(key);
+                return null;
+            }
+            verifiedKeys.add(key);
+        }
+
+        if(content != null) {
+            putMemoryEntry(key, content);
+        }
+        return buffer;
+    }
+
+    /**
+     * Saves the digest of the fetched file and moves the temporary file to the file of the key.
+     */
+    private void commitDiskFile(String key, Path tempFile, byte[] digest) throws IOException {
+        Path digestTempFile = Files.createTempFile(directory, key + DIGEST_FILE_SUFFIX, TEMP_FILE_SUFFIX);
+        try {
+            Files.write(digestTempFile, Numeric.toHexStringNoPrefix(digest).getBytes(StandardCharsets.US_ASCII));
+            Files.move(digestTempFile, digestFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(digestTempFile);
+        }
+        Files.move(tempFile, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private byte[] readDigest(String key) throws IOException {
+        String digest = new String(Files.readAllBytes(digestFile(key)), StandardCharsets.US_ASCII).trim();
+        return Numeric.hexStringToByteArray(digest);
+    }
+
+    private Path digestFile(String key) {
+        return directory.resolve(key + DIGEST_FILE_SUFFIX);
+    }
+
+    private void removeCorrupted(String key) throws IOException {
+        removeDiskEntry(key);
+        deleteDiskFiles(key);
+    }
+
+    private void deleteDiskFiles(String key) throws IOException {
+        verifiedKeys.remove(key);
+        Files.deleteIfExists(directory.resolve(key));
+        Files.deleteIfExists(digestFile(key));
+    }
+
+    private boolean containsDiskEntry(String key) {
+        synchronized(diskEntries) {
+            return diskEntries.containsKey(key);
+        }
+    }
+
+    private static long copy(InputStream in, OutputStream out, MessageDigest digest) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long count = 0;
+        int r;
+        while((r = in.read(buffer)) != -1) {
+            out.write(buffer, 0, r);
+            if(digest != null) {
+                digest.update(buffer, 0, r);
+            }
+            count += r;
+        }
+        return count;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void putMemoryEntry(String key, byte[] content) {
+        if(content.length > memoryCapacity) {
+            return;
+        }
+
+        synchronized(memoryEntries) {
+            byte[] previous = memoryEntries.put(key, content);
+            memorySize += content.length - (previous == null ? 0 : previous.length);
+
+            Iterator<Map.Entry<String, byte[]>> iterator = memoryEntries.entrySet().iterator();
+            while(memorySize > memoryCapacity && iterator.hasNext()) {
+                Map.Entry<String, byte[]> eldest = iterator.next();
+                memorySize -= eldest.getValue().length;
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void putDiskEntry(String key, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized(diskEntries) {
+            Long previous = diskEntries.put(key, size);
+            diskSize += size - (previous == null ? 0 : previous);
+
+            Iterator<Map.Entry<String, Long>> iterator = diskEntries.entrySet().iterator();
+            while(diskSize > diskCapacity && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                diskSize -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        for(String evictedKey : evicted) {
+            evictionCount.incrementAndGet();
+            try {
+                deleteDiskFiles(evictedKey);
+            } catch(IOException ignored) {
+                // A file in use cannot be deleted on some platforms. It is deleted when the directory is loaded again.
+            }
+        }
+    }
+
+    private void removeDiskEntry(String key) {
+        synchronized(diskEntries) {
+            Long size = diskEntries.remove(key);
+            if(size != null) {
+                diskSize -= size;
+            }
+        }
+    }
+
+    /**
+     * Loads the files in the directory in the order of their last modified time.<p>
+     * It removes the temporary files of unfinished fetches, and the files or digests which don't have their pairs.
+     */
+    private void loadDiskEntries() throws IOException {
+        List<Path> files = new ArrayList<>();
+        Set<String> digestKeys = new HashSet<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for(Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if(fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if(fileName.endsWith(DIGEST_FILE_SUFFIX)) {
+                    digestKeys.add(fileName.substring(0, fileName.length() - DIGEST_FILE_SUFFIX.length()));
+                } else if(Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+
+        Iterator<Path> iterator = files.iterator();
+        while(iterator.hasNext()) {
+            Path file = iterator.next();
+            if(!digestKeys.remove(file.getFileName().toString())) {
+                Files.deleteIfExists(file);
+                iterator.remove();
+            }
+        }
+        for(String key : digestKeys) {
+            Files.deleteIfExists(digestFile(key));
+        }
+
+        Map<Path, Long> lastModifiedTimes = new LinkedHashMap<>();
+        for(Path file : files) {
+            lastModifiedTimes.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort(Comparator.comparing(lastModifiedTimes::get));
+
+        for(Path file : files) {
+            putDiskEntry(file.getFileName().toString(), Files.size(file));
+        }
+    }
+
+    /**
+     * An input stream which reads a file fetched from IPFS and caches it when it is read to the end.<p>
+     * If the cache has a directory, the content is written to a temporary file while it is read.
+     * Otherwise, it is copied in memory until it exceeds the memory capacity.
+     * A failure to cache the file does not fail reading the stream.
+     */
+    private class CachingInputStream extends FilterInputStream {
+        private final String key;
+        private final CompletableFuture<Void> fetch;
+        private final MessageDigest digest = newDigest();
+        private ByteArrayOutputStream memoryCopy;
+        private Path tempFile;
+        private OutputStream fileCopy;
+        private long size;
+        private boolean finished;
+
+        CachingInputStream(String key, InputStream in, CompletableFuture<Void> fetch) {
+            super(in);
+            this.key = key;
+            this.fetch = fetch;
+
+            if(directory == null) {
+                memoryCopy = new ByteArrayOutputStream();
+                return;
+            }
+
+            try {
+                tempFile = Files.createTempFile(directory, key, TEMP_FILE_SUFFIX);
+                fileCopy = Files.newOutputStream(tempFile);
+            } catch(IOException e) {
+                discard();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if(b == -1) {
+                commit();
+            } else {
+                append(new byte[] {(byte)b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if(n == -1) {
+                commit();
+            } else {
+                append(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // The skipped bytes are read to be cached.
+            byte[] buffer = new byte[(int)Math.min(BUFFER_SIZE, Math.max(n, 0))];
+            long skipped = 0;
+            while(skipped < n) {
+                int r = read(buffer, 0, (int)Math.min(buffer.length, n - skipped));
+                if(r == -1) {
+                    break;
+                }
+                skipped += r;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if(!finished) {
+                    discard();
+                }
+            }
+        }
+
+        private void append(byte[] b, int off, int len) {
+            if(finished) {
+                return;
+            }
+
+            size += len;
+            if(memoryCopy != null) {
+                if(size > memoryCapacity) {
+                    // The file is streamed without being cached.
+                    discard();
+                    return;
+                }
+                memoryCopy.write(b, off, len);
+            } else if(fileCopy != null) {
+                try {
+                    fileCopy.write(b, off, len);
+                    digest.update(b, off, len);
+                } catch(IOException e) {
+                    discard();
+                }
+            }
+        }
+
+        private void commit() {
+            if(finished) {
+                return;
+            }
+            finished = true;
+
+            if(memoryCopy != null) {
+                putMemoryEntry(key, memoryCopy.toByteArray());
+                memoryCopy = null;
+                finishFetch(key, fetch, null);
+                return;
+            }
+
+            if(fileCopy == null) {
+                finishFetch(key, fetch, null);
+                return;
+            }
+            try {
+                fileCopy.close();
+                commitDiskFile(key, tempFile, digest.digest());
+                verifiedKeys.add(key);
+                putDiskEntry(key, size);
+            } catch(IOException ignored) {
+                // The file is not cached, but it is read completely.
+            } finally {
+                deleteTempFile();
+                finishFetch(key, fetch, null);
+            }
+        }
+
+        /**
+         * Stops caching the file. The requests waiting for this fetch fetch the file by themselves.
+         */
+        private void discard() {
+            finished = true;
+            memoryCopy = null;
+            if(fileCopy != null) {
+                try {
+                    fileCopy.close();
+                } catch(IOException ignored) {
+                }
+                fileCopy = null;
+            }
+            deleteTempFile();
+            finishFetch(key, fetch, null);
+        }
+
+        private void deleteTempFile() {
+            if(tempFile == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch(IOException ignored) {
+                // It is deleted when the directory is loaded again.
+            }
+        }
+    }
+
+    /**
+     * An input stream which reads a file on disk and verifies its content with the saved digest at the end of the stream.<p>
+     * If the content does not match, the file is removed from the cache and an IOException is thrown.
+     */
+    private class VerifyingInputStream extends FilterInputStream {
+        private final String key;
+        private final byte[] expected;
+        private final MessageDigest digest = newDigest();
+        private boolean verified;
+
+        VerifyingInputStream(String key, InputStream in, byte[] expected) {
+            super(in);
+            this.key = key;
+            this.expected = expected;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if(b == -1) {
+                verify();
+            } else {
+                digest.update((byte)b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if(n == -1) {
+                verify();
+            } else {
+                digest.update(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // The skipped bytes are read to be verified.
+            byte[] buffer = new byte[(int)Math.min(BUFFER_SIZE, Math.max(n, 0))];
+            long skipped = 0;
+            while(skipped < n) {
+                int r = read(buffer, 0, (int)Math.min(buffer.length, n - skipped));
+                if(r == -1) {
+                    break;
+                }
+                skipped += r;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        private void verify() throws IOException {
+            if(verified) {
+                return;
+            }
+            verified = true;
+
+            if(!MessageDigest.isEqual(expected, digest.digest())) {
+                removeCorrupted(key);
+                throw new IOException("The cached file of " + key + " is corrupted.");
+            }
+            verifiedKeys.add(key);
+        }
+    }
+}
@@ -17,9 +17,13 @@
 package com.klaytn.caver.ipfs.wrapper;
 
 import com.klaytn.caver.ipfs.IPFS;
+import com.klaytn.caver.ipfs.IPFSCache;
 import com.klaytn.caver.ipfs.IPFSOptions;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Representing an IPFSWrapper
@@ -58,7 +62,8 @@ public class IPFSWrapper {
     }
 
     /**
-     * Add file to IPFS.
+     * Add file to IPFS.<p>
+     * The whole file is streamed to IPFS without loading it in memory.
      * @param path A file path to add at IPFS.
      * @return String
      * @throws IOException
@@ -67,6 +72,39 @@ public class IPFSWrapper {
         return this.ipfs.add(path);
     }
 
+    /**
+     * Add file to IPFS.<p>
+     * The whole file is streamed to IPFS without loading it in memory.
+     * @param path A file path to add at IPFS.
+     * @return String
+     * @throws IOException
+     */
+    public String add(Path path) throws IOException {
+        return this.ipfs.add(path);
+    }
+
+    /**
+     * Add the content of an input stream to IPFS.<p>
+     * The content is streamed to IPFS in chunks until the end of the stream. The input stream is not closed.
+     * @param content An input stream to add at IPFS.
+     * @return String
+     * @throws IOException
+     */
+    public String add(InputStream content) throws IOException {
+        return this.ipfs.add(content);
+    }
+
+    /**
+     * Add files to IPFS concurrently.
+     * @param paths The file paths to add at IPFS.
+     * @param parallelism The max number of files uploaded at the same time.
+     * @return List. The hashes of the files in the order of paths.
+     * @throws IOException
+     */
+    public List<String> add(List<Path> paths, int parallelism) throws IOException {
+        return this.ipfs.add(paths, parallelism);
+    }
+
     /**
      * Add byte array to IPFS
      * @param content A byte array to add at IPFS
@@ -87,6 +125,29 @@ public class IPFSWrapper {
         return this.ipfs.get(encodedHash);
     }
 
+    /**
+     * Get file from IPFS and write it to the given path.<p>
+     * The file is streamed to the path without loading it in memory. An existing file is replaced.
+     * @param encodedHash A encoded multi hash string with base58.
+     * @param target The path to write the file.
+     * @return long. The number of bytes written.
+     * @throws IOException
+     */
+    public long get(String encodedHash, Path target) throws IOException {
+        return this.ipfs.get(encodedHash, target);
+    }
+
+    /**
+     * Get file from IPFS as an input stream.<p>
+     * The file is read from IPFS while reading the stream. Closing the stream closes the connection.
+     * @param encodedHash A encoded multi hash string with base58.
+     * @return InputStream
+     * @throws IOException
+     */
+    public InputStream getStream(String encodedHash) throws IOException {
+        return this.ipfs.getStream(encodedHash);
+    }
+
     /**
      * Set a IPFS node.
      * @param host The host url.
@@ -116,6 +177,29 @@ public class IPFSWrapper {
         this.ipfs.setIPFSNode(host, port, ssl, options);
     }
 
+    /**
+     * Set a cache of files got from IPFS.<p>
+     *
+     * <pre>Example:
+     * {@code
+     * caver.ipfs.setCache(new IPFSCache(IPFSCache.DEFAULT_MEMORY_CAPACITY, Paths.get("ipfs-cache"), IPFSCache.DEFAULT_DISK_CAPACITY));
+     * }
+     * </pre>
+     *
+     * @param cache The cache. If it is null, files are not cached.
+     */
+    public void setCache(IPFSCache cache) {
+        this.ipfs.setCache(cache);
+    }
+
+    /**
+     * Getter function for cache.
+     * @return IPFSCache. It returns null if files are not cached.
+     */
+    public IPFSCache getCache() {
+        return this.ipfs.getCache();
+    }
+
     /**
      * Create an IPFSOptions object that includes `"Authorization"` made from `projectId` and `projectSecret`<p>
      *
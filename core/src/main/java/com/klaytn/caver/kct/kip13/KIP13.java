@@ -19,10 +19,15 @@ import com.klaytn.caver.Caver;
 import com.klaytn.caver.contract.Contract;
 import com.klaytn.caver.abi.datatypes.Bool;
 import com.klaytn.caver.abi.datatypes.Type;
+import org.web3j.utils.Async;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The KIP13 class allows you to easily check whether a Smart contract implements the KIP-13 standard.
@@ -62,6 +67,29 @@ public class KIP13 extends Contract{
         }
     }
 
+    /**
+     * Sends queries to check whether each interface is supported or not.<p>
+     * Queries are sent concurrently, so they are coalesced into a batch when the service of the Caver instance is a BatchingWeb3jService.
+     * <pre>Example :
+     * {@code
+     * Map<String, Boolean> result = kip13.sendQueries(Arrays.asList("0x{interface id}", "0x{interface id}"));
+     * }
+     * </pre>
+     *
+     * @param interfaceIds The list of interface id to check.
+     * @return Map&lt;String, Boolean&gt; - The map where an interface id and whether it is supported are mapped.
+     */
+    public Map<String, Boolean> sendQueries(List<String> interfaceIds) {
+        Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for(String interfaceId : interfaceIds) {
+            futures.put(interfaceId, CompletableFuture.supplyAsync(() -> sendQuery(interfaceId), Async.defaultExecutorService()));
+        }
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        futures.forEach((interfaceId, future) -> result.put(interfaceId, future.join()));
+        return result;
+    }
+
     /**
      * Checks if the contract implements KIP-13.<p>
      * <pre>Example :
@@ -78,6 +106,7 @@ public class KIP13 extends Contract{
         //  - false when interfaceID is 0xffffffff
         //  - true for interfaceID this contract implements
         //  - false for any other interfaceID
-        return this.sendQuery("0x01ffc9a7") && !this.sendQuery("0xffffffff");
+        Map<String, Boolean> result = this.sendQueries(Arrays.asList("0x01ffc9a7", "0xffffffff"));
+        return result.get("0x01ffc9a7") && !result.get("0xffffffff");
     }
 }
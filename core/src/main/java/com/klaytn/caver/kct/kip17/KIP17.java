@@ -33,10 +33,13 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The KIP17 class that helps you easily handle a smart contract that implements KIP-17 as a Java instance on the Klaytn blockchain platform.<p>
@@ -464,9 +467,13 @@ public class KIP17 extends Contract {
             throw new RuntimeException("This contract does not support KIP-13.");
         }
 
+        List<String> interfaceIds = new ArrayList<>();
+        Arrays.stream(INTERFACE.values()).forEach(element -> interfaceIds.add(element.getId()));
+        Map<String, Boolean> supported = kip13.sendQueries(interfaceIds);
+
         Map<String, Boolean> result = new HashMap<>();
         Arrays.stream(INTERFACE.values())
-                .forEach(element -> result.put(element.getName(), kip13.sendQuery(element.getId())));
+                .forEach(element -> result.put(element.getName(), supported.get(element.getId())));
         return result;
     }
 
@@ -726,6 +733,16 @@ public class KIP17 extends Contract {
         return (BigInteger)result.get(0).getValue();
     }
 
+    /**
+     * Call method "balanceOf" in KIP-17 standard contract asynchronously.
+     * @param account The account address to query the number of NFTs.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<BigInteger> balanceOfAsync(String account) {
+        return this.getMethod(FUNCTION_BALANCE_OF).callAsync(Arrays.asList(account), CallObject.createCallObject())
+                .thenApply(result -> (BigInteger)result.get(0).getValue());
+    }
+
     /**
      * Call method "ownerOf" in KIP-17 standard contract.
      * <pre>Example :
@@ -750,6 +767,16 @@ public class KIP17 extends Contract {
         return (String)result.get(0).getValue();
     }
 
+    /**
+     * Call method "ownerOf" in KIP-17 standard contract asynchronously.
+     * @param tokenId The identifier of NFT
+     * @return CompletableFuture
+     */
+    public CompletableFuture<String> ownerOfAsync(BigInteger tokenId) {
+        return this.getMethod(FUNCTION_OWNER_OF).callAsync(Arrays.asList(tokenId), CallObject.createCallObject())
+                .thenApply(result -> (String)result.get(0).getValue());
+    }
+
     /**
      * Call method "getApproved" in KIP-17 standard contract.
      * <pre>Example :
@@ -1081,6 +1108,34 @@ public class KIP17 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Execute method "transferFrom" in KIP-17 standard contract asynchronously.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param from The current owner of the token.
+     * @param to The new owner.
+     * @param tokenId The NFT identifier to transfer.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferFromAsync(String from, String to, BigInteger tokenId) {
+        return transferFromAsync(from, to, tokenId, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Execute method "transferFrom" in KIP-17 standard contract asynchronously.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param from The current owner of the token.
+     * @param to The new owner.
+     * @param tokenId The NFT identifier to transfer.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferFromAsync(String from, String to, BigInteger tokenId, SendOptions sendParam) {
+        List<Object> arguments = Arrays.asList(from, to, tokenId);
+        return determineSendOptionsAsync(this, sendParam, FUNCTION_TRANSFER_FROM, arguments)
+                .thenCompose(sendOptions -> this.getMethod(FUNCTION_TRANSFER_FROM).sendAsync(arguments, sendOptions));
+    }
+
     /**
      * Execute method "safeTransferFrom" in KIP-17 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
@@ -1859,6 +1914,43 @@ public class KIP17 extends Contract {
         return newSendOptions;
     }
 
+    /**
+     * Determines the SendOptions like {@link #determineSendOptions(KIP17, SendOptions, String, List)},
+     * but the gas is estimated asynchronously if it is not set.
+     * @param kip17 A KIP-17 instance.
+     * @param sendOptions A SendOptions passed by a user.
+     * @param functionName A KIP-17 contract's method.
+     * @param argument A arguments to execute contract's method.
+     * @return CompletableFuture
+     */
+    private static CompletableFuture<SendOptions> determineSendOptionsAsync(KIP17 kip17, SendOptions sendOptions, String functionName, List<Object> argument) {
+        CompletableFuture<SendOptions> sendOptionsWithGas;
+        if(sendOptions.getGas() == null && kip17.getDefaultSendOptions().getGas() == null) {
+            CallObject callObject = CallObject.createCallObject(sendOptions.getFrom());
+            sendOptionsWithGas = kip17.getMethod(functionName).estimateGasAsync(argument, callObject).thenApply(gas -> {
+                SendOptions copied = new SendOptions();
+                copied.setFrom(sendOptions.getFrom());
+                copied.setGas(new BigDecimal(Numeric.toBigInt(gas)).multiply(new BigDecimal(1.5)).toBigInteger());
+                copied.setValue(sendOptions.getValue());
+                copied.setFeeDelegation(sendOptions.getFeeDelegation());
+                copied.setFeePayer(sendOptions.getFeePayer());
+                copied.setFeeRatio(sendOptions.getFeeRatio());
+                return copied;
+            });
+        } else {
+            sendOptionsWithGas = CompletableFuture.completedFuture(sendOptions);
+        }
+
+        return sendOptionsWithGas.thenApply(options -> {
+            try {
+                // The gas is determined already, so it doesn't estimate gas.
+                return determineSendOptions(kip17, options, functionName, argument);
+            } catch(Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
     /**
      * Estimates the gas to execute the contract's method.
      * @param kip17 A KIP-17 instance.
@@ -36,10 +36,12 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -502,9 +504,13 @@ public class KIP37 extends Contract {
             throw new RuntimeException("This contract does not support KIP-13.");
         }
 
+        List<String> interfaceIds = new ArrayList<>();
+        Arrays.stream(INTERFACE.values()).forEach(element -> interfaceIds.add(element.getId()));
+        Map<String, Boolean> supported = kip13.sendQueries(interfaceIds);
+
         Map<String, Boolean> result = new HashMap<>();
         Arrays.stream(INTERFACE.values())
-                .forEach(element -> result.put(element.getName(), kip13.sendQuery(element.getId())));
+                .forEach(element -> result.put(element.getName(), supported.get(element.getId())));
         return result;
     }
 
@@ -630,6 +636,17 @@ public class KIP37 extends Contract {
         return (BigInteger)result.get(0).getValue();
     }
 
+    /**
+     * Get the balance of an account's tokens asynchronously.
+     * @param account The address of the token holder.
+     * @param tokenId The ID of the token(integer).
+     * @return CompletableFuture
+     */
+    public CompletableFuture<BigInteger> balanceOfAsync(String account, BigInteger tokenId) {
+        return this.getMethod(FUNCTION_BALANCE_OF).callAsync(Arrays.asList(account, tokenId), CallObject.createCallObject())
+                .thenApply(result -> (BigInteger)result.get(0).getValue());
+    }
+
     /**
      * Get the balance of multiple account / token pairs.
      * <pre>Example :
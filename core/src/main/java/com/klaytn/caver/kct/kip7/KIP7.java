@@ -33,10 +33,13 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The KIP7 class that helps you easily handle a smart contract that implements KIP-7 as a Java instance on the Klaytn blockchain platform.<p>
@@ -487,9 +490,13 @@ public class KIP7 extends Contract {
             throw new RuntimeException("This contract does not support KIP-13.");
         }
 
+        List<String> interfaceIds = new ArrayList<>();
+        Arrays.stream(INTERFACE.values()).forEach(element -> interfaceIds.add(element.getId()));
+        Map<String, Boolean> supported = kip13.sendQueries(interfaceIds);
+
         Map<String, Boolean> result = new HashMap<>();
         Arrays.stream(INTERFACE.values())
-                .forEach(element -> result.put(element.getName(), kip13.sendQuery(element.getId())));
+                .forEach(element -> result.put(element.getName(), supported.get(element.getId())));
 
         return result;
     }
@@ -700,6 +707,16 @@ public class KIP7 extends Contract {
         return (BigInteger)result.get(0).getValue();
     }
 
+    /**
+     * Call method "balanceOf" in KIP-7 standard contract asynchronously.
+     * @param account An address for whom to query the balance
+     * @return CompletableFuture
+     */
+    public CompletableFuture<BigInteger> balanceOfAsync(String account) {
+        return this.getMethod(FUNCTION_BALANCE_OF).callAsync(Arrays.asList(account), CallObject.createCallObject())
+                .thenApply(result -> (BigInteger)result.get(0).getValue());
+    }
+
     /**
      * Call method "allowance" in KIP-7 standard contract.
      * <pre>Example :
@@ -727,6 +744,17 @@ public class KIP7 extends Contract {
         return (BigInteger)result.get(0).getValue();
     }
 
+    /**
+     * Call method "allowance" in KIP-7 standard contract asynchronously.
+     * @param owner The account allowed `spender` to withdraw the tokens from the account.
+     * @param spender The address is approved to withdraw the tokens.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<BigInteger> allowanceAsync(String owner, String spender) {
+        return this.getMethod(FUNCTION_ALLOWANCE).callAsync(Arrays.asList(owner, spender), CallObject.createCallObject())
+                .thenApply(result -> (BigInteger)result.get(0).getValue());
+    }
+
     /**
      * Call method "isMinter" in KIP-7 standard contract.
      * <pre>Example :
@@ -868,6 +896,32 @@ public class KIP7 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Execute a method "approve" in KIP-7 standard contract asynchronously.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param spender The address is approved to withdraw the tokens.
+     * @param amount The token amount will be approved.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> approveAsync(String spender, BigInteger amount) {
+        return approveAsync(spender, amount, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Execute a method "approve" in KIP-7 standard contract asynchronously.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param spender The address is approved to withdraw the tokens.
+     * @param amount The token amount will be approved.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> approveAsync(String spender, BigInteger amount, SendOptions sendParam) {
+        List<Object> arguments = Arrays.asList(spender, amount);
+        return determineSendOptionsAsync(this, sendParam, FUNCTION_APPROVE, arguments)
+                .thenCompose(sendOptions -> this.getMethod(FUNCTION_APPROVE).sendAsync(arguments, sendOptions));
+    }
+
     /**
      * Execute a method "transfer" in KIP-7 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
@@ -936,6 +990,45 @@ public class KIP7 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Execute a method "transfer" in KIP-7 standard contract asynchronously.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * <pre>Example :
+     * {@code
+     * Caver caver = new Caver(new AsyncHttpService(Caver.DEFAULT_URL));
+     * KIP7 kip7 = caver.kct.kip7.create(contractAddress);
+     * kip7.setDefaultSendOptions(new SendOptions("0x{senderAddress}"));
+     *
+     * List<CompletableFuture<TransactionReceipt.TransactionReceiptData>> receipts = new ArrayList<>();
+     * for(String recipient : recipients) {
+     *     receipts.add(kip7.transferAsync(recipient, BigInteger.ONE));
+     * }
+     * }
+     * </pre>
+     *
+     * @param recipient The address of the account to receive the token.
+     * @param amount The token amount will be transferred.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferAsync(String recipient, BigInteger amount) {
+        return transferAsync(recipient, amount, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Execute a method "transfer" in KIP-7 standard contract asynchronously.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param recipient The address of the account to receive the token.
+     * @param amount The token amount will be transferred.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferAsync(String recipient, BigInteger amount, SendOptions sendParam) {
+        List<Object> arguments = Arrays.asList(recipient, amount);
+        return determineSendOptionsAsync(this, sendParam, FUNCTION_TRANSFER, arguments)
+                .thenCompose(sendOptions -> this.getMethod(FUNCTION_TRANSFER).sendAsync(arguments, sendOptions));
+    }
+
     /**
      * Execute a method "transferFrom" in KIP-7 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
@@ -1006,6 +1099,34 @@ public class KIP7 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Execute a method "transferFrom" in KIP-7 standard contract asynchronously.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param sender The current owner of the tokens.
+     * @param recipient The address of the account to receive the token.
+     * @param amount The token amount will be transferred.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferFromAsync(String sender, String recipient, BigInteger amount) {
+        return transferFromAsync(sender, recipient, amount, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Execute a method "transferFrom" in KIP-7 standard contract asynchronously.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGasAsync().
+     * @param sender The current owner of the tokens.
+     * @param recipient The address of the account to receive the token.
+     * @param amount The token amount will be transferred.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferFromAsync(String sender, String recipient, BigInteger amount, SendOptions sendParam) {
+        List<Object> arguments = Arrays.asList(sender, recipient, amount);
+        return determineSendOptionsAsync(this, sendParam, FUNCTION_TRANSFER_FROM, arguments)
+                .thenCompose(sendOptions -> this.getMethod(FUNCTION_TRANSFER_FROM).sendAsync(arguments, sendOptions));
+    }
+
     /**
      * Execute a method "safeTransfer" in KIP-7 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
@@ -1921,6 +2042,43 @@ public class KIP7 extends Contract {
         return newSendOptions;
     }
 
+    /**
+     * Determines the SendOptions like {@link #determineSendOptions(KIP7, SendOptions, String, List)},
+     * but the gas is estimated asynchronously if it is not set.
+     * @param kip7 A KIP7 instance.
+     * @param sendOptions A SendOptions passed by a user.
+     * @param functionName A KIP-7 contract's method.
+     * @param argument A arguments to execute contract's method.
+     * @return CompletableFuture
+     */
+    private static CompletableFuture<SendOptions> determineSendOptionsAsync(KIP7 kip7, SendOptions sendOptions, String functionName, List<Object> argument) {
+        CompletableFuture<SendOptions> sendOptionsWithGas;
+        if(sendOptions.getGas() == null && kip7.getDefaultSendOptions().getGas() == null) {
+            CallObject callObject = CallObject.createCallObject(sendOptions.getFrom());
+            sendOptionsWithGas = kip7.getMethod(functionName).estimateGasAsync(argument, callObject).thenApply(gas -> {
+                SendOptions copied = new SendOptions();
+                copied.setFrom(sendOptions.getFrom());
+                copied.setGas(new BigDecimal(Numeric.toBigInt(gas)).multiply(new BigDecimal(1.5)).toBigInteger());
+                copied.setValue(sendOptions.getValue());
+                copied.setFeeDelegation(sendOptions.getFeeDelegation());
+                copied.setFeePayer(sendOptions.getFeePayer());
+                copied.setFeeRatio(sendOptions.getFeeRatio());
+                return copied;
+            });
+        } else {
+            sendOptionsWithGas = CompletableFuture.completedFuture(sendOptions);
+        }
+
+        return sendOptionsWithGas.thenApply(options -> {
+            try {
+                // The gas is determined already, so it doesn't estimate gas.
+                return determineSendOptions(kip7, options, functionName, argument);
+            } catch(Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
     /**
      * Estimates the gas to execute the contract's method.
      * @param kip7 A KIP7 instance.
@@ -20,17 +20,16 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -341,18 +340,40 @@ public class Block extends Response<Block.BlockData> {
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
 
-            ObjectMapper objectMapper = (ObjectMapper) jsonParser.getCodec();
-            ArrayNode root = objectMapper.readTree(jsonParser);
+            if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(jsonParser, "Expected an array of transactions.");
+            }
+
+            JsonDeserializer<Object> deserializer = deserializationContext.findRootValueDeserializer(
+                    deserializationContext.constructType(Transaction.TransactionData.class));
+            return readTransactions(jsonParser, deserializationContext, deserializer);
+        }
 
-            if (root.size() == 0) {
+        /**
+         * Reads the elements of the array at the current token in a single pass.
+         * The array has either transaction hashes or transaction objects.
+         */
+        private static List readTransactions(
+                JsonParser jsonParser, DeserializationContext deserializationContext,
+                JsonDeserializer<Object> deserializer) throws IOException {
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
                 return Collections.emptyList();
-            } else if (root.get(0).isTextual()) {
-                return objectMapper.convertValue(root, new TypeReference<List<String>>() {
-                });
-            } else {
-                return objectMapper.convertValue(root, new TypeReference<List<Transaction.TransactionData>>() {
-                });
             }
+
+            if (token == JsonToken.VALUE_STRING) {
+                List<String> hashes = new ArrayList<>();
+                do {
+                    hashes.add(jsonParser.getText());
+                } while (jsonParser.nextToken() != JsonToken.END_ARRAY);
+                return hashes;
+            }
+
+            List<Transaction.TransactionData> transactions = new ArrayList<>();
+            do {
+                transactions.add((Transaction.TransactionData) deserializer.deserialize(jsonParser, deserializationContext));
+            } while (jsonParser.nextToken() != JsonToken.END_ARRAY);
+            return transactions;
         }
     }
 }
@@ -18,9 +18,10 @@ package com.klaytn.caver.methods.response;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.klaytn.caver.account.Account;
 import com.klaytn.caver.crypto.KlaySignatureData;
@@ -35,7 +36,6 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class Transaction extends Response<Transaction.TransactionData> {
@@ -473,17 +473,46 @@ public class Transaction extends Response<Transaction.TransactionData> {
         public List<SignatureData> deserialize(
                 JsonParser jsonParser,
                 DeserializationContext deserializationContext) throws IOException {
-            JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-            Iterator<JsonNode> iterator = node.iterator();
+            // Reads the signatures from the token stream directly, without building a JsonNode tree first.
+            if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(jsonParser, "Expected an array of signatures.");
+            }
+
             List<SignatureData> signatureDataList = new ArrayList<>();
-            while (iterator.hasNext()) {
-                JsonNode innerNode = iterator.next();
-                byte[] v = Numeric.hexStringToByteArray(innerNode.get("V").asText());
-                byte[] r = Numeric.hexStringToByteArray(innerNode.get("R").asText());
-                byte[] s = Numeric.hexStringToByteArray(innerNode.get("S").asText());
-                signatureDataList.add(new SignatureData(v, r, s));
+            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                signatureDataList.add(readSignatureData(jsonParser));
             }
             return signatureDataList;
         }
+
+        private static SignatureData readSignatureData(JsonParser jsonParser) throws IOException {
+            if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(jsonParser, "Expected a signature object.");
+            }
+
+            String v = null, r = null, s = null;
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                switch (fieldName) {
+                    case "V":
+                        v = jsonParser.getValueAsString();
+                        break;
+                    case "R":
+                        r = jsonParser.getValueAsString();
+                        break;
+                    case "S":
+                        s = jsonParser.getValueAsString();
+                        break;
+                    default:
+                        jsonParser.skipChildren();
+                }
+            }
+
+            if (v == null || r == null || s == null) {
+                throw JsonMappingException.from(jsonParser, "A signature must have V, R and S fields.");
+            }
+            return new SignatureData(Numeric.hexStringToByteArray(v), Numeric.hexStringToByteArray(r), Numeric.hexStringToByteArray(s));
+        }
     }
 }
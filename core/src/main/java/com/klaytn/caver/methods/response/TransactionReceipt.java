@@ -17,19 +17,11 @@
 package com.klaytn.caver.methods.response;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.klaytn.caver.transaction.utils.AccessList;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.protocol.core.Response;
-import org.web3j.utils.Numeric;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class TransactionReceipt extends Response<TransactionReceipt.TransactionReceiptData> {
@@ -543,23 +535,6 @@ public class TransactionReceipt extends Response<TransactionReceipt.TransactionR
         }
     }
 
-    public static class SignatureDataListDeserializer extends JsonDeserializer<List<SignatureData>> {
-
-        @Override
-        public List<SignatureData> deserialize(
-                JsonParser jsonParser,
-                DeserializationContext deserializationContext) throws IOException {
-            JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-            Iterator<JsonNode> iterator = node.iterator();
-            List<SignatureData> signatureDataList = new ArrayList<>();
-            while (iterator.hasNext()) {
-                JsonNode innerNode = iterator.next();
-                byte[] v = Numeric.hexStringToByteArray(innerNode.get("V").asText());
-                byte[] r = Numeric.hexStringToByteArray(innerNode.get("R").asText());
-                byte[] s = Numeric.hexStringToByteArray(innerNode.get("S").asText());
-                signatureDataList.add(new SignatureData(v, r, s));
-            }
-            return signatureDataList;
-        }
+    public static class SignatureDataListDeserializer extends Transaction.SignatureDataListDeserializer {
     }
 }
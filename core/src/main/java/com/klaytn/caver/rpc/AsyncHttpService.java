@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.Headers;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An HttpService which sends asynchronous requests through the OkHttp dispatcher.<p>
+ * {@link HttpService#sendAsync(Request, Class)} runs a blocking {@code send()} on the shared web3j executor,
+ * whose pool is not bounded by the HTTP client.
+ * This service enqueues the request to the OkHttp dispatcher instead. The dispatcher still runs each call on one of its
+ * executor threads until the response arrives, but it runs at most {@code maxRequests} calls at once,
+ * and the requests over that limit wait in its queue without holding a thread.
+ * The returned future is completed on the dispatcher thread, so a dependent stage should not block it.<p>
+ * Synchronous {@code send()}, batch requests and the other behaviors are the same as HttpService.
+ * <pre>Example :
+ * {@code
+ * Caver caver = new Caver(new AsyncHttpService(url));
+ *
+ * List<CompletableFuture<Quantity>> balances = new ArrayList<>();
+ * for(String address : addresses) {
+ *     balances.add(caver.rpc.klay.getBalance(address).sendAsync());
+ * }
+ * }
+ * </pre>
+ */
+public class AsyncHttpService extends HttpService {
+    public static final int DEFAULT_MAX_REQUESTS = 256;
+
+    private final String url;
+
+    private final OkHttpClient httpClient;
+
+    private final boolean includeRawResponses;
+
+    /**
+     * Creates an AsyncHttpService instance.
+     * @param url The url of a Klaytn node.
+     * @param httpClient The OkHttpClient to send requests. Its dispatcher limits the number of concurrent requests.
+     * @param includeRawResponses If true, the raw response is kept in the parsed response.
+     */
+    public AsyncHttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
+        super(url, httpClient, includeRawResponses);
+        this.url = url;
+        this.httpClient = httpClient;
+        this.includeRawResponses = includeRawResponses;
+    }
+
+    /**
+     * Creates an AsyncHttpService instance.
+     * @param url The url of a Klaytn node.
+     * @param httpClient The OkHttpClient to send requests. Its dispatcher limits the number of concurrent requests.
+     */
+    public AsyncHttpService(String url, OkHttpClient httpClient) {
+        this(url, httpClient, false);
+    }
+
+    /**
+     * Creates an AsyncHttpService instance which sends up to {@link #DEFAULT_MAX_REQUESTS} requests concurrently.
+     * @param url The url of a Klaytn node.
+     */
+    public AsyncHttpService(String url) {
+        this(url, createOkHttpClient(DEFAULT_MAX_REQUESTS));
+    }
+
+    /**
+     * Creates an OkHttpClient whose dispatcher sends up to the given number of requests concurrently, to a single host as well.<p>
+     * The default dispatcher of OkHttp sends up to 5 requests to a host at once.
+     * @param maxRequests The max number of concurrent requests.
+     * @return OkHttpClient
+     */
+    public static OkHttpClient createOkHttpClient(int maxRequests) {
+        if(maxRequests < 1) {
+            throw new IllegalArgumentException("maxRequests must be greater than 0.");
+        }
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequests);
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .build();
+    }
+
+    /**
+     * Getter function for httpClient.
+     * @return OkHttpClient
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        okhttp3.Request httpRequest;
+        try {
+            RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, objectMapper.writeValueAsString(request));
+            httpRequest = new okhttp3.Request.Builder()
+                    .url(url)
+                    .headers(Headers.of(getHeaders()))
+                    .post(requestBody)
+                    .build();
+        } catch(IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        Call call = httpClient.newCall(httpRequest);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                try(ResponseBody responseBody = response.body()) {
+                    if(!response.isSuccessful()) {
+                        String text = responseBody == null ? "N/A" : responseBody.string();
+                        throw new ClientConnectionException("Invalid response received: " + response.code() + "; " + text);
+                    }
+                    if(responseBody == null) {
+                        throw new ClientConnectionException("Empty response received: " + response.code());
+                    }
+                    if(includeRawResponses) {
+                        // The raw response is read by resetting the stream after parsing, so the body is buffered.
+                        future.complete(objectMapper.readValue(new ByteArrayInputStream(responseBody.bytes()), responseType));
+                    } else {
+                        future.complete(objectMapper.readValue(responseBody.byteStream(), responseType));
+                    }
+                } catch(IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        // Cancelling the returned future cancels the HTTP call as well.
+        future.whenComplete((response, throwable) -> {
+            if(future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        return future;
+    }
+}
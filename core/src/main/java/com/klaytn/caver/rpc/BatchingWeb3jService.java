@@ -0,0 +1,360 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import io.reactivex.Flowable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Web3jService wrapper which coalesces requests into JSON-RPC batches.<p>
+ * Requests sent within the batch window are sent together as one batch request by the wrapped service,
+ * and each response is returned to the caller of the matching request.
+ * A batch is sent immediately when the number of queued requests reaches the max batch size.<p>
+ * Requests are coalesced only when they are sent concurrently, e.g. with {@code sendAsync()} or from several threads.
+ * Subscriptions and explicit batch requests are passed to the wrapped service as they are.
+ * <pre>Example :
+ * {@code
+ * BatchingWeb3jService service = new BatchingWeb3jService(new HttpService(url));
+ * Caver caver = new Caver(service);
+ *
+ * List<CompletableFuture<Quantity>> balances = new ArrayList<>();
+ * for(String address : addresses) {
+ *     balances.add(caver.rpc.klay.getBalance(address).sendAsync());
+ * }
+ *
+ * double averageBatchSize = service.getAverageBatchSize();
+ * }
+ * </pre>
+ */
+public class BatchingWeb3jService implements Web3jService {
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final long DEFAULT_BATCH_WINDOW = 5;
+
+    /**
+     * The wrapped service which sends requests.
+     */
+    private final Web3jService web3jService;
+
+    /**
+     * The max number of requests in a batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The time in milliseconds to wait for more requests after the first request of a batch is queued.
+     */
+    private final long batchWindow;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final Object lock = new Object();
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong largestBatchSize = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+
+    /**
+     * Creates a BatchingWeb3jService instance.
+     * @param web3jService The service to send batch requests.
+     * @param maxBatchSize The max number of requests in a batch.
+     * @param batchWindow The time in milliseconds to wait for more requests before sending a batch.
+     */
+    public BatchingWeb3jService(Web3jService web3jService, int maxBatchSize, long batchWindow) {
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0.");
+        }
+        if(batchWindow < 0) {
+            throw new IllegalArgumentException("batchWindow must not be negative.");
+        }
+
+        this.web3jService = web3jService;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindow = batchWindow;
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-batching-web3j-service");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a BatchingWeb3jService instance with {@link #DEFAULT_MAX_BATCH_SIZE} and {@link #DEFAULT_BATCH_WINDOW}.
+     * @param web3jService The service to send batch requests.
+     */
+    public BatchingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_MAX_BATCH_SIZE, DEFAULT_BATCH_WINDOW);
+    }
+
+    /**
+     * Getter for the wrapped service.
+     * @return Web3jService
+     */
+    public Web3jService getWeb3jService() {
+        return web3jService;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response of " + request.getMethod(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        List<PendingRequest> batch = null;
+
+        synchronized(lock) {
+            if(closed) {
+                future.completeExceptionally(new IOException("The service is already closed."));
+                return future;
+            }
+
+            pendingRequests.add(new PendingRequest(request, responseType, future));
+            if(pendingRequests.size() >= maxBatchSize) {
+                batch = drainPendingRequests();
+            } else if(pendingRequests.size() == 1) {
+                scheduledFlush = scheduledExecutorService.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if(batch != null) {
+            dispatch(batch);
+        }
+        return future;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Sends the queued requests without waiting for the batch window.
+     */
+    public void flush() {
+        List<PendingRequest> batch;
+        synchronized(lock) {
+            batch = drainPendingRequests();
+        }
+
+        if(!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Sends the queued requests and closes the wrapped service.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized(lock) {
+            closed = true;
+        }
+        flush();
+        scheduledExecutorService.shutdown();
+        web3jService.close();
+    }
+
+    /**
+     * Returns the number of sent batches. A single request sent alone is counted as a batch.
+     * @return long
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Returns the number of requests sent through this service.
+     * @return long
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the largest number of requests sent in a batch.
+     * @return long
+     */
+    public long getLargestBatchSize() {
+        return largestBatchSize.get();
+    }
+
+    /**
+     * Returns the average number of requests in a batch.
+     * @return double
+     */
+    public double getAverageBatchSize() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : (double)requestCount.get() / batches;
+    }
+
+    /**
+     * Returns the average time in milliseconds from sending a batch to receiving its responses.
+     * @return double
+     */
+    public double getAverageLatency() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : (double)totalLatency.get() / batches / 1_000_000;
+    }
+
+    private List<PendingRequest> drainPendingRequests() {
+        if(scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        List<PendingRequest> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatch(List<PendingRequest> batch) {
+        long startTime = System.nanoTime();
+
+        if(batch.size() == 1) {
+            PendingRequest pendingRequest = batch.get(0);
+            web3jService.sendAsync(pendingRequest.request, pendingRequest.responseType)
+                    .whenComplete((response, throwable) -> {
+                        record(1, startTime);
+                        if(throwable != null) {
+                            pendingRequest.future.completeExceptionally(unwrap(throwable));
+                        } else {
+                            pendingRequest.complete(response);
+                        }
+                    });
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for(PendingRequest pendingRequest : batch) {
+            batchRequest.add(pendingRequest.request);
+        }
+
+        web3jService.sendBatchAsync(batchRequest)
+                .whenComplete((batchResponse, throwable) -> {
+                    record(batch.size(), startTime);
+                    if(throwable != null) {
+                        Throwable cause = unwrap(throwable);
+                        batch.forEach(pendingRequest -> pendingRequest.future.completeExceptionally(cause));
+                        return;
+                    }
+
+                    // Responses of a batch may be returned in any order, so they are matched with requests by id.
+                    Map<Long, Response<?>> responseMap = new HashMap<>();
+                    for(Response<?> response : batchResponse.getResponses()) {
+                        responseMap.put(response.getId(), response);
+                    }
+
+                    for(PendingRequest pendingRequest : batch) {
+                        Response<?> response = responseMap.get(pendingRequest.request.getId());
+                        if(response == null) {
+                            pendingRequest.future.completeExceptionally(new IOException(
+                                    "There is no response for the request " + pendingRequest.request.getMethod() + " in the batch."));
+                        } else {
+                            pendingRequest.complete(response);
+                        }
+                    }
+                });
+    }
+
+    private void record(int size, long startTime) {
+        batchCount.incrementAndGet();
+        requestCount.addAndGet(size);
+        largestBatchSize.accumulateAndGet(size, Math::max);
+        totalLatency.addAndGet(System.nanoTime() - startTime);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if(throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * A request waiting to be sent in a batch.
+     */
+    private static class PendingRequest {
+        final Request request;
+        final Class<? extends Response> responseType;
+        final CompletableFuture future;
+
+        PendingRequest(Request request, Class<? extends Response> responseType, CompletableFuture future) {
+            this.request = request;
+            this.responseType = responseType;
+            this.future = future;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object response) {
+            if(!responseType.isInstance(response)) {
+                future.completeExceptionally(new IOException(
+                        "Unexpected response type of " + request.getMethod() + " : " + response.getClass().getName()));
+                return;
+            }
+            future.complete(response);
+        }
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Delivers blocks with their receipts in the order of block numbers, prefetching the next blocks concurrently.<p>
+ * Up to windowSize blocks are fetched at the same time with "klay_getBlockByNumber" and "klay_getBlockReceipts",
+ * and the results are reordered to the order of block numbers. A new block is fetched only when a delivered block is consumed,
+ * so a slow subscriber holds at most windowSize blocks in memory.<p>
+ * A block which is not mined yet is fetched after the block number polled with "klay_blockNumber" reaches it,
+ * so a stream switches from catching up past blocks to following new blocks without a gap.<p>
+ * Requests are sent with {@code sendAsync()}. Use it with {@link AsyncHttpService} to avoid holding a thread per request.
+ * Blocks are emitted on the thread which completes the request, so use {@code observeOn()} for heavy processing.
+ * <pre>Example :
+ * {@code
+ * Caver caver = new Caver(new AsyncHttpService(url));
+ * BlockStream blockStream = new BlockStream(caver.rpc.klay);
+ *
+ * for(BlockStream.BlockWithReceipts block : blockStream.follow(BigInteger.valueOf(lastIndexedBlock + 1)).blockingIterable()) {
+ *     index(block.getBlock(), block.getReceipts());
+ * }
+ * ...
+ * blockStream.close();
+ * }
+ * </pre>
+ */
+public class BlockStream implements Closeable {
+    public static final int DEFAULT_WINDOW_SIZE = 16;
+    public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+
+    /**
+     * The number of retries of a block which failed to be fetched.
+     */
+    static final int MAX_RETRIES = 3;
+
+    private final Klay klay;
+    private final int windowSize;
+    private final long pollingFrequency;
+    private final int confirmations;
+    private final boolean isFullTransaction;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    /**
+     * The latest block number polled with "klay_blockNumber". It is guarded by waiters.
+     */
+    private long latestBlock = -1;
+
+    /**
+     * The futures waiting for the latest block number to reach the key. It is guarded by itself.
+     */
+    private final TreeMap<Long, List<CompletableFuture<Void>>> waiters = new TreeMap<>();
+
+    /**
+     * True if polling the block number is scheduled. It is guarded by waiters.
+     */
+    private boolean polling;
+
+    /**
+     * Creates a BlockStream instance with default options.
+     * @param klay The Klay instance to send requests.
+     */
+    public BlockStream(Klay klay) {
+        this(klay, DEFAULT_WINDOW_SIZE, DEFAULT_POLLING_FREQUENCY, 0, true);
+    }
+
+    /**
+     * Creates a BlockStream instance.
+     * @param klay The Klay instance to send requests.
+     * @param windowSize The max number of blocks fetched at the same time or waiting to be consumed.
+     * @param pollingFrequency The interval in milliseconds to poll the block number while waiting for a new block.
+     * @param confirmations The number of blocks after a block to deliver the block.
+     * @param isFullTransaction If true, the blocks have transaction objects. If false, the blocks have transaction hashes.
+     */
+    public BlockStream(Klay klay, int windowSize, long pollingFrequency, int confirmations, boolean isFullTransaction) {
+        if(windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be greater than 0.");
+        }
+        if(pollingFrequency <= 0) {
+            throw new IllegalArgumentException("pollingFrequency must be greater than 0.");
+        }
+        if(confirmations < 0) {
+            throw new IllegalArgumentException("confirmations must not be negative.");
+        }
+
+        this.klay = klay;
+        this.windowSize = windowSize;
+        this.pollingFrequency = pollingFrequency;
+        this.confirmations = confirmations;
+        this.isFullTransaction = isFullTransaction;
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-block-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns a Flowable which emits the blocks in the block range with their receipts.<p>
+     * The blocks are fetched when the Flowable is subscribed. It waits for the blocks which are not mined yet.
+     * @param fromBlock The first block number of the range.
+     * @param toBlock The last block number of the range.
+     * @return Flowable
+     */
+    public Flowable<BlockWithReceipts> fetch(BigInteger fromBlock, BigInteger toBlock) {
+        if(fromBlock.compareTo(toBlock) > 0) {
+            throw new IllegalArgumentException("fromBlock must not be greater than toBlock.");
+        }
+
+        long from = fromBlock.longValueExact();
+        return stream(from, toBlock.longValueExact() - from + 1);
+    }
+
+    /**
+     * Returns a Flowable which emits the blocks from the given block with their receipts, and keeps emitting new blocks.<p>
+     * The past blocks are fetched as fast as the node serves them, and then each new block is emitted when the block number reaches it.
+     * The Flowable does not complete, so dispose the subscription to stop it.
+     * @param fromBlock The first block number.
+     * @return Flowable
+     */
+    public Flowable<BlockWithReceipts> follow(BigInteger fromBlock) {
+        long from = fromBlock.longValueExact();
+        return stream(from, Long.MAX_VALUE - from);
+    }
+
+    /**
+     * Stops polling the block number. The blocks waiting to be mined fail with an IOException.
+     */
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        synchronized(waiters) {
+            waiters.values().forEach(pending::addAll);
+            waiters.clear();
+        }
+        pending.forEach(future -> future.completeExceptionally(new IOException("The block stream is closed.")));
+    }
+
+    /**
+     * Getter function for windowSize.
+     * @return int
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Getter function for pollingFrequency.
+     * @return long
+     */
+    public long getPollingFrequency() {
+        return pollingFrequency;
+    }
+
+    /**
+     * Getter function for confirmations.
+     * @return int
+     */
+    public int getConfirmations() {
+        return confirmations;
+    }
+
+    /**
+     * Returns the latest block number polled by this stream.
+     * @return long. It returns -1 if the block number is not polled yet.
+     */
+    public long getLatestBlock() {
+        synchronized(waiters) {
+            return latestBlock;
+        }
+    }
+
+    private Flowable<BlockWithReceipts> stream(long fromBlock, long count) {
+        // concatMapEager subscribes to at most windowSize blocks at once and emits them in the order of block numbers.
+        // It subscribes to the next block only after a block is emitted, which bounds the memory for a slow subscriber.
+        return Flowable.rangeLong(fromBlock, count)
+                .concatMapEager(blockNumber -> toSingle(() -> fetchBlock(blockNumber)).toFlowable(), windowSize, 1);
+    }
+
+    private CompletableFuture<BlockWithReceipts> fetchBlock(long blockNumber) {
+        CompletableFuture<BlockWithReceipts> result = new CompletableFuture<>();
+        fetchBlock(blockNumber, 0, result);
+        return result;
+    }
+
+    private void fetchBlock(long blockNumber, int attempts, CompletableFuture<BlockWithReceipts> result) {
+        CompletableFuture<Void> mined = awaitBlock(blockNumber + confirmations);
+        // A disposed subscription cancels the result, and then the block is not waited anymore.
+        result.whenComplete((block, throwable) -> mined.cancel(false));
+
+        mined.thenCompose(ignored -> klay.getBlockByNumber(blockNumber, isFullTransaction).sendAsync())
+                .thenCompose(block -> {
+                    Block.BlockData blockData = resultOf(block, "block " + blockNumber);
+                    return klay.getBlockReceipts(blockData.getHash()).sendAsync()
+                            .thenApply(receipts -> new BlockWithReceipts(blockData, resultOf(receipts, "receipts of the block " + blockNumber)));
+                })
+                .whenComplete((block, throwable) -> {
+                    if(result.isDone()) {
+                        return;
+                    }
+
+                    if(throwable == null) {
+                        result.complete(block);
+                    } else if(attempts < MAX_RETRIES) {
+                        try {
+                            scheduledExecutorService.schedule(() -> fetchBlock(blockNumber, attempts + 1, result), pollingFrequency, TimeUnit.MILLISECONDS);
+                        } catch(RejectedExecutionException e) {
+                            result.completeExceptionally(unwrap(throwable));
+                        }
+                    } else {
+                        result.completeExceptionally(unwrap(throwable));
+                    }
+                });
+    }
+
+    /**
+     * Returns a future which is completed when the latest block number reaches the given block number.
+     */
+    private CompletableFuture<Void> awaitBlock(long blockNumber) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized(waiters) {
+            if(blockNumber <= latestBlock) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if(scheduledExecutorService.isShutdown()) {
+                future.completeExceptionally(new IOException("The block stream is closed."));
+                return future;
+            }
+
+            waiters.computeIfAbsent(blockNumber, key -> new ArrayList<>()).add(future);
+            if(!polling) {
+                // The first poll is sent immediately, so catching up does not wait for the polling interval.
+                polling = true;
+                schedulePoll(0);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Schedules polling the block number. It must be called while holding waiters.
+     */
+    private void schedulePoll(long delay) {
+        try {
+            scheduledExecutorService.schedule(this::pollBlockNumber, delay, TimeUnit.MILLISECONDS);
+        } catch(RejectedExecutionException e) {
+            // The stream is closed, and close() fails the waiters.
+            polling = false;
+        }
+    }
+
+    private void pollBlockNumber() {
+        klay.getBlockNumber().sendAsync().whenComplete((blockNumber, throwable) -> {
+            List<CompletableFuture<Void>> ready = new ArrayList<>();
+            synchronized(waiters) {
+                // A failed poll is retried at the next polling.
+                if(throwable == null && !blockNumber.hasError()) {
+                    latestBlock = Math.max(latestBlock, blockNumber.getValue().longValue());
+                }
+
+                Iterator<Map.Entry<Long, List<CompletableFuture<Void>>>> iterator = waiters.entrySet().iterator();
+                while(iterator.hasNext()) {
+                    Map.Entry<Long, List<CompletableFuture<Void>>> entry = iterator.next();
+                    if(entry.getKey() <= latestBlock) {
+                        ready.addAll(entry.getValue());
+                        iterator.remove();
+                    } else {
+                        // The futures of disposed subscriptions are cancelled, so they stop polling.
+                        entry.getValue().removeIf(CompletableFuture::isDone);
+                        if(entry.getValue().isEmpty()) {
+                            iterator.remove();
+                        }
+                    }
+                }
+
+                if(waiters.isEmpty()) {
+                    polling = false;
+                } else {
+                    schedulePoll(pollingFrequency);
+                }
+            }
+            ready.forEach(future -> future.complete(null));
+        });
+    }
+
+    private static <T> T resultOf(Response<T> response, String name) {
+        if(response.hasError()) {
+            throw new CompletionException(new IOException(response.getError().getMessage()));
+        }
+        if(response.getResult() == null) {
+            throw new CompletionException(new IOException("The " + name + " is not found."));
+        }
+        return response.getResult();
+    }
+
+    private static <T> Single<T> toSingle(Supplier<CompletableFuture<T>> supplier) {
+        return Single.create(emitter -> {
+            CompletableFuture<T> future = supplier.get();
+            emitter.setCancellable(() -> future.cancel(true));
+            future.whenComplete((result, throwable) -> {
+                if(throwable == null) {
+                    emitter.onSuccess(result);
+                } else {
+                    emitter.tryOnError(unwrap(throwable));
+                }
+            });
+        });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if(throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * A block and the receipts of its transactions.
+     */
+    public static class BlockWithReceipts {
+        private final Block.BlockData block;
+        private final List<TransactionReceipt.TransactionReceiptData> receipts;
+
+        public BlockWithReceipts(Block.BlockData block, List<TransactionReceipt.TransactionReceiptData> receipts) {
+            this.block = block;
+            this.receipts = Collections.unmodifiableList(receipts);
+        }
+
+        /**
+         * Getter function for block.
+         * @return Block.BlockData
+         */
+        public Block.BlockData getBlock() {
+            return block;
+        }
+
+        /**
+         * Getter function for receipts.
+         * @return List
+         */
+        public List<TransactionReceipt.TransactionReceiptData> getReceipts() {
+            return receipts;
+        }
+
+        /**
+         * Returns the block number.
+         * @return BigInteger
+         */
+        public BigInteger getNumber() {
+            return Numeric.decodeQuantity(block.getNumber());
+        }
+    }
+}
@@ -31,6 +31,8 @@ import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Batcher;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
@@ -41,7 +43,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-public class Klay {
+public class Klay implements Batcher {
 
     /**
      * JSON-RPC service instance.
@@ -56,6 +58,15 @@ public class Klay {
         this.web3jService = web3jService;
     }
 
+    /**
+     * Returns a new {@link BatchRequest} which is sent with the JSON-RPC service of this instance.
+     * @return BatchRequest
+     */
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(web3jService);
+    }
+
     /**
      * Returns true if the account associated with the address is created. It returns false otherwise.<p>
      * It sets block tag to "LATEST"
@@ -1193,7 +1204,7 @@ public class Klay {
      */
     public Request<?, SignTransaction> signTransaction(AbstractTransaction transaction) {
         if(Utils.isEmptySig(transaction.getSignatures())) {
-            transaction.getSignatures().remove(0);
+            transaction.removeSignature(0);
         }
 
         return new Request<>(
@@ -1214,7 +1225,7 @@ public class Klay {
      */
     public Request<?, SignTransaction> signTransactionAsFeePayer(AbstractFeeDelegatedTransaction transaction) {
         if(Utils.isEmptySig(transaction.getSignatures())) {
-            transaction.getSignatures().remove(0);
+            transaction.removeSignature(0);
         }
 
         return new Request<>(
@@ -0,0 +1,730 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.methods.response.Quantity;
+import io.reactivex.Flowable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A Web3jService which sends requests to one of several Klaytn nodes.<p>
+ * Each endpoint is health-checked periodically with "klay_blockNumber". An endpoint is unhealthy if the check fails
+ * or its block number lags behind the highest block number of all endpoints by more than the max block lag.
+ * An endpoint is also regarded as unhealthy when a request to it fails, until the next successful health check.<p>
+ * A read request is sent to the healthy endpoint with the lowest score, which is the EWMA latency of the endpoint
+ * multiplied by its number of in-flight requests plus one. If it fails with an IOException, it is retried on
+ * another endpoint up to the max retries. A JSON-RPC error response is returned as it is.<p>
+ * The latency of an endpoint is cleared when it becomes unhealthy. An endpoint without a latency sample, such as a new
+ * or recovered one, is scored with the mean latency of the other endpoints, or the initial latency if none has a sample.
+ * Its first sample is averaged with that value, so one fast response doesn't draw all requests to it.<p>
+ * Requests depending on the state of a node (sending and signing transactions, filters, personal, admin and debug APIs),
+ * requests reading the transactions sent through it (the pending nonce, transactions and receipts)
+ * and subscriptions are pinned to a single endpoint, the first healthy one in the given order.
+ * So a nonce is not read from a node which hasn't received the previous transaction yet, and a receipt is polled from the node which accepted the transaction.
+ * The pinned endpoint is kept while it is healthy, and pinned requests are not retried on other endpoints.
+ * <pre>Example :
+ * {@code
+ * MultiEndpointWeb3jService service = new MultiEndpointWeb3jService(Arrays.asList(
+ *         "http://en1:8551", "http://en2:8551", "http://en3:8551"));
+ * Caver caver = new Caver(service);
+ *
+ * for(MultiEndpointWeb3jService.Endpoint endpoint : service.getEndpoints()) {
+ *     System.out.println(endpoint.getName() + " : " + endpoint.isHealthy() + ", " + endpoint.getAverageLatency() + "ms");
+ * }
+ * }
+ * </pre>
+ */
+public class MultiEndpointWeb3jService implements Web3jService {
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 1000;
+    public static final long DEFAULT_MAX_BLOCK_LAG = 5;
+    public static final int DEFAULT_MAX_RETRIES = 2;
+    public static final long DEFAULT_INITIAL_LATENCY = 100;
+
+    /**
+     * The weight of a new latency sample in the EWMA latency.
+     */
+    static final double LATENCY_WEIGHT = 0.2;
+
+    private static final Set<String> PINNED_METHODS = new HashSet<>(Arrays.asList(
+            "klay_sendRawTransaction", "klay_sendTransaction", "klay_sendTransactionAsFeePayer",
+            "klay_signTransaction", "klay_signTransactionAsFeePayer", "klay_sign",
+            "klay_newFilter", "klay_newBlockFilter", "klay_newPendingTransactionFilter",
+            "klay_getFilterChanges", "klay_getFilterLogs", "klay_uninstallFilter",
+            "eth_sendRawTransaction", "eth_sendTransaction", "eth_signTransaction", "eth_sign",
+            "eth_newFilter", "eth_newBlockFilter", "eth_newPendingTransactionFilter",
+            "eth_getFilterChanges", "eth_getFilterLogs", "eth_uninstallFilter"
+    ));
+
+    /**
+     * The prefixes of pinned methods. "klay_getTransaction" and "eth_getTransaction" include the methods reading the nonce,
+     * transactions and receipts, such as "klay_getTransactionCount" and "klay_getTransactionReceipt".
+     */
+    private static final String[] PINNED_PREFIXES = {"personal_", "admin_", "debug_", "klay_getTransaction", "eth_getTransaction"};
+
+    private final List<Endpoint> endpoints;
+
+    /**
+     * The max difference from the highest block number for an endpoint to be healthy.
+     */
+    private final long maxBlockLag;
+
+    /**
+     * The max number of times to retry a failed read request on other endpoints.
+     */
+    private final int maxRetries;
+
+    /**
+     * The time in milliseconds between health checks. A health check also times out after it.
+     */
+    private final long healthCheckInterval;
+
+    /**
+     * The latency in nanoseconds used for an endpoint without a latency sample when no endpoint has one.
+     */
+    private final double initialLatency;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private volatile Endpoint pinnedEndpoint;
+    private volatile boolean closed;
+
+    /**
+     * Creates a MultiEndpointWeb3jService instance which sends requests with an HttpService per url.<p>
+     * It uses {@link #DEFAULT_HEALTH_CHECK_INTERVAL}, {@link #DEFAULT_MAX_BLOCK_LAG}, {@link #DEFAULT_MAX_RETRIES}
+     * and {@link #DEFAULT_INITIAL_LATENCY}.
+     * @param urls The urls of Klaytn nodes. The first one is preferred for pinned requests.
+     */
+    public MultiEndpointWeb3jService(List<String> urls) {
+        this(urls, DEFAULT_HEALTH_CHECK_INTERVAL, DEFAULT_MAX_BLOCK_LAG, DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Creates a MultiEndpointWeb3jService instance which sends requests with an HttpService per url.<p>
+     * It uses {@link #DEFAULT_INITIAL_LATENCY}.
+     * @param urls The urls of Klaytn nodes. The first one is preferred for pinned requests.
+     * @param healthCheckInterval The time in milliseconds between health checks.
+     * @param maxBlockLag The max difference from the highest block number for an endpoint to be healthy.
+     * @param maxRetries The max number of times to retry a failed read request on other endpoints.
+     */
+    public MultiEndpointWeb3jService(List<String> urls, long healthCheckInterval, long maxBlockLag, int maxRetries) {
+        this(urls, healthCheckInterval, maxBlockLag, maxRetries, DEFAULT_INITIAL_LATENCY);
+    }
+
+    /**
+     * Creates a MultiEndpointWeb3jService instance which sends requests with an HttpService per url.
+     * @param urls The urls of Klaytn nodes. The first one is preferred for pinned requests.
+     * @param healthCheckInterval The time in milliseconds between health checks.
+     * @param maxBlockLag The max difference from the highest block number for an endpoint to be healthy.
+     * @param maxRetries The max number of times to retry a failed read request on other endpoints.
+     * @param initialLatency The latency in milliseconds assumed for an endpoint when no endpoint has a latency sample.
+     */
+    public MultiEndpointWeb3jService(List<String> urls, long healthCheckInterval, long maxBlockLag, int maxRetries, long initialLatency) {
+        this(toServices(urls), healthCheckInterval, maxBlockLag, maxRetries, initialLatency);
+    }
+
+    /**
+     * Creates a MultiEndpointWeb3jService instance.<p>
+     * It uses {@link #DEFAULT_INITIAL_LATENCY}.
+     * @param services The map where the name of an endpoint and the service to send requests to it are mapped.
+     *                 The first one in iteration order is preferred for pinned requests.
+     * @param healthCheckInterval The time in milliseconds between health checks.
+     * @param maxBlockLag The max difference from the highest block number for an endpoint to be healthy.
+     * @param maxRetries The max number of times to retry a failed read request on other endpoints.
+     */
+    public MultiEndpointWeb3jService(Map<String, ? extends Web3jService> services, long healthCheckInterval, long maxBlockLag, int maxRetries) {
+        this(services, healthCheckInterval, maxBlockLag, maxRetries, DEFAULT_INITIAL_LATENCY);
+    }
+
+    /**
+     * Creates a MultiEndpointWeb3jService instance.
+     * @param services The map where the name of an endpoint and the service to send requests to it are mapped.
+     *                 The first one in iteration order is preferred for pinned requests.
+     * @param healthCheckInterval The time in milliseconds between health checks.
+     * @param maxBlockLag The max difference from the highest block number for an endpoint to be healthy.
+     * @param maxRetries The max number of times to retry a failed read request on other endpoints.
+     * @param initialLatency The latency in milliseconds assumed for an endpoint when no endpoint has a latency sample.
+     */
+    public MultiEndpointWeb3jService(Map<String, ? extends Web3jService> services, long healthCheckInterval, long maxBlockLag, int maxRetries, long initialLatency) {
+        if(services == null || services.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required.");
+        }
+        if(healthCheckInterval <= 0) {
+            throw new IllegalArgumentException("healthCheckInterval must be greater than 0.");
+        }
+        if(maxBlockLag < 0) {
+            throw new IllegalArgumentException("maxBlockLag must be equal or greater than 0.");
+        }
+        if(maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must be equal or greater than 0.");
+        }
+        if(initialLatency <= 0) {
+            throw new IllegalArgumentException("initialLatency must be greater than 0.");
+        }
+
+        List<Endpoint> endpointList = new ArrayList<>();
+        for(Map.Entry<String, ? extends Web3jService> entry : services.entrySet()) {
+            endpointList.add(new Endpoint(entry.getKey(), entry.getValue()));
+        }
+
+        this.endpoints = Collections.unmodifiableList(endpointList);
+        this.healthCheckInterval = healthCheckInterval;
+        this.maxBlockLag = maxBlockLag;
+        this.maxRetries = maxRetries;
+        this.initialLatency = TimeUnit.MILLISECONDS.toNanos(initialLatency);
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-multi-endpoint-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        scheduledExecutorService.scheduleWithFixedDelay(
+                this::checkHealth,
+                0, healthCheckInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return route(isPinned(request.getMethod()), service -> service.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        return routeAsync(isPinned(request.getMethod()), service -> service.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return route(isPinned(batchRequest), service -> service.sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return routeAsync(isPinned(batchRequest), service -> service.sendBatchAsync(batchRequest));
+    }
+
+    /**
+     * Subscribes with the pinned endpoint.
+     */
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return getPinnedEndpoint().service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Stops health checks and closes the services of all endpoints.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        scheduledExecutorService.shutdownNow();
+
+        IOException exception = null;
+        for(Endpoint endpoint : endpoints) {
+            try {
+                endpoint.service.close();
+            } catch(IOException e) {
+                exception = e;
+            }
+        }
+
+        if(exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the endpoints with their health and metrics.
+     * @return List
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Returns the endpoint where pinned requests are sent. It is the first healthy endpoint, which is kept while it is healthy.
+     * If no endpoint is healthy, the current pinned endpoint is returned.
+     * @return Endpoint
+     */
+    public Endpoint getPinnedEndpoint() {
+        Endpoint pinned = pinnedEndpoint;
+        if(pinned != null && pinned.healthy) {
+            return pinned;
+        }
+
+        for(Endpoint endpoint : endpoints) {
+            if(endpoint.healthy) {
+                pinnedEndpoint = endpoint;
+                return endpoint;
+            }
+        }
+
+        if(pinned == null) {
+            pinned = endpoints.get(0);
+            pinnedEndpoint = pinned;
+        }
+        return pinned;
+    }
+
+    /**
+     * Returns true if the requests of the method should be sent to the pinned endpoint.
+     * @param method The JSON-RPC method.
+     * @return boolean
+     */
+    protected boolean isPinned(String method) {
+        if(PINNED_METHODS.contains(method)) {
+            return true;
+        }
+        for(String prefix : PINNED_PREFIXES) {
+            if(method.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPinned(BatchRequest batchRequest) {
+        for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            if(isPinned(request.getMethod())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the healthy endpoint with the lowest score except the excluded ones.
+     * If no endpoint is healthy, it returns the endpoint with the lowest score regardless of health.
+     * It returns null if all endpoints are excluded.
+     */
+    Endpoint selectEndpoint(Set<Endpoint> excluded) {
+        Endpoint selected = null;
+        Endpoint selectedUnhealthy = null;
+        double defaultLatency = getDefaultLatency();
+
+        for(Endpoint endpoint : endpoints) {
+            if(excluded.contains(endpoint)) {
+                continue;
+            }
+
+            if(endpoint.healthy) {
+                if(selected == null || endpoint.getScore(defaultLatency) < selected.getScore(defaultLatency)) {
+                    selected = endpoint;
+                }
+            } else if(selectedUnhealthy == null || endpoint.getScore(defaultLatency) < selectedUnhealthy.getScore(defaultLatency)) {
+                selectedUnhealthy = endpoint;
+            }
+        }
+
+        return selected != null ? selected : selectedUnhealthy;
+    }
+
+    /**
+     * Returns the latency in nanoseconds used for an endpoint without a latency sample.
+     * It is the mean latency of the endpoints with a sample, or the initial latency if none has one.
+     */
+    double getDefaultLatency() {
+        double sum = 0;
+        int count = 0;
+        for(Endpoint endpoint : endpoints) {
+            double latency = endpoint.latency;
+            if(latency != 0) {
+                sum += latency;
+                count++;
+            }
+        }
+        return count == 0 ? initialLatency : sum / count;
+    }
+
+    private <R> R route(boolean pinned, EndpointCall<R> call) throws IOException {
+        if(closed) {
+            throw new IOException("The service is already closed.");
+        }
+
+        if(pinned) {
+            return send(getPinnedEndpoint(), call);
+        }
+
+        Set<Endpoint> tried = new HashSet<>();
+        while(true) {
+            Endpoint endpoint = selectEndpoint(tried);
+            tried.add(endpoint);
+            try {
+                return send(endpoint, call);
+            } catch(IOException e) {
+                if(tried.size() > maxRetries || tried.size() == endpoints.size()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <R> R send(Endpoint endpoint, EndpointCall<R> call) throws IOException {
+        long startTime = endpoint.requestStarted();
+        try {
+            R result = call.call(endpoint.service);
+            endpoint.requestSucceeded(startTime, getDefaultLatency());
+            return result;
+        } catch(IOException | RuntimeException e) {
+            endpoint.requestFailed(e);
+            throw e;
+        }
+    }
+
+    private <R> CompletableFuture<R> routeAsync(boolean pinned, Function<Web3jService, CompletableFuture<R>> call) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        if(closed) {
+            future.completeExceptionally(new IOException("The service is already closed."));
+            return future;
+        }
+
+        if(pinned) {
+            sendAsync(getPinnedEndpoint(), call).whenComplete((result, throwable) -> {
+                if(throwable != null) {
+                    future.completeExceptionally(unwrap(throwable));
+                } else {
+                    future.complete(result);
+                }
+            });
+        } else {
+            sendAsync(new HashSet<>(), call, future);
+        }
+        return future;
+    }
+
+    private <R> void sendAsync(Set<Endpoint> tried, Function<Web3jService, CompletableFuture<R>> call, CompletableFuture<R> future) {
+        Endpoint endpoint = selectEndpoint(tried);
+        tried.add(endpoint);
+
+        sendAsync(endpoint, call).whenComplete((result, throwable) -> {
+            if(throwable == null) {
+                future.complete(result);
+                return;
+            }
+
+            Throwable cause = unwrap(throwable);
+            if(cause instanceof IOException && !closed && tried.size() <= maxRetries && tried.size() < endpoints.size()) {
+                sendAsync(tried, call, future);
+            } else {
+                future.completeExceptionally(cause);
+            }
+        });
+    }
+
+    private <R> CompletableFuture<R> sendAsync(Endpoint endpoint, Function<Web3jService, CompletableFuture<R>> call) {
+        long startTime = endpoint.requestStarted();
+
+        CompletableFuture<R> result;
+        try {
+            result = call.apply(endpoint.service);
+        } catch(RuntimeException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+
+        return result.whenComplete((response, throwable) -> {
+            if(throwable != null) {
+                endpoint.requestFailed(unwrap(throwable));
+            } else {
+                endpoint.requestSucceeded(startTime, getDefaultLatency());
+            }
+        });
+    }
+
+    private void checkHealth() {
+        Map<Endpoint, CompletableFuture<BigInteger>> checks = new LinkedHashMap<>();
+        for(Endpoint endpoint : endpoints) {
+            long startTime = System.nanoTime();
+            Request<?, Quantity> request = new Request<>("klay_blockNumber", Collections.<String>emptyList(), endpoint.service, Quantity.class);
+
+            CompletableFuture<BigInteger> check;
+            try {
+                check = endpoint.service.sendAsync(request, Quantity.class).thenApply(response -> {
+                    if(response.hasError()) {
+                        throw new CompletionException(new IOException(response.getError().getMessage()));
+                    }
+                    endpoint.updateLatency(System.nanoTime() - startTime, getDefaultLatency());
+                    return response.getValue();
+                });
+            } catch(RuntimeException e) {
+                check = new CompletableFuture<>();
+                check.completeExceptionally(e);
+            }
+            checks.put(endpoint, check);
+        }
+
+        try {
+            CompletableFuture.allOf(checks.values().toArray(new CompletableFuture[0])).get(healthCheckInterval, TimeUnit.MILLISECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch(ExecutionException | TimeoutException e) {
+            // Each failed or timed out check is handled below.
+        }
+
+        BigInteger highestBlockNumber = null;
+        for(CompletableFuture<BigInteger> check : checks.values()) {
+            if(check.isDone() && !check.isCompletedExceptionally()) {
+                BigInteger blockNumber = check.join();
+                if(highestBlockNumber == null || blockNumber.compareTo(highestBlockNumber) > 0) {
+                    highestBlockNumber = blockNumber;
+                }
+            }
+        }
+
+        for(Map.Entry<Endpoint, CompletableFuture<BigInteger>> entry : checks.entrySet()) {
+            Endpoint endpoint = entry.getKey();
+            CompletableFuture<BigInteger> check = entry.getValue();
+
+            if(!check.isDone()) {
+                check.cancel(false);
+                endpoint.healthCheckFailed("The health check has timed out.");
+            } else if(check.isCompletedExceptionally()) {
+                try {
+                    check.join();
+                } catch(CompletionException | CancellationException e) {
+                    Throwable cause = unwrap(e);
+                    endpoint.healthCheckFailed(String.valueOf(cause.getMessage()));
+                }
+            } else {
+                BigInteger blockNumber = check.join();
+                long lag = highestBlockNumber.subtract(blockNumber).longValue();
+                endpoint.healthCheckSucceeded(blockNumber, lag <= maxBlockLag);
+            }
+        }
+    }
+
+    private static Map<String, Web3jService> toServices(List<String> urls) {
+        if(urls == null) {
+            throw new IllegalArgumentException("At least one endpoint is required.");
+        }
+
+        Map<String, Web3jService> services = new LinkedHashMap<>();
+        for(String url : urls) {
+            services.put(url, new HttpService(url));
+        }
+        return services;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if(throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private interface EndpointCall<R> {
+        R call(Web3jService service) throws IOException;
+    }
+
+    /**
+     * An endpoint of MultiEndpointWeb3jService with its health and metrics.
+     */
+    public static class Endpoint {
+        private final String name;
+        private final Web3jService service;
+
+        private volatile boolean healthy = true;
+        private volatile BigInteger blockNumber;
+        private volatile String lastError;
+
+        /**
+         * The EWMA latency in nanoseconds. It is 0 until the first response, and cleared when the endpoint becomes unhealthy.
+         */
+        private volatile double latency;
+
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong failureCount = new AtomicLong();
+
+        Endpoint(String name, Web3jService service) {
+            this.name = name;
+            this.service = service;
+        }
+
+        /**
+         * Getter function for name.
+         * @return String
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Getter function for service.
+         * @return Web3jService
+         */
+        public Web3jService getService() {
+            return service;
+        }
+
+        /**
+         * Returns true if the last health check succeeded within the max block lag and no request has failed since then.
+         * @return boolean
+         */
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * Returns the block number of the last successful health check. It returns null before the first one.
+         * @return BigInteger
+         */
+        public BigInteger getBlockNumber() {
+            return blockNumber;
+        }
+
+        /**
+         * Returns the EWMA latency in milliseconds of requests and health checks.
+         * It returns 0 if there is no sample since the endpoint became healthy.
+         * @return double
+         */
+        public double getAverageLatency() {
+            return latency / 1_000_000;
+        }
+
+        /**
+         * Returns the number of requests waiting for their responses.
+         * @return int
+         */
+        public int getInFlightCount() {
+            return inFlightCount.get();
+        }
+
+        /**
+         * Returns the number of requests sent to this endpoint, excluding health checks.
+         * @return long
+         */
+        public long getRequestCount() {
+            return requestCount.get();
+        }
+
+        /**
+         * Returns the number of failed requests, excluding health checks.
+         * @return long
+         */
+        public long getFailureCount() {
+            return failureCount.get();
+        }
+
+        /**
+         * Returns the message of the last failure of a request or a health check. It returns null if nothing has failed.
+         * @return String
+         */
+        public String getLastError() {
+            return lastError;
+        }
+
+        /**
+         * The score to select an endpoint for a read request. An endpoint with a lower score is preferred.
+         * @param defaultLatency The latency used if this endpoint has no latency sample.
+         */
+        double getScore(double defaultLatency) {
+            double current = latency;
+            return (current == 0 ? defaultLatency : current) * (inFlightCount.get() + 1);
+        }
+
+        long requestStarted() {
+            requestCount.incrementAndGet();
+            inFlightCount.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        void requestSucceeded(long startTime, double defaultLatency) {
+            inFlightCount.decrementAndGet();
+            updateLatency(System.nanoTime() - startTime, defaultLatency);
+        }
+
+        void requestFailed(Throwable throwable) {
+            inFlightCount.decrementAndGet();
+            failureCount.incrementAndGet();
+            lastError = String.valueOf(throwable.getMessage());
+            // Only a transport failure means that the endpoint is unavailable.
+            if(throwable instanceof IOException) {
+                setUnhealthy();
+            }
+        }
+
+        void healthCheckSucceeded(BigInteger blockNumber, boolean inSync) {
+            this.blockNumber = blockNumber;
+            if(!inSync) {
+                lastError = "The block number " + blockNumber + " lags behind other endpoints.";
+            }
+            if(inSync) {
+                this.healthy = true;
+            } else {
+                setUnhealthy();
+            }
+        }
+
+        void healthCheckFailed(String error) {
+            this.lastError = error;
+            setUnhealthy();
+        }
+
+        /**
+         * Updates the EWMA latency with a new sample. The first sample is averaged with the given default latency.
+         * @param nanos The latency of a response in nanoseconds.
+         * @param defaultLatency The latency used as the previous value if this endpoint has no latency sample.
+         */
+        synchronized void updateLatency(long nanos, double defaultLatency) {
+            double previous = latency == 0 ? defaultLatency : latency;
+            latency = previous + LATENCY_WEIGHT * (nanos - previous);
+        }
+
+        /**
+         * Marks this endpoint as unhealthy and clears its latency, which may be stale when it recovers.
+         */
+        private synchronized void setUnhealthy() {
+            healthy = false;
+            latency = 0;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.web3j.crypto.Hash;
 import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
@@ -36,6 +37,7 @@ import java.security.SignatureException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -53,6 +55,11 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
      */
     List<SignatureData> feePayerSignatures = new ArrayList<>();
 
+    /**
+     * The cached hash to make the fee payer's signature of this transaction.
+     */
+    private volatile String hashForFeePayerSignatureCache;
+
     /**
      * Represent a AbstractFeeDelegatedTransaction builder
      * @param <B> An generic extends to AbstractFeeDelegatedTransaction.Builder
@@ -255,6 +262,32 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         return Numeric.toHexString(encoded);
     }
 
+    /**
+     * Returns the hash to make the fee payer's signature of this transaction.<p>
+     * It is used by {@link TransactionHasher#getHashForFeePayerSignature(AbstractFeeDelegatedTransaction)}, and computed once until a field of the transaction is changed.
+     * @return String
+     */
+    String getCachedHashForFeePayerSignature() {
+        validateCache();
+        String hash = hashForFeePayerSignatureCache;
+        if(hash == null) {
+            hash = Hash.sha3(getRLPEncodingForFeePayerSignature());
+            hashForFeePayerSignatureCache = hash;
+        }
+        return hash;
+    }
+
+    @Override
+    protected void invalidateCache() {
+        hashForFeePayerSignatureCache = null;
+        super.invalidateCache();
+    }
+
+    @Override
+    protected int signaturesHashCode() {
+        return 31 * super.signaturesHashCode() + Objects.hashCode(feePayerSignatures);
+    }
+
     /**
      * Check equals txObj passed parameter and current instance.
      * @param txObj The AbstractFeeDelegatedTransaction Object to compare
@@ -292,6 +325,24 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
      * @return List&lt;String&gt;
      */
     public List<String> recoverFeePayerPublicKeys() {
+        List<String> publicKeyList = new ArrayList<>();
+        for(byte[] publicKey : recoverFeePayerRawPublicKeys()) {
+            publicKeyList.add(Numeric.toHexString(publicKey));
+        }
+        return publicKeyList;
+    }
+
+    /**
+     * Recovers the raw 64-byte public keys from "feePayerSignatures" field in transaction object.<p>
+     * It is the same as {@link #recoverFeePayerPublicKeys()} without encoding the public keys to hex strings.
+     * <pre>Example :
+     * {@code
+     * List<byte[]> publicKeys = tx.recoverFeePayerRawPublicKeys();
+     * }
+     * </pre>
+     * @return List&lt;byte[]&gt;
+     */
+    public List<byte[]> recoverFeePayerRawPublicKeys() {
         try {
             if(Utils.isEmptySig(this.getFeePayerSignatures())) {
                 throw new RuntimeException("Failed to recover public keys from feePayerSignatures: feePayerSignatures is empty.");
@@ -307,13 +358,13 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
 
             String sigHash = TransactionHasher.getHashForFeePayerSignature(this);
 
-            List<String> publicKeyList = new ArrayList<>();
+            List<byte[]> publicKeyList = new ArrayList<>();
             for(SignatureData signatureData : this.getFeePayerSignatures()) {
                 if(Numeric.toBigInt(this.getChainId()).compareTo(signatureData.getChainId()) != 0) {
                     throw new RuntimeException("Invalid Signature data : chain id is not matched.");
                 }
 
-                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData, true));
+                publicKeyList.add(Utils.recoverRawPublicKey(sigHash, signatureData, true));
             }
             return publicKeyList;
         } catch(SignatureException e) {
@@ -343,6 +394,7 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         }
 
         this.feePayer = feePayer;
+        invalidateCache();
     }
 
     /**
@@ -366,5 +418,6 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         }
         this.feePayerSignatures.addAll(feePayerSignatures);
         this.feePayerSignatures = refineSignature(this.getFeePayerSignatures());
+        invalidateSignatureCache();
     }
 }
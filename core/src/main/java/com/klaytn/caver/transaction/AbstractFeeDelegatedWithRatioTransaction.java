@@ -130,6 +130,7 @@ abstract public class AbstractFeeDelegatedWithRatioTransaction extends AbstractF
         }
 
         this.feeRatio = feeRatio;
+        invalidateCache();
     }
 
     /**
@@ -23,6 +23,8 @@ import com.klaytn.caver.methods.response.BlockHeader;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.transaction.type.TransactionType;
+import com.klaytn.caver.utils.FutureUtils;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
@@ -37,9 +39,13 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.security.SignatureException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 abstract public class AbstractTransaction {
@@ -50,6 +56,18 @@ abstract public class AbstractTransaction {
     @JsonIgnore
     private Klay klaytnCall = null;
 
+    /**
+     * The fee oracle to suggest fees instead of requesting them for each transaction.
+     */
+    @JsonIgnore
+    private FeeOracle feeOracle = null;
+
+    /**
+     * The nonce manager to allocate the nonce locally instead of requesting it for each transaction.
+     */
+    @JsonIgnore
+    private NonceManager nonceManager = null;
+
     /**
      * Transaction's type string
      */
@@ -82,6 +100,32 @@ abstract public class AbstractTransaction {
      */
     private List<SignatureData> signatures = new ArrayList<>();
 
+    /**
+     * The cached RLP-encoded bytes of this transaction.
+     */
+    private volatile byte[] encodedCache;
+
+    /**
+     * The cached transaction hash.
+     */
+    private volatile String transactionHashCache;
+
+    /**
+     * The cached senderTxHash.
+     */
+    private volatile String senderTxHashCache;
+
+    /**
+     * The cached hash to make the signature of this transaction.
+     */
+    private volatile String hashForSignatureCache;
+
+    /**
+     * The values of {@link #listFieldsHashCode()} and {@link #signaturesHashCode()} when the caches were validated.
+     */
+    private volatile int cachedListFieldsHash;
+    private volatile int cachedSignaturesHash;
+
     /**
      * Represents a AbstractTransaction class builder.
      * @param <B> An generic extends to AbstractTransaction.Builder
@@ -94,6 +138,8 @@ abstract public class AbstractTransaction {
         private String nonce = "0x";
         private String chainId = "0x";
         private Klay klaytnCall = null;
+        private FeeOracle feeOracle = null;
+        private NonceManager nonceManager = null;
         private List<SignatureData> signatures = new ArrayList<>();
 
         public Builder(String type) {
@@ -140,6 +186,16 @@ abstract public class AbstractTransaction {
             return (B) this;
         }
 
+        public B setFeeOracle(FeeOracle feeOracle) {
+            this.feeOracle = feeOracle;
+            return (B) this;
+        }
+
+        public B setNonceManager(NonceManager nonceManager) {
+            this.nonceManager = nonceManager;
+            return (B) this;
+        }
+
         public B setSignatures(List<SignatureData> signatures) {
             this.signatures.addAll(signatures);
             return (B) this;
@@ -168,6 +224,8 @@ abstract public class AbstractTransaction {
                 builder.chainId,
                 builder.signatures
         );
+        setFeeOracle(builder.feeOracle);
+        setNonceManager(builder.nonceManager);
     }
 
     /**
@@ -204,6 +262,33 @@ abstract public class AbstractTransaction {
     @JsonIgnore
     public abstract String getCommonRLPEncodingForSignature();
 
+    /**
+     * Returns the RLP-encoded bytes of this transaction (i.e., rawTransaction).<p>
+     * It writes each field directly to a byte array, so it doesn't create hex strings or RlpType objects in the process.
+     * @return byte[]
+     */
+    public byte[] encode() {
+        return getEncoded().clone();
+    }
+
+    /**
+     * Writes the RLP-encoded bytes of this transaction (i.e., rawTransaction) into the given buffer.
+     * @param buffer The buffer to write the encoded transaction.
+     */
+    public void encodeInto(ByteBuffer buffer) {
+        buffer.put(getEncoded());
+    }
+
+    /**
+     * Writes the RLP-encoded bytes of this transaction (i.e., rawTransaction) with the given RlpWriter.<p>
+     * Transaction types provided by caver-java write their fields directly.
+     * The default implementation writes the result of {@link #getRLPEncoding()}.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    public void encodeTo(RlpWriter writer) {
+        writer.writeRaw(Numeric.hexStringToByteArray(getRLPEncoding()));
+    }
+
     /**
      * Signs to the transaction with a single private key.
      * It sets Hasher default value.
@@ -255,6 +340,7 @@ abstract public class AbstractTransaction {
 
         if(this.from.equals("0x") || this.from.equals(Utils.DEFAULT_ZERO_ADDRESS)){
             this.from = keyring.getAddress();
+            invalidateCache();
         }
 
         if(!this.from.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
@@ -299,6 +385,7 @@ abstract public class AbstractTransaction {
 
         if(this.from.equals("0x") || this.from.equals(Utils.DEFAULT_ZERO_ADDRESS)){
             this.from = keyring.getAddress();
+            invalidateCache();
         }
 
         if(!this.from.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
@@ -333,6 +420,18 @@ abstract public class AbstractTransaction {
     public void appendSignatures(List<SignatureData> signatureData) {
         this.signatures.addAll(signatureData);
         this.signatures = refineSignature(this.getSignatures());
+        invalidateSignatureCache();
+    }
+
+    /**
+     * Removes the signature at the given position from the signatures of the transaction.
+     * @param index The index of the signature to remove.
+     * @return SignatureData
+     */
+    public SignatureData removeSignature(int index) {
+        SignatureData removed = this.signatures.remove(index);
+        invalidateSignatureCache();
+        return removed;
     }
 
     /**
@@ -360,7 +459,22 @@ abstract public class AbstractTransaction {
      */
     @JsonIgnore
     public String getTransactionHash() {
-        return Hash.sha3(this.getRLPEncoding());
+        validateCache();
+        String transactionHash = transactionHashCache;
+        if(transactionHash == null) {
+            transactionHash = computeTransactionHash();
+            transactionHashCache = transactionHash;
+        }
+        return transactionHash;
+    }
+
+    /**
+     * Computes a hash string of transaction.<p>
+     * The result is cached by {@link #getTransactionHash()} until the transaction is changed.
+     * @return String
+     */
+    protected String computeTransactionHash() {
+        return Numeric.toHexString(Hash.sha3(getEncoded()));
     }
 
     /**
@@ -369,9 +483,108 @@ abstract public class AbstractTransaction {
      */
     @JsonIgnore
     public String getSenderTxHash() {
+        validateCache();
+        String senderTxHash = senderTxHashCache;
+        if(senderTxHash == null) {
+            senderTxHash = computeSenderTxHash();
+            senderTxHashCache = senderTxHash;
+        }
+        return senderTxHash;
+    }
+
+    /**
+     * Computes a senderTxHash of transaction.<p>
+     * For a basic transaction, the senderTxHash is the same as the transaction hash.
+     * Fee delegated transaction types override it to compute a hash without the fee payer's information.
+     * @return String
+     */
+    protected String computeSenderTxHash() {
         return this.getTransactionHash();
     }
 
+    /**
+     * Returns the hash to make the signature of this transaction.<p>
+     * It is used by {@link TransactionHasher#getHashForSignature(AbstractTransaction)}, and computed once until a field of the transaction is changed.
+     * @return String
+     */
+    String getCachedHashForSignature() {
+        validateCache();
+        String hash = hashForSignatureCache;
+        if(hash == null) {
+            hash = Hash.sha3(getRLPEncodingForSignature());
+            hashForSignatureCache = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Clears all cached encodings and hashes of this transaction.<p>
+     * It is called by the setters when a field of the transaction is changed.
+     * A subclass that defines a new field must call it when the field is changed.
+     * A list field can also be modified through its getter (e.g. {@link #getSignatures()}), so the caches are checked against
+     * {@link #listFieldsHashCode()} and {@link #signaturesHashCode()} before they are used.
+     */
+    protected void invalidateCache() {
+        hashForSignatureCache = null;
+        invalidateSignatureCache();
+    }
+
+    /**
+     * Clears the cached values that depend on the signatures of this transaction (RLP encoding, transaction hash and senderTxHash).<p>
+     * The hash for signature doesn't include the signatures, so it is kept.
+     */
+    protected void invalidateSignatureCache() {
+        encodedCache = null;
+        transactionHashCache = null;
+        senderTxHashCache = null;
+    }
+
+    /**
+     * Returns the hash code of the list fields other than the signatures, which can be modified through their getters.<p>
+     * A subclass that defines such a field (e.g. an access list) must override it.
+     * @return int
+     */
+    protected int listFieldsHashCode() {
+        return 0;
+    }
+
+    /**
+     * Returns the hash code of the signature lists, which can be modified through their getters.
+     * @return int
+     */
+    protected int signaturesHashCode() {
+        return Objects.hashCode(signatures);
+    }
+
+    /**
+     * Clears the caches if a list field is modified directly after they were filled.
+     */
+    void validateCache() {
+        int listFieldsHash = listFieldsHashCode();
+        if(listFieldsHash != cachedListFieldsHash) {
+            invalidateCache();
+            cachedListFieldsHash = listFieldsHash;
+        }
+
+        int signaturesHash = signaturesHashCode();
+        if(signaturesHash != cachedSignaturesHash) {
+            invalidateSignatureCache();
+            cachedSignaturesHash = signaturesHash;
+        }
+    }
+
+    private byte[] getEncoded() {
+        validateCache();
+        byte[] encoded = encodedCache;
+        if(encoded == null) {
+            RlpWriter writer = new RlpWriter();
+            encodeTo(writer);
+            encoded = writer.toByteArray();
+            encodedCache = encoded;
+        }
+        return encoded;
+    }
+
     /**
      * Returns an RLP-encoded transaction string for making signature.
      * @return String
@@ -390,17 +603,24 @@ abstract public class AbstractTransaction {
     }
 
     /**
-     * Fills empty optional transaction field.(nonce, gasPrice, chainId)
+     * Fills empty optional transaction field.(nonce, gasPrice, chainId)<p>
+     * If `nonceManager` is set, the nonce is allocated by it instead of requesting `klay_getTransactionCount`.
      * @throws IOException
      */
     public void fillTransaction() throws IOException{
+        if(nonceManager != null) {
+            nonceManager.fillNonce(this);
+        }
+
         if(klaytnCall != null) {
             if(this.nonce.equals("0x")) {
                 this.nonce = klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).send().getResult();
+                invalidateCache();
             }
 
             if(this.chainId.equals("0x")) {
                 this.chainId = klaytnCall.getChainID().send().getResult();
+                invalidateCache();
             }
         }
 
@@ -411,11 +631,15 @@ abstract public class AbstractTransaction {
 
     /**
      * Suggests a gas price to use in the transaction. <p>
-     * Calls `klay_gasPrice` to return unit price of the gas. <p>
+     * Calls `klay_gasPrice` to return unit price of the gas. If `feeOracle` is set, the gas price is suggested by it without a request. <p>
      * @return BigInteger
      * @throws IOException
      */
     public BigInteger suggestGasPrice() throws IOException {
+        if(this.feeOracle != null) {
+            return this.feeOracle.suggestGasPrice();
+        }
+
         if(this.klaytnCall == null) {
             throw new RuntimeException("Cannot suggest gas price. To get suggested gas price, `klaytnCall` must be set in Transaction instance. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -426,6 +650,110 @@ abstract public class AbstractTransaction {
         return this.klaytnCall.getGasPrice().send().getValue();
     }
 
+    /**
+     * Fills empty optional transaction field.(nonce, gasPrice, chainId) asynchronously.<p>
+     * The values of the empty fields are requested concurrently with {@code sendAsync()}, and the returned future is completed
+     * when all of them are filled. It is completed exceptionally if a request fails or a field cannot be filled.<p>
+     * If `nonceManager` is set, the nonce is allocated by it instead of requesting `klay_getTransactionCount`.
+     * The NonceManager only sends a request when a nonce of the sender is allocated at first, and the request blocks the calling thread.<p>
+     * No thread is blocked while waiting for the responses if the Web3jService of `klaytnCall` sends requests without blocking
+     * (e.g. {@link com.klaytn.caver.rpc.AsyncHttpService}).
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Void> fillTransactionAsync() {
+        List<CompletableFuture<?>> requests = new ArrayList<>();
+        if(nonceManager != null) {
+            try {
+                nonceManager.fillNonce(this);
+            } catch(IOException | RuntimeException e) {
+                return FutureUtils.failedFuture(e);
+            }
+        }
+
+        if(klaytnCall != null) {
+            if(this.nonce.equals("0x")) {
+                requests.add(klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).sendAsync()
+                        .thenAccept(response -> this.nonce = FutureUtils.resultOf(response)));
+            }
+
+            if(this.chainId.equals("0x")) {
+                requests.add(klaytnCall.getChainID().sendAsync()
+                        .thenAccept(response -> this.chainId = FutureUtils.resultOf(response)));
+            }
+
+            requests.add(fillFeeAsync());
+        }
+
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture[0])).thenRun(() -> {
+            invalidateCache();
+            try {
+                // The empty fields are filled already, so it only checks the fields without sending requests.
+                fillTransaction();
+            } catch(IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Suggests a gas price to use in the transaction asynchronously. <p>
+     * Calls `klay_gasPrice` to return unit price of the gas. If `feeOracle` is set, the gas price is suggested by it without a request. <p>
+     * @return CompletableFuture
+     */
+    public CompletableFuture<BigInteger> suggestGasPriceAsync() {
+        if(this.feeOracle != null) {
+            return this.feeOracle.suggestGasPriceAsync();
+        }
+
+        if(this.klaytnCall == null) {
+            return FutureUtils.failedFuture(new RuntimeException("Cannot suggest gas price. To get suggested gas price, `klaytnCall` must be set in Transaction instance. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance."));
+        }
+
+        return this.klaytnCall.getGasPrice().sendAsync().thenApply(response -> Numeric.toBigInt(FutureUtils.resultOf(response)));
+    }
+
+    /**
+     * Fills empty fee fields of the transaction asynchronously. It is called by {@link #fillTransactionAsync()}.<p>
+     * The fee fields are filled with the gas price suggested by {@link #suggestGasPriceAsync()}.
+     * A transaction type which has other fee fields overrides it.
+     * @return CompletableFuture
+     */
+    protected CompletableFuture<Void> fillFeeAsync() {
+        return fillFeeAsync(this::suggestGasPriceAsync);
+    }
+
+    /**
+     * Fills empty fee fields of the transaction with the gas price given by the supplier.<p>
+     * The supplier is called only if a fee field is empty. It fills an empty gasPrice field of a transaction type
+     * implementing {@link ITransactionWithGasPriceField}, and a transaction type which has other fee fields overrides it.
+     * @param gasPrice The supplier of the gas price.
+     * @return CompletableFuture
+     */
+    protected CompletableFuture<Void> fillFeeAsync(Supplier<CompletableFuture<BigInteger>> gasPrice) {
+        if(this instanceof ITransactionWithGasPriceField && ((ITransactionWithGasPriceField)this).getGasPrice().equals("0x")) {
+            return gasPrice.get().thenAccept(price -> setGasPrice(Numeric.toHexStringWithPrefix(price)));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Setter function for gasPrice. It is used by {@link #fillFeeAsync(Supplier)} to fill an empty gasPrice field.<p>
+     * A transaction type implementing {@link ITransactionWithGasPriceField} overrides it with its public setter.
+     * @param gasPrice The unit price of gas in peb the sender will pay for a transaction fee.
+     */
+    protected void setGasPrice(String gasPrice) {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't have a gasPrice field.");
+    }
+
+    /**
+     * Fills empty fee fields of the transaction with the given gas price without sending a request.<p>
+     * It is used to fill transactions with the gas price requested once (e.g. {@code KeyringContainer.signAll}).
+     * @param gasPrice The unit price of gas in peb.
+     */
+    public void fillFee(BigInteger gasPrice) {
+        fillFeeAsync(() -> CompletableFuture.completedFuture(gasPrice)).join();
+    }
+
     /**
      * Check equals txObj passed parameter and Current instance.
      * @param txObj The AbstractTransaction Object to compare
@@ -499,6 +827,24 @@ abstract public class AbstractTransaction {
      * @return List&lt;String&gt;
      */
     public List<String> recoverPublicKeys() {
+        List<String> publicKeyList = new ArrayList<>();
+        for(byte[] publicKey : recoverRawPublicKeys()) {
+            publicKeyList.add(Numeric.toHexString(publicKey));
+        }
+        return publicKeyList;
+    }
+
+    /**
+     * Recovers the raw 64-byte public keys from "signatures" field in transaction object.<p>
+     * It is the same as {@link #recoverPublicKeys()} without encoding the public keys to hex strings.
+     * <pre>Example :
+     * {@code
+     * List<byte[]> publicKeys = tx.recoverRawPublicKeys();
+     * }
+     * </pre>
+     * @return List&lt;byte[]&gt;
+     */
+    public List<byte[]> recoverRawPublicKeys() {
         try {
             // If it is EthereumTyped transaction(EthereumAccessList, EthereumDynamicFee), call recoverPublicKeysWithEthereumTypedTransaction.
             if(TransactionHelper.isEthereumTypedTransaction(this.getType())) {
@@ -519,13 +865,13 @@ abstract public class AbstractTransaction {
 
             String sigHash = TransactionHasher.getHashForSignature(this);
 
-            List<String> publicKeyList = new ArrayList<>();
+            List<byte[]> publicKeyList = new ArrayList<>();
             for(SignatureData signatureData : this.getSignatures()) {
                 if(Numeric.toBigInt(this.getChainId()).compareTo(signatureData.getChainId()) != 0) {
                     throw new RuntimeException("Invalid Signature data : chain id is not matched.");
                 }
 
-                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData, true));
+                publicKeyList.add(Utils.recoverRawPublicKey(sigHash, signatureData, true));
             }
             return publicKeyList;
         } catch(SignatureException e) {
@@ -533,19 +879,19 @@ abstract public class AbstractTransaction {
         }
     }
 
-    private List<String> recoverPublicKeysWithEthereumTypedTransaction() throws SignatureException{
+    private List<byte[]> recoverPublicKeysWithEthereumTypedTransaction() throws SignatureException{
             if(Utils.isEmptySig(this.getSignatures())) {
                 throw new RuntimeException("Failed to recover public keys from signatures: signatures is empty.");
             }
 
             String sigHash = TransactionHasher.getHashForSignature(this);
 
-            List<String> publicKeyList = new ArrayList<>();
+            List<byte[]> publicKeyList = new ArrayList<>();
             for(SignatureData signatureData : this.getSignatures()) {
                 if(Numeric.toBigInt(signatureData.getV()).compareTo(BigInteger.ZERO) != 0 && Numeric.toBigInt(signatureData.getV()).compareTo(BigInteger.ONE) != 0) {
                     throw new RuntimeException("Invalid Signature data : the v value must have 0 or 1.");
                 }
-                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData, true));
+                publicKeyList.add(Utils.recoverRawPublicKey(sigHash, signatureData, true));
             }
             return publicKeyList;
     }
@@ -566,6 +912,38 @@ abstract public class AbstractTransaction {
         this.klaytnCall = klaytnCall;
     }
 
+    /**
+     * Getter function for feeOracle
+     * @return FeeOracle
+     */
+    public FeeOracle getFeeOracle() {
+        return feeOracle;
+    }
+
+    /**
+     * Setter function for feeOracle
+     * @param feeOracle The fee oracle to suggest fees of the transaction.
+     */
+    public void setFeeOracle(FeeOracle feeOracle) {
+        this.feeOracle = feeOracle;
+    }
+
+    /**
+     * Getter function for nonceManager
+     * @return NonceManager
+     */
+    public NonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    /**
+     * Setter function for nonceManager
+     * @param nonceManager The nonce manager to allocate the nonce of the transaction.
+     */
+    public void setNonceManager(NonceManager nonceManager) {
+        this.nonceManager = nonceManager;
+    }
+
     /**
      * Getter function for type.
      * @return String
@@ -620,6 +998,7 @@ abstract public class AbstractTransaction {
      */
     public void setType(String type) {
         this.type = type;
+        invalidateCache();
     }
 
     public void setFrom(String from) {
@@ -637,6 +1016,7 @@ abstract public class AbstractTransaction {
         }
 
         this.from = from;
+        invalidateCache();
     }
 
     /**
@@ -653,6 +1033,7 @@ abstract public class AbstractTransaction {
             throw new IllegalArgumentException("Invalid gas. : " + gas);
         }
         this.gas = gas;
+        invalidateCache();
     }
 
     /**
@@ -677,6 +1058,7 @@ abstract public class AbstractTransaction {
             throw new IllegalArgumentException("Invalid nonce. : " + nonce);
         }
         this.nonce = nonce;
+        invalidateCache();
     }
 
     /**
@@ -701,6 +1083,7 @@ abstract public class AbstractTransaction {
         }
 
         this.chainId = chainId;
+        invalidateCache();
     }
 
 
@@ -0,0 +1,723 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction;
+
+import com.klaytn.caver.methods.response.FeeHistoryResult;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.utils.FutureUtils;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.utils.Numeric;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Suggests fees of transactions from a snapshot which is refreshed once per new block.<p>
+ * The block number is polled with "klay_blockNumber", and when a new block is found, the gas price, the max priority fee per gas,
+ * the fee history and the bounds of the gas price are requested concurrently and kept as a {@link Snapshot}.
+ * Transactions filled with the oracle use the snapshot, so they don't send "klay_gasPrice" and "klay_maxPriorityFeePerGas" one by one.<p>
+ * How the fees are derived from a snapshot is decided by a {@link Strategy}, and the gas price is kept between
+ * the lower and upper bound gas prices of the network.<p>
+ * A snapshot older than the max snapshot age is not used. For example, when the polling fails or the oracle is closed,
+ * the next suggestion refreshes the snapshot first, and fails if the refresh fails.<p>
+ * The oracle doesn't send any request when it is created. The polling starts at the first request of a snapshot
+ * (e.g. {@link #getSnapshot()} or a transaction filled with the oracle), and it runs on a daemon thread of the oracle
+ * until {@link #close()} is called. Close the oracle when it is no longer used.
+ * <pre>Example :
+ * {@code
+ * FeeOracle feeOracle = new FeeOracle(caver.rpc.klay, new FeeOracle.BaseFeeMultiplierStrategy(1.5));
+ *
+ * ValueTransfer valueTransfer = caver.transaction.valueTransfer.create(
+ *     TxPropertyBuilder.valueTransfer()
+ *         .setFrom(sender)
+ *         .setTo(recipient)
+ *         .setValue(BigInteger.valueOf(1))
+ *         .setGas(BigInteger.valueOf(25000))
+ *         .setFeeOracle(feeOracle)
+ * );
+ * caver.wallet.sign(sender, valueTransfer);
+ * ...
+ * feeOracle.close();
+ * }
+ * </pre>
+ */
+public class FeeOracle implements Closeable {
+    public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+    public static final int DEFAULT_HISTORY_BLOCK_COUNT = 20;
+    public static final long DEFAULT_MAX_SNAPSHOT_AGE = 10000;
+    public static final List<Float> DEFAULT_REWARD_PERCENTILES = Collections.unmodifiableList(Arrays.asList(10f, 25f, 50f, 75f, 90f));
+
+    /**
+     * The max number of blocks which can be requested with "klay_feeHistory".
+     */
+    static final int MAX_HISTORY_BLOCK_COUNT = 1024;
+
+    /**
+     * Klay RPC instance
+     */
+    private final Klay klaytnCall;
+    private final Strategy strategy;
+    private final long pollingFrequency;
+    private final int historyBlockCount;
+    private final List<Float> rewardPercentiles;
+    private final long maxSnapshotAge;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    /**
+     * The latest snapshot.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * The future of the refresh in progress. It is guarded by lock.
+     */
+    private CompletableFuture<Snapshot> refreshing;
+    private final Object lock = new Object();
+
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    /**
+     * True if the polling is started. It is started at the first request of a snapshot.
+     */
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    /**
+     * Creates a FeeOracle instance which suggests the fees recommended by the node.
+     * @param klaytnCall Klay RPC instance to request the fee data.
+     */
+    public FeeOracle(Klay klaytnCall) {
+        this(klaytnCall, new SuggestedStrategy());
+    }
+
+    /**
+     * Creates a FeeOracle instance with default options.<p>
+     * If the strategy is a {@link PercentileStrategy}, its percentile is sampled in addition to {@link #DEFAULT_REWARD_PERCENTILES}.
+     * @param klaytnCall Klay RPC instance to request the fee data.
+     * @param strategy The strategy to derive fees from a snapshot.
+     */
+    public FeeOracle(Klay klaytnCall, Strategy strategy) {
+        this(klaytnCall, strategy, DEFAULT_POLLING_FREQUENCY, DEFAULT_HISTORY_BLOCK_COUNT, defaultPercentilesOf(strategy));
+    }
+
+    /**
+     * Creates a FeeOracle instance.
+     * @param klaytnCall Klay RPC instance to request the fee data.
+     * @param strategy The strategy to derive fees from a snapshot.
+     * @param pollingFrequency The interval in milliseconds to poll the block number.
+     * @param historyBlockCount The number of blocks to request the fee history.
+     * @param rewardPercentiles The increasing percentiles of the priority fees to sample from each block.
+     */
+    public FeeOracle(Klay klaytnCall, Strategy strategy, long pollingFrequency, int historyBlockCount, List<Float> rewardPercentiles) {
+        this(klaytnCall, strategy, pollingFrequency, historyBlockCount, rewardPercentiles, DEFAULT_MAX_SNAPSHOT_AGE);
+    }
+
+    /**
+     * Creates a FeeOracle instance.
+     * @param klaytnCall Klay RPC instance to request the fee data.
+     * @param strategy The strategy to derive fees from a snapshot.
+     * @param pollingFrequency The interval in milliseconds to poll the block number.
+     * @param historyBlockCount The number of blocks to request the fee history.
+     * @param rewardPercentiles The increasing percentiles of the priority fees to sample from each block.
+     * @param maxSnapshotAge The max age in milliseconds of a snapshot which is used without a refresh.
+     */
+    public FeeOracle(Klay klaytnCall, Strategy strategy, long pollingFrequency, int historyBlockCount, List<Float> rewardPercentiles, long maxSnapshotAge) {
+        if(pollingFrequency <= 0) {
+            throw new IllegalArgumentException("pollingFrequency must be greater than 0.");
+        }
+        if(maxSnapshotAge <= 0) {
+            throw new IllegalArgumentException("maxSnapshotAge must be greater than 0.");
+        }
+        if(historyBlockCount < 1 || historyBlockCount > MAX_HISTORY_BLOCK_COUNT) {
+            throw new IllegalArgumentException("historyBlockCount must be between 1 and " + MAX_HISTORY_BLOCK_COUNT + ".");
+        }
+        for(int i = 0; i < rewardPercentiles.size(); i++) {
+            float percentile = rewardPercentiles.get(i);
+            if(percentile < 0 || percentile > 100 || (i > 0 && percentile <= rewardPercentiles.get(i - 1))) {
+                throw new IllegalArgumentException("rewardPercentiles must be increasing values between 0 and 100.");
+            }
+        }
+        if(strategy instanceof PercentileStrategy && !rewardPercentiles.contains(((PercentileStrategy)strategy).getPercentile())) {
+            throw new IllegalArgumentException("rewardPercentiles must contain the percentile of the strategy.");
+        }
+
+        this.klaytnCall = klaytnCall;
+        this.strategy = strategy;
+        this.pollingFrequency = pollingFrequency;
+        this.historyBlockCount = historyBlockCount;
+        this.rewardPercentiles = Collections.unmodifiableList(new ArrayList<>(rewardPercentiles));
+        this.maxSnapshotAge = maxSnapshotAge;
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-fee-oracle");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the latest snapshot. If no snapshot is made yet or the latest one is older than the max snapshot age, it waits for a refresh.
+     * @return Snapshot
+     * @throws IOException
+     */
+    public Snapshot getSnapshot() throws IOException {
+        startPolling();
+
+        Snapshot current = snapshot;
+        if(current != null && !isStale(current)) {
+            return current;
+        }
+
+        try {
+            return getSnapshotAsync().join();
+        } catch(CompletionException e) {
+            Throwable cause = unwrap(e);
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the latest snapshot asynchronously.
+     * If no snapshot is made yet or the latest one is older than the max snapshot age, the future is completed with a refreshed one.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Snapshot> getSnapshotAsync() {
+        startPolling();
+
+        Snapshot current = snapshot;
+        if(current != null && !isStale(current)) {
+            return CompletableFuture.completedFuture(current);
+        }
+        return refresh();
+    }
+
+    /**
+     * Makes a new snapshot of the latest block without waiting for the next polling.<p>
+     * If a refresh is in progress, it returns the future of that refresh.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Snapshot> refresh() {
+        synchronized(lock) {
+            if(refreshing != null && !refreshing.isDone()) {
+                return refreshing;
+            }
+            CompletableFuture<Quantity> blockNumber;
+            try {
+                blockNumber = klaytnCall.getBlockNumber().sendAsync();
+            } catch(RuntimeException e) {
+                return FutureUtils.failedFuture(e);
+            }
+            return startRefresh(blockNumber.thenCompose(response -> fetchSnapshot(Numeric.decodeQuantity(FutureUtils.resultOf(response)).longValue())));
+        }
+    }
+
+    /**
+     * Suggests a gas price with the latest snapshot.<p>
+     * It is used for the gasPrice field, or the maxFeePerGas field of a dynamic fee transaction.
+     * @return BigInteger
+     * @throws IOException
+     */
+    public BigInteger suggestGasPrice() throws IOException {
+        return getGasPrice(getSnapshot());
+    }
+
+    /**
+     * Suggests a gas price with the latest snapshot asynchronously.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<BigInteger> suggestGasPriceAsync() {
+        return getSnapshotAsync().thenApply(this::getGasPrice);
+    }
+
+    /**
+     * Suggests a max priority fee per gas with the latest snapshot.
+     * @return BigInteger
+     * @throws IOException
+     */
+    public BigInteger suggestMaxPriorityFeePerGas() throws IOException {
+        return getMaxPriorityFeePerGas(getSnapshot());
+    }
+
+    /**
+     * Returns the gas price derived from the snapshot by the strategy. It is kept between the lower and upper bound gas prices.
+     * @param snapshot The snapshot to derive the gas price.
+     * @return BigInteger
+     */
+    public BigInteger getGasPrice(Snapshot snapshot) {
+        BigInteger gasPrice = strategy.getGasPrice(snapshot);
+        if(isBound(snapshot.getLowerBoundGasPrice()) && gasPrice.compareTo(snapshot.getLowerBoundGasPrice()) < 0) {
+            gasPrice = snapshot.getLowerBoundGasPrice();
+        }
+        if(isBound(snapshot.getUpperBoundGasPrice()) && gasPrice.compareTo(snapshot.getUpperBoundGasPrice()) > 0) {
+            gasPrice = snapshot.getUpperBoundGasPrice();
+        }
+        return gasPrice;
+    }
+
+    /**
+     * Returns the max priority fee per gas derived from the snapshot by the strategy.
+     * It is not greater than the gas price derived from the same snapshot.
+     * @param snapshot The snapshot to derive the max priority fee per gas.
+     * @return BigInteger
+     */
+    public BigInteger getMaxPriorityFeePerGas(Snapshot snapshot) {
+        return strategy.getMaxPriorityFeePerGas(snapshot).min(getGasPrice(snapshot));
+    }
+
+    /**
+     * Stops polling the block number. The last snapshot is still used to suggest fees until it is older than the max snapshot age.
+     */
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+    }
+
+    /**
+     * Getter function for strategy.
+     * @return Strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Getter function for pollingFrequency.
+     * @return long
+     */
+    public long getPollingFrequency() {
+        return pollingFrequency;
+    }
+
+    /**
+     * Getter function for historyBlockCount.
+     * @return int
+     */
+    public int getHistoryBlockCount() {
+        return historyBlockCount;
+    }
+
+    /**
+     * Getter function for rewardPercentiles.
+     * @return List
+     */
+    public List<Float> getRewardPercentiles() {
+        return rewardPercentiles;
+    }
+
+    /**
+     * Getter function for maxSnapshotAge.
+     * @return long
+     */
+    public long getMaxSnapshotAge() {
+        return maxSnapshotAge;
+    }
+
+    /**
+     * Getter function for refreshCount.
+     * @return long
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    private void startPolling() {
+        // The caller refreshes the snapshot if there is none, so the first poll waits for the polling frequency.
+        if(polling.compareAndSet(false, true)) {
+            schedulePoll(pollingFrequency);
+        }
+    }
+
+    private void schedulePoll(long delay) {
+        try {
+            scheduledExecutorService.schedule(this::pollBlockNumber, delay, TimeUnit.MILLISECONDS);
+        } catch(RejectedExecutionException e) {
+            // The oracle is closed.
+        }
+    }
+
+    private void pollBlockNumber() {
+        // A failed poll or refresh is retried at the next polling, because the snapshot stays behind the block number.
+        try {
+            klaytnCall.getBlockNumber().sendAsync().whenComplete((blockNumber, throwable) -> {
+                try {
+                    if(throwable == null && !blockNumber.hasError()) {
+                        refresh(blockNumber.getValue().longValue());
+                    }
+                } finally {
+                    schedulePoll(pollingFrequency);
+                }
+            });
+        } catch(RuntimeException e) {
+            schedulePoll(pollingFrequency);
+        }
+    }
+
+    private boolean isStale(Snapshot snapshot) {
+        return System.nanoTime() - snapshot.createdAt > TimeUnit.MILLISECONDS.toNanos(maxSnapshotAge);
+    }
+
+    /**
+     * Makes a snapshot of the given block if the latest snapshot is older than it.
+     */
+    private CompletableFuture<Snapshot> refresh(long blockNumber) {
+        synchronized(lock) {
+            if(refreshing != null && !refreshing.isDone()) {
+                return refreshing;
+            }
+
+            Snapshot current = snapshot;
+            if(current != null && current.blockNumber >= blockNumber) {
+                return CompletableFuture.completedFuture(current);
+            }
+            return startRefresh(fetchSnapshot(blockNumber));
+        }
+    }
+
+    /**
+     * Keeps the future of a refresh. It must be called while holding lock.
+     */
+    private CompletableFuture<Snapshot> startRefresh(CompletableFuture<Snapshot> fetched) {
+        refreshing = fetched.thenApply(this::update);
+        return refreshing;
+    }
+
+    private Snapshot update(Snapshot fetched) {
+        synchronized(lock) {
+            Snapshot current = snapshot;
+            if(current == null || fetched.blockNumber >= current.blockNumber) {
+                snapshot = fetched;
+            }
+        }
+        refreshCount.incrementAndGet();
+        return fetched;
+    }
+
+    private CompletableFuture<Snapshot> fetchSnapshot(long blockNumber) {
+        CompletableFuture<BigInteger> gasPrice = quantityOf(klaytnCall.getGasPrice());
+        CompletableFuture<BigInteger> maxPriorityFeePerGas = quantityOf(klaytnCall.getMaxPriorityFeePerGas());
+        CompletableFuture<FeeHistoryResult.FeeHistoryResultData> feeHistory = klaytnCall
+                .getFeeHistory(historyBlockCount, DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber)), rewardPercentiles)
+                .sendAsync()
+                .thenApply(FutureUtils::resultOf);
+        // A node which doesn't serve the bounds leaves the gas price unbounded.
+        CompletableFuture<BigInteger> lowerBoundGasPrice = quantityOf(klaytnCall.getLowerBoundGasPrice()).exceptionally(throwable -> null);
+        CompletableFuture<BigInteger> upperBoundGasPrice = quantityOf(klaytnCall.getUpperBoundGasPrice()).exceptionally(throwable -> null);
+
+        return CompletableFuture.allOf(gasPrice, maxPriorityFeePerGas, feeHistory, lowerBoundGasPrice, upperBoundGasPrice)
+                .thenApply(ignored -> new Snapshot(
+                        blockNumber,
+                        gasPrice.join(),
+                        maxPriorityFeePerGas.join(),
+                        feeHistory.join(),
+                        rewardPercentiles,
+                        lowerBoundGasPrice.join(),
+                        upperBoundGasPrice.join()
+                ));
+    }
+
+    private static CompletableFuture<BigInteger> quantityOf(Request<?, Quantity> request) {
+        return request.sendAsync().thenApply(response -> Numeric.decodeQuantity(FutureUtils.resultOf(response)));
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if(throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static boolean isBound(BigInteger bound) {
+        return bound != null && bound.signum() > 0;
+    }
+
+    private static List<Float> defaultPercentilesOf(Strategy strategy) {
+        if(!(strategy instanceof PercentileStrategy)) {
+            return DEFAULT_REWARD_PERCENTILES;
+        }
+
+        TreeSet<Float> percentiles = new TreeSet<>(DEFAULT_REWARD_PERCENTILES);
+        percentiles.add(((PercentileStrategy)strategy).getPercentile());
+        return new ArrayList<>(percentiles);
+    }
+
+    /**
+     * The fee data of a block.
+     */
+    public static class Snapshot {
+        private final long createdAt = System.nanoTime();
+        private final long blockNumber;
+        private final BigInteger gasPrice;
+        private final BigInteger maxPriorityFeePerGas;
+        private final BigInteger baseFee;
+        private final List<Float> rewardPercentiles;
+        private final List<BigInteger> rewards;
+        private final BigInteger lowerBoundGasPrice;
+        private final BigInteger upperBoundGasPrice;
+
+        Snapshot(long blockNumber, BigInteger gasPrice, BigInteger maxPriorityFeePerGas, FeeHistoryResult.FeeHistoryResultData feeHistory,
+                 List<Float> rewardPercentiles, BigInteger lowerBoundGasPrice, BigInteger upperBoundGasPrice) {
+            this.blockNumber = blockNumber;
+            this.gasPrice = gasPrice;
+            this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+            this.baseFee = nextBaseFeeOf(feeHistory);
+            this.rewardPercentiles = rewardPercentiles;
+            this.rewards = mediansOf(feeHistory, rewardPercentiles.size());
+            this.lowerBoundGasPrice = lowerBoundGasPrice;
+            this.upperBoundGasPrice = upperBoundGasPrice;
+        }
+
+        /**
+         * Returns the base fee of the block after the newest block of the fee history.
+         */
+        private static BigInteger nextBaseFeeOf(FeeHistoryResult.FeeHistoryResultData feeHistory) {
+            List<String> baseFeePerGas = feeHistory.getBaseFeePerGas();
+            if(baseFeePerGas == null || baseFeePerGas.isEmpty()) {
+                return BigInteger.ZERO;
+            }
+            return Numeric.decodeQuantity(baseFeePerGas.get(baseFeePerGas.size() - 1));
+        }
+
+        /**
+         * Returns the median of the priority fees of the blocks at each percentile.
+         */
+        private static List<BigInteger> mediansOf(FeeHistoryResult.FeeHistoryResultData feeHistory, int size) {
+            List<List<String>> reward = feeHistory.getReward();
+            List<BigInteger> medians = new ArrayList<>(size);
+            for(int i = 0; i < size; i++) {
+                List<BigInteger> fees = new ArrayList<>();
+                if(reward != null) {
+                    for(List<String> blockReward : reward) {
+                        if(blockReward != null && i < blockReward.size()) {
+                            fees.add(Numeric.decodeQuantity(blockReward.get(i)));
+                        }
+                    }
+                }
+
+                if(fees.isEmpty()) {
+                    medians.add(BigInteger.ZERO);
+                } else {
+                    Collections.sort(fees);
+                    medians.add(fees.get(fees.size() / 2));
+                }
+            }
+            return Collections.unmodifiableList(medians);
+        }
+
+        /**
+         * Getter function for blockNumber.
+         * @return BigInteger
+         */
+        public BigInteger getBlockNumber() {
+            return BigInteger.valueOf(blockNumber);
+        }
+
+        /**
+         * Returns the gas price suggested by "klay_gasPrice".
+         * @return BigInteger
+         */
+        public BigInteger getGasPrice() {
+            return gasPrice;
+        }
+
+        /**
+         * Returns the max priority fee per gas suggested by "klay_maxPriorityFeePerGas".
+         * @return BigInteger
+         */
+        public BigInteger getMaxPriorityFeePerGas() {
+            return maxPriorityFeePerGas;
+        }
+
+        /**
+         * Returns the base fee of the next block. It is zero before the Magma hard fork.
+         * @return BigInteger
+         */
+        public BigInteger getBaseFee() {
+            return baseFee;
+        }
+
+        /**
+         * Returns the median of the priority fees at the percentile over the blocks of the fee history.
+         * @param percentile One of the reward percentiles of the oracle.
+         * @return BigInteger
+         */
+        public BigInteger getReward(float percentile) {
+            int index = rewardPercentiles.indexOf(percentile);
+            if(index < 0) {
+                throw new IllegalArgumentException("The percentile " + percentile + " is not sampled.");
+            }
+            return rewards.get(index);
+        }
+
+        /**
+         * Returns the lower bound gas price.
+         * @return BigInteger. It returns null if the node doesn't serve "klay_lowerBoundGasPrice".
+         */
+        public BigInteger getLowerBoundGasPrice() {
+            return lowerBoundGasPrice;
+        }
+
+        /**
+         * Returns the upper bound gas price.
+         * @return BigInteger. It returns null if the node doesn't serve "klay_upperBoundGasPrice".
+         */
+        public BigInteger getUpperBoundGasPrice() {
+            return upperBoundGasPrice;
+        }
+    }
+
+    /**
+     * Derives fees of a transaction from a snapshot.
+     */
+    public interface Strategy {
+        /**
+         * Returns the gas price, which is also used as maxFeePerGas.
+         * @param snapshot The latest snapshot.
+         * @return BigInteger
+         */
+        BigInteger getGasPrice(Snapshot snapshot);
+
+        /**
+         * Returns the max priority fee per gas.
+         * @param snapshot The latest snapshot.
+         * @return BigInteger
+         */
+        BigInteger getMaxPriorityFeePerGas(Snapshot snapshot);
+    }
+
+    /**
+     * Uses the fees suggested by the node, which are the same as the fees filled without an oracle.
+     */
+    public static class SuggestedStrategy implements Strategy {
+        @Override
+        public BigInteger getGasPrice(Snapshot snapshot) {
+            return snapshot.getGasPrice();
+        }
+
+        @Override
+        public BigInteger getMaxPriorityFeePerGas(Snapshot snapshot) {
+            return snapshot.getMaxPriorityFeePerGas();
+        }
+    }
+
+    /**
+     * Uses fixed fees. The gas price is still kept between the bounds of the network.
+     */
+    public static class FixedStrategy implements Strategy {
+        private final BigInteger gasPrice;
+        private final BigInteger maxPriorityFeePerGas;
+
+        public FixedStrategy(BigInteger gasPrice, BigInteger maxPriorityFeePerGas) {
+            this.gasPrice = gasPrice;
+            this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        }
+
+        @Override
+        public BigInteger getGasPrice(Snapshot snapshot) {
+            return gasPrice;
+        }
+
+        @Override
+        public BigInteger getMaxPriorityFeePerGas(Snapshot snapshot) {
+            return maxPriorityFeePerGas;
+        }
+    }
+
+    /**
+     * Uses the base fee of the next block multiplied by the multiplier as the gas price.
+     * The suggested gas price is used before the Magma hard fork, where there is no base fee.
+     */
+    public static class BaseFeeMultiplierStrategy implements Strategy {
+        private final BigDecimal multiplier;
+
+        public BaseFeeMultiplierStrategy(double multiplier) {
+            if(multiplier < 1) {
+                throw new IllegalArgumentException("multiplier must not be less than 1.");
+            }
+            this.multiplier = BigDecimal.valueOf(multiplier);
+        }
+
+        @Override
+        public BigInteger getGasPrice(Snapshot snapshot) {
+            if(snapshot.getBaseFee().signum() == 0) {
+                return snapshot.getGasPrice();
+            }
+            return new BigDecimal(snapshot.getBaseFee()).multiply(multiplier).setScale(0, RoundingMode.CEILING).toBigIntegerExact();
+        }
+
+        @Override
+        public BigInteger getMaxPriorityFeePerGas(Snapshot snapshot) {
+            return snapshot.getMaxPriorityFeePerGas();
+        }
+    }
+
+    /**
+     * Uses the priority fee at the percentile of the recent blocks as the max priority fee per gas,
+     * and twice the base fee of the next block plus it as the gas price.
+     * The suggested gas price is used before the Magma hard fork, where there is no base fee.
+     */
+    public static class PercentileStrategy implements Strategy {
+        private final float percentile;
+
+        public PercentileStrategy(float percentile) {
+            if(percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100.");
+            }
+            this.percentile = percentile;
+        }
+
+        @Override
+        public BigInteger getGasPrice(Snapshot snapshot) {
+            if(snapshot.getBaseFee().signum() == 0) {
+                return snapshot.getGasPrice();
+            }
+            return snapshot.getBaseFee().shiftLeft(1).add(snapshot.getReward(percentile));
+        }
+
+        @Override
+        public BigInteger getMaxPriorityFeePerGas(Snapshot snapshot) {
+            return snapshot.getReward(percentile);
+        }
+
+        /**
+         * Getter function for percentile.
+         * @return float
+         */
+        public float getPercentile() {
+            return percentile;
+        }
+    }
+}
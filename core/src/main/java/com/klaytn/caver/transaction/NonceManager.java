@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction;
+
+import com.klaytn.caver.methods.response.Bytes32;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.utils.Utils;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allocates nonces of sender accounts locally.<p>
+ * The pending transaction count of an account is queried once when a nonce of the account is requested at first,
+ * and next nonces are allocated by increasing it locally. Each account has its own lock, so accounts don't block each other.<p>
+ * If a transaction using an allocated nonce is not sent, call {@link #release(String, BigInteger)} so that the nonce is reused by the next transaction.
+ * If a node rejects a transaction because of its nonce (e.g. "nonce too low", "known transaction"), call {@link #handleError(String, String)} to re-sync the account with the node.
+ * {@link #sendRawTransaction(AbstractTransaction)} does both automatically.<p>
+ * Set it in a transaction with {@link AbstractTransaction#setNonceManager(NonceManager)} so that {@link AbstractTransaction#fillTransaction()} allocates the nonce with it.
+ * <pre>Example :
+ * {@code
+ * NonceManager nonceManager = new NonceManager(caver.rpc.klay);
+ *
+ * ValueTransfer valueTransfer = caver.transaction.valueTransfer.create(...);
+ * nonceManager.fillNonce(valueTransfer);
+ * caver.wallet.sign(valueTransfer.getFrom(), valueTransfer);
+ *
+ * Bytes32 result = nonceManager.sendRawTransaction(valueTransfer);
+ * }
+ * </pre>
+ */
+public class NonceManager {
+    /**
+     * Error messages returned by a node when the nonce of a transaction is out of sync with the account's nonce.
+     */
+    static final String[] NONCE_ERROR_MESSAGES = {
+            "nonce too low",
+            "nonce too high",
+            "known transaction",
+            "same nonce",
+    };
+
+    /**
+     * Klay RPC instance
+     */
+    private final Klay klaytnCall;
+
+    /**
+     * The map where address and the nonce state of the account are mapped
+     */
+    private final Map<String, AccountNonce> accountNonceMap = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a NonceManager instance.
+     * @param klaytnCall Klay RPC instance to query the pending transaction count of an account.
+     */
+    public NonceManager(Klay klaytnCall) {
+        this.klaytnCall = klaytnCall;
+    }
+
+    /**
+     * Allocates a nonce of the account.<p>
+     * A released nonce is allocated first. Otherwise, it returns the next nonce of the last allocated one.
+     * @param address The address of the account.
+     * @return BigInteger
+     * @throws IOException
+     */
+    public BigInteger getNonce(String address) throws IOException {
+        AccountNonce accountNonce = getAccountNonce(address);
+
+        synchronized(accountNonce) {
+            if(accountNonce.next == null) {
+                accountNonce.synced = getPendingTransactionCount(address);
+                accountNonce.next = accountNonce.synced;
+            }
+
+            if(!accountNonce.released.isEmpty()) {
+                return accountNonce.released.pollFirst();
+            }
+
+            BigInteger nonce = accountNonce.next;
+            accountNonce.next = nonce.add(BigInteger.ONE);
+            return nonce;
+        }
+    }
+
+    /**
+     * Fills the nonce of the transaction with a nonce allocated for its "from" address.<p>
+     * It does nothing if the nonce of the transaction is already defined.
+     * @param transaction The transaction to fill nonce.
+     * @throws IOException
+     */
+    public void fillNonce(AbstractTransaction transaction) throws IOException {
+        if(transaction.getNonce().equals("0x")) {
+            transaction.setNonce(getNonce(transaction.getFrom()));
+        }
+    }
+
+    /**
+     * Returns an allocated nonce which is not used by a sent transaction.<p>
+     * The released nonce is allocated again before new nonces, so that there is no gap in the nonces of the account.
+     * A nonce below the pending transaction count of the last re-sync is ignored, because the node has already counted it.
+     * @param address The address of the account.
+     * @param nonce The nonce to release.
+     */
+    public void release(String address, BigInteger nonce) {
+        AccountNonce accountNonce = accountNonceMap.get(toKey(address));
+        if(accountNonce == null) {
+            return;
+        }
+
+        synchronized(accountNonce) {
+            if(accountNonce.next == null || nonce.compareTo(accountNonce.next) >= 0 || nonce.compareTo(accountNonce.synced) < 0) {
+                return;
+            }
+
+            accountNonce.released.add(nonce);
+
+            // Shrinks the allocated range when the released nonces are at the end of it.
+            BigInteger last = accountNonce.next.subtract(BigInteger.ONE);
+            while(accountNonce.released.remove(last)) {
+                accountNonce.next = last;
+                last = last.subtract(BigInteger.ONE);
+            }
+        }
+    }
+
+    /**
+     * Clears the nonce state of the account. The pending transaction count is queried again when a nonce of the account is requested.<p>
+     * The state is cleared in place under the lock of the account, so a thread allocating a nonce of the account at the same time
+     * doesn't allocate from the state before the reset.
+     * @param address The address of the account.
+     */
+    public void reset(String address) {
+        AccountNonce accountNonce = accountNonceMap.get(toKey(address));
+        if(accountNonce != null) {
+            accountNonce.reset();
+        }
+    }
+
+    /**
+     * Clears the nonce state of all accounts in the same way as {@link #reset(String)}.
+     */
+    public void resetAll() {
+        accountNonceMap.values().forEach(AccountNonce::reset);
+    }
+
+    /**
+     * Handles an error returned by a node when sending a transaction of the account.<p>
+     * If the error is caused by the nonce, it clears the nonce state of the account so that it is re-synced with the node.
+     * @param address The address of the account.
+     * @param errorMessage The error message returned by a node.
+     * @return boolean - true if the error is caused by the nonce.
+     */
+    public boolean handleError(String address, String errorMessage) {
+        if(!isNonceError(errorMessage)) {
+            return false;
+        }
+
+        reset(address);
+        return true;
+    }
+
+    /**
+     * Sends the signed transaction and updates the nonce state of the sender with the result.<p>
+     *   - If the transaction is rejected because of its nonce, the sender is re-synced with the node.
+     *   - If the transaction is rejected because of another reason, the nonce of the transaction is released.
+     * @param transaction The signed transaction to send.
+     * @return Bytes32 - The response of "klay_sendRawTransaction".
+     * @throws IOException
+     */
+    public Bytes32 sendRawTransaction(AbstractTransaction transaction) throws IOException {
+        Bytes32 response;
+        try {
+            response = klaytnCall.sendRawTransaction(transaction).send();
+        } catch(IOException e) {
+            // The transaction may have been delivered, so the state is re-synced instead of releasing the nonce.
+            reset(transaction.getFrom());
+            throw e;
+        }
+
+        if(response.hasError()) {
+            Response.Error error = response.getError();
+            if(!handleError(transaction.getFrom(), error.getMessage())) {
+                release(transaction.getFrom(), Numeric.toBigInt(transaction.getNonce()));
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Sends the signed transaction asynchronously and updates the nonce state of the sender with the result.<p>
+     * The nonce state is updated in the same way as {@link #sendRawTransaction(AbstractTransaction)}.
+     * @param transaction The signed transaction to send.
+     * @return CompletableFuture - The response of "klay_sendRawTransaction".
+     */
+    public CompletableFuture<Bytes32> sendRawTransactionAsync(AbstractTransaction transaction) {
+        return klaytnCall.sendRawTransaction(transaction).sendAsync().whenComplete((response, throwable) -> {
+            if(throwable != null) {
+                reset(transaction.getFrom());
+            } else if(response.hasError()) {
+                if(!handleError(transaction.getFrom(), response.getError().getMessage())) {
+                    release(transaction.getFrom(), Numeric.toBigInt(transaction.getNonce()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns true if the error message means that the nonce of a transaction is out of sync with the account's nonce.
+     * @param errorMessage The error message returned by a node.
+     * @return boolean
+     */
+    public static boolean isNonceError(String errorMessage) {
+        if(errorMessage == null) {
+            return false;
+        }
+
+        String message = errorMessage.toLowerCase();
+        for(String nonceErrorMessage : NONCE_ERROR_MESSAGES) {
+            if(message.contains(nonceErrorMessage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AccountNonce getAccountNonce(String address) {
+        return accountNonceMap.computeIfAbsent(toKey(address), key -> new AccountNonce());
+    }
+
+    private BigInteger getPendingTransactionCount(String address) throws IOException {
+        Quantity response = klaytnCall.getTransactionCount(address, DefaultBlockParameterName.PENDING).send();
+        if(response.hasError()) {
+            throw new IOException("Failed to get the transaction count of " + address + " : " + response.getError().getMessage());
+        }
+        return response.getValue();
+    }
+
+    private String toKey(String address) {
+        if(!Utils.isAddress(address)) {
+            throw new IllegalArgumentException("Invalid address. : " + address);
+        }
+        return Utils.addHexPrefix(address).toLowerCase();
+    }
+
+    /**
+     * The nonce state of an account.
+     */
+    private static class AccountNonce {
+        /**
+         * The next nonce to allocate. It is null until the account is synced with the node.
+         */
+        BigInteger next;
+
+        /**
+         * The pending transaction count of the account at the last sync. It is null until the account is synced with the node.
+         */
+        BigInteger synced;
+
+        /**
+         * The allocated nonces which are released without being used.
+         */
+        final TreeSet<BigInteger> released = new TreeSet<>();
+
+        /**
+         * Clears the state so that the account is synced with the node again at the next allocation.
+         */
+        synchronized void reset() {
+            next = null;
+            synced = null;
+            released.clear();
+        }
+    }
+}
@@ -17,66 +17,242 @@
 package com.klaytn.caver.transaction;
 
 import com.klaytn.caver.transaction.type.*;
+import com.klaytn.caver.utils.RlpReader;
+import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Decodes RLP-encoded transactions of any type.<p>
+ * The decoder of a transaction is looked up in a table indexed by the type byte of Klaytn transaction types,
+ * or by the second byte of Ethereum typed transactions wrapped in the envelope (0x78).
+ * An input that has no registered type is decoded as {@link LegacyTransaction}.
+ * New transaction types can be added with {@link #register(int, Decoder)}.
+ */
 public class TransactionDecoder {
+    /**
+     * The first byte of Ethereum typed transactions in Klaytn.
+     */
+    public static final int ETHEREUM_TX_TYPE_ENVELOPE = TransactionType.TxTypeEthereumAccessList.getType() >> 8;
+
+    /**
+     * A function that decodes a transaction of a type from a buffer.
+     */
+    @FunctionalInterface
+    public interface Decoder {
+        /**
+         * Decodes a transaction from the current position of the buffer, and moves the position to the end of the transaction.
+         * @param rlpEncoded The buffer containing a RLP-encoded transaction.
+         * @return AbstractTransaction
+         */
+        AbstractTransaction decode(ByteBuffer rlpEncoded);
+    }
+
+    // The tables are replaced as a whole when a type is registered, so decoding reads them without locks.
+    private static volatile Decoder[] klaytnDecoders = new Decoder[256];
+    private static volatile Decoder[] ethereumDecoders = new Decoder[256];
+
+    static {
+        register(TransactionType.TxTypeValueTransfer.getType(), ValueTransfer::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransfer.getType(), FeeDelegatedValueTransfer::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType(), FeeDelegatedValueTransferWithRatio::decode);
+
+        register(TransactionType.TxTypeValueTransferMemo.getType(), ValueTransferMemo::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransferMemo.getType(), FeeDelegatedValueTransferMemo::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio.getType(), FeeDelegatedValueTransferMemoWithRatio::decode);
+
+        register(TransactionType.TxTypeAccountUpdate.getType(), AccountUpdate::decode);
+        register(TransactionType.TxTypeFeeDelegatedAccountUpdate.getType(), FeeDelegatedAccountUpdate::decode);
+        register(TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType(), FeeDelegatedAccountUpdateWithRatio::decode);
+
+        register(TransactionType.TxTypeSmartContractDeploy.getType(), SmartContractDeploy::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType(), FeeDelegatedSmartContractDeploy::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType(), FeeDelegatedSmartContractDeployWithRatio::decode);
+
+        register(TransactionType.TxTypeSmartContractExecution.getType(), SmartContractExecution::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractExecution.getType(), FeeDelegatedSmartContractExecution::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType(), FeeDelegatedSmartContractExecutionWithRatio::decode);
+
+        register(TransactionType.TxTypeCancel.getType(), Cancel::decode);
+        register(TransactionType.TxTypeFeeDelegatedCancel.getType(), FeeDelegatedCancel::decode);
+        register(TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType(), FeeDelegatedCancelWithRatio::decode);
+
+        register(TransactionType.TxTypeChainDataAnchoring.getType(), ChainDataAnchoring::decode);
+        register(TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType(), FeeDelegatedChainDataAnchoring::decode);
+        register(TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType(), FeeDelegatedChainDataAnchoringWithRatio::decode);
+
+        register(TransactionType.TxTypeEthereumAccessList.getType(), EthereumAccessList::decode);
+        register(TransactionType.TxTypeEthereumDynamicFee.getType(), EthereumDynamicFee::decode);
+    }
+
+    /**
+     * Registers the decoder of a transaction type. The decoder of the type registered before is replaced.
+     * @param type The transaction type. It is a byte for Klaytn transaction types, or 0x78XX for Ethereum typed transactions.
+     * @param decoder The decoder of the type.
+     */
+    public static synchronized void register(int type, Decoder decoder) {
+        setDecoder(type, decoder);
+    }
+
+    /**
+     * Removes the decoder of a transaction type. An input of the type is decoded as {@link LegacyTransaction} after that.
+     * @param type The transaction type. It is a byte for Klaytn transaction types, or 0x78XX for Ethereum typed transactions.
+     */
+    public static synchronized void unregister(int type) {
+        setDecoder(type, null);
+    }
+
+    /**
+     * Replaces the decoder of a transaction type. It must be called while holding the class lock.
+     */
+    private static void setDecoder(int type, Decoder decoder) {
+        if((type >> 8) == ETHEREUM_TX_TYPE_ENVELOPE && type <= 0xffff) {
+            Decoder[] decoders = Arrays.copyOf(ethereumDecoders, 256);
+            decoders[type & 0xff] = decoder;
+            ethereumDecoders = decoders;
+        } else if(type > 0 && type < 0xc0 && type != ETHEREUM_TX_TYPE_ENVELOPE) {
+            // A first byte of 0xc0 or more is the list prefix of a legacy transaction.
+            Decoder[] decoders = Arrays.copyOf(klaytnDecoders, 256);
+            decoders[type] = decoder;
+            klaytnDecoders = decoders;
+        } else {
+            throw new IllegalArgumentException("Invalid transaction type: " + type);
+        }
+    }
+
     /**
      * Decodes a RLP-encoded transaction and returns it with matching type of transaction
      * @param rlpEncoded RLP-encoded transaction
      * @return AbstractTransaction
      */
     public static AbstractTransaction decode(String rlpEncoded) {
-        byte[] rlpBytes = Numeric.hexStringToByteArray(rlpEncoded);
-
-        if(rlpBytes[0] == TransactionType.TxTypeValueTransfer.getType()) {
-            return ValueTransfer.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeValueTransferMemo.getType()) {
-            return ValueTransferMemo.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeSmartContractDeploy.getType()) {
-            return SmartContractDeploy.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeSmartContractExecution.getType()) {
-            return SmartContractExecution.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeAccountUpdate.getType()) {
-            return AccountUpdate.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeCancel.getType()) {
-            return Cancel.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeChainDataAnchoring.getType()) {
-            return ChainDataAnchoring.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransfer.getType()) {
-            return FeeDelegatedValueTransfer.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferMemo.getType()) {
-            return FeeDelegatedValueTransferMemo.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()) {
-            return FeeDelegatedSmartContractDeploy.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractExecution.getType()){
-            return FeeDelegatedSmartContractExecution.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()) {
-            return FeeDelegatedAccountUpdate.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedCancel.getType()) {
-            return FeeDelegatedCancel.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
-            return FeeDelegatedChainDataAnchoring.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType()) {
-            return FeeDelegatedCancelWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType()) {
-            return FeeDelegatedChainDataAnchoringWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
-            return FeeDelegatedAccountUpdateWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType()) {
-            return FeeDelegatedValueTransferWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()) {
-            return FeeDelegatedSmartContractExecutionWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio.getType()) {
-            return FeeDelegatedValueTransferMemoWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
-            return FeeDelegatedSmartContractDeployWithRatio.decode(rlpBytes);
-        } else if ((rlpBytes[0] << 8 | rlpBytes[1]) == TransactionType.TxTypeEthereumAccessList.getType()) {
-            return EthereumAccessList.decode(rlpBytes);
-        } else if ((rlpBytes[0] << 8 | rlpBytes[1]) == TransactionType.TxTypeEthereumDynamicFee.getType()) {
-            return EthereumDynamicFee.decode(rlpBytes);
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded transaction and returns it with matching type of transaction
+     * @param rlpEncoded RLP-encoded transaction byte array
+     * @return AbstractTransaction
+     */
+    public static AbstractTransaction decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded transaction from the given buffer and returns it with matching type of transaction.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction,
+     * so several transactions stored in a row can be decoded one after another without copying.
+     * @param rlpEncoded The buffer containing RLP-encoded transaction
+     * @return AbstractTransaction
+     */
+    public static AbstractTransaction decode(ByteBuffer rlpEncoded) {
+        Decoder decoder = findDecoder(rlpEncoded);
+        if(decoder == null) {
+            return LegacyTransaction.decode(rlpEncoded);
+        }
+        return decoder.decode(rlpEncoded);
+    }
+
+    /**
+     * Returns the type of a RLP-encoded transaction by reading its first bytes.
+     * @param rlpEncoded RLP-encoded transaction
+     * @return int - The transaction type. It is {@link TransactionType#TxTypeLegacyTransaction} for a legacy transaction.
+     */
+    public static int peekType(String rlpEncoded) {
+        return peekType(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Returns the type of a RLP-encoded transaction by reading its first bytes.
+     * @param rlpEncoded RLP-encoded transaction byte array
+     * @return int - The transaction type. It is {@link TransactionType#TxTypeLegacyTransaction} for a legacy transaction.
+     */
+    public static int peekType(byte[] rlpEncoded) {
+        return peekType(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Returns the type of a RLP-encoded transaction at the current position of the buffer by reading its first bytes.<p>
+     * The position of the buffer is not changed.
+     * @param rlpEncoded The buffer containing RLP-encoded transaction
+     * @return int - The transaction type. It is {@link TransactionType#TxTypeLegacyTransaction} for a legacy transaction.
+     */
+    public static int peekType(ByteBuffer rlpEncoded) {
+        if(!rlpEncoded.hasRemaining()) {
+            throw new IllegalArgumentException("Invalid RLP-encoded transaction: it is empty.");
+        }
+
+        int offset = rlpEncoded.position();
+        int type = rlpEncoded.get(offset) & 0xff;
+        if(type == ETHEREUM_TX_TYPE_ENVELOPE && rlpEncoded.remaining() > 1) {
+            return type << 8 | (rlpEncoded.get(offset + 1) & 0xff);
+        }
+        if(type >= 0xc0) {
+            return TransactionType.TxTypeLegacyTransaction.getType();
         }
-        else {
-            return LegacyTransaction.decode(rlpBytes);
+        return type;
+    }
+
+    /**
+     * Returns the transaction hash of a RLP-encoded transaction without decoding it.
+     * @param rlpEncoded RLP-encoded transaction
+     * @return String
+     */
+    public static String peekHash(String rlpEncoded) {
+        return peekHash(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Returns the transaction hash of a RLP-encoded transaction without decoding it.
+     * @param rlpEncoded RLP-encoded transaction byte array
+     * @return String
+     */
+    public static String peekHash(byte[] rlpEncoded) {
+        return peekHash(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Returns the transaction hash of a RLP-encoded transaction at the current position of the buffer without decoding it.<p>
+     * Only the headers are read to find the end of the transaction, and the position of the buffer is not changed.
+     * @param rlpEncoded The buffer containing RLP-encoded transaction
+     * @return String
+     */
+    public static String peekHash(ByteBuffer rlpEncoded) {
+        int type = peekType(rlpEncoded);
+
+        RlpReader reader = new RlpReader(rlpEncoded);
+        int start = rlpEncoded.position();
+        if(type > 0xff) {
+            // The hash of an Ethereum typed transaction doesn't include the envelope byte.
+            reader.readRawByte();
+            start++;
+            reader.readRawByte();
+        } else if(type != TransactionType.TxTypeLegacyTransaction.getType()) {
+            reader.readRawByte();
+        }
+        reader.skip();
+        int length = reader.position() - start;
+
+        byte[] hash;
+        if(rlpEncoded.hasArray()) {
+            hash = Hash.sha3(rlpEncoded.array(), rlpEncoded.arrayOffset() + start, length);
+        } else {
+            byte[] bytes = new byte[length];
+            ByteBuffer slice = rlpEncoded.duplicate();
+            slice.position(start);
+            slice.get(bytes);
+            hash = Hash.sha3(bytes);
+        }
+        return Numeric.toHexString(hash);
+    }
+
+    private static Decoder findDecoder(ByteBuffer rlpEncoded) {
+        int type = peekType(rlpEncoded);
+        if(type > 0xff) {
+            return ethereumDecoders[type & 0xff];
         }
+        return klaytnDecoders[type];
     }
 }
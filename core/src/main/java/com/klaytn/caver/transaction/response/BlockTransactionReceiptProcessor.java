@@ -0,0 +1,370 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.response;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.BlockTransactionReceipts;
+import com.klaytn.caver.methods.response.NewHeadsNotification;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
+import org.web3j.utils.Numeric;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction receipt processor that fetches the receipts of each new block at once.<p>
+ * Instead of requesting a receipt per transaction hash, it watches new blocks by subscribing "newHeads" or by polling the block number,
+ * fetches all receipts of a block with "klay_getBlockReceipts" and completes the futures of pending transactions included in the block.
+ * So the number of requests depends on the number of blocks, not on the number of pending transactions.<p>
+ * A receipt is looked up once when a transaction hash is registered, because the transaction may have been already included in a processed block.
+ * If the lookup fails with an IOException, it is retried with the next new block.
+ * If the "newHeads" subscription is terminated, the processor is stopped and the futures of pending transactions are completed with a TransactionException.
+ * If a receipt of a transaction is not found within the given number of blocks, its future is completed with a TransactionException.
+ * <pre>Example :
+ * {@code
+ * // Polling the block number over HTTP
+ * BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, 1000, 15);
+ *
+ * // Subscribing "newHeads" over WebSocket
+ * BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, caver.rpc.klay.subscribeFlowable("newHeads"), 15);
+ *
+ * CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash);
+ * processor.close();
+ * }
+ * </pre>
+ */
+public class BlockTransactionReceiptProcessor extends TransactionReceiptProcessor implements Closeable {
+    public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+    public static final int DEFAULT_BLOCK_TIMEOUT = 15;
+
+    private final Caver caver;
+    private final int blockTimeout;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final Disposable subscription;
+
+    /**
+     * The map where a transaction hash and its pending state are mapped.
+     */
+    private final Map<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+
+    /**
+     * The number of the last processed block. It is only accessed in the thread of scheduledExecutorService.
+     */
+    private BigInteger lastProcessedBlock;
+
+    /**
+     * The number of the last processed block which is visible to registering threads.
+     */
+    private volatile BigInteger currentBlock;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a BlockTransactionReceiptProcessor instance which watches new blocks by polling the block number.
+     * @param caver The Caver instance.
+     * @param pollingFrequency The interval in milliseconds to poll the block number.
+     * @param blockTimeout The number of blocks to wait for a receipt of a transaction.
+     */
+    public BlockTransactionReceiptProcessor(Caver caver, long pollingFrequency, int blockTimeout) {
+        super(caver);
+        this.caver = caver;
+        this.blockTimeout = blockTimeout;
+        this.scheduledExecutorService = createExecutorService();
+        this.subscription = null;
+
+        scheduledExecutorService.scheduleWithFixedDelay(
+                this::pollBlockNumber,
+                0, pollingFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a BlockTransactionReceiptProcessor instance which watches new blocks by polling the block number.<p>
+     * It uses {@link #DEFAULT_POLLING_FREQUENCY} and {@link #DEFAULT_BLOCK_TIMEOUT}.
+     * @param caver The Caver instance.
+     */
+    public BlockTransactionReceiptProcessor(Caver caver) {
+        this(caver, DEFAULT_POLLING_FREQUENCY, DEFAULT_BLOCK_TIMEOUT);
+    }
+
+    /**
+     * Creates a BlockTransactionReceiptProcessor instance which watches new blocks with "newHeads" notifications.<p>
+     * Blocks are processed in a separate thread, so requests are not sent in the thread delivering notifications.
+     * @param caver The Caver instance.
+     * @param newHeads The flowable returned by {@code caver.rpc.klay.subscribeFlowable("newHeads")}.
+     * @param blockTimeout The number of blocks to wait for a receipt of a transaction.
+     */
+    public BlockTransactionReceiptProcessor(Caver caver, Flowable<NewHeadsNotification> newHeads, int blockTimeout) {
+        super(caver);
+        this.caver = caver;
+        this.blockTimeout = blockTimeout;
+        this.scheduledExecutorService = createExecutorService();
+
+        this.subscription = newHeads.subscribe(notification -> {
+            Block.BlockData header = notification.getParams().getResult();
+            BigInteger number = Numeric.decodeQuantity(header.getNumber());
+            String hash = header.getHash();
+
+            scheduledExecutorService.execute(() -> processBlocks(number, hash));
+        }, error -> stop("The newHeads subscription failed: " + error.getMessage()),
+                () -> stop("The newHeads subscription is completed"));
+    }
+
+    /**
+     * Waits for a receipt of the transaction until it is included in a block or the block timeout is passed.
+     * @param transactionHash The transaction hash.
+     * @return TransactionReceipt.TransactionReceiptData
+     * @throws IOException
+     * @throws TransactionException
+     */
+    @Override
+    public TransactionReceipt.TransactionReceiptData waitForTransactionReceipt(String transactionHash) throws IOException, TransactionException {
+        try {
+            return waitForTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof TransactionException) {
+                throw (TransactionException)cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    /**
+     * Registers the transaction hash and returns a future which is completed with its receipt.<p>
+     * The future is completed exceptionally with a TransactionException when the receipt is not found within the block timeout.
+     * If the same transaction hash is already registered, the existing future is returned.
+     * @param transactionHash The transaction hash.
+     * @return CompletableFuture
+     */
+    @Override
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        if(closed) {
+            throw new IllegalStateException("The processor is already closed.");
+        }
+
+        String key = transactionHash.toLowerCase();
+        PendingTransaction newEntry = new PendingTransaction(transactionHash, currentBlock);
+        PendingTransaction entry = pendingTransactions.putIfAbsent(key, newEntry);
+        if(entry != null) {
+            return entry.future;
+        }
+
+        // The transaction may have been included in a block processed before it is registered.
+        CompletableFuture.runAsync(() -> checkTransactionReceipt(key, newEntry), Async.defaultExecutorService());
+        return newEntry.future;
+    }
+
+    /**
+     * Returns the number of transactions waiting for their receipts.
+     * @return int
+     */
+    public int getPendingCount() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * Stops watching new blocks. Futures of pending transactions are completed with a TransactionException.
+     */
+    @Override
+    public void close() {
+        if(subscription != null) {
+            subscription.dispose();
+        }
+        stop("The processor is closed");
+    }
+
+    /**
+     * Stops processing blocks and completes the futures of pending transactions with a TransactionException.<p>
+     * It is also called when the "newHeads" subscription is terminated, because no more blocks are delivered after that.
+     * @param reason The reason why the processor is stopped.
+     */
+    private void stop(String reason) {
+        closed = true;
+        scheduledExecutorService.shutdownNow();
+
+        for(Map.Entry<String, PendingTransaction> entry : pendingTransactions.entrySet()) {
+            if(pendingTransactions.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().future.completeExceptionally(new TransactionException(
+                        reason + " before the receipt of " + entry.getValue().transactionHash + " is found.",
+                        entry.getValue().transactionHash));
+            }
+        }
+    }
+
+    private void pollBlockNumber() {
+        try {
+            Quantity blockNumber = caver.rpc.klay.getBlockNumber().send();
+            if(blockNumber.hasError()) {
+                return;
+            }
+            processBlocks(blockNumber.getValue(), null);
+        } catch (Exception e) {
+            // An exception stops a periodic task, so it is retried at the next polling.
+        }
+    }
+
+    /**
+     * Processes blocks from the next one of the last processed block to the given latest block.<p>
+     * If a request fails, it stops and the remaining blocks are processed with the next new block.
+     * @param latestBlock The latest block number.
+     * @param latestBlockHash The hash of the latest block. It can be null.
+     */
+    private void processBlocks(BigInteger latestBlock, String latestBlockHash) {
+        recheckTransactionReceipts();
+
+        BigInteger from = (lastProcessedBlock == null) ? latestBlock : lastProcessedBlock.add(BigInteger.ONE);
+
+        for(BigInteger number = from; number.compareTo(latestBlock) <= 0; number = number.add(BigInteger.ONE)) {
+            if(!pendingTransactions.isEmpty()) {
+                String blockHash = number.equals(latestBlock) ? latestBlockHash : null;
+                try {
+                    processBlock(number, blockHash);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+
+            lastProcessedBlock = number;
+            currentBlock = number;
+            expirePendingTransactions(number);
+        }
+    }
+
+    private void processBlock(BigInteger blockNumber, String blockHash) throws IOException {
+        if(blockHash == null) {
+            Block block = caver.rpc.klay.getBlockByNumber(new DefaultBlockParameterNumber(blockNumber)).send();
+            if(block.hasError() || block.getResult() == null) {
+                throw new IOException("Failed to get the block " + blockNumber);
+            }
+            blockHash = block.getResult().getHash();
+        }
+
+        BlockTransactionReceipts receipts = caver.rpc.klay.getBlockReceipts(blockHash).send();
+        if(receipts.hasError() || receipts.getResult() == null) {
+            throw new IOException("Failed to get the receipts of the block " + blockNumber);
+        }
+
+        List<TransactionReceipt.TransactionReceiptData> receiptList = receipts.getResult();
+        for(TransactionReceipt.TransactionReceiptData receipt : receiptList) {
+            PendingTransaction entry = pendingTransactions.remove(receipt.getTransactionHash().toLowerCase());
+            if(entry != null) {
+                entry.future.complete(receipt);
+            }
+        }
+    }
+
+    private void expirePendingTransactions(BigInteger blockNumber) {
+        for(Map.Entry<String, PendingTransaction> entry : pendingTransactions.entrySet()) {
+            PendingTransaction pending = entry.getValue();
+            if(pending.registeredBlock == null) {
+                // Registered before the first block is processed, so the timeout starts from this block.
+                pending.registeredBlock = blockNumber;
+                continue;
+            }
+
+            if(blockNumber.subtract(pending.registeredBlock).compareTo(BigInteger.valueOf(blockTimeout)) >= 0
+                    && pendingTransactions.remove(entry.getKey(), pending)) {
+                pending.future.completeExceptionally(new TransactionException(
+                        "No transaction receipt for txHash: " + pending.transactionHash
+                                + " received after " + blockTimeout + " blocks", pending.transactionHash));
+            }
+        }
+    }
+
+    /**
+     * Looks up the receipts of transactions whose lookup at registration failed with an IOException.
+     */
+    private void recheckTransactionReceipts() {
+        for(Map.Entry<String, PendingTransaction> entry : pendingTransactions.entrySet()) {
+            if(entry.getValue().recheck) {
+                entry.getValue().recheck = false;
+                checkTransactionReceipt(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void checkTransactionReceipt(String key, PendingTransaction entry) {
+        try {
+            Optional<TransactionReceipt.TransactionReceiptData> receipt = sendTransactionReceiptRequest(entry.transactionHash);
+            if(receipt.isPresent() && pendingTransactions.remove(key, entry)) {
+                entry.future.complete(receipt.get());
+            }
+        } catch (IOException e) {
+            // A transient failure, so the transaction is kept registered and looked up again with the next new block.
+            entry.recheck = true;
+        } catch (TransactionException e) {
+            if(pendingTransactions.remove(key, entry)) {
+                entry.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static ScheduledExecutorService createExecutorService() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-block-receipt-processor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The state of a transaction waiting for its receipt.
+     */
+    private static class PendingTransaction {
+        final String transactionHash;
+        final CompletableFuture<TransactionReceipt.TransactionReceiptData> future = new CompletableFuture<>();
+
+        /**
+         * The last processed block number when the transaction is registered.
+         */
+        volatile BigInteger registeredBlock;
+
+        /**
+         * Whether the receipt lookup at registration failed and has to be retried.
+         */
+        volatile boolean recheck;
+
+        PendingTransaction(String transactionHash, BigInteger registeredBlock) {
+            this.transactionHash = transactionHash;
+            this.registeredBlock = registeredBlock;
+        }
+    }
+}
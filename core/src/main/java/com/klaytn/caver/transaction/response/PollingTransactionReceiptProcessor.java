@@ -22,11 +22,24 @@ import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
- * With each provided transaction hash, poll until we obtain a transaction object.
+ * With each provided transaction hash, poll until we obtain a transaction object.<p>
+ * {@link #waitForTransactionReceiptAsync(String)} schedules each poll on a shared timer thread instead of sleeping,
+ * so waiting transactions don't hold a thread.
  */
 public class PollingTransactionReceiptProcessor extends TransactionReceiptProcessor{
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "caver-polling-receipt-processor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final long sleepDuration;
     private final int attempts;
 
@@ -41,6 +54,36 @@ public class PollingTransactionReceiptProcessor extends TransactionReceiptProces
         return getTransactionReceipt(transactionHash, sleepDuration, attempts);
     }
 
+    @Override
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = new CompletableFuture<>();
+        pollTransactionReceipt(transactionHash, 0, future);
+        return future;
+    }
+
+    private void pollTransactionReceipt(String transactionHash, int attempt, CompletableFuture<TransactionReceipt.TransactionReceiptData> future) {
+        if(future.isDone()) {
+            return;
+        }
+
+        sendTransactionReceiptRequestAsync(transactionHash).whenComplete((transactionReceipt, throwable) -> {
+            if(throwable != null) {
+                future.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+            } else if(transactionReceipt.hasError()) {
+                future.completeExceptionally(new TransactionException("Error processing request: "
+                        + transactionReceipt.getError().getMessage()));
+            } else if(transactionReceipt.getResult() != null) {
+                future.complete(transactionReceipt.getResult());
+            } else if(attempt >= attempts) {
+                future.completeExceptionally(new TransactionException("Transaction receipt was not generated after "
+                        + ((sleepDuration * attempts) / 1000
+                        + " seconds for transaction: " + transactionHash), transactionHash));
+            } else {
+                SCHEDULER.schedule(() -> pollTransactionReceipt(transactionHash, attempt + 1, future), sleepDuration, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
     private TransactionReceipt.TransactionReceiptData getTransactionReceipt(
             String transactionHash, long sleepDuration, int attempts)
             throws IOException, TransactionException {
@@ -24,8 +24,12 @@ import org.web3j.protocol.exceptions.TransactionException;
 import org.web3j.utils.Async;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -75,11 +79,18 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
     }
 
     private void sendTransactionReceiptRequests() {
+        // Requests are sent concurrently, so they are coalesced into a batch when the service is a BatchingWeb3jService.
+        Map<RequestWrapper, CompletableFuture<TransactionReceipt>> responses = new LinkedHashMap<>();
         for (RequestWrapper requestWrapper : pendingTransactions) {
+            responses.put(requestWrapper, sendTransactionReceiptRequestAsync(requestWrapper.getTransactionHash()));
+        }
+
+        for (Map.Entry<RequestWrapper, CompletableFuture<TransactionReceipt>> entry : responses.entrySet()) {
+            RequestWrapper requestWrapper = entry.getKey();
             try {
                 String transactionHash = requestWrapper.getTransactionHash();
                 Optional<TransactionReceipt.TransactionReceiptData> transactionReceipt =
-                        sendTransactionReceiptRequest(transactionHash);
+                        getTransactionReceipt(entry.getValue());
                 if (transactionReceipt.isPresent()) {
                     callback.accept(transactionReceipt.get());
                     pendingTransactions.remove(requestWrapper);
@@ -100,6 +111,27 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
         }
     }
 
+    private Optional<TransactionReceipt.TransactionReceiptData> getTransactionReceipt(CompletableFuture<TransactionReceipt> future) throws IOException, TransactionException {
+        TransactionReceipt transactionReceipt;
+        try {
+            transactionReceipt = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new TransactionException(e.getCause());
+        }
+
+        if (transactionReceipt.hasError()) {
+            throw new TransactionException("Error processing request: "
+                    + transactionReceipt.getError().getMessage());
+        }
+        return Optional.ofNullable(transactionReceipt.getResult());
+    }
+
     /**
      * Java doesn't provide a concurrent linked hash set, so we use a simple wrapper to store
      * details of the number of requests we've made against this specific transaction hash. This
@@ -19,9 +19,12 @@ package com.klaytn.caver.transaction.response;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Abstraction for managing how we wait for transaction receipts to be generated on the network.
@@ -36,6 +39,23 @@ public abstract class TransactionReceiptProcessor {
     public abstract TransactionReceipt.TransactionReceiptData waitForTransactionReceipt(String transactionHash)
             throws IOException, TransactionException;
 
+    /**
+     * Returns a future which is completed with a receipt of the transaction.<p>
+     * By default, it runs {@link #waitForTransactionReceipt(String)} in a pooled thread.
+     * Processors which can wait without blocking a thread override it.
+     * @param transactionHash The transaction hash.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return waitForTransactionReceipt(transactionHash);
+            } catch(IOException | TransactionException e) {
+                throw new CompletionException(e);
+            }
+        }, Async.defaultExecutorService());
+    }
+
     Optional<TransactionReceipt.TransactionReceiptData> sendTransactionReceiptRequest(String transactionHash) throws IOException, TransactionException{
         TransactionReceipt transactionReceipt = caver.rpc.klay.getTransactionReceipt(transactionHash).send();
         if(transactionReceipt.hasError()) {
@@ -45,4 +65,8 @@ public abstract class TransactionReceiptProcessor {
 
         return Optional.ofNullable(transactionReceipt.getResult());
     }
+
+    CompletableFuture<TransactionReceipt> sendTransactionReceiptRequestAsync(String transactionHash) {
+        return caver.rpc.klay.getTransactionReceipt(transactionHash).sendAsync();
+    }
 }
@@ -21,7 +21,8 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.rlp.*;
@@ -29,8 +30,8 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -147,6 +148,7 @@ public class Cancel extends AbstractTransaction implements ITransactionWithGasPr
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -173,24 +175,32 @@ public class Cancel extends AbstractTransaction implements ITransactionWithGasPr
      * @return Cancel
      */
     public static Cancel decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded Cancel from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded Cancel.
+     * @return Cancel
+     */
+    public static Cancel decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeCancel.getType()) {
+        RlpReader reader = new RlpReader(rlpEncoded);
+        if(reader.readRawByte() != TransactionType.TxTypeCancel.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeCancel.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
+        reader.enterList();
 
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        String nonce = reader.readQuantity();
+        String gasPrice = reader.readQuantity();
+        String gas = reader.readQuantity();
+        String from = reader.readHexString();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-
-        List<RlpType> senderSignatures = ((RlpList) (values.get(4))).getValues();
-        List<SignatureData> signatureDataList = SignatureData.decodeSignatures(senderSignatures);
+        List<SignatureData> signatureDataList = SignatureData.decodeSignatures(reader);
+        reader.exitList();
+        reader.finish();
 
         Cancel cancel = new Cancel.Builder()
                 .setNonce(nonce)
@@ -209,27 +219,27 @@ public class Cancel extends AbstractTransaction implements ITransactionWithGasPr
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         this.validateOptionalValues(false);
 
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures])
-        List<RlpType> signatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            signatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(new RlpList(signatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeCancel.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
 
-        return Numeric.toHexString(rawTx);
+        writer.writeRawByte(TransactionType.TxTypeCancel.getType());
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getFrom());
+        SignatureData.encodeSignatures(this.getSignatures(), writer);
+        writer.endList();
     }
 
     /**
@@ -21,7 +21,8 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.rlp.*;
@@ -29,8 +30,8 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -162,6 +163,7 @@ public class ChainDataAnchoring extends AbstractTransaction implements ITransact
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -188,25 +190,33 @@ public class ChainDataAnchoring extends AbstractTransaction implements ITransact
      * @return ChainDataAnchoring
      */
     public static ChainDataAnchoring decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded ChainDataAnchoring from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded ChainDataAnchoring.
+     * @return ChainDataAnchoring
+     */
+    public static ChainDataAnchoring decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, anchoredData, txSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeChainDataAnchoring.getType()) {
+        RlpReader reader = new RlpReader(rlpEncoded);
+        if(reader.readRawByte() != TransactionType.TxTypeChainDataAnchoring.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeChainDataAnchoring.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        reader.enterList();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        String input = ((RlpString) values.get(4)).asString();
+        String nonce = reader.readQuantity();
+        String gasPrice = reader.readQuantity();
+        String gas = reader.readQuantity();
+        String from = reader.readHexString();
+        String input = reader.readHexString();
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(5))).getValues();
-        List<SignatureData> signatureDataList = SignatureData.decodeSignatures(senderSignatures);
+        List<SignatureData> signatureDataList = SignatureData.decodeSignatures(reader);
+        reader.exitList();
+        reader.finish();
 
         ChainDataAnchoring chainDataAnchoring = new ChainDataAnchoring.Builder()
                 .setNonce(nonce)
@@ -226,29 +236,28 @@ public class ChainDataAnchoring extends AbstractTransaction implements ITransact
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, anchoredData, txSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> signatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            signatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(new RlpList(signatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeChainDataAnchoring.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
+        writer.writeRawByte(TransactionType.TxTypeChainDataAnchoring.getType());
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
 
-        return Numeric.toHexString(rawTx);
+        writer.writeHexBytes(this.getFrom());
+        writer.writeHexBytes(this.getInput());
+        SignatureData.encodeSignatures(this.getSignatures(), writer);
+        writer.endList();
     }
 
     /**
@@ -385,5 +394,6 @@ public class ChainDataAnchoring extends AbstractTransaction implements ITransact
         }
 
         this.input = Numeric.prependHexPrefix(input);
+        invalidateCache();
     }
 }
@@ -21,6 +21,8 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.*;
 import com.klaytn.caver.transaction.utils.AccessList;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
@@ -31,9 +33,11 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -202,26 +206,32 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         // TransactionPayload = 0x7801 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        writer.writeRawByte(TransactionType.TxTypeEthereumAccessList.getType() >> 8);
+        writer.writeRawByte(TransactionType.TxTypeEthereumAccessList.getType());
+        writer.startList();
+        writer.writeQuantity(this.getChainId());
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getTo());
+        writer.writeQuantity(this.getValue());
+        writer.writeHexBytes(this.getInput());
+        this.getAccessList().encodeTo(writer);
         SignatureData signatureData = this.getSignatures().get(0);
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = Numeric.toBytesPadded(BigInteger.valueOf(TransactionType.TxTypeEthereumAccessList.getType()), 2);
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        signatureData.encodeValuesTo(writer);
+        writer.endList();
     }
 
     /**
@@ -367,24 +377,33 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      * @return EthereumAccessList
      */
     public static EthereumAccessList decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded EthereumAccessList from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded EthereumAccessList.
+     * @return EthereumAccessList
+     */
+    public static EthereumAccessList decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = 0x7801 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         try {
-            if ((rlpEncoded[0] << 8 | rlpEncoded[1]) != TransactionType.TxTypeEthereumAccessList.getType()) {
+            RlpReader reader = new RlpReader(rlpEncoded);
+            if ((reader.readRawByte() << 8 | reader.readRawByte()) != TransactionType.TxTypeEthereumAccessList.getType()) {
                 throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeEthereumAccessList.toString());
             }
-            byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 2, rlpEncoded.length);
-            RlpList rlpList = RlpDecoder.decode(detachedType);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            reader.enterList();
 
-            BigInteger chainId = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger nonce = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger gasPrice = ((RlpString) values.get(2)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(3)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(4)).asString();
-            BigInteger value = ((RlpString) values.get(5)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(6)).asString();
+            String chainId = reader.readQuantity();
+            String nonce = reader.readQuantity();
+            String gasPrice = reader.readQuantity();
+            String gas = reader.readQuantity();
+            String to = reader.readHexString();
+            String value = reader.readQuantity();
+            String input = reader.readHexString();
 
-            AccessList accessList = AccessList.decode((RlpList) values.get(7));
+            AccessList accessList = AccessList.decode(reader);
 
             EthereumAccessList ethereumAccessList = new EthereumAccessList.Builder()
                     .setFrom(null)
@@ -399,9 +418,11 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
                     .setAccessList(accessList)
                     .build();
 
-            byte[] v = ((RlpString) values.get(8)).getBytes();
-            byte[] r = ((RlpString) values.get(9)).getBytes();
-            byte[] s = ((RlpString) values.get(10)).getBytes();
+            byte[] v = reader.readBytes();
+            byte[] r = reader.readBytes();
+            byte[] s = reader.readBytes();
+            reader.exitList();
+            reader.finish();
             SignatureData signatureData = new SignatureData(v, r, s);
 
             ethereumAccessList.appendSignatures(signatureData);
@@ -458,11 +479,11 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
     }
 
     /**
-     * Returns a hash string of transaction
+     * Computes a hash string of transaction
      * @return String
      */
     @Override
-    public String getTransactionHash() {
+    protected String computeTransactionHash() {
         // TxHashRLP = 0x01 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         String rlpEncoded = this.getRLPEncoding();
         byte[] rlpEncodedBytes = Numeric.hexStringToByteArray(rlpEncoded);
@@ -612,6 +633,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        invalidateCache();
     }
 
     /**
@@ -637,6 +659,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = Numeric.prependHexPrefix(input);
+        invalidateCache();
     }
 
 
@@ -663,6 +686,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        invalidateCache();
     }
 
     /**
@@ -693,6 +717,16 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             accessList = new AccessList();
         }
         this.accessList = accessList;
+        invalidateCache();
+    }
+
+    /**
+     * Returns the hash code of the access list, which can be modified through {@link #getAccessList()}.
+     * @return int
+     */
+    @Override
+    protected int listFieldsHashCode() {
+        return Objects.hashCode(accessList);
     }
 
     /**
@@ -717,6 +751,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -19,11 +19,15 @@ package com.klaytn.caver.transaction.type;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.FeeOracle;
 import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.TransactionHelper;
 import com.klaytn.caver.transaction.utils.AccessList;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.FutureUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
@@ -34,9 +38,12 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -225,27 +232,33 @@ public class EthereumDynamicFee extends AbstractTransaction {
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         // TransactionPayload = 0x7802 + encode([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxPriorityFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        writer.writeRawByte(TransactionType.TxTypeEthereumDynamicFee.getType() >> 8);
+        writer.writeRawByte(TransactionType.TxTypeEthereumDynamicFee.getType());
+        writer.startList();
+        writer.writeQuantity(this.getChainId());
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getMaxPriorityFeePerGas());
+        writer.writeQuantity(this.getMaxFeePerGas());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getTo());
+        writer.writeQuantity(this.getValue());
+        writer.writeHexBytes(this.getInput());
+        this.getAccessList().encodeTo(writer);
         SignatureData signatureData = this.getSignatures().get(0);
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = Numeric.toBytesPadded(BigInteger.valueOf(TransactionType.TxTypeEthereumDynamicFee.getType()), 2);
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        signatureData.encodeValuesTo(writer);
+        writer.endList();
     }
 
     /**
@@ -350,12 +363,16 @@ public class EthereumDynamicFee extends AbstractTransaction {
     }
 
     /**
-     * Fills empty optional transaction fields.(maxPriorityFeePerGas and maxFeePerGas)
+     * Fills empty optional transaction fields.(maxPriorityFeePerGas and maxFeePerGas)<p>
+     * If `feeOracle` is set, both fields are filled from its latest snapshot without a request.
      * @throws IOException
      */
     @Override
     public void fillTransaction() throws IOException {
         super.fillTransaction();
+        if(this.getFeeOracle() != null && (this.getMaxPriorityFeePerGas().equals("0x") || this.getMaxFeePerGas().equals("0x"))) {
+            fillFee(this.getFeeOracle().getSnapshot());
+        }
         if(this.getMaxPriorityFeePerGas().equals("0x")) {
             this.setMaxPriorityFeePerGas(this.getKlaytnCall().getMaxPriorityFeePerGas().send().getResult());
         }
@@ -367,6 +384,46 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
     }
 
+    /**
+     * Fills empty maxPriorityFeePerGas and maxFeePerGas fields asynchronously. It is called by {@link #fillTransactionAsync()}.
+     * @return CompletableFuture
+     */
+    @Override
+    protected CompletableFuture<Void> fillFeeAsync() {
+        if(this.getFeeOracle() != null && (this.getMaxPriorityFeePerGas().equals("0x") || this.getMaxFeePerGas().equals("0x"))) {
+            return this.getFeeOracle().getSnapshotAsync().thenAccept(this::fillFee);
+        }
+
+        List<CompletableFuture<?>> requests = new ArrayList<>();
+        if(this.getMaxPriorityFeePerGas().equals("0x")) {
+            requests.add(this.getKlaytnCall().getMaxPriorityFeePerGas().sendAsync()
+                    .thenAccept(response -> this.setMaxPriorityFeePerGas(FutureUtils.resultOf(response))));
+        }
+        if(this.getMaxFeePerGas().equals("0x")) {
+            requests.add(this.suggestGasPriceAsync().thenAccept(this::setMaxFeePerGas));
+        }
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Fills empty maxPriorityFeePerGas and maxFeePerGas fields with the fees derived from the same snapshot,
+     * so that maxPriorityFeePerGas is not greater than maxFeePerGas.<p>
+     * If only maxFeePerGas is set, the suggested maxPriorityFeePerGas is capped by it.
+     * @param snapshot The snapshot of the fee oracle.
+     */
+    private void fillFee(FeeOracle.Snapshot snapshot) {
+        if(this.getMaxPriorityFeePerGas().equals("0x")) {
+            BigInteger maxPriorityFeePerGas = this.getFeeOracle().getMaxPriorityFeePerGas(snapshot);
+            if(!this.getMaxFeePerGas().equals("0x")) {
+                maxPriorityFeePerGas = maxPriorityFeePerGas.min(Numeric.toBigInt(this.getMaxFeePerGas()));
+            }
+            this.setMaxPriorityFeePerGas(maxPriorityFeePerGas);
+        }
+        if(this.getMaxFeePerGas().equals("0x")) {
+            this.setMaxFeePerGas(this.getFeeOracle().getGasPrice(snapshot));
+        }
+    }
+
     /**
      * Checks that member variables that can be defined by the user are defined.
      * If there is an undefined variable, an error occurs.
@@ -399,25 +456,34 @@ public class EthereumDynamicFee extends AbstractTransaction {
      * @return EthereumDynamicFee
      */
     public static EthereumDynamicFee decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded EthereumDynamicFee from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded EthereumDynamicFee.
+     * @return EthereumDynamicFee
+     */
+    public static EthereumDynamicFee decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = 0x7802 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         try {
-            if ((rlpEncoded[0] << 8 | rlpEncoded[1]) != TransactionType.TxTypeEthereumDynamicFee.getType()) {
+            RlpReader reader = new RlpReader(rlpEncoded);
+            if ((reader.readRawByte() << 8 | reader.readRawByte()) != TransactionType.TxTypeEthereumDynamicFee.getType()) {
                 throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeEthereumDynamicFee.toString());
             }
-            byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 2, rlpEncoded.length);
-            RlpList rlpList = RlpDecoder.decode(detachedType);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            reader.enterList();
 
-            BigInteger chainId = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger nonce = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger maxPriorityFeePerGas = ((RlpString) values.get(2)).asPositiveBigInteger();
-            BigInteger maxFeePerGas = ((RlpString) values.get(3)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(4)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(5)).asString();
-            BigInteger value = ((RlpString) values.get(6)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(7)).asString();
+            String chainId = reader.readQuantity();
+            String nonce = reader.readQuantity();
+            String maxPriorityFeePerGas = reader.readQuantity();
+            String maxFeePerGas = reader.readQuantity();
+            String gas = reader.readQuantity();
+            String to = reader.readHexString();
+            String value = reader.readQuantity();
+            String input = reader.readHexString();
 
-            AccessList accessList = AccessList.decode((RlpList) values.get(8));
+            AccessList accessList = AccessList.decode(reader);
 
             EthereumDynamicFee ethereumAccessList = new EthereumDynamicFee.Builder()
                     .setFrom(null)
@@ -433,9 +499,11 @@ public class EthereumDynamicFee extends AbstractTransaction {
                     .setAccessList(accessList)
                     .build();
 
-            byte[] v = ((RlpString) values.get(9)).getBytes();
-            byte[] r = ((RlpString) values.get(10)).getBytes();
-            byte[] s = ((RlpString) values.get(11)).getBytes();
+            byte[] v = reader.readBytes();
+            byte[] r = reader.readBytes();
+            byte[] s = reader.readBytes();
+            reader.exitList();
+            reader.finish();
             SignatureData signatureData = new SignatureData(v, r, s);
 
             ethereumAccessList.appendSignatures(signatureData);
@@ -492,11 +560,11 @@ public class EthereumDynamicFee extends AbstractTransaction {
     }
 
     /**
-     * Returns a hash string of transaction
+     * Computes a hash string of transaction
      * @return String
      */
     @Override
-    public String getTransactionHash() {
+    protected String computeTransactionHash() {
         // TxHashRLP = 0x02 + encode([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         String rlpEncoded = this.getRLPEncoding();
         byte[] rlpEncodedBytes = Numeric.hexStringToByteArray(rlpEncoded);
@@ -646,6 +714,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        invalidateCache();
     }
 
     /**
@@ -671,6 +740,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = Numeric.prependHexPrefix(input);
+        invalidateCache();
     }
 
 
@@ -697,6 +767,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        invalidateCache();
     }
 
     /**
@@ -727,6 +798,16 @@ public class EthereumDynamicFee extends AbstractTransaction {
             accessList = new AccessList();
         }
         this.accessList = accessList;
+        invalidateCache();
+    }
+
+    /**
+     * Returns the hash code of the access list, which can be modified through {@link #getAccessList()}.
+     * @return int
+     */
+    @Override
+    protected int listFieldsHashCode() {
+        return Objects.hashCode(accessList);
     }
 
     /**
@@ -751,6 +832,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
 
         this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        invalidateCache();
     }
 
     /**
@@ -783,6 +865,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
 
         this.maxFeePerGas = maxFeePerGas;
+        invalidateCache();
     }
 
     /**
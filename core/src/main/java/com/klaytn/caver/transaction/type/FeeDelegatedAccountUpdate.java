@@ -23,6 +23,8 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -31,8 +33,8 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -171,6 +173,7 @@ public class FeeDelegatedAccountUpdate extends AbstractFeeDelegatedTransaction i
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -196,30 +199,37 @@ public class FeeDelegatedAccountUpdate extends AbstractFeeDelegatedTransaction i
      * @return FeeDelegatedAccountUpdate
      */
     public static FeeDelegatedAccountUpdate decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedAccountUpdate from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded FeeDelegatedAccountUpdate.
+     * @return FeeDelegatedAccountUpdate
+     */
+    public static FeeDelegatedAccountUpdate decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()) {
+        RlpReader reader = new RlpReader(rlpEncoded);
+        if(reader.readRawByte() != TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedAccountUpdate.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        reader.enterList();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        Account account = Account.createFromRLPEncoding(from, ((RlpString) values.get(4)).asString());
+        String nonce = reader.readQuantity();
+        String gasPrice = reader.readQuantity();
+        String gas = reader.readQuantity();
+        String from = reader.readHexString();
+        Account account = Account.createFromRLPEncoding(from, reader.readHexString());
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(5))).getValues();
-        List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
+        List<SignatureData> senderSignList = SignatureData.decodeSignatures(reader);
 
-        String feePayer = ((RlpString) values.get(6)).asString();
+        String feePayer = reader.readHexString();
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(7))).getValues();
-        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
+        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(reader);
+        reader.exitList();
+        reader.finish();
 
         FeeDelegatedAccountUpdate feeDelegatedAccountUpdate = new FeeDelegatedAccountUpdate.Builder()
                 .setNonce(nonce)
@@ -241,35 +251,29 @@ public class FeeDelegatedAccountUpdate extends AbstractFeeDelegatedTransaction i
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedAccountUpdate.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRawByte(TransactionType.TxTypeFeeDelegatedAccountUpdate.getType());
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getFrom());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        SignatureData.encodeSignatures(this.getSignatures(), writer);
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.encodeSignatures(this.getFeePayerSignatures(), writer);
+        writer.endList();
     }
 
     /**
@@ -299,11 +303,11 @@ public class FeeDelegatedAccountUpdate extends AbstractFeeDelegatedTransaction i
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, txSignatures])
         //SenderTxHash = keccak256(SenderTxHashRLP)
         this.validateOptionalValues(false);
@@ -443,5 +447,6 @@ public class FeeDelegatedAccountUpdate extends AbstractFeeDelegatedTransaction i
         }
 
         this.account = account;
+        invalidateCache();
     }
 }
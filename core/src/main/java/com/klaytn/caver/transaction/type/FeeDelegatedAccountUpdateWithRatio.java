@@ -24,6 +24,8 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -32,8 +34,8 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -175,6 +177,7 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -201,31 +204,38 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
      * @return FeeDelegatedAccountUpdateWithRatio
      */
     public static FeeDelegatedAccountUpdateWithRatio decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedAccountUpdateWithRatio from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded FeeDelegatedAccountUpdateWithRatio.
+     * @return FeeDelegatedAccountUpdateWithRatio
+     */
+    public static FeeDelegatedAccountUpdateWithRatio decode(ByteBuffer rlpEncoded) {
         // type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
+        RlpReader reader = new RlpReader(rlpEncoded);
+        if(reader.readRawByte() != TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        reader.enterList();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        Account account = Account.createFromRLPEncoding(from, ((RlpString) values.get(4)).asString());
-        BigInteger feeRatio = ((RlpString) values.get(5)).asPositiveBigInteger();
+        String nonce = reader.readQuantity();
+        String gasPrice = reader.readQuantity();
+        String gas = reader.readQuantity();
+        String from = reader.readHexString();
+        Account account = Account.createFromRLPEncoding(from, reader.readHexString());
+        String feeRatio = reader.readQuantity();
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(6))).getValues();
-        List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
+        List<SignatureData> senderSignList = SignatureData.decodeSignatures(reader);
 
-        String feePayer = ((RlpString) values.get(7)).asString();
+        String feePayer = reader.readHexString();
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(8))).getValues();
-        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
+        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(reader);
+        reader.exitList();
+        reader.finish();
 
         FeeDelegatedAccountUpdateWithRatio feeDelegatedAccountUpdateWithRatio = new FeeDelegatedAccountUpdateWithRatio.Builder()
                 .setNonce(nonce)
@@ -248,36 +258,30 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         // type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRawByte(TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType());
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getFrom());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        writer.writeQuantity(this.getFeeRatio());
+        SignatureData.encodeSignatures(this.getSignatures(), writer);
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.encodeSignatures(this.getFeePayerSignatures(), writer);
+        writer.endList();
     }
 
     /**
@@ -308,11 +312,11 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         // SenderTxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures])
         this.validateOptionalValues(false);
 
@@ -459,5 +463,6 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         this.account = account;
+        invalidateCache();
     }
 }
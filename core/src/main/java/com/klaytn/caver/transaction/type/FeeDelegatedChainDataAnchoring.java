@@ -22,6 +22,8 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -30,8 +32,8 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 
@@ -170,6 +172,7 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -195,30 +198,37 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
      * @return FeeDelegatedChainDataAnchoring
      */
     public static FeeDelegatedChainDataAnchoring decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedChainDataAnchoring from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded FeeDelegatedChainDataAnchoring.
+     * @return FeeDelegatedChainDataAnchoring
+     */
+    public static FeeDelegatedChainDataAnchoring decode(ByteBuffer rlpEncoded) {
         //TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
+        RlpReader reader = new RlpReader(rlpEncoded);
+        if(reader.readRawByte() != TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedChainDataAnchoring.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        reader.enterList();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        String input = ((RlpString) values.get(4)).asString();
+        String nonce = reader.readQuantity();
+        String gasPrice = reader.readQuantity();
+        String gas = reader.readQuantity();
+        String from = reader.readHexString();
+        String input = reader.readHexString();
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(5))).getValues();
-        List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
+        List<SignatureData> senderSignList = SignatureData.decodeSignatures(reader);
 
-        String feePayer = ((RlpString) values.get(6)).asString();
+        String feePayer = reader.readHexString();
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(7))).getValues();
-        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
+        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(reader);
+        reader.exitList();
+        reader.finish();
 
         FeeDelegatedChainDataAnchoring feeDelegatedChainDataAnchoring = new FeeDelegatedChainDataAnchoring.Builder()
                 .setNonce(nonce)
@@ -240,35 +250,29 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         //TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRawByte(TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType());
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getFrom());
+        writer.writeHexBytes(this.getInput());
+        SignatureData.encodeSignatures(this.getSignatures(), writer);
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.encodeSignatures(this.getFeePayerSignatures(), writer);
+        writer.endList();
     }
 
     /**
@@ -297,11 +301,11 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures])
         this.validateOptionalValues(false);
 
@@ -441,5 +445,6 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         }
 
         this.input = Numeric.prependHexPrefix(input);
+        invalidateCache();
     }
 }
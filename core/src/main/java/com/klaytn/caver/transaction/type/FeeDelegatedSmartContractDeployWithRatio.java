@@ -24,6 +24,8 @@ import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -32,8 +34,8 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -247,6 +249,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -273,35 +276,42 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      * @return FeeDelegatedSmartContractDeployWithRatio
      */
     public static FeeDelegatedSmartContractDeployWithRatio decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedSmartContractDeployWithRatio from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded FeeDelegatedSmartContractDeployWithRatio.
+     * @return FeeDelegatedSmartContractDeployWithRatio
+     */
+    public static FeeDelegatedSmartContractDeployWithRatio decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
+        RlpReader reader = new RlpReader(rlpEncoded);
+        if(reader.readRawByte() != TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
+        reader.enterList();
 
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        String nonce = reader.readQuantity();
+        String gasPrice = reader.readQuantity();
+        String gas = reader.readQuantity();
+        String to = reader.readHexString();
+        String value = reader.readQuantity();
+        String from = reader.readHexString();
+        String input = reader.readHexString();
+        boolean humanReadable = reader.readBigInteger().signum() != 0;
+        String feeRatio = reader.readQuantity();
+        String codeFormat = reader.readQuantity();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        boolean humanReadable = ((RlpString) values.get(7)).asPositiveBigInteger().compareTo(BigInteger.ZERO) != 0;
-        BigInteger feeRatio = ((RlpString) values.get(8)).asPositiveBigInteger();
-        BigInteger codeFormat = ((RlpString) values.get(9)).asPositiveBigInteger();
+        List<SignatureData> senderSignList = SignatureData.decodeSignatures(reader);
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(10))).getValues();
-        List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
+        String feePayer = reader.readHexString();
 
-        String feePayer = ((RlpString) values.get(11)).asString();
-
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(12))).getValues();
-        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
+        List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(reader);
+        reader.exitList();
+        reader.finish();
 
         FeeDelegatedSmartContractDeployWithRatio feeDelegatedSmartContractDeployWithRatio = new FeeDelegatedSmartContractDeployWithRatio.Builder()
                 .setNonce(nonce)
@@ -328,40 +338,34 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRawByte(TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType());
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getTo());
+        writer.writeQuantity(this.getValue());
+        writer.writeHexBytes(this.getFrom());
+        writer.writeHexBytes(this.getInput());
+        writer.writeLong(this.getHumanReadable() ? 1 : 0);
+        writer.writeQuantity(this.getFeeRatio());
+        writer.writeQuantity(this.getCodeFormat());
+        SignatureData.encodeSignatures(this.getSignatures(), writer);
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.encodeSignatures(this.getFeePayerSignatures(), writer);
+        writer.endList();
     }
 
     /**
@@ -395,11 +399,11 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures])
         //SenderTxHash = keccak256(SenderTxHashRLP)
         this.validateOptionalValues(false);
@@ -581,6 +585,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.to = "0x"; // currently "to" field must be nil
+        invalidateCache();
     }
 
     /**
@@ -596,6 +601,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        invalidateCache();
     }
 
     /**
@@ -620,6 +626,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.input = Numeric.prependHexPrefix(input);
+        invalidateCache();
     }
 
     /**
@@ -631,6 +638,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("HumanReadable attribute must set false");
         }
         this.humanReadable = false;
+        invalidateCache();
     }
 
     /**
@@ -646,5 +654,6 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("CodeFormat attribute only support EVM(0)");
         }
         this.codeFormat = codeFormat;
+        invalidateCache();
     }
 }
@@ -21,6 +21,8 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.rlp.*;
@@ -28,6 +30,7 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -192,6 +195,7 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
         }
 
         this.gasPrice = gasPrice;
+        invalidateCache();
     }
 
     /**
@@ -218,17 +222,27 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
      * @return LegacyTransaction
      */
     public static LegacyTransaction decode(byte[] rlpEncoded) {
+        return decode(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded LegacyTransaction from the given buffer.<p>
+     * Decoding starts at the current position of the buffer. After decoding, the position is moved to the end of the transaction.
+     * @param rlpEncoded The buffer containing RLP-encoded LegacyTransaction.
+     * @return LegacyTransaction
+     */
+    public static LegacyTransaction decode(ByteBuffer rlpEncoded) {
         // TxHashRLP = encode([nonce, gasPrice, gas, to, value, input, v, r, s])
         try {
-            RlpList rlpList = RlpDecoder.decode(rlpEncoded);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpReader reader = new RlpReader(rlpEncoded);
+            reader.enterList();
 
-            BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(3)).asString();
-            BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(5)).asString();
+            String nonce = reader.readQuantity();
+            String gasPrice = reader.readQuantity();
+            String gas = reader.readQuantity();
+            String to = reader.readHexString();
+            String value = reader.readQuantity();
+            String input = reader.readHexString();
 
             LegacyTransaction legacyTransaction = new LegacyTransaction.Builder()
                     .setInput(input)
@@ -240,9 +254,11 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
                     .setTo(to)
                     .build();
 
-            byte[] v = ((RlpString) values.get(6)).getBytes();
-            byte[] r = ((RlpString) values.get(7)).getBytes();
-            byte[] s = ((RlpString) values.get(8)).getBytes();
+            byte[] v = reader.readBytes();
+            byte[] r = reader.readBytes();
+            byte[] s = reader.readBytes();
+            reader.exitList();
+            reader.finish();
             SignatureData signatureData = new SignatureData(v, r, s);
 
             legacyTransaction.appendSignatures(signatureData);
@@ -290,22 +306,27 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
      */
     @Override
     public String getRLPEncoding() {
+        return Numeric.toHexString(encode());
+    }
+
+    /**
+     * Writes the RLP-encoded string of this transaction (i.e., rawTransaction) with the given RlpWriter.
+     * @param writer The RlpWriter to write the encoded transaction.
+     */
+    @Override
+    public void encodeTo(RlpWriter writer) {
         this.validateOptionalValues(false);
         //TxHashRLP = encode([nonce, gasPrice, gas, to, value, input, v, r, s])
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        writer.startList();
+        writer.writeQuantity(this.getNonce());
+        writer.writeQuantity(this.getGasPrice());
+        writer.writeQuantity(this.getGas());
+        writer.writeHexBytes(this.getTo());
+        writer.writeQuantity(this.getValue());
+        writer.writeHexBytes(this.getInput());
         SignatureData signatureData = this.getSignatures().get(0);
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+        signatureData.encodeValuesTo(writer);
+        writer.endList();
     }
 
 
@@ -458,6 +479,7 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        invalidateCache();
     }
 
     /**
@@ -473,6 +495,7 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = input;
+        invalidateCache();
     }
 
     /**
@@ -488,6 +511,7 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        invalidateCache();
     }
 
     /**
@@ -16,6 +16,8 @@
 
 package com.klaytn.caver.transaction.utils;
 
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
@@ -65,6 +67,22 @@ public class AccessList extends ArrayList<AccessTuple> {
         return accessList;
     }
 
+    /**
+     * Returns a decoded access list read from the current position of RlpReader.
+     *
+     * @param reader The RlpReader positioned at a RLP list of access tuples.
+     * @return AccessList
+     */
+    public static AccessList decode(RlpReader reader) {
+        AccessList accessList = new AccessList();
+        reader.enterList();
+        while (reader.hasNext()) {
+            accessList.add(AccessTuple.decode(reader));
+        }
+        reader.exitList();
+        return accessList;
+    }
+
     /**
      * Returns a decoded access list.
      *
@@ -99,6 +117,19 @@ public class AccessList extends ArrayList<AccessTuple> {
         return new RlpList(rlpTypeList);
     }
 
+    /**
+     * Writes this access list with RlpWriter.
+     *
+     * @param writer The RlpWriter to write.
+     */
+    public void encodeTo(RlpWriter writer) {
+        writer.startList();
+        for (AccessTuple accessTuple : this) {
+            accessTuple.encodeTo(writer);
+        }
+        writer.endList();
+    }
+
     /**
      * Returns an encoded access tuple.
      *
@@ -21,6 +21,8 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
@@ -123,6 +125,28 @@ public class AccessTuple {
     }
 
 
+    /**
+     * Decodes an access tuple read from the current position of RlpReader.
+     * @param reader The RlpReader positioned at a RLP-encoded access tuple.
+     * @return AccessTuple
+     */
+    public static AccessTuple decode(RlpReader reader) {
+        try {
+            reader.enterList();
+            String address = reader.readHexString();
+            List<String> storageKeys = new ArrayList<>();
+            reader.enterList();
+            while (reader.hasNext()) {
+                storageKeys.add(reader.readHexString());
+            }
+            reader.exitList();
+            reader.exitList();
+            return new AccessTuple(address, storageKeys);
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.");
+        }
+    }
+
     /**
      * Returns the RLP-encoded string of this accessTuple.
      *
@@ -139,6 +163,22 @@ public class AccessTuple {
         );
     }
 
+    /**
+     * Writes this accessTuple with RlpWriter.
+     *
+     * @param writer The RlpWriter to write.
+     */
+    public void encodeTo(RlpWriter writer) {
+        writer.startList();
+        writer.writeHexBytes(getAddress());
+        writer.startList();
+        for (String storageKey : getStorageKeys()) {
+            writer.writeHexBytes(storageKey);
+        }
+        writer.endList();
+        writer.endList();
+    }
+
     /**
      * Returns an encoded access tuple.
      *
@@ -181,6 +221,20 @@ public class AccessTuple {
         return true;
     }
 
+    /**
+     * Returns a hash code value for this accessTuple. It is consistent with {@link #equals(Object)}.
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode() {
+        int result = address.toLowerCase().hashCode();
+        for (String storageKey : storageKeys) {
+            result = 31 * result + storageKey.toLowerCase().hashCode();
+        }
+        return result;
+    }
+
     public static class AccessTupleDeserializer extends JsonDeserializer<AccessTuple> {
         @Override
         public AccessTuple deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
@@ -18,29 +18,49 @@ package com.klaytn.caver.tx.manager;
 
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.crypto.KlayCredentials;
+import com.klaytn.caver.transaction.NonceManager;
 
 import java.io.IOException;
 import java.math.BigInteger;
 
 /**
+ * Allocates nonces locally for each account with {@link NonceManager}.
  * @deprecated This class is deprecated since caver-java:1.5.0
  */
 @Deprecated
 public class FastGetNonceProcessor extends GetNonceProcessor {
 
-    private volatile BigInteger nonce = BigInteger.valueOf(-1);
+    private final NonceManager nonceManager;
 
     public FastGetNonceProcessor(Caver caver) {
         super(caver);
+        this.nonceManager = new NonceManager(caver.rpc.getKlay());
     }
 
     @Override
-    public synchronized BigInteger getNonce(KlayCredentials credentials) throws IOException {
-        if (nonce.signum() == -1) {
-            nonce = super.getNonce(credentials);
-        } else {
-            nonce = nonce.add(BigInteger.ONE);
+    public BigInteger getNonce(KlayCredentials credentials) throws IOException {
+        return nonceManager.getNonce(credentials.getAddress());
+    }
+
+    @Override
+    public void handleError(String address, String errorMessage) {
+        nonceManager.handleError(address, errorMessage);
+    }
+
+    /**
+     * Re-syncs the account if the error is caused by the nonce. Otherwise, releases the nonce of the rejected transaction so that it is reused.
+     * @param address The address of the account.
+     * @param nonce The nonce of the rejected transaction.
+     * @param errorMessage The error message returned by a node.
+     */
+    @Override
+    public void handleError(String address, BigInteger nonce, String errorMessage) {
+        if(!nonceManager.handleError(address, errorMessage) && nonce != null) {
+            nonceManager.release(address, nonce);
         }
-        return nonce;
+    }
+
+    public NonceManager getNonceManager() {
+        return nonceManager;
     }
 }
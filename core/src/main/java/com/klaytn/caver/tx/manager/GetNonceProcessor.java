@@ -41,4 +41,24 @@ public class GetNonceProcessor {
 
         return quantity.getValue();
     }
+
+    /**
+     * Handles an error returned by a node when sending a transaction of the account.
+     * It does nothing by default because nonces are always queried from the node.
+     * @param address The address of the account.
+     * @param errorMessage The error message returned by a node.
+     */
+    public void handleError(String address, String errorMessage) {
+    }
+
+    /**
+     * Handles an error returned by a node when sending a transaction of the account with the given nonce.
+     * It calls {@link #handleError(String, String)} by default.
+     * @param address The address of the account.
+     * @param nonce The nonce of the rejected transaction.
+     * @param errorMessage The error message returned by a node.
+     */
+    public void handleError(String address, BigInteger nonce, String errorMessage) {
+        handleError(address, errorMessage);
+    }
 }
@@ -75,7 +75,10 @@ public class TransactionManager {
         try {
             String transactionHash = send(rawTx);
             receipt = transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
-        } catch (TransactionException | PlatformErrorException | IOException e) {
+        } catch (PlatformErrorException e) {
+            getNonceProcessor.handleError(transactionTransformer.getFrom(), transactionTransformer.getNonce(), e.getMessage());
+            exception(e);
+        } catch (TransactionException | IOException e) {
             exception(e);
         }
         return receipt;
@@ -94,7 +97,10 @@ public class TransactionManager {
         try {
             String transactionHash = send(rawTx);
             receipt = transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
-        } catch (TransactionException | PlatformErrorException | IOException e) {
+        } catch (PlatformErrorException e) {
+            getNonceProcessor.handleError(txType.getFrom(), txType.getNonce(), e.getMessage());
+            exception(e);
+        } catch (TransactionException | IOException e) {
             exception(e);
         }
         return receipt;
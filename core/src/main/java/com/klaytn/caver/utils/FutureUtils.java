@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Helper functions to handle JSON-RPC responses with CompletableFuture.
+ */
+public class FutureUtils {
+
+    private FutureUtils() {
+    }
+
+    /**
+     * Returns the result of the response, or throws a CompletionException with an IOException if the response has an error.<p>
+     * It is used in a stage of CompletableFuture, so the returned future is completed exceptionally with the IOException.
+     * @param response The response of a JSON-RPC request.
+     * @param <T> The type of the result.
+     * @return T
+     */
+    public static <T> T resultOf(Response<T> response) {
+        if(response.hasError()) {
+            throw new CompletionException(new IOException(response.getError().getMessage()));
+        }
+        return response.getResult();
+    }
+
+    /**
+     * Returns a CompletableFuture which is already completed exceptionally with the given throwable.
+     * @param throwable The cause of the failure.
+     * @param <T> The type of the result.
+     * @return CompletableFuture
+     */
+    public static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Matches the "logsBloom" of blocks and receipts against contract addresses and event topics.<p>
+ * A bloom has no false negatives, so a block or a receipt whose bloom does not match has no wanted logs,
+ * and requesting its receipts or logs can be skipped. A matched bloom may be a false positive.<p>
+ * Like the filter of "klay_getLogs", a bloom matches if it contains any of the addresses (or the addresses are empty)
+ * and it contains any of the topics at each position. A null or empty position matches any topic.
+ * <pre>Example :
+ * {@code
+ * LogsBloomFilter filter = LogsBloomFilter.of("0x{token address}", transferEventSignature);
+ *
+ * Block.BlockData block = caver.rpc.klay.getBlockByNumber(number).send().getResult();
+ * if(filter.mayMatch(block)) {
+ *     List<TransactionReceipt.TransactionReceiptData> receipts = caver.rpc.klay.getBlockReceipts(block.getHash()).send().getResult();
+ *     for(TransactionReceipt.TransactionReceiptData receipt : filter.filterReceipts(receipts)) {
+ *         ...
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+public class LogsBloomFilter {
+    /**
+     * The byte length of a bloom.
+     */
+    public static final int BLOOM_BYTE_LENGTH = 256;
+
+    /**
+     * The bits of the addresses. A bloom matches if any of them is set.
+     */
+    private final List<BloomBits> addresses;
+
+    /**
+     * The bits of the topics at each position. A bloom matches if any of them is set at every position.
+     */
+    private final List<List<BloomBits>> topics;
+
+    /**
+     * Creates a LogsBloomFilter instance.
+     * @param addresses The contract addresses. If it is null or empty, any address matches.
+     * @param topics The topics at each position. If a position is null or empty, any topic matches at the position.
+     */
+    public LogsBloomFilter(List<String> addresses, List<List<String>> topics) {
+        this.addresses = toBloomBits(addresses);
+
+        List<List<BloomBits>> topicBits = new ArrayList<>();
+        if(topics != null) {
+            for(List<String> topic : topics) {
+                List<BloomBits> bits = toBloomBits(topic);
+                if(!bits.isEmpty()) {
+                    topicBits.add(bits);
+                }
+            }
+        }
+        this.topics = topicBits;
+    }
+
+    /**
+     * Creates a LogsBloomFilter instance which matches a contract address and a topic at each position.
+     * @param address The contract address. If it is null, any address matches.
+     * @param topics The topics at each position. If a topic is null, any topic matches at the position.
+     * @return LogsBloomFilter
+     */
+    public static LogsBloomFilter of(String address, String... topics) {
+        List<List<String>> topicList = new ArrayList<>();
+        for(String topic : topics) {
+            topicList.add(topic == null ? Collections.emptyList() : Collections.singletonList(topic));
+        }
+        return new LogsBloomFilter(address == null ? Collections.emptyList() : Collections.singletonList(address), topicList);
+    }
+
+    /**
+     * Returns true if the bloom may contain the wanted logs.
+     * @param logsBloom The bloom in hex.
+     * @return boolean
+     */
+    public boolean mayMatch(String logsBloom) {
+        if(logsBloom == null) {
+            // A bloom which is not provided can't exclude anything.
+            return true;
+        }
+
+        int offset = Numeric.containsHexPrefix(logsBloom) ? 2 : 0;
+        if(logsBloom.length() - offset != BLOOM_BYTE_LENGTH * 2) {
+            throw new IllegalArgumentException("Invalid logsBloom length. It must be " + BLOOM_BYTE_LENGTH + " bytes.");
+        }
+
+        if(!addresses.isEmpty() && !anyIsSetIn(addresses, logsBloom, offset)) {
+            return false;
+        }
+        for(List<BloomBits> topic : topics) {
+            if(!anyIsSetIn(topic, logsBloom, offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the block may contain the wanted logs.
+     * @param block The block.
+     * @return boolean
+     */
+    public boolean mayMatch(Block.BlockData block) {
+        return mayMatch(block.getLogsBloom());
+    }
+
+    /**
+     * Returns true if the receipt may contain the wanted logs.
+     * @param receipt The transaction receipt.
+     * @return boolean
+     */
+    public boolean mayMatch(TransactionReceipt.TransactionReceiptData receipt) {
+        return mayMatch(receipt.getLogsBloom());
+    }
+
+    /**
+     * Returns the receipts which may contain the wanted logs.
+     * @param receipts The transaction receipts.
+     * @return List
+     */
+    public List<TransactionReceipt.TransactionReceiptData> filterReceipts(List<TransactionReceipt.TransactionReceiptData> receipts) {
+        List<TransactionReceipt.TransactionReceiptData> matched = new ArrayList<>();
+        for(TransactionReceipt.TransactionReceiptData receipt : receipts) {
+            if(mayMatch(receipt)) {
+                matched.add(receipt);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Creates the bloom of the logs, which is the same as the "logsBloom" of a receipt having the logs.
+     * @param logs The logs.
+     * @return String
+     */
+    public static String createBloom(List<KlayLogs.Log> logs) {
+        byte[] bloom = new byte[BLOOM_BYTE_LENGTH];
+        for(KlayLogs.Log log : logs) {
+            new BloomBits(log.getAddress()).setIn(bloom);
+            for(String topic : log.getTopics()) {
+                new BloomBits(topic).setIn(bloom);
+            }
+        }
+        return Numeric.toHexString(bloom);
+    }
+
+    private static List<BloomBits> toBloomBits(List<String> values) {
+        if(values == null) {
+            return Collections.emptyList();
+        }
+
+        List<BloomBits> bits = new ArrayList<>();
+        for(String value : values) {
+            if(value != null) {
+                bits.add(new BloomBits(value));
+            }
+        }
+        return bits;
+    }
+
+    private static boolean anyIsSetIn(List<BloomBits> bitsList, String logsBloom, int offset) {
+        for(BloomBits bits : bitsList) {
+            if(bits.isSetIn(logsBloom, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The three bits of a value in a bloom. They are computed once, so a bloom is checked without hashing.
+     */
+    private static class BloomBits {
+        final int[] indices = new int[3];
+        final int[] masks = new int[3];
+
+        BloomBits(String value) {
+            byte[] hash = Hash.sha3(Numeric.hexStringToByteArray(value));
+            for(int i = 0; i < 3; i++) {
+                int bit = (((hash[i * 2] & 0xff) << 8) | (hash[i * 2 + 1] & 0xff)) & 0x7ff;
+                indices[i] = BLOOM_BYTE_LENGTH - (bit >> 3) - 1;
+                masks[i] = 1 << (bit & 0x7);
+            }
+        }
+
+        boolean isSetIn(String logsBloom, int offset) {
+            // The bloom is checked in hex to avoid decoding the whole bloom.
+            for(int i = 0; i < 3; i++) {
+                int position = offset + indices[i] * 2;
+                int value = (Character.digit(logsBloom.charAt(position), 16) << 4) | Character.digit(logsBloom.charAt(position + 1), 16);
+                if((value & masks[i]) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void setIn(byte[] bloom) {
+            for(int i = 0; i < 3; i++) {
+                bloom[indices[i]] |= masks[i];
+            }
+        }
+    }
+}
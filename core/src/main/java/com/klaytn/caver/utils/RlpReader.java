@@ -0,0 +1,284 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A single-pass RLP decoder reading items directly from a ByteBuffer.<p>
+ * Unlike web3j's RlpDecoder, it doesn't build a tree of RlpString/RlpList objects.
+ * Items are read in order, and values are converted only when they are requested.<p>
+ * The reader starts at the current position of the given buffer, and doesn't modify the buffer's position until {@link #finish()} is called.
+ * <pre>Example :
+ * {@code
+ * RlpReader reader = new RlpReader(ByteBuffer.wrap(encoded));
+ * reader.enterList();
+ * String nonce = reader.readQuantity();
+ * String to = reader.readHexString();
+ * reader.exitList();
+ * }
+ * </pre>
+ */
+public class RlpReader {
+    private static final char[] HEX_ARRAY = "0123456789abcdef".toCharArray();
+    private static final int MAX_DEPTH = 16;
+
+    private final ByteBuffer buffer;
+    private int position;
+
+    private int[] listEnd = new int[MAX_DEPTH];
+    private int depth;
+
+    // The content offset and length of the item at current position. It is filled by readHeader().
+    private int contentOffset;
+    private int contentLength;
+
+    /**
+     * Creates a RlpReader instance.
+     * @param buffer The buffer containing RLP-encoded data. Reading starts at the buffer's current position.
+     */
+    public RlpReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.listEnd[0] = buffer.limit();
+    }
+
+    /**
+     * Creates a RlpReader instance.
+     * @param encoded The RLP-encoded byte array.
+     */
+    public RlpReader(byte[] encoded) {
+        this(ByteBuffer.wrap(encoded));
+    }
+
+    /**
+     * Reads a byte as it is without RLP decoding.<p>
+     * It is used to read the type prefix of a typed transaction.
+     * @return int
+     */
+    public int readRawByte() {
+        checkHasNext();
+        return buffer.get(position++) & 0xff;
+    }
+
+    /**
+     * Returns true if the current list (or the whole input at top level) has more items to read.
+     * @return boolean
+     */
+    public boolean hasNext() {
+        return position < currentEnd();
+    }
+
+    /**
+     * Returns true if the item at the current position is a list.
+     * @return boolean
+     */
+    public boolean isList() {
+        checkHasNext();
+        return (buffer.get(position) & 0xff) >= RlpWriter.LIST_OFFSET;
+    }
+
+    /**
+     * Enters a list item. Items of the list are read until {@link #exitList()} is called.
+     */
+    public void enterList() {
+        if(!isList()) {
+            throw new IllegalArgumentException("Invalid RLP encoding : expected a list at " + position);
+        }
+        readHeader();
+
+        if(depth + 1 == listEnd.length) {
+            listEnd = Arrays.copyOf(listEnd, listEnd.length * 2);
+        }
+        listEnd[++depth] = contentOffset + contentLength;
+        position = contentOffset;
+    }
+
+    /**
+     * Exits the list entered by the last {@link #enterList()}. The remaining items of the list are skipped.
+     */
+    public void exitList() {
+        if(depth == 0) {
+            throw new IllegalStateException("There is no list to exit.");
+        }
+        position = listEnd[depth--];
+    }
+
+    /**
+     * Reads a string item and returns its content.
+     * @return byte[]
+     */
+    public byte[] readBytes() {
+        readString();
+
+        byte[] bytes = new byte[contentLength];
+        for(int i = 0; i < contentLength; i++) {
+            bytes[i] = buffer.get(contentOffset + i);
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a string item and returns its content as a hex string.<p>
+     * It returns the same value as {@code RlpString.asString()}.
+     * @return String
+     */
+    public String readHexString() {
+        readString();
+        return toHex(contentOffset, contentLength);
+    }
+
+    /**
+     * Reads a string item as an unsigned number and returns it as a hex number string.<p>
+     * It returns the same value as {@code Numeric.toHexStringWithPrefix(RlpString.asPositiveBigInteger())}.
+     * @return String
+     */
+    public String readQuantity() {
+        readString();
+
+        int offset = contentOffset;
+        int end = contentOffset + contentLength;
+        while(offset < end && buffer.get(offset) == 0) {
+            offset++;
+        }
+
+        if(offset == end) {
+            return "0x0";
+        }
+
+        StringBuilder builder = new StringBuilder(2 + (end - offset) * 2);
+        builder.append("0x");
+
+        int first = buffer.get(offset) & 0xff;
+        if(first >= 0x10) {
+            builder.append(HEX_ARRAY[first >>> 4]);
+        }
+        builder.append(HEX_ARRAY[first & 0x0f]);
+
+        for(int i = offset + 1; i < end; i++) {
+            int v = buffer.get(i) & 0xff;
+            builder.append(HEX_ARRAY[v >>> 4]).append(HEX_ARRAY[v & 0x0f]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads a string item as an unsigned number.
+     * @return BigInteger
+     */
+    public BigInteger readBigInteger() {
+        return new BigInteger(1, readBytes());
+    }
+
+    /**
+     * Skips the item at the current position.
+     */
+    public void skip() {
+        checkHasNext();
+        readHeader();
+        position = contentOffset + contentLength;
+    }
+
+    /**
+     * Returns the absolute position of the next item in the underlying buffer.
+     * @return int
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Moves the position of the underlying buffer after the last read item.<p>
+     * It is used when several RLP-encoded items are read from one buffer in a row.
+     */
+    public void finish() {
+        buffer.position(position);
+    }
+
+    private void readString() {
+        if(isList()) {
+            throw new IllegalArgumentException("Invalid RLP encoding : expected a string at " + position);
+        }
+        readHeader();
+        position = contentOffset + contentLength;
+    }
+
+    private void readHeader() {
+        int prefix = buffer.get(position) & 0xff;
+
+        if(prefix < RlpWriter.STRING_OFFSET) {
+            contentOffset = position;
+            contentLength = 1;
+        } else if(prefix <= RlpWriter.STRING_OFFSET + RlpWriter.SHORT_LENGTH_LIMIT) {
+            contentOffset = position + 1;
+            contentLength = prefix - RlpWriter.STRING_OFFSET;
+        } else if(prefix < RlpWriter.LIST_OFFSET) {
+            readLongHeader(prefix - RlpWriter.STRING_OFFSET - RlpWriter.SHORT_LENGTH_LIMIT);
+        } else if(prefix <= RlpWriter.LIST_OFFSET + RlpWriter.SHORT_LENGTH_LIMIT) {
+            contentOffset = position + 1;
+            contentLength = prefix - RlpWriter.LIST_OFFSET;
+        } else {
+            readLongHeader(prefix - RlpWriter.LIST_OFFSET - RlpWriter.SHORT_LENGTH_LIMIT);
+        }
+
+        // The content offset is not greater than the end, so the subtraction doesn't overflow.
+        if(contentLength < 0 || contentLength > currentEnd() - contentOffset) {
+            throw new IllegalArgumentException("Invalid RLP encoding : the item at " + position + " exceeds the input.");
+        }
+    }
+
+    private void readLongHeader(int lengthOfLength) {
+        if(lengthOfLength > 4 || lengthOfLength >= currentEnd() - position) {
+            throw new IllegalArgumentException("Invalid RLP encoding : wrong length of length at " + position);
+        }
+        if(buffer.get(position + 1) == 0) {
+            throw new IllegalArgumentException("Invalid RLP encoding : the length has a leading zero at " + position);
+        }
+
+        int length = 0;
+        for(int i = 1; i <= lengthOfLength; i++) {
+            length = (length << 8) | (buffer.get(position + i) & 0xff);
+        }
+
+        contentOffset = position + 1 + lengthOfLength;
+        contentLength = length;
+    }
+
+    private int currentEnd() {
+        return listEnd[depth];
+    }
+
+    private void checkHasNext() {
+        if(!hasNext()) {
+            throw new IllegalArgumentException("Invalid RLP encoding : there is no item to read at " + position);
+        }
+    }
+
+    private String toHex(int offset, int length) {
+        char[] hexChars = new char[2 + length * 2];
+        hexChars[0] = '0';
+        hexChars[1] = 'x';
+        for(int i = 0; i < length; i++) {
+            int v = buffer.get(offset + i) & 0xff;
+            hexChars[2 + i * 2] = HEX_ARRAY[v >>> 4];
+            hexChars[3 + i * 2] = HEX_ARRAY[v & 0x0f];
+        }
+        return new String(hexChars);
+    }
+}
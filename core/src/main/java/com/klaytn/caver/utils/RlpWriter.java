@@ -0,0 +1,332 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A single-pass RLP encoder writing directly into a growable byte array.<p>
+ * Unlike web3j's RlpEncoder, it doesn't build a tree of RlpString/RlpList objects.
+ * The header of a list is inserted in front of its payload when the list is closed by {@link #endList()}.<p>
+ * It produces the same output as {@code RlpEncoder.encode()} for the same values.
+ * <pre>Example :
+ * {@code
+ * RlpWriter writer = new RlpWriter();
+ * writer.startList();
+ * writer.writeQuantity("0x1");
+ * writer.writeHexBytes("0x7b65b75d204abed71587c9e519a89277766ee1d0");
+ * writer.endList();
+ *
+ * byte[] encoded = writer.toByteArray();
+ * }
+ * </pre>
+ */
+public class RlpWriter {
+    static final int STRING_OFFSET = 0x80;
+    static final int LIST_OFFSET = 0xc0;
+    static final int SHORT_LENGTH_LIMIT = 55;
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int MAX_DEPTH = 16;
+
+    private byte[] buffer;
+    private int size;
+
+    private int[] listStart = new int[MAX_DEPTH];
+    private int depth;
+
+    /**
+     * Creates a RlpWriter instance.
+     */
+    public RlpWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a RlpWriter instance.
+     * @param initialCapacity The initial size of the internal buffer.
+     */
+    public RlpWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Writes bytes as they are without RLP encoding.<p>
+     * It is used to write the type prefix of a typed transaction.
+     * @param bytes The bytes to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    /**
+     * Writes a byte as it is without RLP encoding.
+     * @param b The byte to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeRawByte(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte)b;
+        return this;
+    }
+
+    /**
+     * Writes a RLP string item.
+     * @param bytes The content of string item.
+     * @return RlpWriter
+     */
+    public RlpWriter writeBytes(byte[] bytes) {
+        return writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a RLP string item.
+     * @param bytes The array containing the content of string item.
+     * @param offset The start offset of the content.
+     * @param length The length of the content.
+     * @return RlpWriter
+     */
+    public RlpWriter writeBytes(byte[] bytes, int offset, int length) {
+        if(length == 1 && (bytes[offset] & 0xff) < STRING_OFFSET) {
+            return writeRawByte(bytes[offset]);
+        }
+
+        writeHeader(STRING_OFFSET, length);
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Writes a hex string as a RLP string item.<p>
+     * It produces the same result as {@code RlpString.create(Numeric.hexStringToByteArray(hex))} without allocating an intermediate array.
+     * @param hex The hex string to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeHexBytes(String hex) {
+        int start = hasHexPrefix(hex) ? 2 : 0;
+        return writeHexDigits(hex, start);
+    }
+
+    /**
+     * Writes a hex number string as a RLP string item.<p>
+     * Leading zeros are removed, so it produces the same result as {@code RlpString.create(Numeric.toBigInt(hex))}.
+     * @param hex The hex number string to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeQuantity(String hex) {
+        int start = hasHexPrefix(hex) ? 2 : 0;
+        if(start == hex.length()) {
+            throw new NumberFormatException("Zero length hex number : " + hex);
+        }
+
+        while(start < hex.length() && hex.charAt(start) == '0') {
+            start++;
+        }
+        return writeHexDigits(hex, start);
+    }
+
+    /**
+     * Writes a BigInteger as a RLP string item.<p>
+     * It produces the same result as {@code RlpString.create(value)}.
+     * @param value The value to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeBigInteger(BigInteger value) {
+        if(value.signum() < 1) {
+            return writeBytes(new byte[0]);
+        }
+
+        byte[] bytes = value.toByteArray();
+        if(bytes[0] == 0) {
+            return writeBytes(bytes, 1, bytes.length - 1);
+        }
+        return writeBytes(bytes);
+    }
+
+    /**
+     * Writes a long value as a RLP string item.
+     * @param value The value to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeLong(long value) {
+        if(value <= 0) {
+            return writeBytes(new byte[0]);
+        }
+        if(value < STRING_OFFSET) {
+            return writeRawByte((int)value);
+        }
+
+        int length = byteLength(value);
+        writeHeader(STRING_OFFSET, length);
+        ensureCapacity(length);
+        for(int i = length - 1; i >= 0; i--) {
+            buffer[size++] = (byte)(value >>> (i * 8));
+        }
+        return this;
+    }
+
+    /**
+     * Starts a RLP list. Items written until {@link #endList()} is called will be the elements of the list.
+     * @return RlpWriter
+     */
+    public RlpWriter startList() {
+        if(depth == listStart.length) {
+            listStart = Arrays.copyOf(listStart, listStart.length * 2);
+        }
+        listStart[depth++] = size;
+        return this;
+    }
+
+    /**
+     * Closes the RLP list started by the last {@link #startList()}.
+     * @return RlpWriter
+     */
+    public RlpWriter endList() {
+        if(depth == 0) {
+            throw new IllegalStateException("There is no list to end.");
+        }
+
+        int start = listStart[--depth];
+        int length = size - start;
+        int headerLength = length <= SHORT_LENGTH_LIMIT ? 1 : 1 + byteLength(length);
+
+        ensureCapacity(headerLength);
+        System.arraycopy(buffer, start, buffer, start + headerLength, length);
+
+        int end = size + headerLength;
+        size = start;
+        writeHeader(LIST_OFFSET, length);
+        size = end;
+
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the written bytes.
+     * @return byte[]
+     */
+    public byte[] toByteArray() {
+        checkClosed();
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Copies the written bytes into the given buffer.
+     * @param target The buffer to write.
+     */
+    public void writeTo(ByteBuffer target) {
+        checkClosed();
+        target.put(buffer, 0, size);
+    }
+
+    /**
+     * Clears the written bytes so that this writer can be reused.
+     */
+    public void reset() {
+        size = 0;
+        depth = 0;
+    }
+
+    private RlpWriter writeHexDigits(String hex, int start) {
+        int digits = hex.length() - start;
+        int length = (digits + 1) / 2;
+
+        if(length == 1) {
+            int b = digits == 1 ? hexDigit(hex, start) : (hexDigit(hex, start) << 4) + hexDigit(hex, start + 1);
+            if(b < STRING_OFFSET) {
+                return writeRawByte(b);
+            }
+        }
+
+        writeHeader(STRING_OFFSET, length);
+        ensureCapacity(length);
+
+        int i = start;
+        if(digits % 2 != 0) {
+            buffer[size++] = (byte)hexDigit(hex, i++);
+        }
+        for(; i < hex.length(); i += 2) {
+            buffer[size++] = (byte)((hexDigit(hex, i) << 4) + hexDigit(hex, i + 1));
+        }
+
+        return this;
+    }
+
+    private void writeHeader(int offset, int length) {
+        if(length <= SHORT_LENGTH_LIMIT) {
+            writeRawByte(offset + length);
+            return;
+        }
+
+        int lengthOfLength = byteLength(length);
+        ensureCapacity(1 + lengthOfLength);
+        buffer[size++] = (byte)(offset + SHORT_LENGTH_LIMIT + lengthOfLength);
+        for(int i = lengthOfLength - 1; i >= 0; i--) {
+            buffer[size++] = (byte)(length >>> (i * 8));
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = size + additional;
+        if(required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private void checkClosed() {
+        if(depth != 0) {
+            throw new IllegalStateException("There is a list that has not been ended.");
+        }
+    }
+
+    private static int byteLength(long value) {
+        int length = 0;
+        while(value != 0) {
+            value >>>= 8;
+            length++;
+        }
+        return length;
+    }
+
+    private static boolean hasHexPrefix(String hex) {
+        return hex.length() > 1 && hex.charAt(0) == '0' && (hex.charAt(1) == 'x' || hex.charAt(1) == 'X');
+    }
+
+    private static int hexDigit(String hex, int index) {
+        int digit = Character.digit(hex.charAt(index), 16);
+        if(digit < 0) {
+            throw new NumberFormatException("Invalid hex string : " + hex);
+        }
+        return digit;
+    }
+}
@@ -18,9 +18,9 @@ package com.klaytn.caver.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.crypto.Secp256k1;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.bouncycastle.math.ec.ECPoint;
-import org.web3j.crypto.ECDSASignature;
 import org.web3j.crypto.Hash;
 import org.web3j.crypto.Keys;
 import org.web3j.crypto.Sign;
@@ -421,6 +421,25 @@ public class Utils {
      * @throws SignatureException
      */
     public static String recoverPublicKey(String message, SignatureData signatureData, boolean isHashed) throws SignatureException {
+        return Numeric.toHexString(recoverRawPublicKey(message, signatureData, isHashed));
+    }
+
+    /**
+     * Recovers the raw 64-byte public key that was used to sign the given data.<p>
+     * It is the same as {@link #recoverPublicKey(String, SignatureData, boolean)} without encoding the public key to a hex string,
+     * so it can be used to compare public keys as bytes.
+     * <pre>Example :
+     * {@code
+     * byte[] publicKey = caver.utils.recoverRawPublicKey(message, signatureData, false);
+     * }
+     * </pre>
+     * @param message The raw message string. If this message is already hashed with Klaytn prefix, the third parameter should be true.
+     * @param signatureData The {@link SignatureData} to recover public key.
+     * @param isHashed If true, the message param already hashed by appending a Klaytn sign prefix to the message.
+     * @return byte[]
+     * @throws SignatureException
+     */
+    public static byte[] recoverRawPublicKey(String message, SignatureData signatureData, boolean isHashed) throws SignatureException {
         String messageHash = message;
         if(!isHashed) {
             messageHash = Utils.hashMessage(message);
@@ -436,18 +455,14 @@ public class Utils {
             throw new IllegalArgumentException("s must be 32 bytes");
         }
 
-       int recId = signatureData.getRecoverId();
-
-        ECDSASignature sig = new ECDSASignature(
-                new BigInteger(1, r),
-                new BigInteger(1, s));
+        int recId = signatureData.getRecoverId();
 
-        BigInteger key = Sign.recoverFromSignature(recId, sig, Numeric.hexStringToByteArray(messageHash));
+        byte[] key = Secp256k1.recoverPublicKey(recId, r, s, Numeric.hexStringToByteArray(messageHash));
         if (key == null) {
             throw new SignatureException("Could not recover public key from signature");
         }
 
-        return Numeric.toHexStringWithPrefixZeroPadded(key, LENGTH_PUBLIC_KEY_STRING_DECOMPRESSED);
+        return key;
     }
 
     /**
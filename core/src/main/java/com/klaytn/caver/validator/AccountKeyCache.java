@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.validator;
+
+import com.klaytn.caver.account.IAccountKey;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of account keys used by {@link Validator}.<p>
+ * An account key is kept until the time to live passes, and the least recently used one is removed when the cache is full.
+ * An account key changes only with an AccountUpdate transaction, so the cached key of an account can be invalidated
+ * when an AccountUpdate transaction of the account is found in a new block.
+ * <pre>Example :
+ * {@code
+ * AccountKeyCache cache = new AccountKeyCache();
+ * Validator validator = new Validator(caver.rpc.klay, cache);
+ *
+ * caver.rpc.klay.subscribe("newHeads", notification -> {
+ *     String blockHash = notification.getParams().getResult().getHash();
+ *     cache.invalidateAccountUpdates(caver.rpc.klay.getBlockReceipts(blockHash).send().getResult());
+ * });
+ * }
+ * </pre>
+ */
+public class AccountKeyCache {
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * The max number of cached account keys.
+     */
+    private final int maxSize;
+
+    /**
+     * The time in milliseconds to keep an account key.
+     */
+    private final long timeToLive;
+
+    /**
+     * The map where a lower-cased address and its account key are mapped, in the order of access.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * Creates an AccountKeyCache instance with {@link #DEFAULT_MAX_SIZE} and {@link #DEFAULT_TIME_TO_LIVE}.
+     */
+    public AccountKeyCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates an AccountKeyCache instance.
+     * @param maxSize The max number of cached account keys.
+     * @param timeToLive The time in milliseconds to keep an account key.
+     */
+    public AccountKeyCache(int maxSize, long timeToLive) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0.");
+        }
+        if(timeToLive <= 0) {
+            throw new IllegalArgumentException("timeToLive must be greater than 0.");
+        }
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AccountKeyCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached entry of the address. It returns null if the account key is not cached or expired.
+     * @param address The address of the account.
+     * @return Entry
+     */
+    synchronized Entry get(String address) {
+        String key = address.toLowerCase();
+        Entry entry = entries.get(key);
+        if(entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the account key of the address.
+     * @param address The address of the account.
+     * @param accountKey The account key. It is null if the account has not been applied in Klaytn's state.
+     */
+    public synchronized void put(String address, IAccountKey accountKey) {
+        entries.put(address.toLowerCase(), new Entry(accountKey, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeToLive)));
+    }
+
+    /**
+     * Removes the cached account key of the address.
+     * @param address The address of the account.
+     */
+    public synchronized void invalidate(String address) {
+        entries.remove(address.toLowerCase());
+    }
+
+    /**
+     * Removes all cached account keys.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Removes the cached account keys of the senders of AccountUpdate transactions in the receipts.
+     * @param receipts The transaction receipts of a block.
+     */
+    public void invalidateAccountUpdates(List<TransactionReceipt.TransactionReceiptData> receipts) {
+        for(TransactionReceipt.TransactionReceiptData receipt : receipts) {
+            if(receipt.getType() != null && receipt.getType().contains("AccountUpdate") && receipt.getFrom() != null) {
+                invalidate(receipt.getFrom());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached account keys including expired ones not removed yet.
+     * @return int
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Getter function for maxSize.
+     * @return int
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Getter function for timeToLive.
+     * @return long
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * A cached account key. The account key is null if the account has not been applied in Klaytn's state.
+     */
+    static class Entry {
+        final IAccountKey accountKey;
+        final long expiresAt;
+
+        Entry(IAccountKey accountKey, long expiresAt) {
+            this.accountKey = accountKey;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
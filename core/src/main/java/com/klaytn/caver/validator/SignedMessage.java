@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.validator;
+
+import com.klaytn.caver.wallet.keyring.SignatureData;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representing a signed message to validate with {@link Validator#validateAllSignedMessages(List)}.
+ */
+public class SignedMessage {
+
+    /**
+     * The message.
+     */
+    private final String message;
+
+    /**
+     * The signatures of the message.
+     */
+    private final List<SignatureData> signatures;
+
+    /**
+     * The address of the account that signed the message.
+     */
+    private final String address;
+
+    /**
+     * If true, the message is assumed to be already prefixed with "\x19Klaytn Signed Message:\n" + message.length + message.
+     */
+    private final boolean isHashed;
+
+    /**
+     * Creates a SignedMessage instance.
+     * @param message The raw message string.
+     * @param signature The signature of the message.
+     * @param address The address of the account that signed the message.
+     */
+    public SignedMessage(String message, SignatureData signature, String address) {
+        this(message, Collections.singletonList(signature), address, false);
+    }
+
+    /**
+     * Creates a SignedMessage instance.
+     * @param message The message.
+     * @param signatures The signatures of the message.
+     * @param address The address of the account that signed the message.
+     * @param isHashed If true, the message is assumed to be already prefixed with "\x19Klaytn Signed Message:\n" + message.length + message.
+     */
+    public SignedMessage(String message, List<SignatureData> signatures, String address, boolean isHashed) {
+        this.message = message;
+        this.signatures = signatures;
+        this.address = address;
+        this.isHashed = isHashed;
+    }
+
+    /**
+     * Getter function for message.
+     * @return String
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Getter function for signatures.
+     * @return List
+     */
+    public List<SignatureData> getSignatures() {
+        return signatures;
+    }
+
+    /**
+     * Getter function for address.
+     * @return String
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Getter function for isHashed.
+     * @return boolean
+     */
+    public boolean isHashed() {
+        return isHashed;
+    }
+}
@@ -17,32 +17,74 @@
 package com.klaytn.caver.validator;
 
 import com.klaytn.caver.account.*;
+import com.klaytn.caver.crypto.Secp256k1;
 import com.klaytn.caver.methods.response.AccountKey;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 
 public class Validator {
+    /**
+     * The max number of "klay_getAccountKey" requests in a JSON-RPC batch.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
     /**
      * The Klay instance to call Klay RPC API.
      */
     Klay klay;
 
+    /**
+     * The cache of account keys. If it is null, an account key is requested at every validation.
+     */
+    private final AccountKeyCache accountKeyCache;
+
     /**
      * Create a Validator instance.
      * @param klay The Klay instance.
      */
     public Validator(Klay klay) {
+        this(klay, null);
+    }
+
+    /**
+     * Create a Validator instance which caches account keys.
+     * @param klay The Klay instance.
+     * @param accountKeyCache The cache of account keys. If it is null, an account key is requested at every validation.
+     */
+    public Validator(Klay klay, AccountKeyCache accountKeyCache) {
         this.klay = klay;
+        this.accountKeyCache = accountKeyCache;
+    }
+
+    /**
+     * Getter function for accountKeyCache.
+     * @return AccountKeyCache
+     */
+    public AccountKeyCache getAccountKeyCache() {
+        return accountKeyCache;
     }
 
     /**
@@ -132,41 +174,54 @@ public class Validator {
      * @return boolean
      */
     public boolean validateSignedMessage(String message, List<SignatureData> signatures, String address, boolean isHashed) {
-        try {
-            //Loading Account Key.
-            AccountKey accountKey = klay.getAccountKey(address).send();
-            if(accountKey.hasError()) {
-                throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
-            }
-
-            signatures = SignatureData.refineSignature(signatures);
+        //Loading Account Key.
+        IAccountKey acctKey = getAccountKey(address);
 
+        try {
             //Extract public keys from signatures.
-            List<String> pubKeys = new ArrayList<>();
-            for(SignatureData signature : signatures) {
-                pubKeys.add(Utils.recoverPublicKey(message, signature, isHashed));
-            }
+            List<byte[]> pubKeys = recoverPublicKeys(message, signatures, isHashed);
 
-            // For accounts that have not yet been applied in Klaytn's state,
-            // the return value of `caver.rpc.klay.getAccountKey` is null.
-            // In this case, the account's key has never been updated,
-            // so the logic is the same as in AccountKeyLegacy.
-            AccountKey.AccountKeyData acctKeyData = accountKey.getResult();
-            IAccountKey acctKey;
-            if (acctKeyData == null) {
-                acctKey = new AccountKeyLegacy();
-            } else {
-                acctKey = acctKeyData.getAccountKey();
-            }
             //Compare a account key from queried and public keys extracting from signature.
             return validateWithAccountType(address, acctKey, pubKeys, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex());
-        } catch(IOException e) {
-            throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
         } catch(SignatureException e) {
             throw new RuntimeException("Failed to recover signature", e);
         }
     }
 
+    /**
+     * Validates signed messages.<p>
+     * The account keys which are not cached are requested in JSON-RPC batches, and the public keys are recovered from signatures in parallel.
+     * A signed message whose signature can't be recovered is invalid.
+     * <pre>Example :
+     * {@code
+     * List<SignedMessage> signedMessages = Arrays.asList(new SignedMessage("Some data", sigData, "0x{address}"), .....);
+     *
+     * List<Boolean> results = caver.validator.validateAllSignedMessages(signedMessages);
+     * }
+     * </pre>
+     *
+     * @param signedMessages The signed messages to validate.
+     * @return List - The validation results in the order of the signed messages.
+     */
+    public List<Boolean> validateAllSignedMessages(List<SignedMessage> signedMessages) {
+        List<String> addresses = new ArrayList<>();
+        for(SignedMessage signedMessage : signedMessages) {
+            addresses.add(signedMessage.getAddress());
+        }
+        Map<String, IAccountKey> accountKeys = getAccountKeys(addresses);
+
+        return validateInParallel(signedMessages.size(), index -> {
+            SignedMessage signedMessage = signedMessages.get(index);
+            try {
+                List<byte[]> pubKeys = recoverPublicKeys(signedMessage.getMessage(), signedMessage.getSignatures(), signedMessage.isHashed());
+                return validateWithAccountType(signedMessage.getAddress(), accountKeys.get(signedMessage.getAddress().toLowerCase()),
+                        pubKeys, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex());
+            } catch(SignatureException | RuntimeException e) {
+                return false;
+            }
+        });
+    }
+
     /**
      * Validates the sender of the transaction.<p>
      * This function compares the public keys of the account key of sender with the public keys recovered from signatures field.
@@ -181,20 +236,8 @@ public class Validator {
      * @return boolean
      */
     public boolean validateSender(AbstractTransaction tx) {
-        try {
-            //Loading Account Key.
-            AccountKey accountKey = klay.getAccountKey(tx.getFrom()).send();
-            if(accountKey.hasError()) {
-                throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
-            }
-
-            List<String> publicKeys = tx.recoverPublicKeys();
-            int role = tx.getType().contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
-
-            return validateWithAccountType(tx.getFrom(), accountKey.getResult().getAccountKey(), publicKeys, role);
-        } catch(IOException e) {
-            throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
-        }
+        //Loading Account Key.
+        return validateSender(tx, getAccountKey(tx.getFrom()));
     }
 
     /**
@@ -211,20 +254,8 @@ public class Validator {
      * @return boolean
      */
     public boolean validateFeePayer(AbstractFeeDelegatedTransaction tx) {
-        try {
-            //Loading Account Key.
-            AccountKey accountKey = klay.getAccountKey(tx.getFeePayer()).send();
-            if(accountKey.hasError()) {
-                throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
-            }
-
-            List<String> publicKeys = tx.recoverFeePayerPublicKeys();
-            int role = AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex();
-
-            return validateWithAccountType(tx.getFeePayer(), accountKey.getResult().getAccountKey(), publicKeys, role);
-        } catch(IOException e) {
-            throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
-        }
+        //Loading Account Key.
+        return validateFeePayer(tx, getAccountKey(tx.getFeePayer()));
     }
 
     /**
@@ -251,7 +282,159 @@ public class Validator {
         return isValid;
     }
 
-    private boolean validateWithAccountType(String address, IAccountKey accountKey, List<String> pubKeys, int role) {
+    /**
+     * Validates transactions.<p>
+     * It validates each transaction like {@link #validateTransaction(AbstractTransaction)}.
+     * A transaction whose signature can't be recovered is invalid.
+     * The account keys which are not cached are requested in JSON-RPC batches, and the public keys are recovered from signatures in parallel.
+     * <pre>Example
+     * {@code
+     * List<AbstractTransaction> transactions = Arrays.asList(valueTransfer, feeDelegatedValueTransfer, .....);
+     * List<Boolean> results = caver.validator.validateAll(transactions);
+     * }
+     * </pre>
+     *
+     * @param transactions The transactions to validate.
+     * @return List - The validation results in the order of the transactions.
+     */
+    public List<Boolean> validateAll(List<? extends AbstractTransaction> transactions) {
+        List<String> addresses = new ArrayList<>();
+        for(AbstractTransaction tx : transactions) {
+            addresses.add(tx.getFrom());
+            if(tx instanceof AbstractFeeDelegatedTransaction) {
+                addresses.add(((AbstractFeeDelegatedTransaction)tx).getFeePayer());
+            }
+        }
+        Map<String, IAccountKey> accountKeys = getAccountKeys(addresses);
+
+        return validateInParallel(transactions.size(), index -> {
+            AbstractTransaction tx = transactions.get(index);
+            try {
+                boolean isValid = validateSender(tx, accountKeys.get(tx.getFrom().toLowerCase()));
+
+                if(isValid && tx instanceof AbstractFeeDelegatedTransaction) {
+                    AbstractFeeDelegatedTransaction feeDelegatedTx = (AbstractFeeDelegatedTransaction)tx;
+                    isValid = validateFeePayer(feeDelegatedTx, accountKeys.get(feeDelegatedTx.getFeePayer().toLowerCase()));
+                }
+                return isValid;
+            } catch(RuntimeException e) {
+                return false;
+            }
+        });
+    }
+
+    private boolean validateSender(AbstractTransaction tx, IAccountKey accountKey) {
+        List<byte[]> publicKeys = tx.recoverRawPublicKeys();
+        int role = tx.getType().contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
+
+        return validateWithAccountType(tx.getFrom(), accountKey, publicKeys, role);
+    }
+
+    private boolean validateFeePayer(AbstractFeeDelegatedTransaction tx, IAccountKey accountKey) {
+        List<byte[]> publicKeys = tx.recoverFeePayerRawPublicKeys();
+        int role = AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex();
+
+        return validateWithAccountType(tx.getFeePayer(), accountKey, publicKeys, role);
+    }
+
+    private List<byte[]> recoverPublicKeys(String message, List<SignatureData> signatures, boolean isHashed) throws SignatureException {
+        List<byte[]> pubKeys = new ArrayList<>();
+        for(SignatureData signature : SignatureData.refineSignature(signatures)) {
+            pubKeys.add(Utils.recoverRawPublicKey(message, signature, isHashed));
+        }
+        return pubKeys;
+    }
+
+    private static List<Boolean> validateInParallel(int count, IntPredicate validation) {
+        // Recovering public keys is CPU bound, so the validations run in the common fork join pool.
+        Boolean[] results = new Boolean[count];
+        IntStream.range(0, count).parallel().forEach(index -> results[index] = validation.test(index));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Returns the account key of the address from the cache or Klaytn.
+     * @param address The address of the account.
+     * @return IAccountKey. It is null if the account has not been applied in Klaytn's state.
+     */
+    private IAccountKey getAccountKey(String address) {
+        return getAccountKeys(Collections.singletonList(address)).get(address.toLowerCase());
+    }
+
+    /**
+     * Returns the account keys of the addresses. The account keys which are not cached are requested in JSON-RPC batches.
+     * @param addresses The addresses of the accounts.
+     * @return Map - The map where a lower-cased address and its account key are mapped.
+     */
+    private Map<String, IAccountKey> getAccountKeys(List<String> addresses) {
+        Map<String, IAccountKey> accountKeys = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        Set<String> uniqueAddresses = new LinkedHashSet<>();
+        for(String address : addresses) {
+            uniqueAddresses.add(address.toLowerCase());
+        }
+        for(String address : uniqueAddresses) {
+            AccountKeyCache.Entry entry = (accountKeyCache == null) ? null : accountKeyCache.get(address);
+            if(entry != null) {
+                accountKeys.put(address, entry.accountKey);
+            } else {
+                missing.add(address);
+            }
+        }
+
+        try {
+            if(missing.size() == 1) {
+                putAccountKey(accountKeys, missing.get(0), klay.getAccountKey(missing.get(0)).send());
+                return accountKeys;
+            }
+
+            for(int from = 0; from < missing.size(); from += MAX_BATCH_SIZE) {
+                BatchRequest batchRequest = klay.newBatch();
+                Map<Long, String> requestMap = new HashMap<>();
+                for(String address : missing.subList(from, Math.min(missing.size(), from + MAX_BATCH_SIZE))) {
+                    Request<?, AccountKey> request = klay.getAccountKey(address);
+                    requestMap.put(request.getId(), address);
+                    batchRequest.add(request);
+                }
+
+                BatchResponse batchResponse = batchRequest.send();
+
+                // Responses of a batch may be returned in any order, so they are matched with requests by id.
+                for(Response<?> response : batchResponse.getResponses()) {
+                    String address = requestMap.remove(response.getId());
+                    if(address != null) {
+                        putAccountKey(accountKeys, address, (AccountKey)response);
+                    }
+                }
+                if(!requestMap.isEmpty()) {
+                    throw new IOException("There is no response for the AccountKey of " + requestMap.values());
+                }
+            }
+            return accountKeys;
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
+        }
+    }
+
+    private void putAccountKey(Map<String, IAccountKey> accountKeys, String address, AccountKey accountKey) {
+        if(accountKey.hasError()) {
+            throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
+        }
+
+        // For accounts that have not yet been applied in Klaytn's state, the result of `caver.rpc.klay.getAccountKey` is null.
+        AccountKey.AccountKeyData accountKeyData = accountKey.getResult();
+        IAccountKey key = (accountKeyData == null) ? null : accountKeyData.getAccountKey();
+
+        accountKeys.put(address, key);
+        if(accountKeyCache != null) {
+            accountKeyCache.put(address, key);
+        }
+    }
+
+    private boolean validateWithAccountType(String address, IAccountKey accountKey, List<byte[]> publicKeys, int role) {
+        // The recovered public keys are compared with the public keys in the account key as raw 64-byte keys,
+        // so the format of the public keys in the account key doesn't matter.
         // For accounts that have not yet been applied in Klaytn's state, the return value of `caver.rpc.klay.getAccountKey` is null.
         // In this case, the account's key has never been updated, so the logic is the same as in AccountKeyLegacy.
         if(accountKey == null) {
@@ -261,13 +444,13 @@ public class Validator {
         Account account = new Account(address, accountKey);
 
         if(accountKey instanceof AccountKeyLegacy) {
-            return validateAccountKeyLegacy(account, pubKeys);
+            return validateAccountKeyLegacy(account, publicKeys);
         } else if(accountKey instanceof AccountKeyPublic) {
-            return validateAccountKeyPublic(account, pubKeys);
+            return validateAccountKeyPublic(account, publicKeys);
         } else if(accountKey instanceof AccountKeyWeightedMultiSig) {
-            return validateAccountKeyWeightedMultiSig(account, pubKeys);
+            return validateAccountKeyWeightedMultiSig(account, publicKeys);
         } else if(accountKey instanceof AccountKeyRoleBased) {
-            return validateAccountKeyRoleBased(account, pubKeys, role);
+            return validateAccountKeyRoleBased(account, publicKeys, role);
         } else if(accountKey instanceof AccountKeyFail || accountKey instanceof AccountKeyNil){
             return false;
         } else {
@@ -275,10 +458,14 @@ public class Validator {
         }
     }
 
-    private boolean validateAccountKeyLegacy(Account account, List<String> publicKeys) {
+    private boolean validateAccountKeyLegacy(Account account, List<byte[]> publicKeys) {
+        byte[] address = Numeric.hexStringToByteArray(account.getAddress());
+
         boolean isValid = false;
-        for(String publicKey : publicKeys) {
-            if(account.getAddress().equals(Utils.publicKeyToAddress(publicKey))) {
+        for(byte[] publicKey : publicKeys) {
+            // The address is the last 20 bytes of the keccak256 hash of the public key.
+            byte[] hash = Hash.sha3(publicKey);
+            if(Arrays.equals(address, Arrays.copyOfRange(hash, hash.length - address.length, hash.length))) {
                 isValid = true;
                 break;
             }
@@ -286,12 +473,17 @@ public class Validator {
         return isValid;
     }
 
-    private boolean validateAccountKeyPublic(Account account, List<String> publicKeys) {
+    private boolean validateAccountKeyPublic(Account account, List<byte[]> publicKeys) {
         boolean isValid = false;
 
         AccountKeyPublic accountKeyPublic = (AccountKeyPublic)account.getAccountKey();
-        for(String publicKey : publicKeys) {
-            if(accountKeyPublic.getPublicKey().equals(publicKey)) {
+        byte[] accountPublicKey = toRawPublicKey(accountKeyPublic.getPublicKey());
+        if(accountPublicKey == null) {
+            return false;
+        }
+
+        for(byte[] publicKey : publicKeys) {
+            if(Arrays.equals(accountPublicKey, publicKey)) {
                 isValid = true;
             }
         }
@@ -299,15 +491,20 @@ public class Validator {
         return isValid;
     }
 
-    private boolean validateAccountKeyWeightedMultiSig(Account account, List<String> publicKeys) {
+    private boolean validateAccountKeyWeightedMultiSig(Account account, List<byte[]> publicKeys) {
         AccountKeyWeightedMultiSig accountKey = (AccountKeyWeightedMultiSig)account.getAccountKey();
 
+        List<byte[]> weightedPublicKeys = new ArrayList<>();
+        for(WeightedPublicKey weightedPublicKey : accountKey.getWeightedPublicKeys()) {
+            weightedPublicKeys.add(toRawPublicKey(weightedPublicKey.getPublicKey()));
+        }
+
         // TODO: If an invalid signature is included, it should be changed to return false.
         BigInteger sumOfWeight = BigInteger.ZERO;
-        for(String pubKey : publicKeys) {
-            for(WeightedPublicKey weightedPublicKey : accountKey.getWeightedPublicKeys()) {
-                if(pubKey.equals(weightedPublicKey.getPublicKey())) {
-                    sumOfWeight = sumOfWeight.add(weightedPublicKey.getWeight());
+        for(byte[] pubKey : publicKeys) {
+            for(int i = 0; i < weightedPublicKeys.size(); i++) {
+                if(weightedPublicKeys.get(i) != null && Arrays.equals(pubKey, weightedPublicKeys.get(i))) {
+                    sumOfWeight = sumOfWeight.add(accountKey.getWeightedPublicKeys().get(i).getWeight());
                     break;
                 }
             }
@@ -316,7 +513,7 @@ public class Validator {
         return sumOfWeight.compareTo(accountKey.getThreshold()) >= 0;
     }
 
-    private boolean validateAccountKeyRoleBased(Account account, List<String> publicKeys, int role) {
+    private boolean validateAccountKeyRoleBased(Account account, List<byte[]> publicKeys, int role) {
         AccountKeyRoleBased accountKey = (AccountKeyRoleBased)account.getAccountKey();
         IAccountKey roleKey = accountKey.getAccountKeys().get(role);
 
@@ -339,4 +536,16 @@ public class Validator {
             throw new IllegalArgumentException("Invalid account key type");
         }
     }
+
+    /**
+     * Returns the raw 64-byte public key of a compressed or an uncompressed public key. It returns null if the public key is invalid,
+     * and an invalid public key doesn't match any recovered public key.
+     */
+    private static byte[] toRawPublicKey(String publicKey) {
+        try {
+            return Secp256k1.decodePublicKey(Numeric.hexStringToByteArray(publicKey));
+        } catch(IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
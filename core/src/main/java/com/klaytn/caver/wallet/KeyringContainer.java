@@ -16,20 +16,36 @@
 
 package com.klaytn.caver.wallet;
 
+import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
+import com.klaytn.caver.transaction.NonceManager;
 import com.klaytn.caver.transaction.TransactionHasher;
+import com.klaytn.caver.transaction.type.EthereumDynamicFee;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.wrapper.KeyringFactoryWrapper;
 import com.klaytn.caver.wallet.keyring.MessageSigned;
+import org.web3j.utils.Numeric;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -43,9 +59,16 @@ import java.util.function.Function;
  */
 public class KeyringContainer implements IWallet{
     /**
-     * The map where address and keyring are mapped
+     * The map where address and keyring are mapped.<p>
+     * It is a concurrent map, so a KeyringContainer can be shared by threads signing transactions at the same time.
      */
-    Map<String, AbstractKeyring> addressKeyringMap = new HashMap<>();
+    Map<String, AbstractKeyring> addressKeyringMap = new ConcurrentHashMap<>();
+
+    /**
+     * The map where Klay instance and the NonceManager filling empty nonces of the transactions using it are mapped.<p>
+     * It is shared by all batches signed with this container, so concurrent batches of the same sender don't allocate the same nonce.
+     */
+    private final Map<Klay, NonceManager> nonceManagerMap = Collections.synchronizedMap(new IdentityHashMap<>());
 
     /**
      * The KeyringFactoryWrapper instance
@@ -211,8 +234,12 @@ public class KeyringContainer implements IWallet{
             throw new IllegalArgumentException("Failed to find keyring to update.");
         }
 
-        this.remove(keyring.getAddress());
-        return this.add(keyring);
+        AbstractKeyring updated = keyring.copy();
+        if(this.addressKeyringMap.replace(keyring.getAddress().toLowerCase(), updated) == null) {
+            throw new IllegalArgumentException("Failed to find keyring to update.");
+        }
+
+        return updated;
     }
 
     /**
@@ -251,7 +278,9 @@ public class KeyringContainer implements IWallet{
         }
 
         AbstractKeyring added = keyring.copy();
-        this.addressKeyringMap.put(keyring.getAddress().toLowerCase(), added);
+        if(this.addressKeyringMap.putIfAbsent(keyring.getAddress().toLowerCase(), added) != null) {
+            throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
+        }
 
         return added;
     }
@@ -489,6 +518,102 @@ public class KeyringContainer implements IWallet{
         return transaction.signAsFeePayer(this.getKeyring(address), index, hasher);
     }
 
+    /**
+     * Signs the transactions as senders and appends signatures in each transaction instance using all keys in the keyring corresponding to its "from" address.<p>
+     * Transactions are signed in parallel on the {@link ForkJoinPool#commonPool()}.<p>
+     * Empty nonces are filled before signing by the NonceManager of the Klay instance returned by {@link #getNonceManager(Klay)},
+     * which queries the pending transaction count once per sender and increases it locally in list order.
+     * Empty chain ids, gas prices and dynamic fees are also filled with one request per Klay instance in a batch.
+     * <pre>Example :
+     * {@code
+     * List<AbstractTransaction> signedTxs = caver.wallet.signAll(transactions);
+     * }
+     * </pre>
+     *
+     * @param transactions A list of transactions to sign.
+     * @param <T> A type extends AbstractTransaction
+     * @return List&lt;T&gt; The signed transactions in the same order as the given list.
+     * @throws IOException
+     */
+    public <T extends AbstractTransaction> List<T> signAll(List<T> transactions) throws IOException {
+        return signAll(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the transactions as senders and appends signatures in each transaction instance using all keys in the keyring corresponding to its "from" address.<p>
+     * Transactions are signed in parallel on the given executor.<p>
+     * Empty nonces are filled before signing by the NonceManager of the Klay instance returned by {@link #getNonceManager(Klay)},
+     * which queries the pending transaction count once per sender and increases it locally in list order.
+     * Empty chain ids, gas prices and dynamic fees are also filled with one request per Klay instance in a batch.
+     * <pre>Example :
+     * {@code
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * List<AbstractTransaction> signedTxs = caver.wallet.signAll(transactions, executor);
+     * }
+     * </pre>
+     *
+     * @param transactions A list of transactions to sign.
+     * @param executor The executor to run signing tasks.
+     * @param <T> A type extends AbstractTransaction
+     * @return List&lt;T&gt; The signed transactions in the same order as the given list.
+     * @throws IOException
+     */
+    public <T extends AbstractTransaction> List<T> signAll(List<T> transactions, Executor executor) throws IOException {
+        for(T transaction : transactions) {
+            if(!isExisted(transaction.getFrom())) {
+                throw new NullPointerException("Failed to find keyring from wallet with address : " + transaction.getFrom());
+            }
+        }
+
+        return fillAndRunAll(transactions, executor, transaction -> sign(transaction.getFrom(), transaction));
+    }
+
+    /**
+     * Signs the FeeDelegatedTransactions as a fee payer and appends feePayerSignatures in each transaction instance using all keys in the keyring corresponding to the address.<p>
+     * Transactions are signed in parallel on the {@link ForkJoinPool#commonPool()}.<p>
+     * Empty nonces, chain ids and fee fields are filled in the same way as {@link #signAll(List)}.
+     * <pre>Example :
+     * {@code
+     * List<AbstractFeeDelegatedTransaction> signedTxs = caver.wallet.signAsFeePayerAll("0x{address}", transactions);
+     * }
+     * </pre>
+     *
+     * @param address An address of keyring in KeyringContainer.
+     * @param transactions A list of AbstractFeeDelegatedTransaction to sign.
+     * @param <T> A type extends AbstractFeeDelegatedTransaction
+     * @return List&lt;T&gt; The signed transactions in the same order as the given list.
+     * @throws IOException
+     */
+    public <T extends AbstractFeeDelegatedTransaction> List<T> signAsFeePayerAll(String address, List<T> transactions) throws IOException {
+        return signAsFeePayerAll(address, transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the FeeDelegatedTransactions as a fee payer and appends feePayerSignatures in each transaction instance using all keys in the keyring corresponding to the address.<p>
+     * Transactions are signed in parallel on the given executor.<p>
+     * Empty nonces, chain ids and fee fields are filled in the same way as {@link #signAll(List)}.
+     * <pre>Example :
+     * {@code
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * List<AbstractFeeDelegatedTransaction> signedTxs = caver.wallet.signAsFeePayerAll("0x{address}", transactions, executor);
+     * }
+     * </pre>
+     *
+     * @param address An address of keyring in KeyringContainer.
+     * @param transactions A list of AbstractFeeDelegatedTransaction to sign.
+     * @param executor The executor to run signing tasks.
+     * @param <T> A type extends AbstractFeeDelegatedTransaction
+     * @return List&lt;T&gt; The signed transactions in the same order as the given list.
+     * @throws IOException
+     */
+    public <T extends AbstractFeeDelegatedTransaction> List<T> signAsFeePayerAll(String address, List<T> transactions, Executor executor) throws IOException {
+        if(!isExisted(address)) {
+            throw new NullPointerException("Failed to find keyring from wallet with address");
+        }
+
+        return fillAndRunAll(transactions, executor, transaction -> signAsFeePayer(address, transaction));
+    }
+
     /**
      * Returns true if there is a keyring matching the given address in the wallet.<p>
      * <pre>Exampe :
@@ -503,4 +628,227 @@ public class KeyringContainer implements IWallet{
     public boolean isExisted(String address) {
         return this.getKeyring(address) != null;
     }
+
+    /**
+     * Returns the NonceManager which fills empty nonces of the transactions using the given Klay instance in {@link #signAll(List)} and {@link #signAsFeePayerAll(String, List)}.<p>
+     * It is created when it is requested at first and shared by all batches signed with this container.
+     * Send the signed transactions with {@link NonceManager#sendRawTransaction(AbstractTransaction)}
+     * so that a sender is re-synced with the node when a transaction is rejected because of its nonce.
+     * <pre>Example :
+     * {@code
+     * List<AbstractTransaction> signedTxs = caver.wallet.signAll(transactions);
+     *
+     * NonceManager nonceManager = caver.wallet.getNonceManager(caver.rpc.klay);
+     * for(AbstractTransaction signedTx : signedTxs) {
+     *     nonceManager.sendRawTransaction(signedTx);
+     * }
+     * }
+     * </pre>
+     *
+     * @param klaytnCall The Klay instance set in transactions.
+     * @return NonceManager
+     */
+    public NonceManager getNonceManager(Klay klaytnCall) {
+        return nonceManagerMap.computeIfAbsent(klaytnCall, NonceManager::new);
+    }
+
+    /**
+     * Sets the NonceManager which fills empty nonces of the transactions using the given Klay instance.<p>
+     * It is used to share a NonceManager with other components sending transactions of the same senders.
+     * @param klaytnCall The Klay instance set in transactions.
+     * @param nonceManager The NonceManager to use.
+     */
+    public void setNonceManager(Klay klaytnCall, NonceManager nonceManager) {
+        if(nonceManager == null) {
+            throw new NullPointerException("nonceManager must not be null.");
+        }
+        nonceManagerMap.put(klaytnCall, nonceManager);
+    }
+
+    /**
+     * Fills empty fields of the transactions and signs them with the signing function.<p>
+     * If filling or signing fails, the nonces allocated in this call are released and cleared from the transactions which are not signed,
+     * so that the next batch of the same sender reuses them instead of leaving a gap.
+     * A transaction signed before the failure keeps its nonce, because its signature covers the nonce.
+     * @param transactions A list of transactions to fill and sign.
+     * @param executor The executor to run signing tasks.
+     * @param signer The function to sign a transaction.
+     * @param <T> A type extends AbstractTransaction
+     * @return List&lt;T&gt;
+     * @throws IOException
+     */
+    private <T extends AbstractTransaction> List<T> fillAndRunAll(List<T> transactions, Executor executor, TransactionSigner<T> signer) throws IOException {
+        List<AllocatedNonce> allocatedNonces = new ArrayList<>();
+        Set<AbstractTransaction> signedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            fillTransactions(transactions, allocatedNonces);
+            return runAll(transactions, executor, signer, signedSet);
+        } catch(IOException | RuntimeException e) {
+            for(AllocatedNonce allocatedNonce : allocatedNonces) {
+                if(!signedSet.contains(allocatedNonce.transaction)) {
+                    allocatedNonce.release();
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fills empty nonces, chain ids and fee fields of the transactions.<p>
+     * Nonces are allocated by the NonceManager of each transaction or else the NonceManager of each Klay instance, so a batch of transactions doesn't send one request per transaction.
+     * A chain id, a gas price and a max priority fee per gas are requested once per Klay instance and used for all transactions of the batch.
+     * The fee fields of a transaction which has a FeeOracle are left to be filled by the oracle when it is signed.
+     * @param transactions A list of transactions to fill.
+     * @param allocatedNonces The list to add the nonces allocated while filling.
+     * @throws IOException
+     */
+    private void fillTransactions(List<? extends AbstractTransaction> transactions, List<AllocatedNonce> allocatedNonces) throws IOException {
+        Map<Klay, String> chainIdMap = new IdentityHashMap<>();
+        Map<Klay, BigInteger> gasPriceMap = new IdentityHashMap<>();
+        Map<Klay, String> maxPriorityFeePerGasMap = new IdentityHashMap<>();
+
+        for(AbstractTransaction transaction : transactions) {
+            Klay klaytnCall = transaction.getKlaytnCall();
+            if(klaytnCall == null) {
+                continue;
+            }
+
+            boolean emptyNonce = transaction.getNonce().equals("0x");
+            NonceManager nonceManager = transaction.getNonceManager() != null ? transaction.getNonceManager() : getNonceManager(klaytnCall);
+            nonceManager.fillNonce(transaction);
+            if(emptyNonce && !transaction.getNonce().equals("0x")) {
+                allocatedNonces.add(new AllocatedNonce(nonceManager, transaction));
+            }
+
+            if(transaction.getChainId().equals("0x")) {
+                String chainId = chainIdMap.get(klaytnCall);
+                if(chainId == null) {
+                    chainId = klaytnCall.getChainID().send().getResult();
+                    chainIdMap.put(klaytnCall, chainId);
+                }
+
+                transaction.setChainId(chainId);
+            }
+
+            if(transaction.getFeeOracle() != null) {
+                continue;
+            }
+
+            if(transaction instanceof ITransactionWithGasPriceField) {
+                if(((ITransactionWithGasPriceField)transaction).getGasPrice().equals("0x")) {
+                    transaction.fillFee(getGasPrice(transaction, gasPriceMap));
+                }
+            } else if(transaction instanceof EthereumDynamicFee) {
+                EthereumDynamicFee dynamicFeeTransaction = (EthereumDynamicFee)transaction;
+                if(dynamicFeeTransaction.getMaxPriorityFeePerGas().equals("0x")) {
+                    String maxPriorityFeePerGas = maxPriorityFeePerGasMap.get(klaytnCall);
+                    if(maxPriorityFeePerGas == null) {
+                        maxPriorityFeePerGas = klaytnCall.getMaxPriorityFeePerGas().send().getResult();
+                        maxPriorityFeePerGasMap.put(klaytnCall, maxPriorityFeePerGas);
+                    }
+
+                    dynamicFeeTransaction.setMaxPriorityFeePerGas(maxPriorityFeePerGas);
+                }
+                if(dynamicFeeTransaction.getMaxFeePerGas().equals("0x")) {
+                    dynamicFeeTransaction.setMaxFeePerGas(getGasPrice(transaction, gasPriceMap));
+                }
+            }
+        }
+    }
+
+    private BigInteger getGasPrice(AbstractTransaction transaction, Map<Klay, BigInteger> gasPriceMap) throws IOException {
+        BigInteger gasPrice = gasPriceMap.get(transaction.getKlaytnCall());
+        if(gasPrice == null) {
+            gasPrice = transaction.suggestGasPrice();
+            gasPriceMap.put(transaction.getKlaytnCall(), gasPrice);
+        }
+        return gasPrice;
+    }
+
+    /**
+     * Runs the signing function for each transaction on the executor and returns the transactions in the given order.<p>
+     * If signing fails, the tasks which have not started skip signing and the first error in list order is thrown.
+     * It returns after all tasks are finished, so no transaction is signed after it returns.
+     * @param transactions A list of transactions to sign.
+     * @param executor The executor to run signing tasks.
+     * @param signer The function to sign a transaction.
+     * @param signedSet The set to add the transactions signed successfully.
+     * @param <T> A type extends AbstractTransaction
+     * @return List&lt;T&gt;
+     * @throws IOException
+     */
+    private <T extends AbstractTransaction> List<T> runAll(List<T> transactions, Executor executor, TransactionSigner<T> signer, Set<AbstractTransaction> signedSet) throws IOException {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<T>> futures = new ArrayList<>(transactions.size());
+        for(T transaction : transactions) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                if(failed.get()) {
+                    throw new CancellationException("Another transaction of the batch has failed to be signed.");
+                }
+                try {
+                    signer.sign(transaction);
+                    return transaction;
+                } catch(IOException e) {
+                    failed.set(true);
+                    throw new UncheckedIOException(e);
+                } catch(RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }, executor));
+        }
+
+        List<T> signedList = new ArrayList<>(transactions.size());
+        Throwable error = null;
+        for(CompletableFuture<T> future : futures) {
+            try {
+                T transaction = future.join();
+                signedList.add(transaction);
+                signedSet.add(transaction);
+            } catch(CompletionException e) {
+                if(error == null && !(e.getCause() instanceof CancellationException)) {
+                    error = e.getCause();
+                }
+            }
+        }
+
+        if(error instanceof UncheckedIOException) {
+            throw ((UncheckedIOException)error).getCause();
+        }
+        if(error instanceof RuntimeException) {
+            throw (RuntimeException)error;
+        }
+        if(error != null) {
+            throw new CompletionException(error);
+        }
+        return signedList;
+    }
+
+    /**
+     * Represents a function signing a transaction, which is used by {@link #signAll(List, Executor)} and {@link #signAsFeePayerAll(String, List, Executor)}.
+     * @param <T> A type extends AbstractTransaction
+     */
+    private interface TransactionSigner<T extends AbstractTransaction> {
+        void sign(T transaction) throws IOException;
+    }
+
+    /**
+     * A nonce allocated from a NonceManager while filling a transaction of a batch.
+     */
+    private static class AllocatedNonce {
+        final NonceManager nonceManager;
+        final AbstractTransaction transaction;
+        final BigInteger nonce;
+
+        AllocatedNonce(NonceManager nonceManager, AbstractTransaction transaction) {
+            this.nonceManager = nonceManager;
+            this.transaction = transaction;
+            this.nonce = Numeric.toBigInt(transaction.getNonce());
+        }
+
+        void release() {
+            nonceManager.release(transaction.getFrom(), nonce);
+            transaction.setNonce("0x");
+        }
+    }
 }
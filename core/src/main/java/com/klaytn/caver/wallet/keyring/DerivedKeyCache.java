@@ -0,0 +1,281 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import com.klaytn.caver.utils.SecureRandomUtils;
+import org.web3j.crypto.CipherException;
+import org.web3j.crypto.Hash;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A scoped cache of keys derived by the KDF (scrypt or pbkdf2) of keystores.<p>
+ * The keys of a keystore v4 usually share the same KDF parameters and salt, so they have the same derived key.
+ * While a cache is open on a thread, {@link KeyStore.Crypto#decryptCrypto(KeyStore.Crypto, String)} and
+ * {@link KeyStore.Crypto#createCrypto(PrivateKey[], String, KeyStoreOption)} called on the thread
+ * (including {@link KeyringFactory#decrypt(KeyStore, String)} and {@link AbstractKeyring#encrypt(String, KeyStoreOption)})
+ * derive a key once for the same password, salt and KDF parameters.<p>
+ * A derived key is kept with the HMAC-SHA512 of the password keyed by a random secret of the cache, not the password itself,
+ * so the cached hashes can't be used to guess the password without the secret.
+ * All derived keys, password hashes and the secret are overwritten with zeros when the cache is closed, and no cache is used outside of the scope.<p>
+ * Closing the cache waits until the running {@link #get(String, KeyStore.IKdfParams, byte[], Callable)} calls return,
+ * so a derived key is not cleared while it is copied.
+ * <pre>Example :
+ * {@code
+ * try(DerivedKeyCache cache = DerivedKeyCache.open()) {
+ *     AbstractKeyring keyring = caver.wallet.keyring.decrypt(keyStore, "password");
+ *     KeyStore reEncrypted = keyring.encrypt("password");
+ * }
+ * }
+ * </pre>
+ */
+public class DerivedKeyCache implements Closeable {
+    private static final ThreadLocal<DerivedKeyCache> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The map where a derivation and its derived key are mapped.
+     * A derivation is run by the first caller, and others with the same key wait for it.
+     */
+    private final Map<Key, FutureTask<byte[]>> derivedKeys = new ConcurrentHashMap<>();
+
+    /**
+     * The thread where this cache is open.
+     */
+    private final Thread owner;
+
+    /**
+     * The cache that was open on the thread before this cache. It is restored when this cache is closed.
+     */
+    private final DerivedKeyCache previous;
+
+    /**
+     * The random secret to hash passwords. It is overwritten with zeros when this cache is closed.
+     */
+    private final byte[] secret = new byte[SECRET_LENGTH];
+
+    /**
+     * The lock which is read-locked by {@link #get(String, KeyStore.IKdfParams, byte[], Callable)} and write-locked by {@link #close()}.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean closed;
+
+    private static final int SECRET_LENGTH = 32;
+
+    private DerivedKeyCache(Thread owner, DerivedKeyCache previous) {
+        this.owner = owner;
+        this.previous = previous;
+        SecureRandomUtils.secureRandom().nextBytes(secret);
+    }
+
+    /**
+     * Opens a cache on the current thread. It is used until it is closed.
+     * @return DerivedKeyCache
+     */
+    public static DerivedKeyCache open() {
+        DerivedKeyCache cache = new DerivedKeyCache(Thread.currentThread(), CURRENT.get());
+        CURRENT.set(cache);
+        return cache;
+    }
+
+    /**
+     * Returns the cache open on the current thread, or null if there is none.
+     * @return DerivedKeyCache
+     */
+    public static DerivedKeyCache current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the derived key for the password and the KDF parameters. The derivation runs only if the key is not cached.
+     * @param password The password.
+     * @param kdfParams The KDF parameters.
+     * @param salt The salt.
+     * @param derivation The derivation to run if the key is not cached.
+     * @return byte[] - A copy of the derived key.
+     * @throws CipherException It throws when the derivation has failed.
+     */
+    byte[] get(String password, KeyStore.IKdfParams kdfParams, byte[] salt, Callable<byte[]> derivation) throws CipherException {
+        lock.readLock().lock();
+        try {
+            if(closed) {
+                return call(derivation);
+            }
+
+            Key key = new Key(hashPassword(password), kdfParams, salt);
+            FutureTask<byte[]> task = new FutureTask<>(derivation);
+            FutureTask<byte[]> existing = derivedKeys.putIfAbsent(key, task);
+            boolean cached = (existing == null);
+            if(cached) {
+                existing = task;
+                task.run();
+            }
+
+            try {
+                return existing.get().clone();
+            } catch(ExecutionException e) {
+                // A failed derivation is not cached.
+                derivedKeys.remove(key, existing);
+                cached = false;
+                if(e.getCause() instanceof CipherException) {
+                    throw (CipherException)e.getCause();
+                }
+                throw new CipherException(e.getCause());
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CipherException(e);
+            } finally {
+                // The password hash is kept only while the key is in the map.
+                if(!cached) {
+                    key.clear();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached derived keys.
+     * @return int
+     */
+    public int size() {
+        return derivedKeys.size();
+    }
+
+    /**
+     * Overwrites all derived keys with zeros and closes this cache.<p>
+     * It waits until the running derivations of this cache are finished.
+     * If it is called on the thread where this cache is open, the previous cache of the thread is restored.
+     */
+    @Override
+    public void close() {
+        if(Thread.currentThread() == owner && CURRENT.get() == this) {
+            if(previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            for(Map.Entry<Key, FutureTask<byte[]>> entry : derivedKeys.entrySet()) {
+                FutureTask<byte[]> task = entry.getValue();
+                if(task.isDone() && !task.isCancelled()) {
+                    try {
+                        Arrays.fill(task.get(), (byte)0);
+                    } catch(ExecutionException | InterruptedException ignored) {
+                        // A failed derivation has no key to clear.
+                    }
+                }
+                entry.getKey().clear();
+            }
+            derivedKeys.clear();
+            Arrays.fill(secret, (byte)0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private byte[] hashPassword(String password) {
+        byte[] passwordBytes = password.getBytes(UTF_8);
+        try {
+            return Hash.hmacSha512(secret, passwordBytes);
+        } finally {
+            Arrays.fill(passwordBytes, (byte)0);
+        }
+    }
+
+    /**
+     * Runs the derivation, and wraps a checked exception other than CipherException in a CipherException.
+     */
+    static byte[] call(Callable<byte[]> derivation) throws CipherException {
+        try {
+            return derivation.call();
+        } catch(CipherException | RuntimeException e) {
+            throw e;
+        } catch(Exception e) {
+            throw new CipherException(e);
+        }
+    }
+
+    /**
+     * The key of a derived key, which is the password hash, the salt and the KDF parameters.
+     */
+    private static class Key {
+        final byte[] passwordHash;
+        final byte[] salt;
+        final String kdfParams;
+        final int hashCode;
+
+        Key(byte[] passwordHash, KeyStore.IKdfParams kdfParams, byte[] salt) {
+            this.passwordHash = passwordHash;
+            this.salt = salt.clone();
+            this.kdfParams = describe(kdfParams);
+            // The hash code is kept, so that it doesn't change when the password hash is cleared.
+            this.hashCode = Objects.hash(Arrays.hashCode(passwordHash), Arrays.hashCode(this.salt), this.kdfParams);
+        }
+
+        /**
+         * Overwrites the password hash with zeros. It is called when the key is not in the map.
+         */
+        void clear() {
+            Arrays.fill(passwordHash, (byte)0);
+        }
+
+        private static String describe(KeyStore.IKdfParams kdfParams) {
+            if(kdfParams instanceof KeyStore.ScryptKdfParams) {
+                KeyStore.ScryptKdfParams params = (KeyStore.ScryptKdfParams)kdfParams;
+                return KeyStore.ScryptKdfParams.getName() + ":" + params.getN() + ":" + params.getR() + ":" + params.getP() + ":" + params.getDklen();
+            } else if(kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
+                KeyStore.Pbkdf2KdfParams params = (KeyStore.Pbkdf2KdfParams)kdfParams;
+                return KeyStore.Pbkdf2KdfParams.getName() + ":" + params.getC() + ":" + params.getPrf() + ":" + params.getDklen();
+            }
+            throw new IllegalArgumentException("Unsupported KDF");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key)o;
+            return Arrays.equals(passwordHash, key.passwordHash) && Arrays.equals(salt, key.salt) && kdfParams.equals(key.kdfParams);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
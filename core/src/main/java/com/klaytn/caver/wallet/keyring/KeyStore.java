@@ -50,6 +50,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -280,39 +281,25 @@ public class KeyStore {
                 iv = Numeric.hexStringToByteArray(option.cipherParams.getIv());
             }
 
-            for(int i=0; i < privateKeys.length; i++) {
-                byte[] derivedKey;
-
-                //Check KDF Algorithm
-                //SCRYPT
-                if(option.kdfParams instanceof KeyStore.ScryptKdfParams) {
-                    kdfName = KeyStore.ScryptKdfParams.getName();
-                    derivedKey = generateDerivedScryptKey(
-                            password.getBytes(UTF_8),
-                            salt,
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getN(),
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getR(),
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getP(),
-                            option.kdfParams.getDklen());
-
-                    ((KeyStore.ScryptKdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
-                }
-                //PBKDF2
-                else if(option.kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
-                    kdfName = KeyStore.Pbkdf2KdfParams.getName();
-
-                    derivedKey = generatePbkdf2DerivedKey(
-                            password.getBytes(UTF_8),
-                            salt,
-                            ((KeyStore.Pbkdf2KdfParams) option.kdfParams).getC(),
-                            ((KeyStore.Pbkdf2KdfParams) option.kdfParams).getPrf()
-                    );
-
-                    ((KeyStore.Pbkdf2KdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
-                } else {
-                    throw new RuntimeException("Unsupported KDF");
-                }
+            if(privateKeys.length == 0) {
+                return cryptoList;
+            }
+
+            //Check KDF Algorithm
+            if(option.kdfParams instanceof KeyStore.ScryptKdfParams) {
+                kdfName = KeyStore.ScryptKdfParams.getName();
+                ((KeyStore.ScryptKdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
+            } else if(option.kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
+                kdfName = KeyStore.Pbkdf2KdfParams.getName();
+                ((KeyStore.Pbkdf2KdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
+            } else {
+                throw new RuntimeException("Unsupported KDF");
+            }
+
+            // All keys are encrypted with the same password, salt and KDF parameters, so the key is derived once.
+            byte[] derivedKey = deriveKey(password, option.kdfParams, salt, DerivedKeyCache.current(), null);
 
+            for(int i=0; i < privateKeys.length; i++) {
                 //generate keys for used cipher encryption.(AES)
                 byte[] encryptKey = Arrays.copyOfRange(derivedKey, 0, 16);
 
@@ -348,38 +335,42 @@ public class KeyStore {
          * @throws CipherException
          */
         public static String decryptCrypto(KeyStore.Crypto crypto, String password) throws CipherException {
+            return decryptCrypto(crypto, password, DerivedKeyCache.current());
+        }
+
+        /**
+         * Decrypts a keys in KeyStore with a derived-key cache.
+         * @param crypto Crypto instance
+         * @param password The password to use for decryption.
+         * @param cache The derived-key cache. If it is null, the key is derived without a cache.
+         * @return String
+         * @throws CipherException
+         */
+        static String decryptCrypto(KeyStore.Crypto crypto, String password, DerivedKeyCache cache) throws CipherException {
+            return decryptCrypto(crypto, password, cache, null);
+        }
+
+        /**
+         * Decrypts a keys in KeyStore with a derived-key cache and a runner of the key derivation.
+         * @param crypto Crypto instance
+         * @param password The password to use for decryption.
+         * @param cache The derived-key cache. If it is null, the key is derived without a cache.
+         * @param runner The runner of the key derivation. It is not called when the key is found in the cache. It can be null.
+         * @return String
+         * @throws CipherException
+         */
+        static String decryptCrypto(KeyStore.Crypto crypto, String password, DerivedKeyCache cache, DerivationRunner runner) throws CipherException {
             byte[] mac = Numeric.hexStringToByteArray(crypto.getMac());
             byte[] iv = Numeric.hexStringToByteArray(crypto.getCipherparams().getIv());
             byte[] cipherText = Numeric.hexStringToByteArray(crypto.getCiphertext());
 
-            byte[] derivedKey;
-
             //Check KDF Algorithm
             IKdfParams kdfParams = crypto.getKdfparams();
-            //SCRYPT
-            if (kdfParams instanceof KeyStore.ScryptKdfParams) {
-                KeyStore.ScryptKdfParams scryptKdfParams =
-                        (KeyStore.ScryptKdfParams) crypto.getKdfparams();
-                int dklen = scryptKdfParams.getDklen();
-                int n = scryptKdfParams.getN();
-                int p = scryptKdfParams.getP();
-                int r = scryptKdfParams.getR();
-                byte[] salt = Numeric.hexStringToByteArray(scryptKdfParams.getSalt());
-
-                derivedKey = generateDerivedScryptKey(password.getBytes(UTF_8), salt, n, r, p, dklen);
-            }
-            //PBKDF2
-            else if (kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
-                KeyStore.Pbkdf2KdfParams aes128CtrKdfParams =
-                        (KeyStore.Pbkdf2KdfParams) crypto.getKdfparams();
-                int c = aes128CtrKdfParams.getC();
-                String prf = aes128CtrKdfParams.getPrf();
-                byte[] salt = Numeric.hexStringToByteArray(aes128CtrKdfParams.getSalt());
-
-                derivedKey = generatePbkdf2DerivedKey(password.getBytes(UTF_8), salt, c, prf);
-            } else {
+            if (!(kdfParams instanceof KeyStore.ScryptKdfParams) && !(kdfParams instanceof KeyStore.Pbkdf2KdfParams)) {
                 throw new CipherException("Unable to deserialize params: " + crypto.getKdf());
             }
+            byte[] salt = Numeric.hexStringToByteArray(kdfParams.getSalt());
+            byte[] derivedKey = deriveKey(password, kdfParams, salt, cache, runner);
 
             byte[] derivedMac = generateMac(derivedKey, cipherText);
 
@@ -394,6 +385,42 @@ public class KeyStore {
             return Numeric.toHexString(privateKey);
         }
 
+        /**
+         * Runs a key derivation, for example while holding the memory it needs.
+         */
+        interface DerivationRunner {
+            byte[] run(Callable<byte[]> derivation) throws Exception;
+        }
+
+        /**
+         * Derives a key with the KDF of the params. If a cache is given, the key is derived once for the same password, salt and params.
+         * @param password The password to use for key derivation.
+         * @param kdfParams The params of scrypt or pbkdf2.
+         * @param salt Salt
+         * @param cache The derived-key cache. It can be null.
+         * @param runner The runner of the key derivation. It can be null.
+         * @return byte array
+         * @throws CipherException
+         */
+        private static byte[] deriveKey(String password, IKdfParams kdfParams, byte[] salt, DerivedKeyCache cache, DerivationRunner runner) throws CipherException {
+            if(cache != null) {
+                return cache.get(password, kdfParams, salt, () -> deriveKey(password, kdfParams, salt, null, runner));
+            }
+            if(runner != null) {
+                return DerivedKeyCache.call(() -> runner.run(() -> deriveKey(password, kdfParams, salt, null, null)));
+            }
+
+            //SCRYPT
+            if (kdfParams instanceof KeyStore.ScryptKdfParams) {
+                KeyStore.ScryptKdfParams scryptKdfParams = (KeyStore.ScryptKdfParams) kdfParams;
+                return generateDerivedScryptKey(password.getBytes(UTF_8), salt,
+                        scryptKdfParams.getN(), scryptKdfParams.getR(), scryptKdfParams.getP(), scryptKdfParams.getDklen());
+            }
+            //PBKDF2
+            KeyStore.Pbkdf2KdfParams pbkdf2KdfParams = (KeyStore.Pbkdf2KdfParams) kdfParams;
+            return generatePbkdf2DerivedKey(password.getBytes(UTF_8), salt, pbkdf2KdfParams.getC(), pbkdf2KdfParams.getPrf());
+        }
+
         /**
          * Derived key using SCRYPT algorithm.
          * @param password The password to use for key derivation.
@@ -0,0 +1,580 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.crypto.CipherException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decrypts many keystores at once.<p>
+ * The key derivations (scrypt or pbkdf2) of all keys in the keystores, including each key of a multiple or role-based keystore,
+ * run in parallel on a fixed number of threads.
+ * A scrypt derivation needs about 128 * N * r bytes of memory, so the derivations running at the same time are limited
+ * not to exceed the memory budget. The memory is taken only by a running derivation, so a key which waits for the same derivation
+ * on another thread of a {@link DerivedKeyCache} doesn't hold it.
+ * A keystore that fails to be decrypted doesn't stop the others, and its error is kept in its {@link Result}.
+ * <pre>Example :
+ * {@code
+ * try(KeyStoreDecryptor decryptor = new KeyStoreDecryptor()) {
+ *     decryptor.setProgressListener((completed, total, result) -> System.out.println(completed + "/" + total));
+ *
+ *     for(KeyStoreDecryptor.Result result : decryptor.decryptAll(Paths.get("keystores"), "password")) {
+ *         if(result.isSuccess()) {
+ *             caver.wallet.add(result.getKeyring());
+ *         }
+ *     }
+ *     KeyStoreDecryptor.Metrics metrics = decryptor.getMetrics();
+ * }
+ * }
+ * </pre>
+ */
+public class KeyStoreDecryptor implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyStoreDecryptor.class);
+
+    /**
+     * The number of bytes in a permit of the memory budget.
+     */
+    private static final int MEMORY_UNIT = 1024;
+
+    /**
+     * The number of threads which derive keys.
+     */
+    private final int parallelism;
+
+    /**
+     * The max bytes of memory used by scrypt derivations at the same time.
+     */
+    private final long memoryBudget;
+
+    private final ExecutorService executor;
+    private final Semaphore memory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * The listener called whenever a keystore is decrypted or failed.
+     */
+    private volatile ProgressListener progressListener;
+
+    private final AtomicInteger decryptedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final AtomicLong derivationTime = new AtomicLong();
+    private final AtomicLong elapsedTime = new AtomicLong();
+    private final AtomicLong memoryInUse = new AtomicLong();
+    private final AtomicLong peakMemoryInUse = new AtomicLong();
+
+    /**
+     * Creates a KeyStoreDecryptor instance.<p>
+     * It uses as many threads as available processors, and a quarter of the max heap size as the memory budget.
+     */
+    public KeyStoreDecryptor() {
+        this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    /**
+     * Creates a KeyStoreDecryptor instance.
+     * @param parallelism The number of threads which derive keys.
+     * @param memoryBudget The max bytes of memory used by scrypt derivations at the same time.
+     *                     A derivation which needs more memory than the budget runs alone.
+     */
+    public KeyStoreDecryptor(int parallelism, long memoryBudget) {
+        if(parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0.");
+        }
+        if(memoryBudget < MEMORY_UNIT) {
+            throw new IllegalArgumentException("memoryBudget must be at least " + MEMORY_UNIT + " bytes.");
+        }
+
+        this.parallelism = parallelism;
+        this.memoryBudget = memoryBudget;
+        this.memory = new Semaphore(toPermits(memoryBudget), true);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "keystore-decryptor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * Decrypts the keystores.
+     * @param keyStores The keystores to decrypt.
+     * @param password The password to use for decryption.
+     * @return List - The results in the order of the keystores.
+     */
+    public List<Result> decryptAll(List<KeyStore> keyStores, String password) {
+        List<Source> sources = new ArrayList<>();
+        for(int i = 0; i < keyStores.size(); i++) {
+            sources.add(new Source(String.valueOf(i), keyStores.get(i), null));
+        }
+        return decryptSources(sources, password);
+    }
+
+    /**
+     * Decrypts the keystore files in the directory. The files whose names end with ".json" are decrypted.
+     * @param directory The directory having keystore files.
+     * @param password The password to use for decryption.
+     * @return List - The results in the order of the file names.
+     * @throws IOException It throws when the directory can't be read.
+     */
+    public List<Result> decryptAll(Path directory, String password) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.json")) {
+            for(Path file : stream) {
+                if(Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        Collections.sort(files);
+
+        List<Source> sources = new ArrayList<>();
+        for(Path file : files) {
+            try {
+                sources.add(new Source(file.toString(), objectMapper.readValue(file.toFile(), KeyStore.class), null));
+            } catch(IOException e) {
+                sources.add(new Source(file.toString(), null, e));
+            }
+        }
+        return decryptSources(sources, password);
+    }
+
+    /**
+     * Decrypts the keystores in a JSON stream. The stream has a JSON array of keystores, or keystore objects one after another.
+     * @param jsonStream The stream of keystore JSON.
+     * @param password The password to use for decryption.
+     * @return List - The results in the order of the keystores in the stream.
+     * @throws IOException It throws when the stream can't be read or parsed.
+     */
+    public List<Result> decryptAll(InputStream jsonStream, String password) throws IOException {
+        List<Source> sources = new ArrayList<>();
+        try(MappingIterator<KeyStore> iterator = objectMapper.readerFor(KeyStore.class).readValues(jsonStream)) {
+            while(iterator.hasNextValue()) {
+                sources.add(new Source(String.valueOf(sources.size()), iterator.nextValue(), null));
+            }
+        }
+        return decryptSources(sources, password);
+    }
+
+    private List<Result> decryptSources(List<Source> sources, String password) {
+        long startTime = System.nanoTime();
+        // The derived-key cache open on the calling thread is shared with the threads of this decryptor.
+        DerivedKeyCache cache = DerivedKeyCache.current();
+        AtomicInteger completed = new AtomicInteger();
+
+        List<CompletableFuture<Result>> futures = new ArrayList<>();
+        for(Source source : sources) {
+            CompletableFuture<Result> future = decryptSource(source, password, cache).thenApply(result -> {
+                if(result.isSuccess()) {
+                    decryptedCount.incrementAndGet();
+                } else {
+                    failedCount.incrementAndGet();
+                }
+
+                ProgressListener listener = progressListener;
+                if(listener != null) {
+                    // A failing listener doesn't change the result of the keystore.
+                    try {
+                        listener.onProgress(completed.incrementAndGet(), sources.size(), result);
+                    } catch(RuntimeException e) {
+                        LOGGER.warn("The progress listener failed for the keystore " + result.getSource() + ".", e);
+                    }
+                }
+                return result;
+            });
+            futures.add(future);
+        }
+
+        List<Result> results = new ArrayList<>();
+        for(CompletableFuture<Result> future : futures) {
+            results.add(future.join());
+        }
+        elapsedTime.addAndGet(System.nanoTime() - startTime);
+        return results;
+    }
+
+    private CompletableFuture<Result> decryptSource(Source source, String password, DerivedKeyCache cache) {
+        long startTime = System.nanoTime();
+        if(source.error != null) {
+            return CompletableFuture.completedFuture(new Result(source.name, null, source.error, 0));
+        }
+
+        KeyStore keyStore = source.keyStore;
+        List<List<KeyStore.Crypto>> cryptoList;
+        try {
+            KeyringFactory.validateKeyStore(keyStore);
+            cryptoList = getCryptoList(keyStore);
+        } catch(RuntimeException e) {
+            return CompletableFuture.completedFuture(new Result(source.name, null, e, 0));
+        }
+
+        // Every crypto of the keystore is decrypted in its own task, and the keyring is created when all of them are done.
+        List<String[]> privateKeyList = new ArrayList<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for(List<KeyStore.Crypto> cryptos : cryptoList) {
+            String[] privateKeys = new String[cryptos.size()];
+            privateKeyList.add(privateKeys);
+            for(int i = 0; i < cryptos.size(); i++) {
+                int index = i;
+                KeyStore.Crypto crypto = cryptos.get(i);
+                tasks.add(CompletableFuture.runAsync(() -> privateKeys[index] = decryptCrypto(crypto, password, cache), executor));
+            }
+        }
+
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).handle((ignored, throwable) -> {
+            long elapsed = System.nanoTime() - startTime;
+            if(throwable != null) {
+                Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                if(cause instanceof DecryptionException) {
+                    cause = cause.getCause();
+                }
+                return new Result(source.name, null, cause, elapsed);
+            }
+
+            try {
+                String address = Utils.addHexPrefix(keyStore.getAddress());
+                AbstractKeyring keyring = (keyStore.getVersion() == KeyStore.KEY_STORE_VERSION_V3)
+                        ? KeyringFactory.create(address, privateKeyList.get(0)[0])
+                        : KeyringFactory.createFromDecryptedKeys(address, privateKeyList);
+                return new Result(source.name, keyring, null, elapsed);
+            } catch(RuntimeException e) {
+                return new Result(source.name, null, e, elapsed);
+            }
+        });
+    }
+
+    private static List<List<KeyStore.Crypto>> getCryptoList(KeyStore keyStore) {
+        if(keyStore.getVersion() == KeyStore.KEY_STORE_VERSION_V3) {
+            return Collections.singletonList(Collections.singletonList(keyStore.getCrypto()));
+        }
+
+        List<?> keyring = keyStore.getKeyring();
+        if(keyring.get(0) instanceof KeyStore.Crypto) {
+            return Collections.singletonList(toCryptos(keyring));
+        }
+
+        List<List<KeyStore.Crypto>> cryptoList = new ArrayList<>();
+        for(Object roleKeys : keyring) {
+            cryptoList.add(toCryptos((List<?>)roleKeys));
+        }
+        return cryptoList;
+    }
+
+    private static List<KeyStore.Crypto> toCryptos(List<?> keys) {
+        List<KeyStore.Crypto> cryptos = new ArrayList<>(keys.size());
+        for(Object key : keys) {
+            cryptos.add((KeyStore.Crypto)key);
+        }
+        return cryptos;
+    }
+
+    private String decryptCrypto(KeyStore.Crypto crypto, String password, DerivedKeyCache cache) {
+        try {
+            return KeyStore.Crypto.decryptCrypto(crypto, password, cache, derivation -> derive(crypto, derivation));
+        } catch(CipherException e) {
+            throw new DecryptionException(e);
+        }
+    }
+
+    /**
+     * Runs the derivation of the crypto while holding the memory it needs.
+     * It is not called for a key found in the cache, so a key waiting for the derivation of another thread doesn't hold memory.
+     */
+    private byte[] derive(KeyStore.Crypto crypto, Callable<byte[]> derivation) throws Exception {
+        long requiredMemory = getRequiredMemory(crypto);
+        int permits = Math.min(toPermits(requiredMemory), toPermits(memoryBudget));
+
+        memory.acquireUninterruptibly(permits);
+        long inUse = memoryInUse.addAndGet(requiredMemory);
+        peakMemoryInUse.accumulateAndGet(inUse, Math::max);
+        long startTime = System.nanoTime();
+        try {
+            return derivation.call();
+        } finally {
+            derivationTime.addAndGet(System.nanoTime() - startTime);
+            memoryInUse.addAndGet(-requiredMemory);
+            memory.release(permits);
+        }
+    }
+
+    /**
+     * Returns the bytes of memory to derive the key of the crypto.
+     * @param crypto The crypto of a keystore.
+     * @return long
+     */
+    static long getRequiredMemory(KeyStore.Crypto crypto) {
+        if(!(crypto.getKdfparams() instanceof KeyStore.ScryptKdfParams)) {
+            return 0;
+        }
+
+        // Scrypt uses N blocks of 128 * r bytes, and buffers of 128 * r * p and 256 * r bytes.
+        KeyStore.ScryptKdfParams params = (KeyStore.ScryptKdfParams)crypto.getKdfparams();
+        long r = params.getR();
+        return 128L * r * params.getN() + 128L * r * params.getP() + 256L * r;
+    }
+
+    private static int toPermits(long bytes) {
+        return (int)Math.min(Integer.MAX_VALUE, (bytes + MEMORY_UNIT - 1) / MEMORY_UNIT);
+    }
+
+    /**
+     * Returns the metrics accumulated since this instance is created.
+     * @return Metrics
+     */
+    public Metrics getMetrics() {
+        return new Metrics(decryptedCount.get(), failedCount.get(), derivationTime.get(), elapsedTime.get(), peakMemoryInUse.get());
+    }
+
+    /**
+     * Setter function for progressListener.
+     * @param progressListener The listener called whenever a keystore is decrypted or failed.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Getter function for parallelism.
+     * @return int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Getter function for memoryBudget.
+     * @return long
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Stops the threads of this decryptor.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A listener of the progress of {@link #decryptAll}.
+     */
+    public interface ProgressListener {
+        /**
+         * Called whenever a keystore is decrypted or failed. It is called on the thread which decrypted the last key of the keystore.
+         * @param completed The number of keystores completed so far.
+         * @param total The number of keystores to decrypt.
+         * @param result The result of the keystore.
+         */
+        void onProgress(int completed, int total, Result result);
+    }
+
+    /**
+     * The result of decrypting a keystore.
+     */
+    public static class Result {
+        /**
+         * The name of the keystore. It is the file path for a keystore file, or the index for others.
+         */
+        private final String source;
+
+        /**
+         * The decrypted keyring. It is null if the decryption failed.
+         */
+        private final AbstractKeyring keyring;
+
+        /**
+         * The error of the decryption. It is null if the decryption succeeded.
+         */
+        private final Throwable error;
+
+        /**
+         * The time in nanoseconds from the start of the decryption to its end, including the time waiting for threads and memory.
+         */
+        private final long elapsedTime;
+
+        Result(String source, AbstractKeyring keyring, Throwable error, long elapsedTime) {
+            this.source = source;
+            this.keyring = keyring;
+            this.error = error;
+            this.elapsedTime = elapsedTime;
+        }
+
+        /**
+         * Returns true if the keystore is decrypted.
+         * @return boolean
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * Returns the keyring, or throws the error of the decryption.
+         * @return AbstractKeyring
+         * @throws CipherException It throws when cipher operation has failed.
+         */
+        public AbstractKeyring getKeyringOrThrow() throws CipherException {
+            if(error instanceof CipherException) {
+                throw (CipherException)error;
+            } else if(error instanceof RuntimeException) {
+                throw (RuntimeException)error;
+            } else if(error != null) {
+                throw new CipherException("Failed to decrypt keystore " + source, error);
+            }
+            return keyring;
+        }
+
+        /**
+         * Getter function for source.
+         * @return String
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Getter function for keyring.
+         * @return AbstractKeyring
+         */
+        public AbstractKeyring getKeyring() {
+            return keyring;
+        }
+
+        /**
+         * Getter function for error.
+         * @return Throwable
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * Getter function for elapsedTime.
+         * @return long
+         */
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+    }
+
+    /**
+     * The metrics of a {@link KeyStoreDecryptor}.
+     */
+    public static class Metrics {
+        private final int decryptedCount;
+        private final int failedCount;
+        private final long derivationTime;
+        private final long elapsedTime;
+        private final long peakMemoryInUse;
+
+        Metrics(int decryptedCount, int failedCount, long derivationTime, long elapsedTime, long peakMemoryInUse) {
+            this.decryptedCount = decryptedCount;
+            this.failedCount = failedCount;
+            this.derivationTime = derivationTime;
+            this.elapsedTime = elapsedTime;
+            this.peakMemoryInUse = peakMemoryInUse;
+        }
+
+        /**
+         * Returns the number of decrypted keystores.
+         * @return int
+         */
+        public int getDecryptedCount() {
+            return decryptedCount;
+        }
+
+        /**
+         * Returns the number of keystores failed to be decrypted.
+         * @return int
+         */
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        /**
+         * Returns the sum of the time in nanoseconds spent by all threads to derive keys. A key found in the derived-key cache is not counted.
+         * @return long
+         */
+        public long getDerivationTime() {
+            return derivationTime;
+        }
+
+        /**
+         * Returns the wall-clock time in nanoseconds spent in {@link #decryptAll} calls.
+         * @return long
+         */
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+
+        /**
+         * Returns the max bytes of memory used by scrypt derivations at the same time.
+         * @return long
+         */
+        public long getPeakMemoryInUse() {
+            return peakMemoryInUse;
+        }
+    }
+
+    /**
+     * A keystore to decrypt, or the error reading it.
+     */
+    private static class Source {
+        final String name;
+        final KeyStore keyStore;
+        final Exception error;
+
+        Source(String name, KeyStore keyStore, Exception error) {
+            this.name = name;
+            this.keyStore = keyStore;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Carries a CipherException out of a task.
+     */
+    private static class DecryptionException extends RuntimeException {
+        DecryptionException(CipherException cause) {
+            super(cause);
+        }
+    }
+}
@@ -260,7 +260,7 @@ public class KeyringFactory {
         PrivateKey privateKey = new PrivateKey(key);
         String address = privateKey.getDerivedAddress();
 
-        return createWithSingleKey(address, key);
+        return new SingleKeyring(address, privateKey);
     }
 
     /**
@@ -578,17 +578,7 @@ public class KeyringFactory {
      * @throws CipherException It throws when cipher operation has failed.
      */
     public static AbstractKeyring decrypt(KeyStore keystore, String password) throws CipherException{
-        if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V3 && keystore.getCrypto() == null) {
-            throw new IllegalArgumentException("Invalid keystore V3 format: 'crypto' is not defined.");
-        } else if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V4 && keystore.getKeyring() == null) {
-            throw new IllegalArgumentException("Invalid keystore V4 format: 'keyring' is not defined.");
-        }
-
-        if(keystore.getCrypto() != null) {
-            if(keystore.getKeyring() != null) {
-                throw new IllegalArgumentException("Invalid key store format: 'crypto' and 'keyring' cannot be defined together.");
-            }
-        }
+        validateKeyStore(keystore);
 
         String address = Utils.addHexPrefix(keystore.getAddress());
         if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V3) {
@@ -619,6 +609,59 @@ public class KeyringFactory {
             }
         }
 
+        return createFromDecryptedKeys(address, privateKeyList);
+    }
+
+    /**
+     * Decrypts keystores in parallel and returns keyring instances in the order of the keystores.<p>
+     * The key derivations of all keys in the keystores run in parallel with {@link KeyStoreDecryptor}.
+     * <pre>Example :
+     * {@code
+     * List<KeyStore> keyStores = Arrays.asList(keyStore1, keyStore2, .....);
+     * List<AbstractKeyring> keyrings = caver.wallet.keyring.decryptAll(keyStores, "password");
+     * }
+     * </pre>
+     *
+     * @param keyStores The encrypted keystores to decrypt.
+     * @param password The password to use for decryption.
+     * @return List
+     * @throws CipherException It throws when cipher operation has failed on any of the keystores.
+     */
+    public static List<AbstractKeyring> decryptAll(List<KeyStore> keyStores, String password) throws CipherException {
+        try(KeyStoreDecryptor decryptor = new KeyStoreDecryptor()) {
+            List<AbstractKeyring> keyrings = new ArrayList<>();
+            for(KeyStoreDecryptor.Result result : decryptor.decryptAll(keyStores, password)) {
+                keyrings.add(result.getKeyringOrThrow());
+            }
+            return keyrings;
+        }
+    }
+
+    /**
+     * Checks that the keystore has 'crypto' for v3 or 'keyring' for v4.
+     * @param keystore The keystore to check.
+     */
+    static void validateKeyStore(KeyStore keystore) {
+        if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V3 && keystore.getCrypto() == null) {
+            throw new IllegalArgumentException("Invalid keystore V3 format: 'crypto' is not defined.");
+        } else if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V4 && keystore.getKeyring() == null) {
+            throw new IllegalArgumentException("Invalid keystore V4 format: 'keyring' is not defined.");
+        }
+
+        if(keystore.getCrypto() != null) {
+            if(keystore.getKeyring() != null) {
+                throw new IllegalArgumentException("Invalid key store format: 'crypto' and 'keyring' cannot be defined together.");
+            }
+        }
+    }
+
+    /**
+     * Creates a keyring with the private keys decrypted from a keystore v4.
+     * @param address The address of the keyring.
+     * @param privateKeyList The private keys of each role. A keystore of a single or multiple keyring has one role.
+     * @return AbstractKeyring
+     */
+    static AbstractKeyring createFromDecryptedKeys(String address, List<String[]> privateKeyList) {
         boolean isRoleBased = privateKeyList.stream().skip(1).anyMatch(array -> array.length > 0);
 
         if(isRoleBased) {
@@ -24,8 +24,6 @@ import org.web3j.crypto.Keys;
 import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
 
-import java.math.BigInteger;
-
 /**
  * Represents a PrivateKey class that includes private key string
  */
@@ -37,6 +35,21 @@ public class PrivateKey {
      */
     private String privateKey;
 
+    /**
+     * The key pair derived from private key. It is lazily created at the first signing and reused after that.
+     */
+    private volatile ECKeyPair keyPair;
+
+    /**
+     * The uncompressed public key string derived from private key.
+     */
+    private volatile String publicKey;
+
+    /**
+     * The address derived from private key.
+     */
+    private volatile String derivedAddress;
+
     /**
      * Creates a PrivateKey instance
      * @param privateKey The private key string.
@@ -104,8 +117,7 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData sign(String sigHash, int chainId) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), getKeyPair(), false);
 
         SignatureData signData = new SignatureData(signatureData.getV(), signatureData.getR(), signatureData.getS());
         signData.makeEIP155Signature(chainId);
@@ -128,8 +140,7 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData ecsign(String sigHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), getKeyPair(), false);
 
         // Sign.signMessage() always add to 27 at V value. so it need to substract 27 from V value.
         byte[] v = new byte[] {(byte)(signatureData.getV()[0] - 27)};
@@ -152,8 +163,7 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData signMessage(String messageHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(messageHash), keyPair, false);
+        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(messageHash), getKeyPair(), false);
 
         SignatureData signData = new SignatureData(signatureData.getV(), signatureData.getR(), signatureData.getS());
         return signData;
@@ -172,13 +182,17 @@ public class PrivateKey {
      * @return String
      */
     public String getPublicKey(boolean compressed) {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
+        String uncompressed = this.publicKey;
+        if(uncompressed == null) {
+            uncompressed = Numeric.toHexStringWithPrefixZeroPadded(getKeyPair().getPublicKey(), LEN_UNCOMPRESSED_PUBLIC_KEY_STRING);
+            this.publicKey = uncompressed;
+        }
 
         if(compressed) {
-            return Utils.compressPublicKey(Numeric.toHexStringWithPrefixZeroPadded(publicKey, LEN_UNCOMPRESSED_PUBLIC_KEY_STRING));
+            return Utils.compressPublicKey(uncompressed);
         }
 
-        return Numeric.toHexStringWithPrefixZeroPadded(publicKey, LEN_UNCOMPRESSED_PUBLIC_KEY_STRING);
+        return uncompressed;
     }
 
     /**
@@ -192,8 +206,33 @@ public class PrivateKey {
      * @return String
      */
     public String getDerivedAddress() {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
-        return Numeric.prependHexPrefix(Keys.getAddress(publicKey));
+        String address = this.derivedAddress;
+        if(address == null) {
+            address = Numeric.prependHexPrefix(Keys.getAddress(getKeyPair().getPublicKey()));
+            this.derivedAddress = address;
+        }
+        return address;
+    }
+
+    /**
+     * Returns the ECKeyPair derived from private key.<p>
+     * The key pair is created once and cached, because deriving a public key from private key requires an elliptic curve multiplication.
+     * PrivateKey is immutable, so the cached value is never invalidated.
+     * <pre>Example :
+     * {@code
+     * PrivateKey prvKey = new PrivateKey("{privateKeyString}");
+     * ECKeyPair keyPair = prvKey.getKeyPair();
+     * }
+     * </pre>
+     * @return ECKeyPair
+     */
+    public ECKeyPair getKeyPair() {
+        ECKeyPair pair = this.keyPair;
+        if(pair == null) {
+            pair = ECKeyPair.create(Numeric.toBigInt(privateKey));
+            this.keyPair = pair;
+        }
+        return pair;
     }
 
     /**
@@ -20,6 +20,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.klaytn.caver.transaction.type.TransactionType;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
@@ -125,6 +127,59 @@ public class SignatureData {
         return signatureDataList;
     }
 
+    /**
+     * Decodes a list of signatures at the current position of RlpReader.<p>
+     * Like {@link #decodeSignatures(List)}, a signature which doesn't have all of v, r and s values is ignored.
+     * <pre>Example :
+     * {@code
+     * List<SignatureData> senderSignList = SignatureData.decodeSignatures(reader);
+     * }
+     * </pre>
+     *
+     * @param reader The RlpReader positioned at a RLP list contains signatures.
+     * @return {@code List<SignatureData>}
+     */
+    public static List<SignatureData> decodeSignatures(RlpReader reader) {
+        List<SignatureData> signatureDataList = new ArrayList<>();
+
+        reader.enterList();
+        while(reader.hasNext()) {
+            reader.enterList();
+            byte[] v = reader.hasNext() ? reader.readBytes() : null;
+            byte[] r = reader.hasNext() ? reader.readBytes() : null;
+            byte[] s = reader.hasNext() ? reader.readBytes() : null;
+            reader.exitList();
+
+            if(s == null) continue;
+            signatureDataList.add(new SignatureData(v, r, s));
+        }
+        reader.exitList();
+
+        return signatureDataList;
+    }
+
+    /**
+     * Writes a list of signatures with RlpWriter.<p>
+     * It produces the same result as encoding a RlpList of {@link #toRlpList()}.
+     * <pre>Example :
+     * {@code
+     * SignatureData.encodeSignatures(tx.getSignatures(), writer);
+     * }
+     * </pre>
+     *
+     * @param signatureDataList The list of SignatureData to write.
+     * @param writer The RlpWriter to write.
+     */
+    public static void encodeSignatures(List<SignatureData> signatureDataList, RlpWriter writer) {
+        writer.startList();
+        for(SignatureData signatureData : signatureDataList) {
+            writer.startList();
+            signatureData.encodeValuesTo(writer);
+            writer.endList();
+        }
+        writer.endList();
+    }
+
     /**
      * Set "V" field according to EIP-155.
      * <pre>Example :
@@ -214,6 +269,23 @@ public class SignatureData {
         );
     }
 
+    /**
+     * Writes v, r and s values of this signature with RlpWriter.<p>
+     * The values are written as they are in {@link #toRlpList()}, but not wrapped in a list.
+     * <pre>Example :
+     * {@code
+     * signature.encodeValuesTo(writer);
+     * }
+     * </pre>
+     * @param writer The RlpWriter to write.
+     */
+    public void encodeValuesTo(RlpWriter writer) {
+        // v value is integer by its spec, so leading zeros are removed and 0 is encoded as 0x80.
+        writer.writeQuantity(getV());
+        writer.writeBytes(Bytes.trimLeadingZeroes(Numeric.hexStringToByteArray(getR())));
+        writer.writeBytes(Bytes.trimLeadingZeroes(Numeric.hexStringToByteArray(getS())));
+    }
+
     /**
      * Get a recover id from signatureData.
      * <pre>Example :
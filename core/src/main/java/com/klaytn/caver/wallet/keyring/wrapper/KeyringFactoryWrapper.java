@@ -511,4 +511,22 @@ public class KeyringFactoryWrapper {
     public AbstractKeyring decrypt(KeyStore keystore, String password) throws CipherException{
         return KeyringFactory.decrypt(keystore, password);
     }
+
+    /**
+     * Decrypts keystores in parallel and returns keyring instances in the order of the keystores.
+     * <pre>Example :
+     * {@code
+     * List<KeyStore> keyStores = Arrays.asList(keyStore1, keyStore2, .....);
+     * List<AbstractKeyring> keyrings = caver.wallet.keyring.decryptAll(keyStores, "password");
+     * }
+     * </pre>
+     *
+     * @param keyStores The encrypted keystores to decrypt.
+     * @param password The password to use for decryption.
+     * @return List
+     * @throws CipherException It throws when cipher operation has failed on any of the keystores.
+     */
+    public List<AbstractKeyring> decryptAll(List<KeyStore> keyStores, String password) throws CipherException {
+        return KeyringFactory.decryptAll(keyStores, password);
+    }
 }
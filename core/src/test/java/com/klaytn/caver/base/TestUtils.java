@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.base;
+
+import org.web3j.protocol.core.Request;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Helper functions shared by the tests which mock RPC requests or wait for background work.
+ */
+public class TestUtils {
+
+    private TestUtils() {
+    }
+
+    /**
+     * Returns a mocked request which returns the given response when it is sent.
+     * @param response The response of the request.
+     * @param <T> The type of the response.
+     * @return Request
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Request<?, T> request(T response) throws IOException {
+        Request<?, T> request = mock(Request.class);
+        when(request.send()).thenReturn(response);
+        return request;
+    }
+
+    /**
+     * Returns a mocked request which returns the given response when it is sent asynchronously.<p>
+     * Sending it synchronously throws an AssertionError.
+     * @param response The response of the request.
+     * @param <T> The type of the response.
+     * @return Request
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Request<?, T> asyncRequest(T response) throws IOException {
+        Request<?, T> request = mock(Request.class);
+        when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
+        when(request.send()).thenThrow(new AssertionError("A blocking request is sent."));
+        return request;
+    }
+
+    /**
+     * Waits until the condition is satisfied. It fails if the condition is not satisfied in 5 seconds.
+     * @param condition The condition to wait for.
+     * @throws InterruptedException
+     */
+    public static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(!condition.getAsBoolean()) {
+            if(System.nanoTime() > deadline) {
+                fail("The condition is not satisfied in time.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
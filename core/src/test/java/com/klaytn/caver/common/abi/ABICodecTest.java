@@ -0,0 +1,208 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.abi;
+
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.ABICodec;
+import com.klaytn.caver.abi.EventValues;
+import com.klaytn.caver.abi.TypeDecoder;
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.contract.ContractEvent;
+import com.klaytn.caver.contract.ContractIOType;
+import com.klaytn.caver.contract.ContractMethod;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(Enclosed.class)
+public class ABICodecTest {
+    static final String ADDRESS = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+
+    // The codec must produce the same results with the reflection based encoder and decoder.
+    static void checkSameWithABI(List<String> solidityTypes, List<Object> values) throws Exception {
+        ABICodec codec = ABICodec.compile(solidityTypes);
+
+        String expected = ABI.encodeParameters(solidityTypes, values);
+        assertEquals(expected, codec.encode(values));
+        assertEquals(ABI.decodeParameters(solidityTypes, expected), codec.decode(expected));
+        assertEquals(ABI.decodeParameters(solidityTypes, expected), codec.decode("0x" + expected));
+
+        List<Type> instantiated = new ArrayList<>();
+        for(int i = 0; i < solidityTypes.size(); i++) {
+            instantiated.add(TypeDecoder.instantiateType(solidityTypes.get(i), values.get(i)));
+        }
+        assertEquals(instantiated, codec.instantiate(values));
+    }
+
+    public static class encodeAndDecodeTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void atomicTypes() throws Exception {
+            checkSameWithABI(
+                    Arrays.asList("uint256", "int8", "address", "bool", "bytes4", "bytes", "string", "uint", "int"),
+                    Arrays.asList(BigInteger.TEN, BigInteger.valueOf(-5), ADDRESS, true, "0x01020304", "0xabcdef", "hello", BigInteger.ONE, BigInteger.valueOf(-12345))
+            );
+        }
+
+        @Test
+        public void maxUint256() throws Exception {
+            checkSameWithABI(
+                    Collections.singletonList("uint256"),
+                    Collections.singletonList(BigInteger.valueOf(2).pow(256).subtract(BigInteger.ONE))
+            );
+        }
+
+        @Test
+        public void arrays() throws Exception {
+            checkSameWithABI(
+                    Arrays.asList("uint256[]", "string[]", "bytes32[2]", "string[2]", "uint256[2][]", "string[][]", "uint8[3]", "bool[]"),
+                    Arrays.asList(
+                            Arrays.asList(BigInteger.ONE, BigInteger.TEN),
+                            Arrays.asList("a", "bcd"),
+                            Arrays.asList(new byte[32], new byte[32]),
+                            Arrays.asList("x", "yy"),
+                            Collections.singletonList(Arrays.asList(BigInteger.ONE, BigInteger.TEN)),
+                            Arrays.asList(Collections.singletonList("a"), Arrays.asList("b", "c")),
+                            Arrays.asList(1, 2, 3),
+                            new ArrayList<>()
+                    )
+            );
+        }
+
+        @Test
+        public void structs() throws Exception {
+            checkSameWithABI(
+                    Arrays.asList("tuple(uint256,address)", "tuple(string,uint256[],tuple(bool,bytes))"),
+                    Arrays.asList(
+                            Arrays.asList(BigInteger.ONE, ADDRESS),
+                            Arrays.asList("s", Collections.singletonList(BigInteger.ONE), Arrays.asList(true, "0x1234"))
+                    )
+            );
+        }
+
+        @Test
+        public void arrayOfStructs() throws Exception {
+            checkSameWithABI(
+                    Arrays.asList("tuple(uint256,string)[]", "tuple(uint256,address)[2]", "tuple(address,uint256)[]"),
+                    Arrays.asList(
+                            Arrays.asList(Arrays.asList(BigInteger.ONE, "a"), Arrays.asList(BigInteger.TEN, "b")),
+                            Arrays.asList(Arrays.asList(BigInteger.ONE, ADDRESS), Arrays.asList(BigInteger.TEN, ADDRESS)),
+                            Collections.singletonList(Arrays.asList(ADDRESS, BigInteger.ONE))
+                    )
+            );
+        }
+
+        @Test
+        public void nestedStruct() throws Exception {
+            checkSameWithABI(
+                    Collections.singletonList("tuple(tuple(uint256,string)[],bytes32,tuple(address,bool)[2])"),
+                    Collections.singletonList(Arrays.asList(
+                            Collections.singletonList(Arrays.asList(BigInteger.ONE, "zz")),
+                            new byte[32],
+                            Arrays.asList(Arrays.asList(ADDRESS, true), Arrays.asList(ADDRESS, false))
+                    ))
+            );
+        }
+
+        @Test
+        public void decodeEmpty() throws Exception {
+            ABICodec codec = ABICodec.compile(Collections.singletonList("uint256"));
+            assertEquals(0, codec.decode("0x").size());
+        }
+
+        @Test
+        public void throwException_mismatchedSize() throws Exception {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("The number of values(1) does not match the number of types(2).");
+
+            ABICodec codec = ABICodec.compile(Arrays.asList("uint256", "string"));
+            codec.encode(Collections.singletonList(BigInteger.ONE));
+        }
+
+        @Test
+        public void throwException_truncatedData() throws Exception {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Invalid ABI encoding");
+
+            ABICodec codec = ABICodec.compile(Collections.singletonList("string"));
+            codec.decode("0x0000000000000000000000000000000000000000000000000000000000000020");
+        }
+    }
+
+    public static class contractTest {
+        @Test
+        public void contractMethod() throws Exception {
+            List<ContractIOType> inputs = Arrays.asList(
+                    new ContractIOType("to", "address", false),
+                    new ContractIOType("amount", "uint256", false),
+                    new ContractIOType("data", "bytes", false)
+            );
+            List<ContractIOType> outputs = Collections.singletonList(new ContractIOType("", "bool", false));
+            ContractMethod method = new ContractMethod(null, "function", "safeTransfer", inputs, outputs, null, null);
+
+            assertSame(method.getInputCodec(), method.getInputCodec());
+            assertSame(method.getOutputCodec(), method.getOutputCodec());
+            assertEquals(ABI.encodeFunctionSignature(method), method.getEncodedFunctionSignature());
+
+            List<Object> arguments = Arrays.asList(ADDRESS, BigInteger.TEN, "0x1234");
+            String expected = ABI.encodeFunctionSignature("safeTransfer(address,uint256,bytes)")
+                    + ABI.encodeParameters(Arrays.asList("address", "uint256", "bytes"), arguments);
+            assertEquals(expected, ABI.encodeFunctionCall(method, arguments));
+
+            String encodedResult = ABI.encodeParameter("bool", true);
+            assertEquals(ABI.decodeParameters(Collections.singletonList("bool"), encodedResult), ABI.decodeParameters(method, encodedResult));
+        }
+
+        @Test
+        public void contractEvent() throws Exception {
+            List<ContractIOType> inputs = Arrays.asList(
+                    new ContractIOType("from", "address", true),
+                    new ContractIOType("memo", "string", true),
+                    new ContractIOType("value", "uint256", false),
+                    new ContractIOType("data", "bytes", false)
+            );
+            ContractEvent event = new ContractEvent("event", "Transfer", null, inputs);
+
+            String data = ABI.encodeParameters(Arrays.asList("uint256", "bytes"), Arrays.asList(BigInteger.TEN, "0xabcd"));
+            List<String> topics = Arrays.asList(
+                    "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef",
+                    "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a",
+                    "0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8"
+            );
+
+            EventValues expected = ABI.decodeLog(inputs, data, topics);
+            EventValues eventValues = ABI.decodeLog(event, data, topics);
+
+            assertEquals(expected.getIndexedValues(), eventValues.getIndexedValues());
+            assertEquals(expected.getNonIndexedValues(), eventValues.getNonIndexedValues());
+            assertSame(event.getNonIndexedCodec(), event.getNonIndexedCodec());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.contract;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.contract.Contract;
+import com.klaytn.caver.contract.ContractMethod;
+import com.klaytn.caver.kct.kip7.KIP7;
+import com.klaytn.caver.kct.kip7.KIP7ConstantData;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class ContractABICacheTest {
+    static final String ADDRESS_1 = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    static final String ADDRESS_2 = "0xe97f27e9a5765ce36a7b919b1cb6004c7209217e";
+
+    public static class sharedABITest {
+        @Test
+        public void shareParsedABI() throws Exception {
+            Caver caver = new Caver(Caver.DEFAULT_URL);
+
+            KIP7 token1 = new KIP7(caver, ADDRESS_1);
+            KIP7 token2 = new KIP7(caver, ADDRESS_2);
+
+            ContractMethod transfer1 = token1.getMethod("transfer");
+            ContractMethod transfer2 = token2.getMethod("transfer");
+
+            // Methods are bound to each contract, but the compiled codecs are shared.
+            assertNotSame(transfer1, transfer2);
+            assertEquals(ADDRESS_1, transfer1.getContractAddress());
+            assertEquals(ADDRESS_2, transfer2.getContractAddress());
+            assertEquals(transfer1.getSignature(), transfer2.getSignature());
+            assertSame(transfer1.getInputCodec(), transfer2.getInputCodec());
+
+            // The parsed inputs and events are shared as they are.
+            assertSame(transfer1.getInputs(), transfer2.getInputs());
+            assertSame(token1.getEvent("Transfer"), token2.getEvent("Transfer"));
+            assertNotSame(token1.getMethods(), token2.getMethods());
+        }
+
+        @Test
+        public void sharedABIInformationIsUnmodifiable() throws Exception {
+            Caver caver = new Caver(Caver.DEFAULT_URL);
+
+            KIP7 token = new KIP7(caver, ADDRESS_1);
+            try {
+                token.getMethod("transfer").getOutputs().clear();
+                fail();
+            } catch(UnsupportedOperationException e) {
+            }
+
+            try {
+                token.getEvent("Transfer").getInputs().remove(0);
+                fail();
+            } catch(UnsupportedOperationException e) {
+            }
+
+            KIP7 other = new KIP7(caver, ADDRESS_2);
+            assertEquals(1, other.getMethod("transfer").getOutputs().size());
+            assertEquals(3, other.getEvent("Transfer").getInputs().size());
+        }
+
+        @Test
+        public void encodeWithSharedABI() throws Exception {
+            Caver caver = new Caver(Caver.DEFAULT_URL);
+
+            KIP7 token = new KIP7(caver, ADDRESS_1);
+            Contract contract = new Contract(caver, KIP7ConstantData.ABI, ADDRESS_2);
+
+            String expected = token.getMethod("transfer").encodeABI(Arrays.asList(ADDRESS_2, BigInteger.TEN));
+            assertEquals(expected, contract.getMethod("transfer").encodeABI(Arrays.asList(ADDRESS_2, BigInteger.TEN)));
+        }
+
+        @Test
+        public void clone_keepsOwnAddress() throws Exception {
+            Caver caver = new Caver(Caver.DEFAULT_URL);
+
+            KIP7 token = new KIP7(caver, ADDRESS_1);
+            KIP7 cloned = token.clone(ADDRESS_2);
+
+            assertEquals(ADDRESS_1, token.getMethod("balanceOf").getContractAddress());
+            assertEquals(ADDRESS_2, cloned.getMethod("balanceOf").getContractAddress());
+            assertEquals(token.getConstructor().getInputs().size(), cloned.getConstructor().getInputs().size());
+        }
+
+        @Test
+        public void overloadedMethodsAreCopied() throws Exception {
+            Caver caver = new Caver(Caver.DEFAULT_URL);
+
+            KIP7 token1 = new KIP7(caver, ADDRESS_1);
+            KIP7 token2 = new KIP7(caver, ADDRESS_2);
+
+            // "safeTransfer" is overloaded in KIP7.
+            ContractMethod next1 = token1.getMethod("safeTransfer").getNextContractMethods().get(0);
+            ContractMethod next2 = token2.getMethod("safeTransfer").getNextContractMethods().get(0);
+
+            assertNotSame(next1, next2);
+            assertEquals(ADDRESS_1, next1.getContractAddress());
+            assertEquals(ADDRESS_2, next2.getContractAddress());
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.contract;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.datatypes.generated.Uint256;
+import com.klaytn.caver.contract.ContractEventLog;
+import com.klaytn.caver.contract.EventBackfill;
+import com.klaytn.caver.kct.kip7.KIP7;
+import com.klaytn.caver.methods.request.KlayLogFilter;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.rpc.RPC;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.klaytn.caver.base.TestUtils.request;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class EventBackfillTest {
+    static final String TOKEN = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    static final String FROM = "0x000000000000000000000000e97f27e9a5765ce36a7b919b1cb6004c7209217e";
+    static final String TO = "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+
+    public static class fetchTest {
+        Klay klay;
+        KIP7 kip7;
+        String signature;
+
+        // A Transfer event is emitted at every block which is a multiple of 7, and its value is the block number.
+        int maxBlocksPerRequest = Integer.MAX_VALUE;
+        // maxBlocksPerRequest is applied to the requests starting before this block.
+        long denseBefore = Long.MAX_VALUE;
+        // The delays in milliseconds of the requests keyed by "fromBlock-toBlock".
+        Map<String, Long> delays = new ConcurrentHashMap<>();
+        AtomicInteger requestCount = new AtomicInteger();
+        AtomicInteger failuresToThrow = new AtomicInteger();
+        // The number of requests sent until the delayed request is responded.
+        AtomicInteger requestsWhileDelayed = new AtomicInteger();
+        // If true, the logs don't have the indexed topics of the event.
+        boolean malformedLogs;
+
+        @Before
+        @SuppressWarnings("unchecked")
+        public void before() throws IOException {
+            klay = mock(Klay.class);
+            Caver caver = mock(Caver.class);
+            caver.rpc = mock(RPC.class);
+            caver.rpc.klay = klay;
+
+            kip7 = new KIP7(caver, TOKEN);
+            signature = kip7.getEvent("Transfer").getSignature();
+
+            when(klay.getLogs(any(KlayLogFilter.class))).thenAnswer(invocation -> {
+                requestCount.incrementAndGet();
+                if(failuresToThrow.getAndDecrement() > 0) {
+                    Request<?, KlayLogs> failed = mock(Request.class);
+                    when(failed.send()).thenThrow(new IOException("connection reset"));
+                    return failed;
+                }
+
+                KlayLogFilter filter = invocation.getArgument(0);
+                long from = ((DefaultBlockParameterNumber)filter.getFromBlock()).getBlockNumber().longValue();
+                long to = ((DefaultBlockParameterNumber)filter.getToBlock()).getBlockNumber().longValue();
+
+                KlayLogs response = new KlayLogs();
+                Long delay = delays.get(from + "-" + to);
+                if(delay != null) {
+                    Thread.sleep(delay);
+                    requestsWhileDelayed.set(requestCount.get());
+                }
+                if(from < denseBefore && to - from + 1 > maxBlocksPerRequest) {
+                    response.setError(new Response.Error(-32000, "query returned more than 10000 results"));
+                    return request(response);
+                }
+
+                List<KlayLogs.LogResult> logs = new ArrayList<>();
+                for(long block = from; block <= to; block++) {
+                    if(block % 7 == 0) {
+                        logs.add(new KlayLogs.LogObject("0x0", "0x0", String.format("0x%064x", block), "0x0", "0x" + Long.toHexString(block),
+                                TOKEN, ABI.encodeParameter(new Uint256(block)), malformedLogs ? Arrays.asList(signature) : Arrays.asList(signature, FROM, TO)));
+                    }
+                }
+                response.setResult(logs);
+                return request(response);
+            });
+        }
+
+        void checkLogs(List<ContractEventLog> logs, long fromBlock, long toBlock) {
+            long expected = (fromBlock + 6) / 7 * 7;
+            for(ContractEventLog log : logs) {
+                assertEquals("Transfer", log.getEventName());
+                assertEquals(BigInteger.valueOf(expected), log.getBlockNumber());
+                assertEquals(BigInteger.valueOf(expected), log.getNonIndexedValues().get(0).getValue());
+                assertEquals("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", log.getIndexedValues().get(0).getValue());
+                expected += 7;
+            }
+            assertEquals(toBlock / 7 * 7 + 7, expected);
+        }
+
+        @Test
+        public void fetchInOrder() {
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 8, 5000);
+
+            List<ContractEventLog> logs = backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(9999)).toList().blockingGet();
+
+            checkLogs(logs, 0, 9999);
+            assertEquals(100, requestCount.get());
+        }
+
+        @Test
+        public void shrinkOnTooManyResults() {
+            maxBlocksPerRequest = 300;
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 1000, 1000, 4, 5000);
+
+            List<ContractEventLog> logs = backfill.fetch(BigInteger.valueOf(5), BigInteger.valueOf(4004)).toList().blockingGet();
+
+            checkLogs(logs, 5, 4004);
+        }
+
+        @Test
+        public void keepOrderWhileSplitChunkWaits() {
+            // [100, 199] is fetched before [0, 99] is split into [0, 49] and [50, 99].
+            // [0, 49] is fetched while [50, 99] waits for [200, 299], and the logs of [100, 199] must not be emitted before [50, 99].
+            maxBlocksPerRequest = 50;
+            denseBefore = 100;
+            delays.put("0-99", 100L);
+            delays.put("200-299", 500L);
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 2, 5000);
+
+            List<ContractEventLog> logs = backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(399)).toList().blockingGet();
+
+            checkLogs(logs, 0, 399);
+        }
+
+        @Test
+        public void throwException_invalidTargetResults() {
+            try {
+                new EventBackfill(kip7, "Transfer", 100, 100, 2, 0);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("targetResults must be greater than 0.", e.getMessage());
+            }
+        }
+
+        @Test
+        public void growOnSparseRange() {
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 10, 10_000, 1, 5000);
+
+            List<ContractEventLog> logs = backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(99_999)).toList().blockingGet();
+
+            checkLogs(logs, 0, 99_999);
+            // 10, 20, 40, ... blocks per request instead of 10,000 requests of 10 blocks.
+            assertTrue(requestCount.get() < 30);
+        }
+
+        @Test
+        public void limitBufferedChunks() {
+            // While [0, 99] is fetched, up to 2 * 4 later chunks are fetched and kept.
+            delays.put("0-99", 300L);
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 2, 5000);
+
+            List<ContractEventLog> logs = backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(9999)).toList().blockingGet();
+
+            checkLogs(logs, 0, 9999);
+            assertTrue(requestsWhileDelayed.get() <= 1 + 2 * 4);
+            assertEquals(100, requestCount.get());
+        }
+
+        @Test
+        public void fetchOnDemand() throws InterruptedException {
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 2, 5000);
+
+            TestSubscriber<ContractEventLog> subscriber = backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(9999)).test(1);
+            subscriber.assertValueCount(1);
+            Thread.sleep(100);
+
+            // Only the chunks to emit the requested log are fetched.
+            assertTrue(requestCount.get() <= 2);
+
+            subscriber.requestMore(Long.MAX_VALUE);
+            subscriber.awaitTerminalEvent(5, TimeUnit.SECONDS);
+            checkLogs(subscriber.values(), 0, 9999);
+            assertEquals(100, requestCount.get());
+        }
+
+        @Test
+        public void retryOnError() {
+            failuresToThrow.set(2);
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 1, 5000);
+
+            long start = System.nanoTime();
+            List<ContractEventLog> logs = backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(999)).toList().blockingGet();
+
+            checkLogs(logs, 0, 999);
+            assertEquals(12, requestCount.get());
+            // The retries wait for 100ms and 200ms.
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(300));
+        }
+
+        @Test
+        public void throwException_decodeError() {
+            malformedLogs = true;
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 1, 5000);
+
+            try {
+                backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(999)).toList().blockingGet();
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertTrue(e.getMessage().startsWith("Failed to decode the Transfer log at block 0x0"));
+            }
+            // The chunk is not fetched again.
+            assertEquals(1, requestCount.get());
+        }
+
+        @Test
+        public void throwException_retryExhausted() {
+            failuresToThrow.set(Integer.MAX_VALUE);
+            EventBackfill backfill = new EventBackfill(kip7, "Transfer", 100, 100, 1, 5000);
+
+            try {
+                backfill.fetch(BigInteger.ZERO, BigInteger.valueOf(999)).toList().blockingGet();
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getCause() instanceof IOException);
+                assertEquals("connection reset", e.getCause().getMessage());
+            }
+        }
+    }
+}
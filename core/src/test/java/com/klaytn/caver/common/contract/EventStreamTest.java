@@ -0,0 +1,355 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.contract;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.datatypes.generated.Uint256;
+import com.klaytn.caver.contract.ContractEventLog;
+import com.klaytn.caver.contract.EventBackfill;
+import com.klaytn.caver.contract.EventCheckpoint;
+import com.klaytn.caver.contract.EventCheckpointStore;
+import com.klaytn.caver.contract.EventStream;
+import com.klaytn.caver.contract.FileEventCheckpointStore;
+import com.klaytn.caver.kct.kip7.KIP7;
+import com.klaytn.caver.methods.request.KlayLogFilter;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.NewHeadsNotification;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.rpc.RPC;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.klaytn.caver.base.TestUtils.request;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class EventStreamTest {
+    static final String TOKEN = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    static final String FROM = "0x000000000000000000000000e97f27e9a5765ce36a7b919b1cb6004c7209217e";
+    static final String TO = "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+
+    static class MemoryCheckpointStore implements EventCheckpointStore {
+        EventCheckpoint checkpoint;
+        volatile int saveCount;
+
+        @Override
+        public EventCheckpoint load() {
+            return checkpoint;
+        }
+
+        @Override
+        public void save(EventCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            saveCount++;
+        }
+    }
+
+    public static class streamTest {
+        Klay klay;
+        KIP7 kip7;
+        String signature;
+        MemoryCheckpointStore store = new MemoryCheckpointStore();
+
+        // A Transfer event is emitted at every block which is a multiple of 7, and its value is the block number.
+        volatile long head = 100;
+        // The blocks from forkBlock have different hashes after a reorg.
+        volatile long forkBlock = Long.MAX_VALUE;
+        // If it is set, a reorg from the block happens while the next logs are fetched.
+        volatile long forkWhileFetching = -1;
+
+        List<Long> events = Collections.synchronizedList(new ArrayList<>());
+        List<BigInteger> rollbacks = Collections.synchronizedList(new ArrayList<>());
+        List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+        PublishProcessor<NewHeadsNotification> newHeads = PublishProcessor.create();
+        EventStream stream;
+
+        String hash(long block) {
+            return String.format("0x%063x%s", block, block >= forkBlock ? "f" : "0");
+        }
+
+        @Before
+        public void before() throws IOException {
+            klay = mock(Klay.class);
+            Caver caver = mock(Caver.class);
+            caver.rpc = mock(RPC.class);
+            caver.rpc.klay = klay;
+
+            kip7 = new KIP7(caver, TOKEN);
+            signature = kip7.getEvent("Transfer").getSignature();
+
+            when(klay.getBlockNumber()).thenAnswer(invocation -> {
+                Quantity quantity = new Quantity();
+                quantity.setResult("0x" + Long.toHexString(head));
+                return request(quantity);
+            });
+
+            when(klay.getBlockByNumber(anyLong())).thenAnswer(invocation -> {
+                long number = invocation.getArgument(0);
+                Block.BlockData data = new Block.BlockData();
+                data.setNumber("0x" + Long.toHexString(number));
+                data.setHash(hash(number));
+
+                Block block = new Block();
+                block.setResult(data);
+                return request(block);
+            });
+
+            when(klay.getLogs(any(KlayLogFilter.class))).thenAnswer(invocation -> {
+                KlayLogFilter filter = invocation.getArgument(0);
+                long from = ((DefaultBlockParameterNumber)filter.getFromBlock()).getBlockNumber().longValue();
+                long to = ((DefaultBlockParameterNumber)filter.getToBlock()).getBlockNumber().longValue();
+
+                List<KlayLogs.LogResult> logs = new ArrayList<>();
+                for(long block = from; block <= to; block++) {
+                    if(block % 7 == 0) {
+                        logs.add(new KlayLogs.LogObject("0x0", "0x0", String.format("0x%064x", block), hash(block), "0x" + Long.toHexString(block),
+                                TOKEN, ABI.encodeParameter(new Uint256(block)), Arrays.asList(signature, FROM, TO)));
+                    }
+                }
+
+                if(forkWhileFetching >= 0) {
+                    forkBlock = forkWhileFetching;
+                    forkWhileFetching = -1;
+                }
+
+                KlayLogs response = new KlayLogs();
+                response.setResult(logs);
+                return request(response);
+            });
+        }
+
+        @After
+        public void after() {
+            if(stream != null) {
+                stream.close();
+            }
+        }
+
+        void start() throws IOException {
+            start(new EventStream(kip7, "Transfer", store, BigInteger.ZERO, 2, 10));
+        }
+
+        void startWithNewHeads() throws IOException {
+            start(new EventStream(kip7, new EventBackfill(kip7, "Transfer"), store, BigInteger.ZERO, 2, 10, newHeads));
+        }
+
+        void start(EventStream eventStream) throws IOException {
+            stream = eventStream;
+            stream.start(new EventStream.Listener() {
+                @Override
+                public void onEvent(ContractEventLog eventLog) {
+                    events.add(eventLog.getBlockNumber().longValue());
+                }
+
+                @Override
+                public void onRollback(BigInteger blockNumber) {
+                    rollbacks.add(blockNumber);
+                    events.removeIf(block -> block > blockNumber.longValue());
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    errors.add(error);
+                }
+            });
+        }
+
+        void waitForCheckpoint(long blockNumber) throws InterruptedException {
+            for(int i = 0; i < 500; i++) {
+                EventCheckpoint checkpoint = stream.getCheckpoint();
+                if(checkpoint != null && checkpoint.getBlockNumber().longValue() == blockNumber) {
+                    return;
+                }
+                Thread.sleep(10);
+            }
+            fail("The checkpoint did not reach the block " + blockNumber);
+        }
+
+        void checkEvents(long toBlock) {
+            List<Long> expected = new ArrayList<>();
+            for(long block = 0; block <= toBlock; block += 7) {
+                expected.add(block);
+            }
+            assertEquals(expected, events);
+        }
+
+        @Test
+        public void deliverConfirmedBlocks() throws Exception {
+            start();
+            waitForCheckpoint(98);
+            checkEvents(98);
+            assertEquals(hash(98), store.checkpoint.getBlockHash());
+            // The checkpoint is saved once for the range, and it has the blocks with logs to roll back to.
+            assertEquals(1, store.saveCount);
+            assertEquals(15, store.checkpoint.getBlocks().size());
+
+            head = 130;
+            waitForCheckpoint(128);
+            checkEvents(128);
+        }
+
+        @Test
+        public void resumeFromCheckpoint() throws Exception {
+            start();
+            waitForCheckpoint(98);
+            stream.close();
+
+            head = 200;
+            start();
+            waitForCheckpoint(198);
+
+            // No events are delivered twice after a restart.
+            checkEvents(198);
+            verify(klay, never()).getLogs(argThat(filter ->
+                    ((DefaultBlockParameterNumber)filter.getFromBlock()).getBlockNumber().longValue() < 99));
+        }
+
+        @Test
+        public void rollbackOnReorg() throws Exception {
+            start();
+            waitForCheckpoint(98);
+
+            forkBlock = 90;
+            head = 120;
+            waitForCheckpoint(118);
+
+            // The processed blocks 91 and 98 are replaced, and 84 is the latest processed block before the fork.
+            assertEquals(Collections.singletonList(BigInteger.valueOf(84)), rollbacks);
+            checkEvents(118);
+            assertEquals(hash(118), store.checkpoint.getBlockHash());
+        }
+
+        @Test
+        public void rollbackOnReorgWhileFetching() throws Exception {
+            start();
+            waitForCheckpoint(98);
+
+            forkWhileFetching = 105;
+            head = 120;
+            waitForCheckpoint(118);
+
+            // The logs of 105 and 112 are fetched from the replaced chain, so the range is rolled back and fetched again.
+            assertEquals(Collections.singletonList(BigInteger.valueOf(98)), rollbacks);
+            checkEvents(118);
+            assertEquals(hash(118), store.checkpoint.getBlockHash());
+            assertTrue(errors.isEmpty());
+        }
+
+        @Test
+        public void rollbackOnDeepReorg() throws Exception {
+            start();
+            waitForCheckpoint(98);
+
+            // All processed blocks are replaced, so the logs are fetched again from the start block.
+            forkBlock = 0;
+            head = 120;
+            waitForCheckpoint(118);
+
+            assertEquals(Collections.singletonList(BigInteger.valueOf(-1)), rollbacks);
+            checkEvents(118);
+            assertEquals(hash(0), store.checkpoint.getBlocks().get(0).getHash());
+            assertTrue(errors.isEmpty());
+        }
+
+        @Test
+        public void fallbackToPollingOnError() throws Exception {
+            startWithNewHeads();
+            waitForCheckpoint(98);
+
+            newHeads.onError(new IOException("connection closed"));
+
+            // No notification comes after the error, so only polling can find the new blocks.
+            head = 130;
+            waitForCheckpoint(128);
+            checkEvents(128);
+            assertEquals("connection closed", errors.get(0).getMessage());
+        }
+
+        @Test
+        public void fallbackToPollingOnComplete() throws Exception {
+            startWithNewHeads();
+            waitForCheckpoint(98);
+
+            newHeads.onComplete();
+
+            head = 130;
+            waitForCheckpoint(128);
+            checkEvents(128);
+            assertEquals(1, errors.size());
+        }
+    }
+
+    public static class checkpointTest {
+        @Test
+        public void keepRecentBlocks() {
+            EventCheckpoint checkpoint = new EventCheckpoint();
+            for(int i = 0; i < EventCheckpoint.MAX_BLOCKS + 10; i++) {
+                checkpoint = checkpoint.next(BigInteger.valueOf(i), "0x" + i);
+            }
+
+            assertEquals(EventCheckpoint.MAX_BLOCKS, checkpoint.getBlocks().size());
+            assertEquals(BigInteger.valueOf(EventCheckpoint.MAX_BLOCKS + 9), checkpoint.getBlockNumber());
+            assertEquals(BigInteger.TEN, checkpoint.getBlocks().get(0).getNumber());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void throwException_notAscending() {
+            new EventCheckpoint().next(BigInteger.TEN, "0x1").next(BigInteger.TEN, "0x2");
+        }
+
+        @Test
+        public void saveAndLoadFile() throws IOException {
+            Path directory = Files.createTempDirectory("checkpoint");
+            FileEventCheckpointStore store = new FileEventCheckpointStore(directory.resolve("transfer.checkpoint"));
+            assertNull(store.load());
+
+            EventCheckpoint checkpoint = new EventCheckpoint().next(BigInteger.ONE, "0x1").next(BigInteger.TEN, "0xa");
+            store.save(checkpoint);
+            store.save(checkpoint.next(BigInteger.valueOf(11), "0xb"));
+
+            EventCheckpoint loaded = store.load();
+            assertEquals(BigInteger.valueOf(11), loaded.getBlockNumber());
+            assertEquals("0xb", loaded.getBlockHash());
+            assertEquals(3, loaded.getBlocks().size());
+            assertEquals("0x1", loaded.getBlocks().get(0).getHash());
+
+            // No temporary file is left.
+            assertEquals(1, Files.list(directory).count());
+        }
+    }
+}
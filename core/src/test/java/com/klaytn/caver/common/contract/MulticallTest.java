@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.contract;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.ABICodec;
+import com.klaytn.caver.abi.datatypes.DynamicArray;
+import com.klaytn.caver.abi.datatypes.DynamicBytes;
+import com.klaytn.caver.abi.datatypes.DynamicStruct;
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.abi.datatypes.generated.Uint256;
+import com.klaytn.caver.contract.Multicall;
+import com.klaytn.caver.kct.kip7.KIP7;
+import com.klaytn.caver.methods.request.CallObject;
+import com.klaytn.caver.methods.response.Bytes;
+import com.klaytn.caver.rpc.RPC;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class MulticallTest {
+    static final String TOKEN = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    static final String AGGREGATOR = "0xe97f27e9a5765ce36a7b919b1cb6004c7209217e";
+    static final String REVERTING_HOLDER = "0x000000000000000000000000000000000000dead";
+
+    static String holder(int index) {
+        return String.format("0x%040x", index + 1);
+    }
+
+    // balanceOf(holder) returns the holder address as a number, and reverts for REVERTING_HOLDER.
+    static String balanceOf(String data) {
+        String holder = "0x" + data.substring(data.length() - 40);
+        if(holder.equals(REVERTING_HOLDER)) {
+            return null;
+        }
+        return ABI.encodeParameter(new Uint256(Numeric.toBigInt(holder)));
+    }
+
+    static Bytes bytes(long id, String result, String error) {
+        Bytes bytes = new Bytes();
+        bytes.setId(id);
+        if(error != null) {
+            bytes.setError(new Response.Error(-32000, error));
+        } else {
+            bytes.setResult(result);
+        }
+        return bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    static String tryAggregate(String data) throws Exception {
+        ABICodec input = ABICodec.compile(Arrays.asList("bool", "tuple(address,bytes)[]"));
+        List<Type> targets = ((DynamicArray<Type>)input.decode(data.substring(10)).get(1)).getValue();
+
+        List<Object> returnData = new ArrayList<>();
+        for(Type target : targets) {
+            String callData = Numeric.toHexString(((DynamicBytes)((DynamicStruct)target).getValue().get(1)).getValue());
+            String result = balanceOf(callData);
+            returnData.add(result == null ? Arrays.asList(false, "0x") : Arrays.asList(true, result));
+        }
+        return "0x" + ABICodec.compile(Arrays.asList("tuple(bool,bytes)[]")).encode(Arrays.asList(returnData));
+    }
+
+    public static class aggregateTest {
+        Web3jService service;
+        Caver caver;
+        KIP7 kip7;
+
+        @Before
+        public void before() throws Exception {
+            service = mock(Web3jService.class);
+            caver = mock(Caver.class);
+            caver.rpc = new RPC(service);
+            kip7 = new KIP7(caver, TOKEN);
+
+            when(service.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+                BatchRequest batchRequest = invocation.getArgument(0);
+
+                List<Response<?>> responses = new ArrayList<>();
+                for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                    String data = ((CallObject)request.getParams().get(0)).getData();
+                    String result = balanceOf(data);
+                    responses.add(bytes(request.getId(), result, result == null ? "evm: execution reverted" : null));
+                }
+                return new BatchResponse(batchRequest.getRequests(), responses);
+            });
+        }
+
+        List<Multicall.Call> calls(int count) {
+            List<Multicall.Call> calls = new ArrayList<>();
+            for(int i = 0; i < count; i++) {
+                calls.add(Multicall.Call.of(kip7.getMethod("balanceOf"), holder(i)));
+            }
+            return calls;
+        }
+
+        void checkResults(List<Multicall.Call> calls, List<Multicall.Result> results) {
+            assertEquals(calls.size(), results.size());
+            for(int i = 0; i < calls.size(); i++) {
+                Multicall.Result result = results.get(i);
+                assertSame(calls.get(i), result.getCall());
+                assertTrue(result.isSuccess());
+                assertEquals(Numeric.toBigInt(holder(i)), result.getValues().get(0).getValue());
+            }
+        }
+
+        @Test
+        public void aggregateWithContract() throws Exception {
+            when(service.send(any(Request.class), eq(Bytes.class))).thenAnswer(invocation -> {
+                Request<?, ?> request = invocation.getArgument(0);
+                CallObject callObject = (CallObject)request.getParams().get(0);
+                assertEquals(AGGREGATOR, callObject.getTo());
+                return bytes(request.getId(), tryAggregate(callObject.getData()), null);
+            });
+
+            List<Multicall.Call> calls = calls(120);
+            List<Multicall.Result> results = new Multicall(caver, AGGREGATOR, 50).aggregate(calls);
+
+            checkResults(calls, results);
+            verify(service, times(3)).send(any(Request.class), eq(Bytes.class));
+            verify(service, never()).sendBatch(any(BatchRequest.class));
+        }
+
+        @Test
+        public void aggregateWithBatch() throws Exception {
+            List<Multicall.Call> calls = calls(120);
+            List<Multicall.Result> results = new Multicall(caver, null, 50).aggregate(calls);
+
+            checkResults(calls, results);
+            verify(service, times(3)).sendBatch(any(BatchRequest.class));
+            verify(service, never()).send(any(Request.class), any());
+        }
+
+        @Test
+        public void fallbackToBatch_aggregatorNotDeployed() throws Exception {
+            // A call to an address without code returns an empty result.
+            when(service.send(any(Request.class), eq(Bytes.class))).thenAnswer(invocation -> {
+                Request<?, ?> request = invocation.getArgument(0);
+                return bytes(request.getId(), "0x", null);
+            });
+
+            List<Multicall.Call> calls = calls(10);
+            List<Multicall.Result> results = new Multicall(caver, AGGREGATOR).aggregate(calls);
+
+            checkResults(calls, results);
+            verify(service, times(1)).sendBatch(any(BatchRequest.class));
+        }
+
+        @Test
+        public void fallbackToBatch_aggregatorCallFailed() throws Exception {
+            when(service.send(any(Request.class), eq(Bytes.class))).thenThrow(new IOException("read timed out"));
+
+            List<Multicall.Call> calls = calls(10);
+            List<Multicall.Result> results = new Multicall(caver, AGGREGATOR).aggregate(calls);
+
+            checkResults(calls, results);
+            verify(service, times(1)).send(any(Request.class), eq(Bytes.class));
+            verify(service, times(1)).sendBatch(any(BatchRequest.class));
+        }
+
+        @Test
+        public void isolateFailedCalls() throws Exception {
+            List<Multicall.Call> calls = new ArrayList<>();
+            calls.add(Multicall.Call.of(kip7.getMethod("balanceOf"), holder(0)));
+            calls.add(Multicall.Call.of(kip7.getMethod("balanceOf"), REVERTING_HOLDER));
+            calls.add(Multicall.Call.of(kip7.getMethod("balanceOf"), holder(0), BigInteger.ONE));
+            calls.add(Multicall.Call.of(kip7.getMethod("balanceOf"), holder(3)));
+
+            for(String aggregator : Arrays.asList(AGGREGATOR, null)) {
+                when(service.send(any(Request.class), eq(Bytes.class))).thenAnswer(invocation -> {
+                    Request<?, ?> request = invocation.getArgument(0);
+                    return bytes(request.getId(), tryAggregate(((CallObject)request.getParams().get(0)).getData()), null);
+                });
+
+                List<Multicall.Result> results = new Multicall(caver, aggregator).aggregate(calls);
+
+                assertTrue(results.get(0).isSuccess());
+                assertFalse(results.get(1).isSuccess());
+                assertFalse(results.get(2).isSuccess());
+                assertTrue(results.get(2).getErrorMessage().startsWith("Failed to encode the call"));
+                assertTrue(results.get(3).isSuccess());
+                assertEquals(Numeric.toBigInt(holder(3)), results.get(3).getValues().get(0).getValue());
+            }
+        }
+
+        @Test
+        public void throwException_batchFailed() throws Exception {
+            when(service.sendBatch(any(BatchRequest.class))).thenThrow(new IOException("connection refused"));
+
+            try {
+                new Multicall(caver).aggregate(calls(2));
+                fail();
+            } catch(IOException e) {
+                assertEquals("connection refused", e.getMessage());
+            }
+        }
+    }
+}
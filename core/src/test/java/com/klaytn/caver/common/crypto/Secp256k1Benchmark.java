@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.crypto;
+
+import com.klaytn.caver.crypto.Secp256k1;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Sign;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.Arrays;
+
+/**
+ * A micro-benchmark of public key recovery which compares {@link Secp256k1} with {@code Sign.recoverFromSignature} of web3j.<p>
+ * It is not run as a test. The keys and messages are derived from fixed seeds, so every run recovers the same signatures.
+ * Each round runs all signatures through both implementations after the warm-up rounds, and prints the time per recovery.
+ * <pre>Example :
+ * {@code
+ * java -cp <test classpath> com.klaytn.caver.common.crypto.Secp256k1Benchmark [signatures] [warm-up rounds] [rounds]
+ * }
+ * </pre>
+ */
+public class Secp256k1Benchmark {
+    static final int DEFAULT_SIGNATURES = 256;
+    static final int DEFAULT_WARM_UP_ROUNDS = 20;
+    static final int DEFAULT_ROUNDS = 10;
+
+    private final int[] recIds;
+    private final byte[][] rs;
+    private final byte[][] ss;
+    private final byte[][] hashes;
+
+    /**
+     * The sum of the recovered keys. It is printed, so the JIT can't drop the recoveries as dead code.
+     */
+    private long sink;
+
+    Secp256k1Benchmark(int count) {
+        recIds = new int[count];
+        rs = new byte[count][];
+        ss = new byte[count][];
+        hashes = new byte[count][];
+
+        for(int i = 0; i < count; i++) {
+            BigInteger privateKey = new BigInteger(1, Hash.sha3(("key" + i).getBytes()));
+            byte[] hash = Hash.sha3(("message" + i).getBytes());
+            Sign.SignatureData signature = Sign.signMessage(hash, ECKeyPair.create(privateKey), false);
+
+            recIds[i] = signature.getV()[0] - 27;
+            rs[i] = signature.getR();
+            ss[i] = signature.getS();
+            hashes[i] = hash;
+        }
+    }
+
+    long runSecp256k1() throws SignatureException {
+        long start = System.nanoTime();
+        for(int i = 0; i < hashes.length; i++) {
+            sink += Arrays.hashCode(Secp256k1.recoverPublicKey(recIds[i], rs[i], ss[i], hashes[i]));
+        }
+        return System.nanoTime() - start;
+    }
+
+    long runWeb3j() {
+        long start = System.nanoTime();
+        for(int i = 0; i < hashes.length; i++) {
+            ECDSASignature signature = new ECDSASignature(new BigInteger(1, rs[i]), new BigInteger(1, ss[i]));
+            sink += Sign.recoverFromSignature(recIds[i], signature, hashes[i]).hashCode();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Checks that both implementations recover the same public keys before they are measured.
+     */
+    void verify() throws SignatureException {
+        for(int i = 0; i < hashes.length; i++) {
+            ECDSASignature signature = new ECDSASignature(new BigInteger(1, rs[i]), new BigInteger(1, ss[i]));
+            BigInteger expected = Sign.recoverFromSignature(recIds[i], signature, hashes[i]);
+            BigInteger actual = new BigInteger(1, Secp256k1.recoverPublicKey(recIds[i], rs[i], ss[i], hashes[i]));
+            if(!expected.equals(actual)) {
+                throw new IllegalStateException("The recovered public keys are different at " + i);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws SignatureException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIGNATURES;
+        int warmUpRounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WARM_UP_ROUNDS;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUNDS;
+
+        Secp256k1Benchmark benchmark = new Secp256k1Benchmark(count);
+        benchmark.verify();
+
+        for(int i = 0; i < warmUpRounds; i++) {
+            benchmark.runSecp256k1();
+            benchmark.runWeb3j();
+        }
+
+        long[] secp256k1 = new long[rounds];
+        long[] web3j = new long[rounds];
+        for(int i = 0; i < rounds; i++) {
+            secp256k1[i] = benchmark.runSecp256k1();
+            web3j[i] = benchmark.runWeb3j();
+        }
+
+        System.out.printf("signatures: %d, warm-up rounds: %d, rounds: %d%n", count, warmUpRounds, rounds);
+        print("Secp256k1", secp256k1, count);
+        print("web3j", web3j, count);
+        System.out.printf("speedup (median): %.2fx%n", (double)median(web3j) / median(secp256k1));
+        System.out.println("sink: " + benchmark.sink);
+    }
+
+    private static void print(String name, long[] times, int count) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-10s min %8.1f us/op, median %8.1f us/op, max %8.1f us/op%n", name,
+                sorted[0] / 1000.0 / count, median(times) / 1000.0 / count, sorted[sorted.length - 1] / 1000.0 / count);
+    }
+
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.crypto;
+
+import com.klaytn.caver.crypto.Secp256k1;
+import com.klaytn.caver.utils.Utils;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class Secp256k1Test {
+    public static class recoverPublicKeyTest {
+        @Test
+        public void recoverKnownSignature() throws SignatureException {
+            byte[] publicKey = Secp256k1.recoverPublicKey(1,
+                    Numeric.hexStringToByteArray("0xa5c9ff1df09258a6f9262f1fae43a306ec77592287787cbd3ee0419dd8d2bfeb"),
+                    Numeric.hexStringToByteArray("0x4c903d3dda703554cf7b65aa2c0dc819c86d36cf2dbf0ff5071667fb5551a706"),
+                    Numeric.hexStringToByteArray("0xa4b1069c1000981f4fdca0d62302dfff77c2d0bc17f283d961e2dc5961105b18"));
+
+            assertEquals("0x89632f9a5aa49b30ddea62574c4b0e23cf05b934f667dd94eb3a4f394ca0bba36726b313ef93fbfc1295b87f62f1c1c9fdb0dbc6f583eae6db0cbd5c715f19cd",
+                    Numeric.toHexString(publicKey));
+        }
+
+        @Test
+        public void sameAsWeb3j() throws Exception {
+            for(int i = 0; i < 20; i++) {
+                ECKeyPair keyPair = Keys.createEcKeyPair();
+                byte[] hash = Hash.sha3(BigInteger.valueOf(i).toByteArray());
+                Sign.SignatureData signature = Sign.signMessage(hash, keyPair, false);
+                int recId = signature.getV()[0] - 27;
+
+                byte[] publicKey = Secp256k1.recoverPublicKey(recId, signature.getR(), signature.getS(), hash);
+                BigInteger expected = Sign.recoverFromSignature(recId,
+                        new ECDSASignature(new BigInteger(1, signature.getR()), new BigInteger(1, signature.getS())), hash);
+
+                assertEquals(expected, new BigInteger(1, publicKey));
+                assertEquals(keyPair.getPublicKey(), new BigInteger(1, publicKey));
+            }
+        }
+
+        @Test
+        public void returnNull_rIsZero() throws SignatureException {
+            assertNull(Secp256k1.recoverPublicKey(0, new byte[32], new byte[32], new byte[32]));
+        }
+
+        @Test
+        public void throwException_invalidRecId() {
+            try {
+                Secp256k1.recoverPublicKey(4, new byte[32], new byte[32], new byte[32]);
+                fail();
+            } catch(SignatureException e) {
+                assertEquals("recId must be in range of 0 to 3: 4", e.getMessage());
+            }
+        }
+    }
+
+    public static class decodePublicKeyTest {
+        static final String PUBLIC_KEY = "0x89632f9a5aa49b30ddea62574c4b0e23cf05b934f667dd94eb3a4f394ca0bba36726b313ef93fbfc1295b87f62f1c1c9fdb0dbc6f583eae6db0cbd5c715f19cd";
+
+        @Test
+        public void decodeCompressed() {
+            String compressed = Utils.compressPublicKey(PUBLIC_KEY);
+            assertEquals(PUBLIC_KEY, Numeric.toHexString(Secp256k1.decodePublicKey(Numeric.hexStringToByteArray(compressed))));
+        }
+
+        @Test
+        public void decodeUncompressed() {
+            assertEquals(PUBLIC_KEY, Numeric.toHexString(Secp256k1.decodePublicKey(Numeric.hexStringToByteArray(PUBLIC_KEY))));
+            assertEquals(PUBLIC_KEY, Numeric.toHexString(Secp256k1.decodePublicKey(Numeric.hexStringToByteArray("0x04" + Numeric.cleanHexPrefix(PUBLIC_KEY)))));
+        }
+
+        @Test
+        public void throwException_xIsNotLessThanP() {
+            // x = P + 1 is reduced to 1 by the field arithmetic, so it must be rejected before the decompression.
+            byte[] publicKey = Numeric.hexStringToByteArray("0x02fffffffffffffffffffffffffffffffffffffffffffffffffffffffefffffc30");
+            try {
+                Secp256k1.decodePublicKey(publicKey);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("Invalid public key: x is not less than the field prime.", e.getMessage());
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void throwException_invalidLength() {
+            Secp256k1.decodePublicKey(new byte[20]);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.BatchingWeb3jService;
+import com.klaytn.caver.rpc.Klay;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class BatchingWeb3jServiceTest {
+    // Each response has the id of its request as a result, so that it can be checked which request it belongs to.
+    static Quantity response(Request<?, ?> request) {
+        Quantity quantity = new Quantity();
+        quantity.setId(request.getId());
+        quantity.setResult("0x" + Long.toHexString(request.getId()));
+        return quantity;
+    }
+
+    static Web3jService mockService() {
+        Web3jService service = mock(Web3jService.class);
+
+        when(service.sendAsync(any(Request.class), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(response(invocation.getArgument(0))));
+        when(service.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batchRequest = invocation.getArgument(0);
+
+            List<Response<?>> responses = new ArrayList<>();
+            for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                responses.add(response(request));
+            }
+            // A node may return responses in a different order.
+            Collections.reverse(responses);
+            return CompletableFuture.completedFuture(new BatchResponse(batchRequest.getRequests(), responses));
+        });
+
+        return service;
+    }
+
+    public static class sendTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        Web3jService service;
+
+        @Before
+        public void before() {
+            service = mockService();
+        }
+
+        @Test
+        public void coalesceWithinWindow() throws Exception {
+            BatchingWeb3jService batchingService = new BatchingWeb3jService(service, 100, 50);
+            Klay klay = new Klay(batchingService);
+
+            List<Request<?, Quantity>> requests = new ArrayList<>();
+            List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+            for(int i = 0; i < 10; i++) {
+                Request<?, Quantity> request = klay.getBlockNumber();
+                requests.add(request);
+                futures.add(request.sendAsync());
+            }
+
+            for(int i = 0; i < futures.size(); i++) {
+                Quantity quantity = futures.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(BigInteger.valueOf(requests.get(i).getId()), quantity.getValue());
+            }
+
+            verify(service, times(1)).sendBatchAsync(any(BatchRequest.class));
+            verify(service, never()).sendAsync(any(Request.class), any());
+            assertEquals(1, batchingService.getBatchCount());
+            assertEquals(10, batchingService.getRequestCount());
+            assertEquals(10, batchingService.getLargestBatchSize());
+            assertEquals(10.0, batchingService.getAverageBatchSize(), 0);
+        }
+
+        @Test
+        public void sendAtMaxBatchSize() throws Exception {
+            // The window is long enough not to be reached in this test.
+            BatchingWeb3jService batchingService = new BatchingWeb3jService(service, 4, 60_000);
+            Klay klay = new Klay(batchingService);
+
+            List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+            for(int i = 0; i < 8; i++) {
+                futures.add(klay.getBlockNumber().sendAsync());
+            }
+
+            for(CompletableFuture<Quantity> future : futures) {
+                assertNotNull(future.get(5, TimeUnit.SECONDS).getValue());
+            }
+            verify(service, times(2)).sendBatchAsync(any(BatchRequest.class));
+            assertEquals(4, batchingService.getLargestBatchSize());
+        }
+
+        @Test
+        public void sendAloneWithoutBatch() throws IOException {
+            BatchingWeb3jService batchingService = new BatchingWeb3jService(service, 100, 0);
+            Klay klay = new Klay(batchingService);
+
+            Request<?, Quantity> request = klay.getBlockNumber();
+            assertEquals(BigInteger.valueOf(request.getId()), request.send().getValue());
+
+            verify(service, times(1)).sendAsync(any(Request.class), any());
+            verify(service, never()).sendBatchAsync(any(BatchRequest.class));
+        }
+
+        @Test
+        public void coalesceBlockingSends() throws Exception {
+            BatchingWeb3jService batchingService = new BatchingWeb3jService(service, 8, 60_000);
+            Klay klay = new Klay(batchingService);
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Quantity>> futures = new ArrayList<>();
+                for(int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(() -> klay.getBlockNumber().send()));
+                }
+                for(Future<Quantity> future : futures) {
+                    assertNotNull(future.get(5, TimeUnit.SECONDS).getValue());
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            verify(service, times(1)).sendBatchAsync(any(BatchRequest.class));
+        }
+
+        @Test
+        public void throwException_batchFailed() throws IOException {
+            expectedException.expect(IOException.class);
+            expectedException.expectMessage("connection refused");
+
+            CompletableFuture<BatchResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IOException("connection refused"));
+            when(service.sendBatchAsync(any(BatchRequest.class))).thenReturn(failed);
+
+            BatchingWeb3jService batchingService = new BatchingWeb3jService(service, 2, 60_000);
+            Klay klay = new Klay(batchingService);
+
+            klay.getBlockNumber().sendAsync();
+            klay.getBlockNumber().send();
+        }
+
+        @Test
+        public void throwException_closed() throws IOException {
+            expectedException.expect(IOException.class);
+            expectedException.expectMessage("The service is already closed.");
+
+            BatchingWeb3jService batchingService = new BatchingWeb3jService(service);
+            batchingService.close();
+
+            new Klay(batchingService).getBlockNumber().send();
+        }
+    }
+}
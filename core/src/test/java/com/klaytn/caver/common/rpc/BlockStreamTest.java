@@ -0,0 +1,266 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.BlockTransactionReceipts;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.rpc.BlockStream;
+import com.klaytn.caver.rpc.Klay;
+import io.reactivex.disposables.Disposable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.klaytn.caver.base.TestUtils.waitUntil;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class BlockStreamTest {
+
+    /**
+     * A mocked node whose responses arrive asynchronously. A block with a higher number arrives earlier.
+     */
+    static class StubNode {
+        final Klay klay = mock(Klay.class);
+        final AtomicLong latestBlock = new AtomicLong();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger blockNumberPolls = new AtomicInteger();
+        final Map<Long, AtomicInteger> failures = new ConcurrentHashMap<>();
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+
+        StubNode(long latestBlock) throws IOException {
+            this.latestBlock.set(latestBlock);
+
+            doAnswer(invocation -> {
+                blockNumberPolls.incrementAndGet();
+                Quantity quantity = new Quantity();
+                quantity.setResult("0x" + Long.toHexString(this.latestBlock.get()));
+                return asyncRequest(quantity, 0);
+            }).when(klay).getBlockNumber();
+
+            doAnswer(invocation -> {
+                long number = invocation.getArgument(0);
+                Block block = new Block();
+                AtomicInteger failure = failures.get(number);
+                if(failure != null && failure.getAndDecrement() > 0) {
+                    block.setError(new Response.Error(-32000, "temporary error"));
+                } else if(number <= this.latestBlock.get()) {
+                    Block.BlockData blockData = new Block.BlockData();
+                    blockData.setNumber("0x" + Long.toHexString(number));
+                    blockData.setHash(hash(number));
+                    block.setResult(blockData);
+                }
+                return asyncRequest(block, Math.max(1, 30 - number));
+            }).when(klay).getBlockByNumber(anyLong(), anyBoolean());
+
+            doAnswer(invocation -> {
+                String blockHash = invocation.getArgument(0);
+                TransactionReceipt.TransactionReceiptData receiptData = new TransactionReceipt.TransactionReceiptData();
+                receiptData.setBlockHash(blockHash);
+                BlockTransactionReceipts receipts = new BlockTransactionReceipts();
+                receipts.setResult(Collections.singletonList(receiptData));
+                return asyncRequest(receipts, 1);
+            }).when(klay).getBlockReceipts(anyString());
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> Request<?, T> asyncRequest(T response, long delay) throws IOException {
+            Request<?, T> request = mock(Request.class);
+            when(request.sendAsync()).thenAnswer(invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<T> future = new CompletableFuture<>();
+                executor.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    future.complete(response);
+                }, delay, TimeUnit.MILLISECONDS);
+                return future;
+            });
+            when(request.send()).thenThrow(new AssertionError("A blocking request is sent."));
+            return request;
+        }
+
+        void stop() {
+            executor.shutdownNow();
+        }
+    }
+
+    static String hash(long number) {
+        return String.format("0x%064x", number);
+    }
+
+    static void checkOrder(List<BlockStream.BlockWithReceipts> blocks, long from) {
+        for(int i = 0; i < blocks.size(); i++) {
+            BlockStream.BlockWithReceipts block = blocks.get(i);
+            assertEquals(BigInteger.valueOf(from + i), block.getNumber());
+            assertEquals(hash(from + i), block.getReceipts().get(0).getBlockHash());
+        }
+    }
+
+    public static class fetchTest {
+        StubNode node;
+        BlockStream blockStream;
+
+        @Before
+        public void before() throws IOException {
+            node = new StubNode(100);
+        }
+
+        @After
+        public void after() {
+            blockStream.close();
+            node.stop();
+        }
+
+        @Test
+        public void emitBlocksInOrder() {
+            blockStream = new BlockStream(node.klay, 4, 10, 0, true);
+            List<BlockStream.BlockWithReceipts> blocks = blockStream.fetch(BigInteger.valueOf(3), BigInteger.valueOf(22)).toList().blockingGet();
+
+            assertEquals(20, blocks.size());
+            checkOrder(blocks, 3);
+            // Blocks are fetched concurrently, but no more than the window size.
+            assertTrue(node.maxInFlight.get() > 1);
+            assertTrue(node.maxInFlight.get() <= 4);
+        }
+
+        @Test
+        public void retryFailedBlock() {
+            node.failures.put(5L, new AtomicInteger(2));
+            blockStream = new BlockStream(node.klay, 4, 10, 0, true);
+            List<BlockStream.BlockWithReceipts> blocks = blockStream.fetch(BigInteger.ZERO, BigInteger.TEN).toList().blockingGet();
+
+            assertEquals(11, blocks.size());
+            checkOrder(blocks, 0);
+            verify(node.klay, times(3)).getBlockByNumber(5L, true);
+        }
+
+        @Test
+        public void failAfterRetries() {
+            node.failures.put(5L, new AtomicInteger(10));
+            blockStream = new BlockStream(node.klay, 4, 10, 0, true);
+
+            try {
+                blockStream.fetch(BigInteger.ZERO, BigInteger.TEN).toList().blockingGet();
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getCause() instanceof IOException);
+                assertEquals("temporary error", e.getCause().getMessage());
+            }
+        }
+
+        @Test
+        public void invalidRange() {
+            blockStream = new BlockStream(node.klay);
+            try {
+                blockStream.fetch(BigInteger.TEN, BigInteger.ONE);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("fromBlock must not be greater than toBlock.", e.getMessage());
+            }
+        }
+    }
+
+    public static class followTest {
+        StubNode node;
+        BlockStream blockStream;
+
+        @Before
+        public void before() throws IOException {
+            node = new StubNode(10);
+        }
+
+        @After
+        public void after() {
+            blockStream.close();
+            node.stop();
+        }
+
+        @Test
+        public void followNewBlocks() throws Exception {
+            blockStream = new BlockStream(node.klay, 4, 10, 0, true);
+            List<BlockStream.BlockWithReceipts> blocks = new CopyOnWriteArrayList<>();
+            Disposable disposable = blockStream.follow(BigInteger.valueOf(5)).subscribe(blocks::add);
+
+            waitUntil(() -> blocks.size() == 6);
+            // No block after the latest block is requested while the block number stays.
+            verify(node.klay, after(50).never()).getBlockByNumber(eq(11L), anyBoolean());
+            assertEquals(6, blocks.size());
+
+            node.latestBlock.set(13);
+            waitUntil(() -> blocks.size() == 9);
+            disposable.dispose();
+
+            checkOrder(new ArrayList<>(blocks), 5);
+            assertEquals(13, blockStream.getLatestBlock());
+            // The blocks after the latest block are requested only after the block number reaches them.
+            verify(node.klay, never()).getBlockByNumber(eq(15L), anyBoolean());
+        }
+
+        @Test
+        public void waitForConfirmations() throws Exception {
+            blockStream = new BlockStream(node.klay, 4, 10, 2, false);
+            List<BlockStream.BlockWithReceipts> blocks = new CopyOnWriteArrayList<>();
+            Disposable disposable = blockStream.follow(BigInteger.valueOf(5)).subscribe(blocks::add);
+
+            waitUntil(() -> blocks.size() == 4);
+            verify(node.klay, after(50).never()).getBlockByNumber(eq(9L), anyBoolean());
+            assertEquals(4, blocks.size());
+            disposable.dispose();
+
+            checkOrder(new ArrayList<>(blocks), 5);
+        }
+
+        @Test
+        public void stopPollingAfterDispose() throws Exception {
+            blockStream = new BlockStream(node.klay, 4, 10, 0, true);
+            Disposable disposable = blockStream.follow(BigInteger.valueOf(20)).subscribe();
+
+            waitUntil(() -> node.blockNumberPolls.get() >= 2);
+            disposable.dispose();
+
+            // A poll which has already started when it is disposed may still be sent, but no more.
+            int polls = node.blockNumberPolls.get();
+            verify(node.klay, after(100).atMost(polls + 1)).getBlockNumber();
+        }
+    }
+}
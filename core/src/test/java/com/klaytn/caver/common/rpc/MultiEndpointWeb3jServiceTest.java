@@ -0,0 +1,304 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.methods.response.Bytes32;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.MultiEndpointWeb3jService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.klaytn.caver.base.TestUtils.waitUntil;
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class MultiEndpointWeb3jServiceTest {
+    /**
+     * A local JSON-RPC server which answers every request with its block number.
+     */
+    static class StubNode {
+        static final ObjectMapper objectMapper = new ObjectMapper();
+
+        final HttpServer server;
+        final AtomicLong blockNumber;
+        final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+        volatile long delay;
+        volatile boolean failing;
+
+        StubNode(long blockNumber) throws IOException {
+            this.blockNumber = new AtomicLong(blockNumber);
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            this.server.createContext("/", exchange -> {
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                String method = request.get("method").asText();
+                requestCounts.computeIfAbsent(method, key -> new AtomicInteger()).incrementAndGet();
+
+                if(failing) {
+                    exchange.sendResponseHeaders(503, -1);
+                    exchange.close();
+                    return;
+                }
+                if(delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                byte[] body = ("{\"jsonrpc\":\"2.0\",\"id\":" + request.get("id").asLong()
+                        + ",\"result\":\"0x" + Long.toHexString(this.blockNumber.get()) + "\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try(OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            });
+            this.server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        int count(String method) {
+            AtomicInteger count = requestCounts.get(method);
+            return count == null ? 0 : count.get();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+
+    static Request<?, Quantity> getBalance(Web3jService service) {
+        return new Request<>("klay_getBalance", Arrays.asList("0x7b65b75d204abed71587c9e519a89277766ee1d0", "latest"), service, Quantity.class);
+    }
+
+    static Request<?, Bytes32> sendRawTransaction(Web3jService service) {
+        return new Request<>("klay_sendRawTransaction", Collections.singletonList("0x08f8"), service, Bytes32.class);
+    }
+
+    static Request<?, Quantity> getTransactionCount(Web3jService service) {
+        return new Request<>("klay_getTransactionCount", Arrays.asList("0x7b65b75d204abed71587c9e519a89277766ee1d0", "pending"), service, Quantity.class);
+    }
+
+    static Request<?, Quantity> getTransactionReceipt(Web3jService service) {
+        return new Request<>("klay_getTransactionReceipt", Collections.singletonList("0x1a2b"), service, Quantity.class);
+    }
+
+    public static class routingTest {
+        StubNode node1;
+        StubNode node2;
+        MultiEndpointWeb3jService service;
+
+        @After
+        public void after() throws IOException {
+            if(service != null) {
+                service.close();
+            }
+            node1.stop();
+            node2.stop();
+        }
+
+        @Test
+        public void excludeLaggingEndpoint() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(80);
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 50, 5, 2);
+
+            MultiEndpointWeb3jService.Endpoint endpoint2 = service.getEndpoints().get(1);
+            waitUntil(() -> !endpoint2.isHealthy());
+            assertEquals(80, endpoint2.getBlockNumber().longValue());
+            assertTrue(endpoint2.getLastError().contains("lags behind"));
+
+            for(int i = 0; i < 10; i++) {
+                getBalance(service).send();
+            }
+            assertEquals(10, node1.count("klay_getBalance"));
+            assertEquals(0, node2.count("klay_getBalance"));
+
+            node2.blockNumber.set(100);
+            waitUntil(endpoint2::isHealthy);
+        }
+
+        @Test
+        public void preferLowLatencyEndpoint() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            node1.delay = 50;
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 100, 5, 2);
+
+            waitUntil(() -> node1.count("klay_blockNumber") >= 3 && node2.count("klay_blockNumber") >= 3);
+
+            for(int i = 0; i < 20; i++) {
+                getBalance(service).sendAsync().get(5, TimeUnit.SECONDS);
+            }
+            assertTrue(node2.count("klay_getBalance") > node1.count("klay_getBalance"));
+            assertTrue(service.getEndpoints().get(0).getAverageLatency() > service.getEndpoints().get(1).getAverageLatency());
+        }
+
+        @Test
+        public void seedLatencyOfNewEndpoint() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 10_000, 5, 2, 200);
+
+            MultiEndpointWeb3jService.Endpoint endpoint1 = service.getEndpoints().get(0);
+            MultiEndpointWeb3jService.Endpoint endpoint2 = service.getEndpoints().get(1);
+            waitUntil(() -> endpoint1.getAverageLatency() > 0 && endpoint2.getAverageLatency() > 0);
+
+            // The first sample of a fast endpoint is averaged with the initial latency or the mean of other endpoints.
+            assertTrue(endpoint1.getAverageLatency() > 100);
+            assertTrue(endpoint2.getAverageLatency() > 100);
+        }
+
+        @Test
+        public void clearLatencyOfUnhealthyEndpoint() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            node2.failing = true;
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 50, 5, 2);
+
+            MultiEndpointWeb3jService.Endpoint endpoint2 = service.getEndpoints().get(1);
+            waitUntil(() -> !endpoint2.isHealthy());
+            assertEquals(0, endpoint2.getAverageLatency(), 0);
+
+            node2.failing = false;
+            waitUntil(endpoint2::isHealthy);
+            assertTrue(endpoint2.getAverageLatency() > 0);
+        }
+
+        @Test
+        public void retryReadOnAnotherEndpoint() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            node1.failing = true;
+            node2.failing = true;
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 10_000, 5, 2);
+
+            waitUntil(() -> !service.getEndpoints().get(0).isHealthy() && !service.getEndpoints().get(1).isHealthy());
+            node2.failing = false;
+
+            // Both endpoints are unhealthy, so the request is sent to the first one and retried on the second one.
+            assertEquals(100, getBalance(service).send().getValue().longValue());
+            assertEquals(1, node1.count("klay_getBalance"));
+            assertEquals(1, node2.count("klay_getBalance"));
+            assertEquals(100, getBalance(service).sendAsync().get(5, TimeUnit.SECONDS).getValue().longValue());
+
+            MultiEndpointWeb3jService.Endpoint endpoint1 = service.getEndpoints().get(0);
+            assertTrue(endpoint1.getFailureCount() >= 1);
+            assertTrue(endpoint1.getRequestCount() >= endpoint1.getFailureCount());
+            assertEquals(0, endpoint1.getInFlightCount());
+        }
+
+        @Test
+        public void pinWritesToFirstHealthyEndpoint() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            node1.delay = 30;
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 20, 5, 2);
+
+            for(int i = 0; i < 5; i++) {
+                sendRawTransaction(service).send();
+            }
+            assertEquals(5, node1.count("klay_sendRawTransaction"));
+            assertEquals(0, node2.count("klay_sendRawTransaction"));
+            assertSame(service.getEndpoints().get(0), service.getPinnedEndpoint());
+        }
+
+        @Test
+        public void pinNonceAndReceiptReads() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            node1.delay = 30;
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 20, 5, 2);
+
+            // The reads of the nonce and receipts go to the endpoint which accepted the transaction, even if it is slower.
+            for(int i = 0; i < 5; i++) {
+                getTransactionCount(service).send();
+                sendRawTransaction(service).send();
+                getTransactionReceipt(service).send();
+            }
+            assertEquals(5, node1.count("klay_getTransactionCount"));
+            assertEquals(5, node1.count("klay_getTransactionReceipt"));
+            assertEquals(0, node2.count("klay_getTransactionCount"));
+            assertEquals(0, node2.count("klay_getTransactionReceipt"));
+        }
+
+        @Test
+        public void doNotRetryPinnedRequest() throws Exception {
+            node1 = new StubNode(100);
+            node2 = new StubNode(100);
+            service = new MultiEndpointWeb3jService(Arrays.asList(node1.url(), node2.url()), 10_000, 5, 2);
+            waitUntil(() -> service.getEndpoints().get(0).getBlockNumber() != null);
+            node1.failing = true;
+
+            try {
+                sendRawTransaction(service).send();
+                fail();
+            } catch(IOException e) {
+                assertEquals(0, node2.count("klay_sendRawTransaction"));
+            }
+
+            // The failed endpoint is unhealthy, so the next pinned request goes to the second endpoint.
+            sendRawTransaction(service).send();
+            assertEquals(1, node2.count("klay_sendRawTransaction"));
+        }
+    }
+
+    public static class constructorTest {
+        @Test
+        public void requireEndpoint() {
+            try {
+                new MultiEndpointWeb3jService(Collections.<String>emptyList());
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("At least one endpoint is required.", e.getMessage());
+            }
+        }
+
+        @Test
+        public void requirePositiveInitialLatency() {
+            try {
+                new MultiEndpointWeb3jService(Collections.singletonList("http://127.0.0.1:8551"), 1000, 5, 2, 0);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("initialLatency must be greater than 0.", e.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.klaytn.caver.common.rpc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Block;
 import com.klaytn.caver.methods.response.Transaction;
 import com.klaytn.caver.methods.response.TransactionReceipt;
 import com.klaytn.caver.transaction.utils.AccessList;
@@ -319,4 +320,113 @@ public class ResponseParsingTest {
             Assert.assertEquals("0x1", transactionReceiptData.getValue());
         }
     }
+
+    public static class BlockTest {
+        static String txJson = "{\n" +
+                "  \"blockHash\": \"0xd4287f78b7a928295bf414c6755c0fda0adc2ce6f1f62dc9fbdb5e9206a961bd\",\n" +
+                "  \"blockNumber\": \"0x3f1e\",\n" +
+                "  \"from\": \"0xca7a99380131e6c76cfa622396347107aeedca2d\",\n" +
+                "  \"gas\": \"0xc350\",\n" +
+                "  \"gasPrice\": \"0x5d21dba00\",\n" +
+                "  \"hash\": \"0xcda2cfcd8c92e0c8f48e4695ade2147fa6c47930d98a16098cd7c743b2354fc6\",\n" +
+                "  \"input\": \"0x\",\n" +
+                "  \"nonce\": \"0x2\",\n" +
+                "  \"signatures\": [\n" +
+                "    {\n" +
+                "      \"V\": \"0x0fea\",\n" +
+                "      \"R\": \"0x15f22a7da8ee3a48574a5bec2f17d5f2490f6d79368ada258661c5c9532496c9\",\n" +
+                "      \"S\": \"0x27033978588f3e2d0699c6af67ec5d28eef7833408e2780c0091456235f38f72\"\n" +
+                "    }\n" +
+                "  ],\n" +
+                "  \"to\": \"0x8c9f4468ae04fb3d79c80f6eacf0e4e1dd21deee\",\n" +
+                "  \"transactionIndex\": \"0x0\",\n" +
+                "  \"type\": \"TxTypeValueTransfer\",\n" +
+                "  \"typeInt\": 8,\n" +
+                "  \"value\": \"0x1\"\n" +
+                "}";
+
+        static String blockJson(String transactions) {
+            return "{\n" +
+                    "  \"jsonrpc\": \"2.0\",\n" +
+                    "  \"id\": 1,\n" +
+                    "  \"result\": {\n" +
+                    "    \"hash\": \"0xd4287f78b7a928295bf414c6755c0fda0adc2ce6f1f62dc9fbdb5e9206a961bd\",\n" +
+                    "    \"number\": \"0x3f1e\",\n" +
+                    "    \"transactions\": " + transactions + ",\n" +
+                    "    \"timestamp\": \"0x61d53854\"\n" +
+                    "  }\n" +
+                    "}";
+        }
+
+        static Block parse(String json) throws IOException {
+            ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+            return objectMapper.readValue(new StringReader(json), Block.class);
+        }
+
+        static void checkTransaction(Object transaction) {
+            Transaction.TransactionData transactionData = (Transaction.TransactionData) transaction;
+            Assert.assertEquals("0xcda2cfcd8c92e0c8f48e4695ade2147fa6c47930d98a16098cd7c743b2354fc6", transactionData.getHash());
+            Assert.assertEquals("TxTypeValueTransfer", transactionData.getType());
+            SignatureData expectedSignature = new SignatureData(
+                    "0x0fea",
+                    "0x15f22a7da8ee3a48574a5bec2f17d5f2490f6d79368ada258661c5c9532496c9",
+                    "0x27033978588f3e2d0699c6af67ec5d28eef7833408e2780c0091456235f38f72"
+            );
+            Assert.assertEquals(expectedSignature, transactionData.getSignatures().get(0));
+        }
+
+        @Test
+        public void transactionObjectsTest() throws IOException {
+            Block block = parse(blockJson("[" + txJson + ", " + txJson + "]"));
+            Block.BlockData blockData = block.getResult();
+
+            Assert.assertEquals("0x3f1e", blockData.getNumber());
+            Assert.assertEquals("0x61d53854", blockData.getTimestamp());
+            Assert.assertEquals(2, blockData.getTransactions().size());
+            checkTransaction(blockData.getTransactions().get(0));
+            checkTransaction(blockData.getTransactions().get(1));
+        }
+
+        @Test
+        public void transactionHashesTest() throws IOException {
+            Block block = parse(blockJson("[\"0x01\", \"0x02\"]"));
+
+            Assert.assertEquals(Arrays.asList("0x01", "0x02"), block.getResult().getTransactions());
+            Assert.assertEquals("0x61d53854", block.getResult().getTimestamp());
+        }
+
+        @Test
+        public void emptyTransactionsTest() throws IOException {
+            Block block = parse(blockJson("[]"));
+
+            Assert.assertTrue(block.getResult().getTransactions().isEmpty());
+            Assert.assertEquals("0x61d53854", block.getResult().getTimestamp());
+        }
+
+        @Test
+        public void nullBlockTest() throws IOException {
+            Block block = parse("{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": null}");
+
+            Assert.assertNull(block.getResult());
+        }
+
+        @Test
+        public void skipUnknownSignatureFieldTest() throws IOException {
+            String json = txJson.replace("\"V\": \"0x0fea\",", "\"V\": \"0x0fea\", \"extra\": {\"a\": [1, 2]},");
+            Transaction.TransactionData transactionData = ObjectMapperFactory.getObjectMapper().readValue(json, Transaction.TransactionData.class);
+
+            checkTransaction(transactionData);
+        }
+
+        @Test
+        public void missingSignatureFieldTest() {
+            String json = txJson.replace("\"V\": \"0x0fea\",", "");
+            try {
+                ObjectMapperFactory.getObjectMapper().readValue(json, Transaction.TransactionData.class);
+                Assert.fail();
+            } catch(IOException e) {
+                Assert.assertTrue(e.getMessage().contains("A signature must have V, R and S fields."));
+            }
+        }
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.rpc.RPC;
+import com.klaytn.caver.transaction.response.NoOpTransactionReceiptProcessor;
+import com.klaytn.caver.transaction.response.PollingTransactionReceiptProcessor;
+import com.klaytn.caver.transaction.type.EthereumDynamicFee;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.klaytn.caver.base.TestUtils.asyncRequest;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class AsyncTransactionTest {
+    static final String from = "0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b";
+    static final String to = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    static Quantity quantity(String value) {
+        Quantity quantity = new Quantity();
+        quantity.setResult(value);
+        return quantity;
+    }
+
+    public static class fillTransactionAsyncTest {
+        Klay klay;
+
+        @Before
+        public void before() throws IOException {
+            klay = mock(Klay.class);
+            doReturn(asyncRequest(quantity("0x3a"))).when(klay).getTransactionCount(any(), any());
+            doReturn(asyncRequest(quantity("0x2710"))).when(klay).getChainID();
+            doReturn(asyncRequest(quantity("0x5d21dba00"))).when(klay).getGasPrice();
+            doReturn(asyncRequest(quantity("0x3b9aca00"))).when(klay).getMaxPriorityFeePerGas();
+        }
+
+        ValueTransfer valueTransfer() {
+            return new ValueTransfer.Builder()
+                    .setKlaytnCall(klay)
+                    .setFrom(from)
+                    .setTo(to)
+                    .setValue("0x1")
+                    .setGas("0xf4240")
+                    .build();
+        }
+
+        @Test
+        public void fillEmptyFields() throws Exception {
+            ValueTransfer valueTransfer = valueTransfer();
+            valueTransfer.fillTransactionAsync().get(5, TimeUnit.SECONDS);
+
+            assertEquals("0x3a", valueTransfer.getNonce());
+            assertEquals("0x2710", valueTransfer.getChainId());
+            assertEquals("0x5d21dba00", valueTransfer.getGasPrice());
+        }
+
+        @Test
+        public void keepFilledFields() throws Exception {
+            ValueTransfer valueTransfer = valueTransfer();
+            valueTransfer.setNonce("0x1");
+            valueTransfer.setGasPrice("0x2");
+            valueTransfer.fillTransactionAsync().get(5, TimeUnit.SECONDS);
+
+            assertEquals("0x1", valueTransfer.getNonce());
+            assertEquals("0x2", valueTransfer.getGasPrice());
+            verify(klay, never()).getTransactionCount(any(), any());
+            verify(klay, never()).getGasPrice();
+        }
+
+        @Test
+        public void fillDynamicFeeFields() throws Exception {
+            EthereumDynamicFee ethereumDynamicFee = new EthereumDynamicFee.Builder()
+                    .setKlaytnCall(klay)
+                    .setFrom(from)
+                    .setTo(to)
+                    .setValue("0x1")
+                    .setGas("0xf4240")
+                    .build();
+            ethereumDynamicFee.fillTransactionAsync().get(5, TimeUnit.SECONDS);
+
+            assertEquals("0x3a", ethereumDynamicFee.getNonce());
+            assertEquals("0x2710", ethereumDynamicFee.getChainId());
+            assertEquals("0x3b9aca00", ethereumDynamicFee.getMaxPriorityFeePerGas());
+            assertEquals("0x5d21dba00", ethereumDynamicFee.getMaxFeePerGas());
+        }
+
+        @Test
+        public void failWithErrorResponse() throws Exception {
+            Quantity error = new Quantity();
+            error.setError(new Response.Error(-32000, "nonce error"));
+            doReturn(asyncRequest(error)).when(klay).getTransactionCount(any(), any());
+
+            try {
+                valueTransfer().fillTransactionAsync().get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+                assertEquals("nonce error", e.getCause().getMessage());
+            }
+        }
+
+        @Test
+        public void failWithoutKlaytnCall() throws Exception {
+            ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                    .setFrom(from)
+                    .setTo(to)
+                    .setValue("0x1")
+                    .setGas("0xf4240")
+                    .build();
+
+            try {
+                valueTransfer.fillTransactionAsync().get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof RuntimeException);
+                assertTrue(e.getCause().getMessage().contains("Cannot fill transaction data"));
+            }
+        }
+    }
+
+    public static class waitForTransactionReceiptAsyncTest {
+        static final String txHash = "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+
+        Klay klay;
+        Caver caver;
+
+        @Before
+        public void before() {
+            klay = mock(Klay.class);
+            caver = mock(Caver.class);
+            caver.rpc = mock(RPC.class);
+            caver.rpc.klay = klay;
+        }
+
+        @Test
+        public void pollUntilReceiptIsFound() throws Exception {
+            AtomicInteger polls = new AtomicInteger();
+            doAnswer(invocation -> {
+                TransactionReceipt transactionReceipt = new TransactionReceipt();
+                if(polls.incrementAndGet() == 3) {
+                    TransactionReceipt.TransactionReceiptData receiptData = new TransactionReceipt.TransactionReceiptData();
+                    receiptData.setTransactionHash(txHash);
+                    transactionReceipt.setResult(receiptData);
+                }
+                return asyncRequest(transactionReceipt);
+            }).when(klay).getTransactionReceipt(anyString());
+
+            PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 10, 5);
+            TransactionReceipt.TransactionReceiptData receiptData = processor.waitForTransactionReceiptAsync(txHash).get(5, TimeUnit.SECONDS);
+
+            assertEquals(txHash, receiptData.getTransactionHash());
+            assertEquals(3, polls.get());
+        }
+
+        @Test
+        public void failAfterAttempts() throws Exception {
+            doAnswer(invocation -> asyncRequest(new TransactionReceipt())).when(klay).getTransactionReceipt(anyString());
+
+            PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 10, 2);
+            try {
+                processor.waitForTransactionReceiptAsync(txHash).get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+            }
+            verify(klay, times(3)).getTransactionReceipt(txHash);
+        }
+
+        @Test
+        public void noOpProcessor() throws Exception {
+            NoOpTransactionReceiptProcessor processor = new NoOpTransactionReceiptProcessor(caver);
+            TransactionReceipt.TransactionReceiptData receiptData = processor.waitForTransactionReceiptAsync(txHash).get();
+
+            assertEquals(txHash, receiptData.getTransactionHash());
+            verify(klay, never()).getTransactionReceipt(anyString());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.BlockTransactionReceipts;
+import com.klaytn.caver.methods.response.NewHeadsNotification;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.rpc.RPC;
+import com.klaytn.caver.transaction.response.BlockTransactionReceiptProcessor;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.klaytn.caver.base.TestUtils.request;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class BlockTransactionReceiptProcessorTest {
+    static String txHash(int index) {
+        return String.format("0x%064x", index);
+    }
+
+    static TransactionReceipt.TransactionReceiptData receipt(String txHash, long blockNumber) {
+        TransactionReceipt.TransactionReceiptData receiptData = new TransactionReceipt.TransactionReceiptData();
+        receiptData.setTransactionHash(txHash);
+        receiptData.setBlockNumber("0x" + Long.toHexString(blockNumber));
+        return receiptData;
+    }
+
+    public static class processorTest {
+        Klay klay;
+        Caver caver;
+        BlockTransactionReceiptProcessor processor;
+
+        AtomicLong head = new AtomicLong(100);
+        Map<Long, List<TransactionReceipt.TransactionReceiptData>> blockReceipts = new ConcurrentHashMap<>();
+
+        @Before
+        public void before() throws IOException {
+            klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            caver = mock(Caver.class);
+            caver.rpc = mock(RPC.class);
+            caver.rpc.klay = klay;
+
+            when(klay.getTransactionReceipt(anyString()).send()).thenReturn(new TransactionReceipt());
+            when(klay.getBlockNumber().send()).thenAnswer(invocation -> {
+                Quantity quantity = new Quantity();
+                quantity.setResult("0x" + Long.toHexString(head.get()));
+                return quantity;
+            });
+            when(klay.getBlockByNumber(any(DefaultBlockParameter.class))).thenAnswer(invocation -> {
+                DefaultBlockParameterNumber number = invocation.getArgument(0);
+                Block.BlockData blockData = new Block.BlockData();
+                blockData.setHash("hash" + number.getBlockNumber());
+
+                Block block = new Block();
+                block.setResult(blockData);
+                return request(block);
+            });
+            when(klay.getBlockReceipts(anyString())).thenAnswer(invocation -> {
+                long number = Long.parseLong(((String)invocation.getArgument(0)).substring(4));
+                BlockTransactionReceipts receipts = new BlockTransactionReceipts();
+                receipts.setResult(blockReceipts.getOrDefault(number, new ArrayList<>()));
+                return request(receipts);
+            });
+        }
+
+        @After
+        public void after() {
+            if(processor != null) {
+                processor.close();
+            }
+        }
+
+        @Test
+        public void completeWithBlockReceipts() throws Exception {
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 15);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+
+            List<TransactionReceipt.TransactionReceiptData> receipts = new ArrayList<>();
+            receipts.add(receipt(txHash(2), 101));
+            receipts.add(receipt(txHash(1), 101));
+            blockReceipts.put(101L, receipts);
+            head.set(101);
+
+            TransactionReceipt.TransactionReceiptData receiptData = future.get(5, TimeUnit.SECONDS);
+            assertEquals(txHash(1), receiptData.getTransactionHash());
+            assertEquals("0x65", receiptData.getBlockNumber());
+            assertEquals(0, processor.getPendingCount());
+        }
+
+        @Test
+        public void requestPerBlock() throws Exception {
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 15);
+
+            List<CompletableFuture<TransactionReceipt.TransactionReceiptData>> futures = new ArrayList<>();
+            List<TransactionReceipt.TransactionReceiptData> receipts = new ArrayList<>();
+            for(int i = 0; i < 1000; i++) {
+                futures.add(processor.waitForTransactionReceiptAsync(txHash(i)));
+                receipts.add(receipt(txHash(i), 101));
+            }
+            // Polling continues while the head doesn't change.
+            Thread.sleep(100);
+
+            blockReceipts.put(101L, receipts);
+            head.set(101);
+
+            for(int i = 0; i < futures.size(); i++) {
+                assertEquals(txHash(i), futures.get(i).get(5, TimeUnit.SECONDS).getTransactionHash());
+            }
+
+            // Receipts are looked up once per transaction at registration and once per block after that.
+            verify(klay.getTransactionReceipt(anyString()), atMost(1000)).send();
+            verify(klay, atMost(2)).getBlockReceipts(anyString());
+        }
+
+        @Test
+        public void completeWithAlreadyIncludedReceipt() throws Exception {
+            TransactionReceipt response = new TransactionReceipt();
+            response.setResult(receipt(txHash(1), 99));
+            when(klay.getTransactionReceipt(txHash(1)).send()).thenReturn(response);
+
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 15);
+
+            TransactionReceipt.TransactionReceiptData receiptData = processor.waitForTransactionReceipt(txHash(1));
+            assertEquals(txHash(1), receiptData.getTransactionHash());
+            assertEquals("0x63", receiptData.getBlockNumber());
+        }
+
+        @Test
+        public void sameHashReturnsSameFuture() {
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 15);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+            assertSame(future, processor.waitForTransactionReceiptAsync(txHash(1).toUpperCase().replace("0X", "0x")));
+        }
+
+        @Test
+        public void timeout() throws Exception {
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 2);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+            for(int i = 101; i <= 110; i++) {
+                Thread.sleep(30);
+                head.set(i);
+            }
+
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+                assertTrue(e.getCause().getMessage().contains("received after 2 blocks"));
+            }
+            assertEquals(0, processor.getPendingCount());
+        }
+
+        @Test
+        public void retryReceiptLookupAfterIOException() throws Exception {
+            TransactionReceipt response = new TransactionReceipt();
+            response.setResult(receipt(txHash(1), 99));
+            when(klay.getTransactionReceipt(txHash(1)).send())
+                    .thenThrow(new IOException("connection reset"))
+                    .thenReturn(response);
+
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 15);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+            Thread.sleep(50);
+            assertFalse(future.isDone());
+
+            head.set(101);
+            assertEquals("0x63", future.get(5, TimeUnit.SECONDS).getBlockNumber());
+            assertEquals(0, processor.getPendingCount());
+        }
+
+        @Test
+        public void stopWhenSubscriptionFails() throws Exception {
+            PublishProcessor<NewHeadsNotification> newHeads = PublishProcessor.create();
+            processor = new BlockTransactionReceiptProcessor(caver, newHeads, 15);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+            newHeads.onError(new IOException("connection closed"));
+
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+                assertTrue(e.getCause().getMessage().contains("connection closed"));
+            }
+            assertEquals(0, processor.getPendingCount());
+
+            try {
+                processor.waitForTransactionReceiptAsync(txHash(2));
+                fail();
+            } catch(IllegalStateException e) {
+                assertEquals("The processor is already closed.", e.getMessage());
+            }
+        }
+
+        @Test
+        public void stopWhenSubscriptionCompletes() throws Exception {
+            PublishProcessor<NewHeadsNotification> newHeads = PublishProcessor.create();
+            processor = new BlockTransactionReceiptProcessor(caver, newHeads, 15);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+            newHeads.onComplete();
+
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+            }
+        }
+
+        @Test
+        public void close() throws Exception {
+            processor = new BlockTransactionReceiptProcessor(caver, 10, 15);
+
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync(txHash(1));
+            processor.close();
+
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+            }
+        }
+    }
+}
@@ -685,6 +685,39 @@ public class EthereumAccessListTest {
             assertEquals(expected, txHash);
         }
 
+        @Test
+        public void invalidateByModifyingAccessList() {
+            AccessList mutableAccessList = new AccessList(accessList);
+            EthereumAccessList ethereumAccessList = caver.transaction.ethereumAccessList.create(
+                    TxPropertyBuilder.ethereumAccessList()
+                            .setNonce(nonce)
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setChainId(chainID)
+                            .setValue(value)
+                            .setInput(input)
+                            .setTo(to)
+                            .setAccessList(mutableAccessList)
+                            .setSignatures(signatureData)
+            );
+            String expected = "0x5f4484fe404d9e5b3c100d1b67aa5633daab5d516267bf8af03550644e2d7378";
+            assertEquals(expected, ethereumAccessList.getTransactionHash());
+
+            // The access list is kept as it is given, and the caches notice its changes.
+            AccessTuple removed = mutableAccessList.remove(0);
+            assertNotEquals(expected, ethereumAccessList.getTransactionHash());
+
+            ethereumAccessList.getAccessList().add(0, removed);
+            assertEquals(expected, ethereumAccessList.getTransactionHash());
+
+            String address = removed.getAddress();
+            removed.setAddress("0x0000000000000000000000000000000000000002");
+            assertNotEquals(expected, ethereumAccessList.getTransactionHash());
+
+            removed.setAddress(address);
+            assertEquals(expected, ethereumAccessList.getTransactionHash());
+        }
+
         @Test
         public void throwException_NotDefined_Nonce() {
             expectedException.expect(RuntimeException.class);
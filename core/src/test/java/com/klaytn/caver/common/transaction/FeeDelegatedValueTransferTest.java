@@ -1584,5 +1584,179 @@ public class FeeDelegatedValueTransferTest {
             List<String> publicKeys = tx.recoverFeePayerPublicKeys();
             assertEquals(expectedFeePayerPublicKeyList, publicKeys);
         }
+
+        @Test
+        public void recoverRawPublicKey() {
+            List<byte[]> publicKeys = tx.recoverRawPublicKeys();
+            assertEquals(expectedPublicKeyList.size(), publicKeys.size());
+            for(int i = 0; i < publicKeys.size(); i++) {
+                assertArrayEquals(Numeric.hexStringToByteArray(expectedPublicKeyList.get(i)), publicKeys.get(i));
+            }
+        }
+
+        @Test
+        public void recoverFeePayerRawPublicKey() {
+            List<byte[]> publicKeys = tx.recoverFeePayerRawPublicKeys();
+            assertEquals(expectedFeePayerPublicKeyList.size(), publicKeys.size());
+            for(int i = 0; i < publicKeys.size(); i++) {
+                assertArrayEquals(Numeric.hexStringToByteArray(expectedFeePayerPublicKeyList.get(i)), publicKeys.get(i));
+            }
+        }
+    }
+
+    public static class cacheTest {
+        FeeDelegatedValueTransfer mTxObj;
+
+        @Before
+        public void before() {
+            mTxObj = caver.transaction.feeDelegatedValueTransfer.create(
+                    TxPropertyBuilder.feeDelegatedValueTransfer()
+                            .setNonce(nonce)
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setTo(to)
+                            .setChainId(chainID)
+                            .setValue(value)
+                            .setFrom(from)
+                            .setFeePayer(feePayer)
+                            .setSignatures(senderSignatureData)
+                            .setFeePayerSignatures(feePayerSignatureData)
+            );
+        }
+
+        @Test
+        public void returnSameValue() {
+            assertEquals(expectedRLPEncoding, mTxObj.getRLPEncoding());
+            assertEquals(expectedTransactionHash, mTxObj.getTransactionHash());
+            assertEquals(expectedSenderTransactionHash, mTxObj.getSenderTxHash());
+
+            assertEquals(expectedRLPEncoding, mTxObj.getRawTransaction());
+            assertEquals(expectedTransactionHash, mTxObj.getTransactionHash());
+            assertEquals(expectedSenderTransactionHash, mTxObj.getSenderTxHash());
+            assertEquals(TransactionHasher.getHashForSignature(mTxObj), TransactionHasher.getHashForSignature(mTxObj));
+        }
+
+        @Test
+        public void encode_returnCopy() {
+            byte[] encoded = mTxObj.encode();
+            encoded[1] = 0;
+
+            assertEquals(expectedRLPEncoding, Numeric.toHexString(mTxObj.encode()));
+        }
+
+        @Test
+        public void invalidateBySetter() {
+            String hashForSignature = TransactionHasher.getHashForSignature(mTxObj);
+            String hashForFeePayerSignature = TransactionHasher.getHashForFeePayerSignature(mTxObj);
+            String txHash = mTxObj.getTransactionHash();
+            String senderTxHash = mTxObj.getSenderTxHash();
+
+            mTxObj.setGasPrice("0x5d21dba00");
+
+            FeeDelegatedValueTransfer expected = caver.transaction.feeDelegatedValueTransfer.decode(mTxObj.getRLPEncoding());
+            assertNotEquals(expectedRLPEncoding, mTxObj.getRLPEncoding());
+            assertNotEquals(txHash, mTxObj.getTransactionHash());
+            assertNotEquals(senderTxHash, mTxObj.getSenderTxHash());
+            assertNotEquals(hashForSignature, TransactionHasher.getHashForSignature(mTxObj));
+            assertNotEquals(hashForFeePayerSignature, TransactionHasher.getHashForFeePayerSignature(mTxObj));
+
+            assertEquals(expected.getTransactionHash(), mTxObj.getTransactionHash());
+            assertEquals(expected.getSenderTxHash(), mTxObj.getSenderTxHash());
+            assertEquals(TransactionHasher.getHashForSignature(expected), TransactionHasher.getHashForSignature(mTxObj));
+            assertEquals(TransactionHasher.getHashForFeePayerSignature(expected), TransactionHasher.getHashForFeePayerSignature(mTxObj));
+        }
+
+        @Test
+        public void invalidateByAppendSignatures() {
+            String hashForSignature = TransactionHasher.getHashForSignature(mTxObj);
+            String txHash = mTxObj.getTransactionHash();
+            String senderTxHash = mTxObj.getSenderTxHash();
+
+            SignatureData signatureData = new SignatureData(
+                    "0x0fea",
+                    "0xade9480f584fe481bf070ab758ecc010afa15debc33e1bd75af637d834073a6e",
+                    "0x38160105d78cef4529d765941ad6637d8dcf6bd99310e165fee1c39fff2aa27e"
+            );
+            mTxObj.appendSignatures(signatureData);
+
+            assertEquals(hashForSignature, TransactionHasher.getHashForSignature(mTxObj));
+            assertNotEquals(txHash, mTxObj.getTransactionHash());
+            assertNotEquals(senderTxHash, mTxObj.getSenderTxHash());
+            assertEquals(2, caver.transaction.feeDelegatedValueTransfer.decode(mTxObj.getRLPEncoding()).getSignatures().size());
+
+            String senderTxHashWithSignatures = mTxObj.getSenderTxHash();
+            txHash = mTxObj.getTransactionHash();
+            mTxObj.appendFeePayerSignatures(signatureData);
+
+            assertNotEquals(txHash, mTxObj.getTransactionHash());
+            assertEquals(senderTxHashWithSignatures, mTxObj.getSenderTxHash());
+        }
+
+        @Test
+        public void invalidateByRemoveSignature() {
+            String txHash = mTxObj.getTransactionHash();
+            String senderTxHash = mTxObj.getSenderTxHash();
+
+            SignatureData signatureData = new SignatureData(
+                    "0x0fea",
+                    "0xade9480f584fe481bf070ab758ecc010afa15debc33e1bd75af637d834073a6e",
+                    "0x38160105d78cef4529d765941ad6637d8dcf6bd99310e165fee1c39fff2aa27e"
+            );
+            mTxObj.appendSignatures(signatureData);
+            assertNotEquals(txHash, mTxObj.getTransactionHash());
+
+            assertEquals(signatureData, mTxObj.removeSignature(1));
+            assertEquals(expectedRLPEncoding, mTxObj.getRawTransaction());
+            assertEquals(txHash, mTxObj.getTransactionHash());
+            assertEquals(senderTxHash, mTxObj.getSenderTxHash());
+        }
+
+        @Test
+        public void invalidateByModifyingSignatureLists() {
+            String txHash = mTxObj.getTransactionHash();
+
+            // The lists returned by the getters are the fields of the transaction, and the caches notice their changes.
+            SignatureData feePayerSignature = mTxObj.getFeePayerSignatures().remove(0);
+            assertNotEquals(expectedRLPEncoding, mTxObj.getRawTransaction());
+
+            mTxObj.getFeePayerSignatures().add(feePayerSignature);
+            assertEquals(expectedRLPEncoding, mTxObj.getRawTransaction());
+
+            mTxObj.getSignatures().add(new SignatureData(
+                    "0x0fea",
+                    "0xade9480f584fe481bf070ab758ecc010afa15debc33e1bd75af637d834073a6e",
+                    "0x38160105d78cef4529d765941ad6637d8dcf6bd99310e165fee1c39fff2aa27e"
+            ));
+            assertNotEquals(txHash, mTxObj.getTransactionHash());
+
+            mTxObj.getSignatures().remove(1);
+            assertEquals(txHash, mTxObj.getTransactionHash());
+        }
+
+        @Test
+        public void signWithMultipleKeyring() throws IOException {
+            String[] keyArr = caver.wallet.keyring.generateMultipleKeys(10);
+            MultipleKeyring keyring = caver.wallet.keyring.createWithMultipleKey(from, keyArr);
+
+            FeeDelegatedValueTransfer tx = caver.transaction.feeDelegatedValueTransfer.create(
+                    TxPropertyBuilder.feeDelegatedValueTransfer()
+                            .setNonce(nonce)
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setTo(to)
+                            .setChainId(chainID)
+                            .setValue(value)
+                            .setFrom(from)
+            );
+            tx.sign(keyring);
+
+            List<String> expectedPublicKeys = new ArrayList<>();
+            for(String key : keyArr) {
+                expectedPublicKeys.add(caver.wallet.keyring.createFromPrivateKey(key).getPublicKey());
+            }
+
+            assertEquals(10, tx.getSignatures().size());
+            assertEquals(expectedPublicKeys, tx.recoverPublicKeys());
+        }
     }
 }
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.methods.response.FeeHistoryResult;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.transaction.FeeOracle;
+import com.klaytn.caver.transaction.type.EthereumDynamicFee;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.klaytn.caver.base.TestUtils.asyncRequest;
+import static com.klaytn.caver.base.TestUtils.waitUntil;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class FeeOracleTest {
+    static final String from = "0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b";
+    static final String to = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+    static final List<Float> percentiles = Arrays.asList(25f, 50f, 75f);
+
+    static Quantity quantity(String value) {
+        Quantity quantity = new Quantity();
+        quantity.setResult(value);
+        return quantity;
+    }
+
+    /**
+     * A mocked node whose next base fee is 30 ston and whose priority fees of the recent blocks are [1, 2, 3], [4, 5, 6] and [7, 8, 9].
+     */
+    static Klay mockKlay(AtomicLong latestBlock) throws IOException {
+        Klay klay = mock(Klay.class);
+        doAnswer(invocation -> asyncRequest(quantity("0x" + Long.toHexString(latestBlock.get())))).when(klay).getBlockNumber();
+        doAnswer(invocation -> asyncRequest(quantity("0x5d21dba00"))).when(klay).getGasPrice();
+        doAnswer(invocation -> asyncRequest(quantity("0x3b9aca00"))).when(klay).getMaxPriorityFeePerGas();
+        doAnswer(invocation -> asyncRequest(quantity("0x5d21dba00"))).when(klay).getLowerBoundGasPrice();
+        doAnswer(invocation -> asyncRequest(quantity("0xae9f7bcc00"))).when(klay).getUpperBoundGasPrice();
+        doAnswer(invocation -> {
+            FeeHistoryResult.FeeHistoryResultData data = new FeeHistoryResult.FeeHistoryResultData();
+            data.setBaseFeePerGas(Arrays.asList("0x5d21dba00", "0x5d21dba00", "0x5d21dba00", "0x6fc23ac00"));
+            data.setReward(Arrays.asList(
+                    Arrays.asList("0x7", "0x8", "0x9"),
+                    Arrays.asList("0x1", "0x2", "0x3"),
+                    Arrays.asList("0x4", "0x5", "0x6")
+            ));
+            FeeHistoryResult feeHistoryResult = new FeeHistoryResult();
+            feeHistoryResult.setResult(data);
+            return asyncRequest(feeHistoryResult);
+        }).when(klay).getFeeHistory(anyLong(), any(DefaultBlockParameter.class), any());
+        return klay;
+    }
+
+    public static class refreshTest {
+        AtomicLong latestBlock = new AtomicLong(10);
+        Klay klay;
+        FeeOracle feeOracle;
+
+        @Before
+        public void before() throws IOException {
+            klay = mockKlay(latestBlock);
+            feeOracle = new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 10, 3, percentiles);
+        }
+
+        @After
+        public void after() {
+            feeOracle.close();
+        }
+
+        @Test
+        public void startPollingAtFirstRequest() throws Exception {
+            verify(klay, after(50).never()).getBlockNumber();
+
+            assertEquals(BigInteger.valueOf(10), feeOracle.getSnapshot().getBlockNumber());
+            latestBlock.set(11);
+            waitUntil(() -> feeOracle.getRefreshCount() == 2);
+        }
+
+        @Test
+        public void refreshOncePerBlock() throws Exception {
+            feeOracle.getSnapshotAsync();
+            waitUntil(() -> feeOracle.getRefreshCount() == 1);
+            verify(klay, after(50).times(1)).getGasPrice();
+            assertEquals(1, feeOracle.getRefreshCount());
+            assertEquals(BigInteger.valueOf(10), feeOracle.getSnapshot().getBlockNumber());
+
+            latestBlock.set(11);
+            waitUntil(() -> feeOracle.getRefreshCount() == 2);
+            assertEquals(BigInteger.valueOf(11), feeOracle.getSnapshot().getBlockNumber());
+            verify(klay, times(2)).getGasPrice();
+            verify(klay).getFeeHistory(eq(3L), argThat((DefaultBlockParameter blockParameter) -> blockParameter.getValue().equals("0xb")), eq(percentiles));
+        }
+
+        @Test
+        public void fillTransactionsFromSnapshot() throws Exception {
+            for(int i = 0; i < 5; i++) {
+                ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                        .setKlaytnCall(klay)
+                        .setFeeOracle(feeOracle)
+                        .setFrom(from)
+                        .setTo(to)
+                        .setValue("0x1")
+                        .setGas("0xf4240")
+                        .setNonce(BigInteger.valueOf(i))
+                        .setChainId("0x2710")
+                        .build();
+                valueTransfer.fillTransaction();
+                assertEquals("0x5d21dba00", valueTransfer.getGasPrice());
+            }
+
+            EthereumDynamicFee ethereumDynamicFee = new EthereumDynamicFee.Builder()
+                    .setKlaytnCall(klay)
+                    .setFeeOracle(feeOracle)
+                    .setFrom(from)
+                    .setTo(to)
+                    .setValue("0x1")
+                    .setGas("0xf4240")
+                    .setNonce("0x5")
+                    .setChainId("0x2710")
+                    .build();
+            ethereumDynamicFee.fillTransactionAsync().get(5, TimeUnit.SECONDS);
+            assertEquals("0x3b9aca00", ethereumDynamicFee.getMaxPriorityFeePerGas());
+            assertEquals("0x5d21dba00", ethereumDynamicFee.getMaxFeePerGas());
+
+            // The suggested maxPriorityFeePerGas is capped by the given maxFeePerGas.
+            EthereumDynamicFee lowMaxFee = new EthereumDynamicFee.Builder()
+                    .setKlaytnCall(klay)
+                    .setFeeOracle(feeOracle)
+                    .setFrom(from)
+                    .setTo(to)
+                    .setValue("0x1")
+                    .setGas("0xf4240")
+                    .setNonce("0x6")
+                    .setChainId("0x2710")
+                    .setMaxFeePerGas("0x2540be400")
+                    .build();
+            lowMaxFee.fillTransaction();
+            assertEquals("0x2540be400", lowMaxFee.getMaxPriorityFeePerGas());
+            assertEquals("0x2540be400", lowMaxFee.getMaxFeePerGas());
+
+            // The block number doesn't change, so the fees are requested once for all transactions.
+            verify(klay, times(1)).getGasPrice();
+            verify(klay, times(1)).getMaxPriorityFeePerGas();
+        }
+    }
+
+    public static class staleSnapshotTest {
+        AtomicLong latestBlock = new AtomicLong(10);
+        Klay klay;
+        FeeOracle feeOracle;
+
+        @Before
+        public void before() throws IOException {
+            klay = mockKlay(latestBlock);
+        }
+
+        @After
+        public void after() {
+            feeOracle.close();
+        }
+
+        @Test
+        public void refreshStaleSnapshot() throws Exception {
+            feeOracle = new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 10, 3, percentiles, 50);
+            feeOracle.getSnapshot();
+            long snapshotTime = System.nanoTime();
+            feeOracle.close();
+
+            latestBlock.set(11);
+            waitUntil(() -> System.nanoTime() - snapshotTime > TimeUnit.MILLISECONDS.toNanos(50));
+            assertEquals(BigInteger.valueOf(11), feeOracle.getSnapshot().getBlockNumber());
+            assertEquals(BigInteger.valueOf(11), feeOracle.getSnapshotAsync().get(5, TimeUnit.SECONDS).getBlockNumber());
+            assertEquals(2, feeOracle.getRefreshCount());
+        }
+
+        @Test
+        public void failWithStaleSnapshot() throws Exception {
+            feeOracle = new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 10, 3, percentiles, 50);
+            feeOracle.getSnapshot();
+            long snapshotTime = System.nanoTime();
+            feeOracle.close();
+
+            Quantity error = new Quantity();
+            error.setError(new Response.Error(-32000, "gas price error"));
+            doReturn(asyncRequest(error)).when(klay).getGasPrice();
+            latestBlock.set(11);
+            waitUntil(() -> System.nanoTime() - snapshotTime > TimeUnit.MILLISECONDS.toNanos(50));
+            try {
+                feeOracle.getSnapshot();
+                fail();
+            } catch(IOException e) {
+                assertEquals("gas price error", e.getMessage());
+            }
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        public void keepPollingWhenRequestThrows() throws Exception {
+            Request<?, Quantity> throwing = mock(Request.class);
+            when(throwing.sendAsync()).thenThrow(new IllegalStateException("The client is not connected."));
+            doReturn(throwing)
+                    .doReturn(throwing)
+                    .doAnswer(invocation -> asyncRequest(quantity("0x" + Long.toHexString(latestBlock.get()))))
+                    .when(klay).getBlockNumber();
+
+            // The poller gets at least one of the throwing requests, and the refresh gets the other one or a later request.
+            feeOracle = new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 10, 3, percentiles);
+            feeOracle.getSnapshotAsync();
+            waitUntil(() -> feeOracle.getRefreshCount() == 1);
+            verify(klay, atLeast(3)).getBlockNumber();
+        }
+
+        @Test
+        public void invalidMaxSnapshotAge() {
+            feeOracle = new FeeOracle(klay);
+            try {
+                new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 1000, 3, percentiles, 0);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("maxSnapshotAge must be greater than 0.", e.getMessage());
+            }
+        }
+    }
+
+    public static class strategyTest {
+        Klay klay;
+        FeeOracle feeOracle;
+
+        @Before
+        public void before() throws IOException {
+            klay = mockKlay(new AtomicLong(10));
+        }
+
+        @After
+        public void after() {
+            feeOracle.close();
+        }
+
+        @Test
+        public void snapshot() throws IOException {
+            feeOracle = new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 1000, 3, percentiles);
+            FeeOracle.Snapshot snapshot = feeOracle.getSnapshot();
+
+            assertEquals(new BigInteger("30000000000"), snapshot.getBaseFee());
+            assertEquals(BigInteger.valueOf(4), snapshot.getReward(25f));
+            assertEquals(BigInteger.valueOf(5), snapshot.getReward(50f));
+            assertEquals(BigInteger.valueOf(6), snapshot.getReward(75f));
+            try {
+                snapshot.getReward(90f);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("The percentile 90.0 is not sampled.", e.getMessage());
+            }
+        }
+
+        @Test
+        public void baseFeeMultiplier() throws IOException {
+            feeOracle = new FeeOracle(klay, new FeeOracle.BaseFeeMultiplierStrategy(1.5), 1000, 3, percentiles);
+
+            assertEquals(new BigInteger("45000000000"), feeOracle.suggestGasPrice());
+            assertEquals(new BigInteger("1000000000"), feeOracle.suggestMaxPriorityFeePerGas());
+        }
+
+        @Test
+        public void percentile() throws IOException {
+            feeOracle = new FeeOracle(klay, new FeeOracle.PercentileStrategy(75f), 1000, 3, percentiles);
+
+            assertEquals(new BigInteger("60000000006"), feeOracle.suggestGasPrice());
+            assertEquals(BigInteger.valueOf(6), feeOracle.suggestMaxPriorityFeePerGas());
+        }
+
+        @Test
+        public void addPercentileOfStrategy() {
+            feeOracle = new FeeOracle(klay, new FeeOracle.PercentileStrategy(60f));
+
+            assertEquals(Arrays.asList(10f, 25f, 50f, 60f, 75f, 90f), feeOracle.getRewardPercentiles());
+        }
+
+        @Test
+        public void keepGasPriceInBounds() throws IOException {
+            feeOracle = new FeeOracle(klay, new FeeOracle.FixedStrategy(new BigInteger("1000000000"), new BigInteger("2000000000")), 1000, 3, percentiles);
+            assertEquals(new BigInteger("25000000000"), feeOracle.suggestGasPrice());
+            assertEquals(new BigInteger("2000000000"), feeOracle.suggestMaxPriorityFeePerGas());
+            feeOracle.close();
+
+            feeOracle = new FeeOracle(klay, new FeeOracle.FixedStrategy(new BigInteger("800000000000"), new BigInteger("900000000000")), 1000, 3, percentiles);
+            assertEquals(new BigInteger("750000000000"), feeOracle.suggestGasPrice());
+            // The max priority fee per gas is not greater than the gas price.
+            assertEquals(new BigInteger("750000000000"), feeOracle.suggestMaxPriorityFeePerGas());
+        }
+
+        @Test
+        public void unboundedWithoutBoundApis() throws IOException {
+            Quantity error = new Quantity();
+            error.setError(new Response.Error(-32601, "the method klay_lowerBoundGasPrice does not exist/is not available"));
+            doReturn(asyncRequest(error)).when(klay).getLowerBoundGasPrice();
+
+            feeOracle = new FeeOracle(klay, new FeeOracle.FixedStrategy(new BigInteger("1000000000"), BigInteger.ONE), 1000, 3, percentiles);
+            assertNull(feeOracle.getSnapshot().getLowerBoundGasPrice());
+            assertEquals(new BigInteger("1000000000"), feeOracle.suggestGasPrice());
+        }
+
+        @Test
+        public void failWithErrorResponse() throws IOException {
+            Quantity error = new Quantity();
+            error.setError(new Response.Error(-32000, "gas price error"));
+            doReturn(asyncRequest(error)).when(klay).getGasPrice();
+
+            feeOracle = new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 1000, 3, percentiles);
+            try {
+                feeOracle.getSnapshot();
+                fail();
+            } catch(IOException e) {
+                assertEquals("gas price error", e.getMessage());
+            }
+        }
+
+        @Test
+        public void invalidOptions() {
+            feeOracle = new FeeOracle(klay);
+            try {
+                new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 1000, 0, percentiles);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("historyBlockCount must be between 1 and 1024.", e.getMessage());
+            }
+            try {
+                new FeeOracle(klay, new FeeOracle.SuggestedStrategy(), 1000, 3, Arrays.asList(50f, 25f));
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("rewardPercentiles must be increasing values between 0 and 100.", e.getMessage());
+            }
+            try {
+                new FeeOracle(klay, new FeeOracle.PercentileStrategy(60f), 1000, 3, percentiles);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("rewardPercentiles must contain the percentile of the strategy.", e.getMessage());
+            }
+            try {
+                new FeeOracle.BaseFeeMultiplierStrategy(0.5);
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("multiplier must not be less than 1.", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.methods.response.Bytes32;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.NonceManager;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class NonceManagerTest {
+    static String address1 = "0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b";
+    static String address2 = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    static Quantity quantity(long value) {
+        Quantity quantity = new Quantity();
+        quantity.setResult("0x" + Long.toHexString(value));
+        return quantity;
+    }
+
+    static Bytes32 errorResponse(String message) {
+        Bytes32 response = new Bytes32();
+        response.setError(new Response.Error(-32000, message));
+        return response;
+    }
+
+    static ValueTransfer generateValueTransfer(String nonce) {
+        return new ValueTransfer.Builder()
+                .setFrom(address1)
+                .setTo(address2)
+                .setValue("0x1")
+                .setChainId("0x7e3")
+                .setNonce(nonce)
+                .setGas("0x15f90")
+                .setGasPrice("0x5d21dba00")
+                .build();
+    }
+
+    public static class getNonceTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        Klay klay;
+        NonceManager nonceManager;
+
+        @Before
+        public void before() throws IOException {
+            klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            when(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)).send()).thenReturn(quantity(10));
+            when(klay.getTransactionCount(eq(address2), eq(DefaultBlockParameterName.PENDING)).send()).thenReturn(quantity(3));
+
+            nonceManager = new NonceManager(klay);
+        }
+
+        @Test
+        public void allocateSequentially() throws IOException {
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(11), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(3), nonceManager.getNonce(address2));
+            assertEquals(BigInteger.valueOf(12), nonceManager.getNonce("0xa94f5374Fce5edBC8E2a8697C15331677e6EbF0B"));
+            assertEquals(BigInteger.valueOf(4), nonceManager.getNonce(address2));
+
+            verify(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)), times(1)).send();
+        }
+
+        @Test
+        public void allocateConcurrently() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<BigInteger>> futures = new ArrayList<>();
+                for(int i = 0; i < 1000; i++) {
+                    futures.add(executor.submit(() -> nonceManager.getNonce(address1)));
+                }
+
+                List<BigInteger> nonces = new ArrayList<>();
+                for(Future<BigInteger> future : futures) {
+                    nonces.add(future.get());
+                }
+                Collections.sort(nonces);
+
+                for(int i = 0; i < nonces.size(); i++) {
+                    assertEquals(BigInteger.valueOf(10 + i), nonces.get(i));
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        public void fillNonce() throws IOException {
+            ValueTransfer empty = generateValueTransfer(null);
+            ValueTransfer defined = generateValueTransfer("0x1");
+
+            nonceManager.fillNonce(empty);
+            nonceManager.fillNonce(defined);
+
+            assertEquals("0xa", empty.getNonce());
+            assertEquals("0x1", defined.getNonce());
+        }
+
+        @Test
+        public void throwException_rpcError() throws IOException {
+            expectedException.expect(IOException.class);
+            expectedException.expectMessage("Failed to get the transaction count of " + address1);
+
+            Quantity error = new Quantity();
+            error.setError(new Response.Error(-32000, "unknown account"));
+            when(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)).send()).thenReturn(error);
+
+            nonceManager.getNonce(address1);
+        }
+
+        @Test
+        public void throwException_invalidAddress() throws IOException {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Invalid address. : 0x1234");
+
+            nonceManager.getNonce("0x1234");
+        }
+    }
+
+    public static class releaseTest {
+        NonceManager nonceManager;
+
+        @Before
+        public void before() throws IOException {
+            Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            when(klay.getTransactionCount(anyString(), any(DefaultBlockParameterName.class)).send()).thenReturn(quantity(0));
+
+            nonceManager = new NonceManager(klay);
+        }
+
+        @Test
+        public void reuseReleasedNonce() throws IOException {
+            for(int i = 0; i < 5; i++) {
+                nonceManager.getNonce(address1);
+            }
+
+            nonceManager.release(address1, BigInteger.valueOf(3));
+            nonceManager.release(address1, BigInteger.valueOf(1));
+
+            assertEquals(BigInteger.valueOf(1), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(3), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(5), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void shrinkAtEnd() throws IOException {
+            for(int i = 0; i < 5; i++) {
+                nonceManager.getNonce(address1);
+            }
+
+            nonceManager.release(address1, BigInteger.valueOf(3));
+            nonceManager.release(address1, BigInteger.valueOf(4));
+
+            assertEquals(BigInteger.valueOf(3), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(4), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(5), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void ignoreNotAllocated() throws IOException {
+            nonceManager.release(address1, BigInteger.valueOf(3));
+            assertEquals(BigInteger.ZERO, nonceManager.getNonce(address1));
+
+            nonceManager.release(address1, BigInteger.valueOf(7));
+            assertEquals(BigInteger.ONE, nonceManager.getNonce(address1));
+        }
+    }
+
+    public static class handleErrorTest {
+        Klay klay;
+        NonceManager nonceManager;
+
+        @Before
+        public void before() throws IOException {
+            klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            when(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)).send()).thenReturn(quantity(10), quantity(20));
+
+            nonceManager = new NonceManager(klay);
+        }
+
+        @Test
+        public void isNonceError() {
+            assertTrue(NonceManager.isNonceError("nonce too low"));
+            assertTrue(NonceManager.isNonceError("Known transaction: 0x1234"));
+            assertTrue(NonceManager.isNonceError("there is another tx which has the same nonce in the tx pool"));
+            assertFalse(NonceManager.isNonceError("insufficient funds of the sender for value"));
+            assertFalse(NonceManager.isNonceError(null));
+        }
+
+        @Test
+        public void resyncOnNonceError() throws IOException {
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+
+            assertTrue(nonceManager.handleError(address1, "nonce too low"));
+            assertEquals(BigInteger.valueOf(20), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void ignoreReleaseBeforeResync() throws IOException {
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(11), nonceManager.getNonce(address1));
+
+            nonceManager.reset(address1);
+            assertEquals(BigInteger.valueOf(20), nonceManager.getNonce(address1));
+
+            // 11 is allocated before the re-sync and counted by the node, so it is not allocated again.
+            nonceManager.release(address1, BigInteger.valueOf(11));
+            assertEquals(BigInteger.valueOf(21), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void resetAllInPlace() throws IOException {
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+
+            nonceManager.resetAll();
+            assertEquals(BigInteger.valueOf(20), nonceManager.getNonce(address1));
+            assertEquals(BigInteger.valueOf(21), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void keepStateOnOtherError() throws IOException {
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+
+            assertFalse(nonceManager.handleError(address1, "insufficient funds of the sender for value"));
+            assertEquals(BigInteger.valueOf(11), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void sendRawTransaction_nonceError() throws IOException {
+            when(klay.sendRawTransaction(any(AbstractTransaction.class)).send()).thenReturn(errorResponse("nonce too low"));
+
+            ValueTransfer valueTransfer = generateValueTransfer(null);
+            nonceManager.fillNonce(valueTransfer);
+
+            Bytes32 response = nonceManager.sendRawTransaction(valueTransfer);
+
+            assertTrue(response.hasError());
+            assertEquals(BigInteger.valueOf(20), nonceManager.getNonce(address1));
+        }
+
+        @Test
+        public void sendRawTransaction_otherError() throws IOException {
+            when(klay.sendRawTransaction(any(AbstractTransaction.class)).send()).thenReturn(errorResponse("insufficient funds of the sender for value"));
+
+            ValueTransfer valueTransfer = generateValueTransfer(null);
+            nonceManager.fillNonce(valueTransfer);
+
+            nonceManager.sendRawTransaction(valueTransfer);
+
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+        }
+    }
+
+    public static class transactionHookTest {
+        Klay klay;
+        NonceManager nonceManager;
+
+        @Before
+        public void before() throws IOException {
+            klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            when(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)).send()).thenReturn(quantity(10));
+
+            nonceManager = new NonceManager(klay);
+        }
+
+        @Test
+        public void fillTransaction() throws IOException {
+            ValueTransfer first = generateValueTransfer(null);
+            ValueTransfer second = generateValueTransfer(null);
+            first.setNonceManager(nonceManager);
+            second.setNonceManager(nonceManager);
+
+            first.fillTransaction();
+            second.fillTransaction();
+
+            assertEquals("0xa", first.getNonce());
+            assertEquals("0xb", second.getNonce());
+            verify(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)), times(1)).send();
+        }
+
+        @Test
+        public void fillTransactionAsync() throws Exception {
+            ValueTransfer first = new ValueTransfer.Builder()
+                    .setNonceManager(nonceManager)
+                    .setFrom(address1)
+                    .setTo(address2)
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setGas("0x15f90")
+                    .setGasPrice("0x5d21dba00")
+                    .build();
+            ValueTransfer second = generateValueTransfer(null);
+            second.setNonceManager(nonceManager);
+
+            first.fillTransactionAsync().get();
+            second.fillTransactionAsync().get();
+
+            assertEquals("0xa", first.getNonce());
+            assertEquals("0xb", second.getNonce());
+            verify(klay.getTransactionCount(eq(address1), eq(DefaultBlockParameterName.PENDING)), times(1)).send();
+        }
+
+        @Test
+        public void sendRawTransactionAsync_otherError() throws Exception {
+            when(klay.sendRawTransaction(any(AbstractTransaction.class)).sendAsync())
+                    .thenReturn(CompletableFuture.completedFuture(errorResponse("insufficient funds of the sender for value")));
+
+            ValueTransfer valueTransfer = generateValueTransfer(null);
+            nonceManager.fillNonce(valueTransfer);
+
+            assertTrue(nonceManager.sendRawTransactionAsync(valueTransfer).get().hasError());
+            assertEquals(BigInteger.valueOf(10), nonceManager.getNonce(address1));
+        }
+    }
+}
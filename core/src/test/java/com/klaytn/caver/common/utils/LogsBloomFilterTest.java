@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.utils;
+
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.utils.LogsBloomFilter;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class LogsBloomFilterTest {
+    static final String TOKEN = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+    static final String OTHER_TOKEN = "0xe97f27e9a5765ce36a7b919b1cb6004c7209217e";
+    static final String TRANSFER = "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+    static final String APPROVAL = "0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925";
+    static final String HOLDER = "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+
+    static KlayLogs.Log log(String address, String... topics) {
+        return new KlayLogs.Log("0x0", "0x0", "0x0", "0x0", "0x0", address, "0x", Arrays.asList(topics));
+    }
+
+    static final String EMPTY_BLOOM = LogsBloomFilter.createBloom(Collections.emptyList());
+    static final String TRANSFER_BLOOM = LogsBloomFilter.createBloom(Collections.singletonList(log(TOKEN, TRANSFER, HOLDER)));
+
+    public static class mayMatchTest {
+        @Test
+        public void matchAddressAndTopic() {
+            assertTrue(LogsBloomFilter.of(TOKEN, TRANSFER).mayMatch(TRANSFER_BLOOM));
+            assertTrue(LogsBloomFilter.of(TOKEN, TRANSFER, HOLDER).mayMatch(TRANSFER_BLOOM));
+            assertTrue(LogsBloomFilter.of(TOKEN).mayMatch(TRANSFER_BLOOM));
+            assertTrue(LogsBloomFilter.of(null, TRANSFER).mayMatch(TRANSFER_BLOOM));
+            assertTrue(LogsBloomFilter.of(TOKEN, null, HOLDER).mayMatch(TRANSFER_BLOOM));
+        }
+
+        @Test
+        public void notMatch() {
+            assertFalse(LogsBloomFilter.of(TOKEN, TRANSFER).mayMatch(EMPTY_BLOOM));
+            assertFalse(LogsBloomFilter.of(OTHER_TOKEN, TRANSFER).mayMatch(TRANSFER_BLOOM));
+            assertFalse(LogsBloomFilter.of(TOKEN, APPROVAL).mayMatch(TRANSFER_BLOOM));
+        }
+
+        @Test
+        public void matchAnyOfAlternatives() {
+            LogsBloomFilter filter = new LogsBloomFilter(
+                    Arrays.asList(OTHER_TOKEN, TOKEN),
+                    Collections.singletonList(Arrays.asList(APPROVAL, TRANSFER)));
+            assertTrue(filter.mayMatch(TRANSFER_BLOOM));
+
+            filter = new LogsBloomFilter(
+                    Arrays.asList(OTHER_TOKEN, TOKEN),
+                    Collections.singletonList(Collections.singletonList(APPROVAL)));
+            assertFalse(filter.mayMatch(TRANSFER_BLOOM));
+        }
+
+        @Test
+        public void matchWithoutHexPrefix() {
+            assertTrue(LogsBloomFilter.of(TOKEN, TRANSFER).mayMatch(TRANSFER_BLOOM.substring(2)));
+            assertTrue(LogsBloomFilter.of(TOKEN, TRANSFER).mayMatch(TRANSFER_BLOOM.toUpperCase().replace("0X", "0x")));
+        }
+
+        @Test
+        public void matchNullBloom() {
+            assertTrue(LogsBloomFilter.of(TOKEN, TRANSFER).mayMatch((String)null));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void throwException_invalidLength() {
+            LogsBloomFilter.of(TOKEN).mayMatch("0x00");
+        }
+    }
+
+    public static class blockAndReceiptTest {
+        @Test
+        public void matchBlock() {
+            Block.BlockData block = new Block.BlockData();
+            block.setLogsBloom(LogsBloomFilter.createBloom(Arrays.asList(log(OTHER_TOKEN, APPROVAL), log(TOKEN, TRANSFER, HOLDER))));
+
+            assertTrue(LogsBloomFilter.of(TOKEN, TRANSFER).mayMatch(block));
+            assertTrue(LogsBloomFilter.of(OTHER_TOKEN, APPROVAL).mayMatch(block));
+        }
+
+        @Test
+        public void filterReceipts() {
+            TransactionReceipt.TransactionReceiptData transfer = new TransactionReceipt.TransactionReceiptData();
+            transfer.setLogsBloom(TRANSFER_BLOOM);
+            TransactionReceipt.TransactionReceiptData approval = new TransactionReceipt.TransactionReceiptData();
+            approval.setLogsBloom(LogsBloomFilter.createBloom(Collections.singletonList(log(TOKEN, APPROVAL))));
+            TransactionReceipt.TransactionReceiptData noLogs = new TransactionReceipt.TransactionReceiptData();
+            noLogs.setLogsBloom(EMPTY_BLOOM);
+
+            List<TransactionReceipt.TransactionReceiptData> receipts = LogsBloomFilter.of(TOKEN, TRANSFER)
+                    .filterReceipts(Arrays.asList(transfer, approval, noLogs));
+
+            assertEquals(Collections.singletonList(transfer), receipts);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.utils;
+
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.type.*;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class RlpTest {
+    static final String valueTransfer = "0x08f87f3a8505d21dba0083015f90948723590d5d60e35f7ce0db5c09d3938b26ff80ae01947d0104ac150f749d36bb34999bcade9f2c0bd2e6f847f845820feaa03d820b27d0997baf16f98df01c7b2b2e9734ad05b2228c4d403c2facff8397f3a01f4a44eeb8b7f0b0019162d1d6b90c401078e56fcd7495e74f7cfcd37e25f017";
+    static final String feeDelegatedValueTransferWithRatio = "0x0af8d78204d219830f4240947b65b75d204abed71587c9e519a89277766ee1d00a94a94f5374fce5edbc8e2a8697c15331677e6ebf0b1ef845f84325a0dde32b8241f039a82b124fe94d3e556eb08f0d6f26d07dcc0f3fca621f1090caa01c8c336b358ab6d3a2bbf25de2adab4d01b754e2fb3b9b710069177d54c1e956945a0043070275d9f6054307ee7348bd660849d90ff845f84326a0091ecf53f91bb97bb694f2f2443f3563ac2b646d651497774524394aae396360a044228b88f275aa1ec1bab43681d21dc7e3a676786ed1906f6841d0a1a188f88a";
+    static final String ethereumDynamicFee = "0x7802f9010f822710258505d21dba008505d21dba00829c40941fc92c23f71a7de4cdb4394a37fc636986a0f48401b844a9059cbb0000000000000000000000008a4c9c443bb0645df646a2d5bb55def0ed1e885a0000000000000000000000000000000000000000000000000000000000003039f85bf8599467116062f1626f7b3019631f03d301b8f701f709f842a00000000000000000000000000000000000000000000000000000000000000003a0000000000000000000000000000000000000000000000000000000000000000780a04fc52da183020a27dc4b684a45404445630e946b0c1a37edeb538d4bdae63040a07d56dbcc61f42ffcbced105f838d20b8fe71e85a4d0344c7f60815fddfeae4cc";
+    static final String legacyTransaction = "0xf8668204d219830f4240947b65b75d204abed71587c9e519a89277766ee1d00a843132333425a0b2a5a15550ec298dc7dddde3774429ed75f864c82caeb5ee24399649ad731be9a029da1014d16f2011b3307f7bbe1035b6e699a4204fc416c763def6cefd976567";
+    static final String accountUpdate = "0x20f8888204d219830f424094a94f5374fce5edbc8e2a8697c15331677e6ebf0ba302a1033a514176466fa815ed481ffad09110a2d344f6c9b78c1d14afc351c3a51be33df845f84325a0f7d479628f05f51320f0842193e3f7ae55a5b49d3645bf55c35bee1e8fd2593aa04de8eab5338fdc86e96f8c49ed516550f793fc2c4007614ce3d2a6b33cf9e451";
+
+    public static class rlpWriterTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void writeQuantity() {
+            String[] values = {"0x0", "0x00", "0x1", "0x7f", "0x80", "0x400", "0x0400", "0x5d21dba00", "0xffffffffffffffffffffffffffffffff"};
+
+            for(String value : values) {
+                RlpWriter writer = new RlpWriter();
+                writer.writeQuantity(value);
+
+                byte[] expected = RlpEncoder.encode(RlpString.create(Numeric.toBigInt(value)));
+                assertArrayEquals(value, expected, writer.toByteArray());
+            }
+        }
+
+        @Test
+        public void writeHexBytes() {
+            String[] values = {"0x", "0x00", "0x7f", "0x80", "0x123", "0x7b65b75d204abed71587c9e519a89277766ee1d0", "0x" + repeat("ab", 60)};
+
+            for(String value : values) {
+                RlpWriter writer = new RlpWriter();
+                writer.writeHexBytes(value);
+
+                byte[] expected = RlpEncoder.encode(RlpString.create(Numeric.hexStringToByteArray(value)));
+                assertArrayEquals(value, expected, writer.toByteArray());
+            }
+        }
+
+        @Test
+        public void writeNumbers() {
+            long[] values = {0, 1, 0x7f, 0x80, 0xff, 0x100, Long.MAX_VALUE};
+
+            for(long value : values) {
+                RlpWriter longWriter = new RlpWriter();
+                longWriter.writeLong(value);
+
+                RlpWriter bigIntegerWriter = new RlpWriter();
+                bigIntegerWriter.writeBigInteger(BigInteger.valueOf(value));
+
+                byte[] expected = RlpEncoder.encode(RlpString.create(value));
+                assertArrayEquals(expected, longWriter.toByteArray());
+                assertArrayEquals(expected, bigIntegerWriter.toByteArray());
+            }
+        }
+
+        @Test
+        public void nestedList() {
+            byte[] longString = Numeric.hexStringToByteArray(repeat("cd", 100));
+
+            RlpWriter writer = new RlpWriter(16);
+            writer.startList();
+            writer.writeQuantity("0x1");
+            writer.startList();
+            writer.endList();
+            writer.startList();
+            writer.writeBytes(longString);
+            writer.startList();
+            writer.writeHexBytes("0x646f67");
+            writer.endList();
+            writer.endList();
+            writer.endList();
+
+            RlpList expected = new RlpList(
+                    RlpString.create(1),
+                    new RlpList(),
+                    new RlpList(
+                            RlpString.create(longString),
+                            new RlpList(RlpString.create(Numeric.hexStringToByteArray("0x646f67")))
+                    )
+            );
+            assertArrayEquals(RlpEncoder.encode(expected), writer.toByteArray());
+        }
+
+        @Test
+        public void throwException_notEndedList() {
+            expectedException.expect(IllegalStateException.class);
+            expectedException.expectMessage("There is a list that has not been ended.");
+
+            RlpWriter writer = new RlpWriter();
+            writer.startList();
+            writer.toByteArray();
+        }
+
+        @Test
+        public void throwException_invalidHex() {
+            expectedException.expect(NumberFormatException.class);
+
+            RlpWriter writer = new RlpWriter();
+            writer.writeHexBytes("0xzz");
+        }
+    }
+
+    public static class rlpReaderTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void readValues() {
+            byte[] longString = Numeric.hexStringToByteArray(repeat("cd", 100));
+            RlpList list = new RlpList(
+                    RlpString.create(BigInteger.ZERO),
+                    RlpString.create(BigInteger.valueOf(0x400)),
+                    RlpString.create(Numeric.hexStringToByteArray("0x0001")),
+                    new RlpList(RlpString.create(longString)),
+                    RlpString.create(Numeric.hexStringToByteArray("0x7b65b75d204abed71587c9e519a89277766ee1d0"))
+            );
+
+            RlpReader reader = new RlpReader(RlpEncoder.encode(list));
+            reader.enterList();
+            assertEquals("0x0", reader.readQuantity());
+            assertEquals("0x400", reader.readQuantity());
+            assertEquals("0x1", reader.readQuantity());
+
+            reader.enterList();
+            assertArrayEquals(longString, reader.readBytes());
+            assertFalse(reader.hasNext());
+            reader.exitList();
+
+            assertEquals("0x7b65b75d204abed71587c9e519a89277766ee1d0", reader.readHexString());
+            assertFalse(reader.hasNext());
+            reader.exitList();
+            assertFalse(reader.hasNext());
+        }
+
+        @Test
+        public void exitList_skipsRemaining() {
+            RlpList list = new RlpList(
+                    new RlpList(RlpString.create(1), RlpString.create(2)),
+                    RlpString.create(3)
+            );
+
+            RlpReader reader = new RlpReader(RlpEncoder.encode(list));
+            reader.enterList();
+            reader.enterList();
+            assertEquals("0x1", reader.readQuantity());
+            reader.exitList();
+            assertEquals("0x3", reader.readQuantity());
+        }
+
+        @Test
+        public void throwException_exceedsInput() {
+            expectedException.expect(IllegalArgumentException.class);
+
+            RlpReader reader = new RlpReader(Numeric.hexStringToByteArray("0x83646f"));
+            reader.readHexString();
+        }
+
+        @Test
+        public void throwException_lengthOverflow() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("exceeds the input");
+
+            // A string whose length is 0x7fffffff. The end of the content overflows an int.
+            RlpReader reader = new RlpReader(Numeric.hexStringToByteArray("0xbb7fffffff00"));
+            reader.readBytes();
+        }
+
+        @Test
+        public void throwException_tooLongLengthOfLength() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("wrong length of length");
+
+            RlpReader reader = new RlpReader(Numeric.hexStringToByteArray("0xbc0000000100"));
+            reader.readBytes();
+        }
+
+        @Test
+        public void throwException_lengthWithLeadingZero() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("leading zero");
+
+            RlpReader reader = new RlpReader(Numeric.hexStringToByteArray("0xb90038" + String.join("", Collections.nCopies(0x38, "00"))));
+            reader.readBytes();
+        }
+
+        @Test
+        public void throwException_expectedList() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("expected a list");
+
+            RlpReader reader = new RlpReader(Numeric.hexStringToByteArray("0x83646f67"));
+            reader.enterList();
+        }
+    }
+
+    public static class transactionTest {
+        static final String[] rawTransactions = {valueTransfer, feeDelegatedValueTransferWithRatio, ethereumDynamicFee, legacyTransaction, accountUpdate};
+
+        @Test
+        public void encode_sameAsRLPEncoding() {
+            for(String raw : rawTransactions) {
+                AbstractTransaction tx = TransactionDecoder.decode(raw);
+
+                assertArrayEquals(Numeric.hexStringToByteArray(raw), tx.encode());
+                assertEquals(raw, tx.getRLPEncoding());
+            }
+        }
+
+        @Test
+        public void encodeInto() {
+            AbstractTransaction tx = TransactionDecoder.decode(feeDelegatedValueTransferWithRatio);
+
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            tx.encodeInto(buffer);
+
+            assertEquals(Numeric.hexStringToByteArray(feeDelegatedValueTransferWithRatio).length, buffer.position());
+            assertArrayEquals(tx.encode(), java.util.Arrays.copyOf(buffer.array(), buffer.position()));
+        }
+
+        @Test
+        public void decode_consecutiveTransactions() {
+            ByteBuffer buffer = ByteBuffer.allocate(2048);
+            for(String raw : rawTransactions) {
+                buffer.put(Numeric.hexStringToByteArray(raw));
+            }
+            buffer.flip();
+
+            assertTrue(TransactionDecoder.decode(buffer) instanceof ValueTransfer);
+            assertTrue(TransactionDecoder.decode(buffer) instanceof FeeDelegatedValueTransferWithRatio);
+            assertTrue(TransactionDecoder.decode(buffer) instanceof EthereumDynamicFee);
+            assertTrue(TransactionDecoder.decode(buffer) instanceof LegacyTransaction);
+            assertTrue(TransactionDecoder.decode(buffer) instanceof AccountUpdate);
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        public void decode_sameFields() {
+            FeeDelegatedValueTransferWithRatio tx = (FeeDelegatedValueTransferWithRatio)TransactionDecoder.decode(feeDelegatedValueTransferWithRatio);
+
+            assertEquals("0x4d2", tx.getNonce());
+            assertEquals("0x19", tx.getGasPrice());
+            assertEquals("0xf4240", tx.getGas());
+            assertEquals("0x7b65b75d204abed71587c9e519a89277766ee1d0", tx.getTo());
+            assertEquals("0xa", tx.getValue());
+            assertEquals("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b", tx.getFrom());
+            assertEquals("0x1e", tx.getFeeRatio());
+            assertEquals("0x5a0043070275d9f6054307ee7348bd660849d90f", tx.getFeePayer());
+            assertEquals(1, tx.getSignatures().size());
+            assertEquals(1, tx.getFeePayerSignatures().size());
+        }
+    }
+
+    public static class transactionDecoderTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @After
+        public void after() {
+            // The decoder table is global, so the type registered by a test must not leak into others.
+            TransactionDecoder.unregister(0x50);
+        }
+
+        @Test
+        public void peekType() {
+            assertEquals(TransactionType.TxTypeValueTransfer.getType(), TransactionDecoder.peekType(valueTransfer));
+            assertEquals(TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType(), TransactionDecoder.peekType(feeDelegatedValueTransferWithRatio));
+            assertEquals(TransactionType.TxTypeEthereumDynamicFee.getType(), TransactionDecoder.peekType(ethereumDynamicFee));
+            assertEquals(TransactionType.TxTypeLegacyTransaction.getType(), TransactionDecoder.peekType(legacyTransaction));
+            assertEquals(TransactionType.TxTypeAccountUpdate.getType(), TransactionDecoder.peekType(accountUpdate));
+        }
+
+        @Test
+        public void peekHash() {
+            for(String raw : transactionTest.rawTransactions) {
+                assertEquals(TransactionDecoder.decode(raw).getTransactionHash(), TransactionDecoder.peekHash(raw));
+            }
+        }
+
+        @Test
+        public void peekWithoutMovingPosition() {
+            ByteBuffer buffer = ByteBuffer.allocate(2048);
+            for(String raw : transactionTest.rawTransactions) {
+                buffer.put(Numeric.hexStringToByteArray(raw));
+            }
+            buffer.flip();
+
+            for(String raw : transactionTest.rawTransactions) {
+                int position = buffer.position();
+                String hash = TransactionDecoder.peekHash(buffer);
+                int type = TransactionDecoder.peekType(buffer);
+                assertEquals(position, buffer.position());
+
+                AbstractTransaction tx = TransactionDecoder.decode(buffer);
+                assertEquals(tx.getTransactionHash(), hash);
+                assertEquals(TransactionDecoder.peekType(raw), type);
+            }
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        public void register() {
+            int[] called = new int[1];
+            TransactionDecoder.register(0x50, rlpEncoded -> {
+                called[0]++;
+                rlpEncoded.position(rlpEncoded.limit());
+                return null;
+            });
+
+            assertNull(TransactionDecoder.decode("0x50c0"));
+            assertEquals(1, called[0]);
+            assertEquals(0x50, TransactionDecoder.peekType("0x50c0"));
+
+            // An unregistered type is decoded as a legacy transaction, which fails for this input.
+            TransactionDecoder.unregister(0x50);
+            try {
+                TransactionDecoder.decode("0x50c0");
+            } catch(RuntimeException ignored) {
+            }
+            assertEquals(1, called[0]);
+        }
+
+        @Test
+        public void throwException_registerListPrefix() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Invalid transaction type: 192");
+            TransactionDecoder.register(0xc0, ValueTransfer::decode);
+        }
+    }
+
+    static String repeat(String str, int count) {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < count; i++) {
+            builder.append(str);
+        }
+        return builder.toString();
+    }
+}
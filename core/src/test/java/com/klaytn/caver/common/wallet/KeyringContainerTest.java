@@ -18,10 +18,14 @@ package com.klaytn.caver.common.wallet;
 
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.account.AccountKeyRoleBased;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.NonceManager;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.type.AccountUpdate;
+import com.klaytn.caver.transaction.type.EthereumDynamicFee;
 import com.klaytn.caver.transaction.type.FeeDelegatedValueTransfer;
 import com.klaytn.caver.transaction.type.ValueTransfer;
 import com.klaytn.caver.utils.Utils;
@@ -31,12 +35,26 @@ import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.utils.Numeric;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.klaytn.caver.base.TestUtils.request;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @RunWith(Enclosed.class)
 public class KeyringContainerTest {
@@ -88,6 +106,12 @@ public class KeyringContainerTest {
                 .build();
     }
 
+    static Quantity quantity(String value) {
+        Quantity quantity = new Quantity();
+        quantity.setResult(value);
+        return quantity;
+    }
+
     static FeeDelegatedValueTransfer generateFeeDelegatedValueTransfer(AbstractKeyring keyring) {
         return new FeeDelegatedValueTransfer.Builder()
                 .setFrom(keyring.getAddress())
@@ -996,4 +1020,270 @@ public class KeyringContainerTest {
 
     }
 
+    public static class signAllTest {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void signAll() throws IOException {
+            List<AbstractKeyring> keyrings = new ArrayList<>();
+            List<ValueTransfer> transactions = new ArrayList<>();
+            for(int i = 0; i < 20; i++) {
+                AbstractKeyring keyring = caver.wallet.add(caver.wallet.keyring.generate());
+                keyrings.add(keyring);
+                transactions.add(generateValueTransfer(keyring));
+            }
+
+            List<ValueTransfer> signed = caver.wallet.signAll(transactions);
+
+            assertEquals(transactions.size(), signed.size());
+            for(int i = 0; i < signed.size(); i++) {
+                ValueTransfer tx = signed.get(i);
+                assertSame(transactions.get(i), tx);
+
+                List<SignatureData> expected = keyrings.get(i).sign(TransactionHasher.getHashForSignature(tx), tx.getChainId(), AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex());
+                assertEquals(expected, tx.getSignatures());
+            }
+        }
+
+        @Test
+        public void signAll_withExecutor() throws IOException {
+            String address = caver.wallet.keyring.generate().getAddress();
+            MultipleKeyring multipleKeyring = caver.wallet.keyring.createWithMultipleKey(address, caver.wallet.keyring.generateMultipleKeys(3));
+            AbstractKeyring keyring = caver.wallet.add(multipleKeyring);
+
+            List<AbstractTransaction> transactions = new ArrayList<>();
+            for(int i = 0; i < 10; i++) {
+                ValueTransfer valueTransfer = generateValueTransfer(keyring);
+                valueTransfer.setNonce(BigInteger.valueOf(i));
+                transactions.add(valueTransfer);
+            }
+
+            List<String> expectedPublicKeys = new ArrayList<>();
+            for(PrivateKey privateKey : multipleKeyring.getKeys()) {
+                expectedPublicKeys.add(privateKey.getPublicKey(false));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<AbstractTransaction> signed = caver.wallet.signAll(transactions, executor);
+
+                for(int i = 0; i < signed.size(); i++) {
+                    assertEquals(BigInteger.valueOf(i), Numeric.toBigInt(signed.get(i).getNonce()));
+                    assertEquals(3, signed.get(i).getSignatures().size());
+                    assertEquals(expectedPublicKeys, signed.get(i).recoverPublicKeys());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        public void signAll_shareNonceManagerAndFetchFeeOncePerBatch() throws IOException {
+            Klay klay = mock(Klay.class);
+            doAnswer(invocation -> request(quantity("0x5"))).when(klay).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+            doAnswer(invocation -> request(quantity("0x7e3"))).when(klay).getChainID();
+            doAnswer(invocation -> request(quantity("0x5d21dba00"))).when(klay).getGasPrice();
+            doAnswer(invocation -> request(quantity("0x3b9aca00"))).when(klay).getMaxPriorityFeePerGas();
+
+            AbstractKeyring keyring = caver.wallet.add(caver.wallet.keyring.generate());
+
+            for(int batch = 0; batch < 2; batch++) {
+                List<AbstractTransaction> transactions = new ArrayList<>();
+                for(int i = 0; i < 3; i++) {
+                    transactions.add(new ValueTransfer.Builder()
+                            .setKlaytnCall(klay)
+                            .setFrom(keyring.getAddress())
+                            .setTo(keyring.getAddress())
+                            .setValue("0x1")
+                            .setGas("0x15f90")
+                            .build());
+                }
+                transactions.add(new EthereumDynamicFee.Builder()
+                        .setKlaytnCall(klay)
+                        .setFrom(keyring.getAddress())
+                        .setTo(keyring.getAddress())
+                        .setValue("0x1")
+                        .setGas("0x15f90")
+                        .build());
+
+                List<AbstractTransaction> signed = caver.wallet.signAll(transactions);
+
+                for(int i = 0; i < signed.size(); i++) {
+                    assertEquals(BigInteger.valueOf(5 + batch * 4 + i), Numeric.toBigInt(signed.get(i).getNonce()));
+                    assertEquals("0x7e3", signed.get(i).getChainId());
+                }
+                assertEquals("0x5d21dba00", ((ValueTransfer)signed.get(0)).getGasPrice());
+                assertEquals("0x5d21dba00", ((EthereumDynamicFee)signed.get(3)).getMaxFeePerGas());
+                assertEquals("0x3b9aca00", ((EthereumDynamicFee)signed.get(3)).getMaxPriorityFeePerGas());
+            }
+
+            // The pending transaction count is queried once by the shared NonceManager, and fees are requested once per batch.
+            verify(klay, times(1)).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+            verify(klay, times(2)).getGasPrice();
+            verify(klay, times(2)).getMaxPriorityFeePerGas();
+            assertSame(caver.wallet.getNonceManager(klay), caver.wallet.getNonceManager(klay));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        public void signAll_releaseNoncesWhenFillingFails() throws IOException {
+            Klay klay = mock(Klay.class);
+            doAnswer(invocation -> request(quantity("0x5"))).when(klay).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+            doAnswer(invocation -> request(quantity("0x5d21dba00"))).when(klay).getGasPrice();
+
+            Request<?, Quantity> failedRequest = mock(Request.class);
+            when(failedRequest.send()).thenThrow(new IOException("connection refused"));
+            doAnswer(invocation -> failedRequest)
+                    .doAnswer(invocation -> request(quantity("0x7e3")))
+                    .when(klay).getChainID();
+
+            AbstractKeyring keyring = caver.wallet.add(caver.wallet.keyring.generate());
+
+            List<ValueTransfer> transactions = new ArrayList<>();
+            for(int i = 0; i < 2; i++) {
+                transactions.add(new ValueTransfer.Builder()
+                        .setKlaytnCall(klay)
+                        .setFrom(keyring.getAddress())
+                        .setTo(keyring.getAddress())
+                        .setValue("0x1")
+                        .setGas("0x15f90")
+                        .build());
+            }
+
+            try {
+                caver.wallet.signAll(transactions);
+                fail();
+            } catch(IOException e) {
+                assertEquals("connection refused", e.getMessage());
+            }
+            assertEquals("0x", transactions.get(0).getNonce());
+
+            List<ValueTransfer> signed = caver.wallet.signAll(transactions);
+
+            assertEquals(BigInteger.valueOf(5), Numeric.toBigInt(signed.get(0).getNonce()));
+            assertEquals(BigInteger.valueOf(6), Numeric.toBigInt(signed.get(1).getNonce()));
+            verify(klay, times(1)).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+        }
+
+        @Test
+        public void signAll_keepNonceOfSignedTransactionWhenSigningFails() throws IOException {
+            Klay klay = mock(Klay.class);
+            doAnswer(invocation -> request(quantity("0x5"))).when(klay).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+
+            SingleKeyring keyring1 = caver.wallet.keyring.generate();
+            SingleKeyring keyring2 = caver.wallet.keyring.generate();
+            caver.wallet.add(keyring1);
+            caver.wallet.add(keyring2);
+
+            List<ValueTransfer> transactions = new ArrayList<>();
+            for(AbstractKeyring keyring : Arrays.asList(keyring1, keyring2)) {
+                ValueTransfer valueTransfer = generateValueTransfer(keyring);
+                valueTransfer.setNonce("0x");
+                valueTransfer.setKlaytnCall(klay);
+                transactions.add(valueTransfer);
+            }
+
+            // Signs in list order, and the keyring of the second sender is removed after the first transaction is signed.
+            AtomicInteger taskCount = new AtomicInteger();
+            Executor executor = command -> {
+                if(taskCount.getAndIncrement() == 1) {
+                    caver.wallet.remove(keyring2.getAddress());
+                }
+                command.run();
+            };
+
+            try {
+                caver.wallet.signAll(transactions, executor);
+                fail();
+            } catch(NullPointerException e) {
+                assertTrue(e.getMessage().contains("Failed to find keyring"));
+            }
+
+            // The signed transaction keeps the nonce its signature covers, and the unsigned one releases its nonce.
+            ValueTransfer signedTransaction = transactions.get(0);
+            assertEquals(BigInteger.valueOf(5), Numeric.toBigInt(signedTransaction.getNonce()));
+            assertEquals(1, signedTransaction.getSignatures().size());
+            assertEquals(Collections.singletonList(keyring1.getPublicKey(false)), signedTransaction.recoverPublicKeys());
+            assertEquals("0x", transactions.get(1).getNonce());
+
+            ValueTransfer next = generateValueTransfer(keyring1);
+            next.setNonce("0x");
+            next.setKlaytnCall(klay);
+            caver.wallet.signAll(Arrays.asList(next));
+            assertEquals(BigInteger.valueOf(6), Numeric.toBigInt(next.getNonce()));
+        }
+
+        @Test
+        public void signAll_withInjectedNonceManager() throws IOException {
+            Klay klay = mock(Klay.class);
+            NonceManager nonceManager = mock(NonceManager.class);
+            caver.wallet.setNonceManager(klay, nonceManager);
+
+            AbstractKeyring keyring = caver.wallet.add(caver.wallet.keyring.generate());
+            ValueTransfer valueTransfer = generateValueTransfer(keyring);
+            valueTransfer.setKlaytnCall(klay);
+
+            caver.wallet.signAll(Arrays.asList(valueTransfer));
+
+            verify(nonceManager).fillNonce(valueTransfer);
+            assertSame(nonceManager, caver.wallet.getNonceManager(klay));
+        }
+
+        @Test
+        public void throwException_notExistKeyring() throws IOException {
+            expectedException.expect(NullPointerException.class);
+            expectedException.expectMessage("Failed to find keyring from wallet with address");
+
+            AbstractKeyring keyring = caver.wallet.add(caver.wallet.keyring.generate());
+
+            List<ValueTransfer> transactions = Arrays.asList(
+                    generateValueTransfer(keyring),
+                    generateValueTransfer(caver.wallet.keyring.generate())
+            );
+            caver.wallet.signAll(transactions);
+        }
+    }
+
+    public static class signAsFeePayerAllTest {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void signAsFeePayerAll() throws IOException {
+            AbstractKeyring feePayer = caver.wallet.add(caver.wallet.keyring.generate());
+
+            List<FeeDelegatedValueTransfer> transactions = new ArrayList<>();
+            for(int i = 0; i < 20; i++) {
+                transactions.add(generateFeeDelegatedValueTransfer(caver.wallet.keyring.generate()));
+            }
+
+            List<FeeDelegatedValueTransfer> signed = caver.wallet.signAsFeePayerAll(feePayer.getAddress(), transactions);
+
+            assertEquals(transactions.size(), signed.size());
+            for(int i = 0; i < signed.size(); i++) {
+                FeeDelegatedValueTransfer tx = signed.get(i);
+                assertSame(transactions.get(i), tx);
+                assertEquals(feePayer.getAddress(), tx.getFeePayer());
+
+                List<SignatureData> expected = feePayer.sign(TransactionHasher.getHashForFeePayerSignature(tx), tx.getChainId(), AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex());
+                assertEquals(expected, tx.getFeePayerSignatures());
+            }
+        }
+
+        @Test
+        public void throwException_notExistKeyring() throws IOException {
+            expectedException.expect(NullPointerException.class);
+            expectedException.expectMessage("Failed to find keyring from wallet with address");
+
+            String address = "0x1234567890123456789012345678901234567890";
+
+            List<FeeDelegatedValueTransfer> transactions = Arrays.asList(generateFeeDelegatedValueTransfer(caver.wallet.keyring.generate()));
+            caver.wallet.signAsFeePayerAll(address, transactions);
+        }
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.klaytn.caver.common.wallet;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.account.*;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.*;
@@ -25,13 +26,24 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.web3j.crypto.CipherException;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.SignatureException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -1559,6 +1571,240 @@ public class KeyringTest {
 
 
 
+    public static class decryptAllTest {
+        static final String password = "password";
+
+        static KeyStore scryptKeyStore(AbstractKeyring keyring) throws CipherException {
+            return keyring.encrypt(password, KeyStoreOption.getDefaultOptionWithKDF(KeyStore.ScryptKdfParams.getName()));
+        }
+
+        @Test
+        public void decryptAll() throws CipherException {
+            List<AbstractKeyring> expected = Arrays.asList(
+                    KeyringFactory.generate(),
+                    generateMultipleKeyring(3),
+                    generateRoleBaseKeyring(new int[]{2, 0, 3})
+            );
+
+            List<KeyStore> keyStores = new ArrayList<>();
+            for(AbstractKeyring keyring : expected) {
+                keyStores.add(scryptKeyStore(keyring));
+            }
+            keyStores.add(((SingleKeyring)expected.get(0)).encryptV3(password));
+
+            List<AbstractKeyring> actual = KeyringFactory.decryptAll(keyStores, password);
+
+            assertEquals(4, actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                checkValidKeyring(expected.get(i), actual.get(i));
+            }
+            checkValidKeyring(expected.get(0), actual.get(3));
+        }
+
+        @Test
+        public void keepFailedResult() throws CipherException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            List<KeyStore> keyStores = Arrays.asList(
+                    scryptKeyStore(keyring),
+                    keyring.encrypt("wrong password", KeyStoreOption.getDefaultOptionWithKDF(KeyStore.Pbkdf2KdfParams.getName()))
+            );
+
+            try(KeyStoreDecryptor decryptor = new KeyStoreDecryptor(2, 64 * 1024 * 1024)) {
+                List<KeyStoreDecryptor.Result> results = decryptor.decryptAll(keyStores, password);
+
+                assertTrue(results.get(0).isSuccess());
+                checkValidKeyring(keyring, results.get(0).getKeyring());
+                assertFalse(results.get(1).isSuccess());
+                assertTrue(results.get(1).getError() instanceof CipherException);
+
+                KeyStoreDecryptor.Metrics metrics = decryptor.getMetrics();
+                assertEquals(1, metrics.getDecryptedCount());
+                assertEquals(1, metrics.getFailedCount());
+                assertTrue(metrics.getDerivationTime() > 0);
+            }
+        }
+
+        @Test
+        public void limitMemory() throws CipherException {
+            List<KeyStore> keyStores = new ArrayList<>();
+            for(int i = 0; i < 4; i++) {
+                keyStores.add(scryptKeyStore(KeyringFactory.generate()));
+            }
+            long requiredMemory = 128L * 8 * 4096 + 128L * 8 + 256L * 8;
+
+            // The budget is less than a derivation, so the derivations run one by one.
+            try(KeyStoreDecryptor decryptor = new KeyStoreDecryptor(4, 1024)) {
+                List<KeyStoreDecryptor.Result> results = decryptor.decryptAll(keyStores, password);
+
+                for(KeyStoreDecryptor.Result result : results) {
+                    assertTrue(result.isSuccess());
+                }
+                assertEquals(requiredMemory, decryptor.getMetrics().getPeakMemoryInUse());
+            }
+        }
+
+        @Test
+        public void holdMemoryOnlyWhileDeriving() throws CipherException {
+            // The keys of a keystore share the salt, so only one of them is derived and the others wait for it without memory.
+            MultipleKeyring keyring = generateMultipleKeyring(3);
+            KeyStore keyStore = scryptKeyStore(keyring);
+            long requiredMemory = 128L * 8 * 4096 + 128L * 8 + 256L * 8;
+
+            try(DerivedKeyCache cache = DerivedKeyCache.open();
+                KeyStoreDecryptor decryptor = new KeyStoreDecryptor(3, 64 * 1024 * 1024)) {
+                List<KeyStoreDecryptor.Result> results = decryptor.decryptAll(Collections.singletonList(keyStore), password);
+
+                checkValidKeyring(keyring, results.get(0).getKeyring());
+                assertEquals(1, cache.size());
+                assertEquals(requiredMemory, decryptor.getMetrics().getPeakMemoryInUse());
+            }
+        }
+
+        @Test
+        public void ignoreFailingProgressListener() throws CipherException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            List<KeyStore> keyStores = Arrays.asList(scryptKeyStore(keyring), scryptKeyStore(keyring));
+
+            try(KeyStoreDecryptor decryptor = new KeyStoreDecryptor(2, 64 * 1024 * 1024)) {
+                AtomicInteger progress = new AtomicInteger();
+                decryptor.setProgressListener((completed, total, result) -> {
+                    progress.incrementAndGet();
+                    throw new IllegalStateException("listener error");
+                });
+
+                List<KeyStoreDecryptor.Result> results = decryptor.decryptAll(keyStores, password);
+                assertEquals(2, progress.get());
+                for(KeyStoreDecryptor.Result result : results) {
+                    assertTrue(result.isSuccess());
+                    checkValidKeyring(keyring, result.getKeyring());
+                }
+                assertEquals(2, decryptor.getMetrics().getDecryptedCount());
+            }
+        }
+
+        @Test
+        public void decryptStreamAndDirectory() throws CipherException, IOException {
+            ObjectMapper mapper = new ObjectMapper();
+            SingleKeyring single = KeyringFactory.generate();
+            MultipleKeyring multiple = generateMultipleKeyring(2);
+            String singleJson = mapper.writeValueAsString(scryptKeyStore(single));
+            String multipleJson = mapper.writeValueAsString(scryptKeyStore(multiple));
+
+            Path directory = Files.createTempDirectory("keystores");
+            Files.write(directory.resolve("1.json"), singleJson.getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("2.json"), multipleJson.getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("3.json"), "{".getBytes(StandardCharsets.UTF_8));
+
+            try(KeyStoreDecryptor decryptor = new KeyStoreDecryptor()) {
+                AtomicInteger progress = new AtomicInteger();
+                decryptor.setProgressListener((completed, total, result) -> {
+                    assertEquals(3, total);
+                    progress.incrementAndGet();
+                });
+
+                List<KeyStoreDecryptor.Result> results = decryptor.decryptAll(directory, password);
+                assertEquals(3, progress.get());
+                checkValidKeyring(single, results.get(0).getKeyring());
+                checkValidKeyring(multiple, results.get(1).getKeyring());
+                assertTrue(results.get(2).getError() instanceof IOException);
+
+                decryptor.setProgressListener(null);
+                InputStream stream = new ByteArrayInputStream((singleJson + "\n" + multipleJson).getBytes(StandardCharsets.UTF_8));
+                results = decryptor.decryptAll(stream, password);
+                checkValidKeyring(single, results.get(0).getKeyring());
+                checkValidKeyring(multiple, results.get(1).getKeyring());
+
+                stream = new ByteArrayInputStream(("[" + singleJson + "," + multipleJson + "]").getBytes(StandardCharsets.UTF_8));
+                results = decryptor.decryptAll(stream, password);
+                assertEquals(2, results.size());
+                checkValidKeyring(multiple, results.get(1).getKeyring());
+            } finally {
+                for(String name : new String[]{"1.json", "2.json", "3.json"}) {
+                    Files.deleteIfExists(directory.resolve(name));
+                }
+                Files.deleteIfExists(directory);
+            }
+        }
+    }
+
+    public static class derivedKeyCacheTest {
+        @Test
+        public void deriveOnceInScope() throws CipherException {
+            String password = "password";
+            RoleBasedKeyring expect = generateRoleBaseKeyring(new int[]{2, 1, 3});
+            KeyStore keyStore = expect.encrypt(password, KeyStoreOption.getDefaultOptionWithKDF(KeyStore.ScryptKdfParams.getName()));
+
+            try(DerivedKeyCache cache = DerivedKeyCache.open()) {
+                assertEquals(cache, DerivedKeyCache.current());
+
+                AbstractKeyring actual = KeyringFactory.decrypt(keyStore, password);
+                checkValidKeyring(expect, actual);
+                assertEquals(1, cache.size());
+
+                KeyStore reEncrypted = actual.encrypt(password, KeyStoreOption.getDefaultOptionWithKDF(KeyStore.Pbkdf2KdfParams.getName()));
+                assertEquals(2, cache.size());
+                checkValidKeyring(expect, KeyringFactory.decrypt(reEncrypted, password));
+                assertEquals(2, cache.size());
+
+                cache.close();
+                assertEquals(0, cache.size());
+                assertNull(DerivedKeyCache.current());
+            }
+        }
+
+        @Test
+        public void throwException_wrongPassword() throws CipherException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            KeyStore keyStore = keyring.encrypt("password");
+
+            try(DerivedKeyCache cache = DerivedKeyCache.open()) {
+                KeyringFactory.decrypt(keyStore, "wrong password");
+                fail();
+            } catch(CipherException e) {
+                assertEquals("Invalid password provided", e.getMessage());
+            }
+        }
+
+        @Test
+        public void closeWhileDeriving() throws Exception {
+            String password = "password";
+            SingleKeyring expect = KeyringFactory.generate();
+            KeyStore keyStore = expect.encrypt(password, KeyStoreOption.getDefaultOptionWithKDF(KeyStore.ScryptKdfParams.getName()));
+
+            try(DerivedKeyCache cache = DerivedKeyCache.open()) {
+                // The cache is closed by another thread while the key is derived, so it must not clear the key in use.
+                Thread closer = new Thread(() -> {
+                    try {
+                        Thread.sleep(50);
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    cache.close();
+                });
+                closer.start();
+
+                checkValidKeyring(expect, KeyringFactory.decrypt(keyStore, password));
+                closer.join();
+                assertEquals(0, cache.size());
+
+                // A closed cache doesn't cache derived keys.
+                checkValidKeyring(expect, KeyringFactory.decrypt(keyStore, password));
+                assertEquals(0, cache.size());
+            }
+        }
+
+        @Test
+        public void restorePreviousScope() {
+            try(DerivedKeyCache outer = DerivedKeyCache.open()) {
+                try(DerivedKeyCache inner = DerivedKeyCache.open()) {
+                    assertEquals(inner, DerivedKeyCache.current());
+                }
+                assertEquals(outer, DerivedKeyCache.current());
+            }
+            assertNull(DerivedKeyCache.current());
+        }
+    }
+
     public static class encryptTest {
         @Rule
         public ExpectedException expectedException = ExpectedException.none();
@@ -2254,6 +2500,63 @@ public class KeyringTest {
         }
     }
 
+    public static class privateKeyCacheTest {
+        static final String privateKey = "0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8";
+
+        @Test
+        public void getKeyPair_reused() {
+            PrivateKey key = new PrivateKey(privateKey);
+            ECKeyPair keyPair = key.getKeyPair();
+
+            assertSame(keyPair, key.getKeyPair());
+            assertEquals(ECKeyPair.create(Numeric.toBigInt(privateKey)), keyPair);
+        }
+
+        @Test
+        public void getPublicKey_sameAsDerived() {
+            PrivateKey key = new PrivateKey(privateKey);
+            BigInteger expected = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
+
+            assertEquals(Numeric.toHexStringWithPrefixZeroPadded(expected, 128), key.getPublicKey(false));
+            assertEquals(Numeric.toHexStringWithPrefixZeroPadded(expected, 128), key.getPublicKey(false));
+            assertEquals(Utils.compressPublicKey(key.getPublicKey(false)), key.getPublicKey(true));
+        }
+
+        @Test
+        public void getDerivedAddress_sameAsDerived() {
+            PrivateKey key = new PrivateKey(privateKey);
+            String expected = Numeric.prependHexPrefix(Keys.getAddress(Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey))));
+
+            assertEquals(expected, key.getDerivedAddress());
+            assertEquals(expected, key.getDerivedAddress());
+        }
+
+        @Test
+        public void sign_sameSignatureWithCachedKeyPair() {
+            String hash = "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+            PrivateKey key = new PrivateKey(privateKey);
+
+            SignatureData first = key.sign(hash, 1);
+            SignatureData second = key.sign(hash, 1);
+            assertEquals(first, second);
+
+            Sign.SignatureData expected = Sign.signMessage(Numeric.hexStringToByteArray(hash), ECKeyPair.create(Numeric.toBigInt(privateKey)), false);
+            SignatureData ecsigned = key.ecsign(hash);
+            assertEquals(Numeric.toHexString(expected.getR()), ecsigned.getR());
+            assertEquals(Numeric.toHexString(expected.getS()), ecsigned.getS());
+        }
+
+        @Test
+        public void keyring_sharesCachedKey() {
+            SingleKeyring keyring = KeyringFactory.createFromPrivateKey(privateKey);
+            SingleKeyring copied = (SingleKeyring)keyring.copy();
+
+            assertSame(keyring.getKey(), copied.getKey());
+            assertEquals(keyring.getKey().getDerivedAddress(), keyring.getAddress());
+            assertFalse(keyring.isDecoupled());
+        }
+    }
+
     public static class toAccountTest {
         @Rule
         public ExpectedException expectedException = ExpectedException.none();
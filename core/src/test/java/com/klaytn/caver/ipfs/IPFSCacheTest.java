@@ -0,0 +1,371 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.ipfs;
+
+import com.klaytn.caver.ipfs.IPFSStreamingTest.StubDaemon;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.klaytn.caver.ipfs.IPFSStreamingTest.randomBytes;
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class IPFSCacheTest {
+    static final String[] HASHES = {
+            "QmYtUc4iTCbbfVSDNKvtQqrfyezPPnFvE33wFmutw9PBBk",
+            "QmYzW1fXbapdxkZXMQeCYoDCjVc18H8tLfMfrxXRySmQiq",
+            "QmT78zSuBmuS4z925WZfrqQ1qHaJ56DQaTfyMUF7F8ff5o",
+    };
+
+    static void deleteRecursively(Path directory) throws IOException {
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for(Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    public static class memoryCacheTest {
+        StubDaemon daemon;
+        IPFS ipfs;
+
+        @Before
+        public void before() throws IOException {
+            daemon = new StubDaemon();
+            for(int i = 0; i < HASHES.length; i++) {
+                daemon.files.put(HASHES[i], randomBytes(1000 + i));
+            }
+            ipfs = new IPFS("127.0.0.1", daemon.port(), false);
+        }
+
+        @After
+        public void after() {
+            daemon.stop();
+        }
+
+        @Test
+        public void fetchOnce() throws IOException {
+            IPFSCache cache = new IPFSCache();
+            ipfs.setCache(cache);
+
+            assertArrayEquals(daemon.files.get(HASHES[0]), ipfs.get(HASHES[0]));
+            assertArrayEquals(daemon.files.get(HASHES[0]), ipfs.get(HASHES[0]));
+            try(InputStream inputStream = ipfs.getStream(HASHES[0])) {
+                assertArrayEquals(daemon.files.get(HASHES[0]), StubDaemon.readAll(inputStream));
+            }
+
+            assertEquals(1, daemon.catCount.get());
+            assertEquals(1, cache.getMissCount());
+            assertEquals(2, cache.getMemoryHitCount());
+            assertEquals(1000, cache.getMemorySize());
+        }
+
+        @Test
+        public void evictLeastRecentlyUsed() throws IOException {
+            IPFSCache cache = new IPFSCache(2500);
+            ipfs.setCache(cache);
+
+            ipfs.get(HASHES[0]);
+            ipfs.get(HASHES[1]);
+            ipfs.get(HASHES[0]);
+            ipfs.get(HASHES[2]);
+
+            assertEquals(1, cache.getEvictionCount());
+            assertEquals(2002, cache.getMemorySize());
+
+            // HASHES[1] is the least recently used one, so it is evicted.
+            ipfs.get(HASHES[0]);
+            assertEquals(3, daemon.catCount.get());
+            ipfs.get(HASHES[1]);
+            assertEquals(4, daemon.catCount.get());
+        }
+
+        @Test
+        public void fetchConcurrentRequestsOnce() throws Exception {
+            IPFSCache cache = new IPFSCache();
+            ipfs.setCache(cache);
+            daemon.delay = 200;
+
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<byte[]>> futures = new ArrayList<>();
+                for(int i = 0; i < 8; i++) {
+                    futures.add(executorService.submit(() -> ipfs.get(HASHES[0])));
+                }
+                for(Future<byte[]> future : futures) {
+                    assertArrayEquals(daemon.files.get(HASHES[0]), future.get());
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+
+            assertEquals(1, daemon.catCount.get());
+            assertEquals(1, cache.getMissCount());
+            assertEquals(7, cache.getSharedFetchCount() + cache.getHitCount());
+        }
+
+        @Test
+        public void fetchConcurrentStreamsOnce() throws Exception {
+            IPFSCache cache = new IPFSCache();
+            ipfs.setCache(cache);
+            daemon.delay = 200;
+
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<byte[]>> futures = new ArrayList<>();
+                for(int i = 0; i < 8; i++) {
+                    if(i % 2 == 0) {
+                        futures.add(executorService.submit(() -> {
+                            try(InputStream inputStream = ipfs.getStream(HASHES[0])) {
+                                return StubDaemon.readAll(inputStream);
+                            }
+                        }));
+                    } else {
+                        futures.add(executorService.submit(() -> ipfs.get(HASHES[0])));
+                    }
+                }
+                for(Future<byte[]> future : futures) {
+                    assertArrayEquals(daemon.files.get(HASHES[0]), future.get());
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+
+            assertEquals(1, daemon.catCount.get());
+            assertEquals(1, cache.getMissCount());
+            assertEquals(7, cache.getSharedFetchCount() + cache.getHitCount());
+        }
+
+        @Test
+        public void streamWithoutCachingLargeFile() throws IOException {
+            IPFSCache cache = new IPFSCache(1500);
+            ipfs.setCache(cache);
+            daemon.files.put(HASHES[0], randomBytes(2000));
+
+            for(int i = 0; i < 2; i++) {
+                try(InputStream inputStream = ipfs.getStream(HASHES[0])) {
+                    assertArrayEquals(daemon.files.get(HASHES[0]), StubDaemon.readAll(inputStream));
+                }
+            }
+
+            // The file is larger than the memory capacity, so it is not kept.
+            assertEquals(0, cache.getMemorySize());
+            assertEquals(2, daemon.catCount.get());
+        }
+
+        @Test
+        public void cacheStreamReadToEnd() throws IOException {
+            IPFSCache cache = new IPFSCache();
+            ipfs.setCache(cache);
+
+            try(InputStream inputStream = ipfs.getStream(HASHES[1])) {
+                inputStream.read(new byte[10]);
+            }
+            assertEquals(0, cache.getMemorySize());
+
+            try(InputStream inputStream = ipfs.getStream(HASHES[1])) {
+                assertArrayEquals(daemon.files.get(HASHES[1]), StubDaemon.readAll(inputStream));
+            }
+            assertEquals(1001, cache.getMemorySize());
+
+            assertArrayEquals(daemon.files.get(HASHES[1]), ipfs.get(HASHES[1]));
+            assertEquals(2, daemon.catCount.get());
+        }
+
+        @Test
+        public void doNotCacheFailure() throws IOException {
+            ipfs.setCache(new IPFSCache());
+            String unknownHash = "QmPZ9gcCEpqKTo6aq61g2nXGUhM4iCL3ewB6LDXZCtioEB";
+
+            for(int i = 0; i < 2; i++) {
+                try {
+                    ipfs.get(unknownHash);
+                    fail();
+                } catch(RuntimeException e) {
+                    assertTrue(e.getMessage().contains("IOException contacting IPFS daemon."));
+                }
+            }
+            assertEquals(2, daemon.catCount.get());
+        }
+    }
+
+    public static class diskCacheTest {
+        StubDaemon daemon;
+        IPFS ipfs;
+        Path directory;
+
+        @Before
+        public void before() throws IOException {
+            daemon = new StubDaemon();
+            daemon.files.put(HASHES[0], randomBytes(1000));
+            daemon.files.put(HASHES[1], randomBytes(300_000));
+            daemon.files.put(HASHES[2], randomBytes(300_001));
+            ipfs = new IPFS("127.0.0.1", daemon.port(), false);
+            directory = Files.createTempDirectory("ipfs-cache");
+        }
+
+        @After
+        public void after() throws IOException {
+            daemon.stop();
+            deleteRecursively(directory);
+        }
+
+        @Test
+        public void readFromDisk() throws IOException {
+            IPFSCache cache = new IPFSCache(IPFSCache.DEFAULT_MEMORY_CAPACITY, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000);
+            ipfs.setCache(cache);
+
+            assertArrayEquals(daemon.files.get(HASHES[0]), ipfs.get(HASHES[0]));
+            assertArrayEquals(daemon.files.get(HASHES[1]), ipfs.get(HASHES[1]));
+            assertTrue(Files.exists(directory.resolve(HASHES[0])));
+            assertTrue(Files.exists(directory.resolve(HASHES[1])));
+            // A large file is memory-mapped instead of being kept in memory.
+            assertEquals(1000, cache.getMemorySize());
+            assertEquals(301_000, cache.getDiskSize());
+
+            Path target = directory.resolveSibling(directory.getFileName() + ".out");
+            try {
+                assertEquals(300_000, ipfs.get(HASHES[1], target));
+                assertArrayEquals(daemon.files.get(HASHES[1]), Files.readAllBytes(target));
+            } finally {
+                Files.delete(target);
+            }
+            assertEquals(1, cache.getDiskHitCount());
+
+            // A new cache on the same directory uses the files on disk.
+            IPFSCache reopened = new IPFSCache(IPFSCache.DEFAULT_MEMORY_CAPACITY, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000);
+            ipfs.setCache(reopened);
+            assertArrayEquals(daemon.files.get(HASHES[0]), ipfs.get(HASHES[0]));
+            assertArrayEquals(daemon.files.get(HASHES[1]), ipfs.get(HASHES[1]));
+
+            assertEquals(2, daemon.catCount.get());
+            assertEquals(2, reopened.getDiskHitCount());
+            assertEquals(0, reopened.getMissCount());
+        }
+
+        @Test
+        public void evictFromDisk() throws IOException {
+            IPFSCache cache = new IPFSCache(0, directory, 400_000, 100_000);
+            ipfs.setCache(cache);
+
+            ipfs.get(HASHES[1]);
+            ipfs.get(HASHES[2]);
+
+            assertEquals(1, cache.getEvictionCount());
+            assertEquals(300_001, cache.getDiskSize());
+            assertFalse(Files.exists(directory.resolve(HASHES[1])));
+            assertTrue(Files.exists(directory.resolve(HASHES[2])));
+        }
+
+        @Test
+        public void refetchCorruptedFile() throws IOException {
+            ipfs.setCache(new IPFSCache(0, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000));
+            ipfs.get(HASHES[0]);
+            ipfs.get(HASHES[1]);
+
+            Files.write(directory.resolve(HASHES[0]), randomBytes(1000));
+            Files.write(directory.resolve(HASHES[1]), randomBytes(300_000));
+
+            IPFSCache reopened = new IPFSCache(0, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000);
+            ipfs.setCache(reopened);
+            assertArrayEquals(daemon.files.get(HASHES[0]), ipfs.get(HASHES[0]));
+            assertArrayEquals(daemon.files.get(HASHES[1]), ipfs.get(HASHES[1]));
+
+            assertEquals(4, daemon.catCount.get());
+            assertEquals(2, reopened.getMissCount());
+            assertEquals(0, reopened.getDiskHitCount());
+        }
+
+        @Test
+        public void throwException_corruptedStream() throws IOException {
+            ipfs.setCache(new IPFSCache(0, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000));
+            try(InputStream inputStream = ipfs.getStream(HASHES[1])) {
+                assertArrayEquals(daemon.files.get(HASHES[1]), StubDaemon.readAll(inputStream));
+            }
+            assertTrue(Files.exists(directory.resolve(HASHES[1])));
+
+            // A file is verified when it is read at first by a cache loading it from the directory.
+            Files.write(directory.resolve(HASHES[1]), randomBytes(300_000));
+            ipfs.setCache(new IPFSCache(0, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000));
+            try(InputStream inputStream = ipfs.getStream(HASHES[1])) {
+                StubDaemon.readAll(inputStream);
+                fail();
+            } catch(IOException e) {
+                assertEquals("The cached file of " + HASHES[1] + " is corrupted.", e.getMessage());
+            }
+
+            // The corrupted file is removed, so it is fetched again.
+            assertFalse(Files.exists(directory.resolve(HASHES[1])));
+            assertArrayEquals(daemon.files.get(HASHES[1]), ipfs.get(HASHES[1]));
+            assertEquals(2, daemon.catCount.get());
+        }
+
+        @Test
+        public void verifyOnce() throws IOException {
+            ipfs.setCache(new IPFSCache(0, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000));
+            ipfs.get(HASHES[1]);
+
+            IPFSCache reopened = new IPFSCache(0, directory, IPFSCache.DEFAULT_DISK_CAPACITY, 100_000);
+            ipfs.setCache(reopened);
+            assertArrayEquals(daemon.files.get(HASHES[1]), ipfs.get(HASHES[1]));
+
+            // The verified file is not hashed again, so a change on disk after the first read is not detected.
+            Files.write(directory.resolve(HASHES[1]), randomBytes(300_000));
+            ipfs.get(HASHES[1]);
+            try(InputStream inputStream = ipfs.getStream(HASHES[1])) {
+                StubDaemon.readAll(inputStream);
+            }
+
+            assertEquals(1, daemon.catCount.get());
+            assertEquals(3, reopened.getDiskHitCount());
+        }
+
+        @Test
+        public void removeFilesWithoutDigest() throws IOException {
+            Files.write(directory.resolve(HASHES[0]), new byte[10]);
+
+            IPFSCache cache = new IPFSCache(IPFSCache.DEFAULT_MEMORY_CAPACITY, directory, IPFSCache.DEFAULT_DISK_CAPACITY);
+            assertFalse(Files.exists(directory.resolve(HASHES[0])));
+            assertEquals(0, cache.getDiskSize());
+        }
+
+        @Test
+        public void removeTemporaryFiles() throws IOException {
+            Path tempFile = directory.resolve(HASHES[0] + "123.tmp");
+            Files.write(tempFile, new byte[10]);
+
+            IPFSCache cache = new IPFSCache(IPFSCache.DEFAULT_MEMORY_CAPACITY, directory, IPFSCache.DEFAULT_DISK_CAPACITY);
+            assertFalse(Files.exists(tempFile));
+            assertEquals(0, cache.getDiskSize());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.ipfs;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class IPFSStreamingTest {
+    static final String[] HASHES = {
+            "QmYtUc4iTCbbfVSDNKvtQqrfyezPPnFvE33wFmutw9PBBk",
+            "QmYzW1fXbapdxkZXMQeCYoDCjVc18H8tLfMfrxXRySmQiq",
+    };
+
+    /**
+     * A local IPFS daemon which keeps added files and serves them with "cat".
+     */
+    static class StubDaemon {
+        final HttpServer server;
+        final Map<String, byte[]> files = new ConcurrentHashMap<>();
+        final List<String> transferEncodings = new CopyOnWriteArrayList<>();
+        final AtomicInteger catCount = new AtomicInteger();
+        volatile long delay;
+
+        StubDaemon() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v0/add", exchange -> {
+                transferEncodings.add(String.valueOf(exchange.getRequestHeaders().getFirst("Transfer-Encoding")));
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+                byte[] content = parseMultipart(readAll(exchange.getRequestBody()), boundary);
+
+                String hash = HASHES[files.size() % HASHES.length];
+                files.put(hash, content);
+                byte[] body = ("{\"Name\":\"file\",\"Hash\":\"" + hash + "\",\"Size\":\"" + content.length + "\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try(OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            });
+            server.createContext("/api/v0/cat", exchange -> {
+                catCount.incrementAndGet();
+                if(delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                String hash = exchange.getRequestURI().getQuery().substring("arg=".length());
+                byte[] content = files.get(hash);
+                if(content == null) {
+                    exchange.sendResponseHeaders(500, -1);
+                    exchange.close();
+                    return;
+                }
+                exchange.sendResponseHeaders(200, content.length);
+                try(OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(content);
+                }
+            });
+            server.start();
+        }
+
+        static byte[] parseMultipart(byte[] body, String boundary) {
+            byte[] headerEnd = "\r\n\r\n".getBytes(StandardCharsets.UTF_8);
+            byte[] footer = ("\r\n--" + boundary + "--").getBytes(StandardCharsets.UTF_8);
+            int start = indexOf(body, headerEnd) + headerEnd.length;
+            return Arrays.copyOfRange(body, start, body.length - footer.length);
+        }
+
+        static int indexOf(byte[] array, byte[] target) {
+            outer:
+            for(int i = 0; i <= array.length - target.length; i++) {
+                for(int j = 0; j < target.length; j++) {
+                    if(array[i + j] != target[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+
+        static byte[] readAll(InputStream inputStream) throws IOException {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int r;
+            while((r = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, r);
+            }
+            return outputStream.toByteArray();
+        }
+
+        int port() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    public static class addTest {
+        StubDaemon daemon;
+        IPFS ipfs;
+
+        @Before
+        public void before() throws IOException {
+            daemon = new StubDaemon();
+            ipfs = new IPFS("127.0.0.1", daemon.port(), false);
+        }
+
+        @After
+        public void after() {
+            daemon.stop();
+        }
+
+        @Test
+        public void addPath() throws IOException {
+            byte[] content = randomBytes(300_000);
+            Path file = Files.createTempFile("ipfs", ".bin");
+            try {
+                Files.write(file, content);
+
+                String hash = ipfs.add(file);
+                assertEquals(HASHES[0], hash);
+                assertArrayEquals(content, daemon.files.get(hash));
+                // The size of a file is known, so the body is sent with Content-Length.
+                assertEquals("null", daemon.transferEncodings.get(0));
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        @Test
+        public void addMultiLineFile() throws IOException {
+            String text = "first line\nsecond line\n";
+            Path file = Files.createTempFile("ipfs", ".txt");
+            try {
+                Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+                String hash = ipfs.add(file.toString());
+                assertEquals(text, new String(daemon.files.get(hash), StandardCharsets.UTF_8));
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        @Test
+        public void addInputStream() throws IOException {
+            byte[] content = randomBytes(200_000);
+
+            String hash = ipfs.add(new ByteArrayInputStream(content));
+            assertArrayEquals(content, daemon.files.get(hash));
+            assertEquals("chunked", daemon.transferEncodings.get(0).toLowerCase());
+        }
+
+        @Test
+        public void addByteArray() throws IOException {
+            byte[] content = "This is IPFS test.".getBytes(StandardCharsets.UTF_8);
+
+            String hash = ipfs.add(content);
+            assertArrayEquals(content, daemon.files.get(hash));
+        }
+
+        @Test
+        public void addPaths() throws IOException {
+            List<Path> files = new ArrayList<>();
+            try {
+                for(int i = 0; i < 2; i++) {
+                    Path file = Files.createTempFile("ipfs", ".bin");
+                    Files.write(file, randomBytes(1000 + i));
+                    files.add(file);
+                }
+
+                List<String> hashes = ipfs.add(files, 2);
+                assertEquals(2, hashes.size());
+                for(int i = 0; i < 2; i++) {
+                    assertEquals(1000 + i, daemon.files.get(hashes.get(i)).length);
+                }
+            } finally {
+                for(Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    public static class getTest {
+        StubDaemon daemon;
+        IPFS ipfs;
+        byte[] content = randomBytes(250_000);
+
+        @Before
+        public void before() throws IOException {
+            daemon = new StubDaemon();
+            daemon.files.put(HASHES[0], content);
+            ipfs = new IPFS("127.0.0.1", daemon.port(), false);
+        }
+
+        @After
+        public void after() {
+            daemon.stop();
+        }
+
+        @Test
+        public void getByteArray() throws IOException {
+            assertArrayEquals(content, ipfs.get(HASHES[0]));
+        }
+
+        @Test
+        public void getStream() throws IOException {
+            try(InputStream inputStream = ipfs.getStream(HASHES[0])) {
+                assertArrayEquals(content, StubDaemon.readAll(inputStream));
+            }
+        }
+
+        @Test
+        public void getToPath() throws IOException {
+            Path file = Files.createTempFile("ipfs", ".bin");
+            try {
+                assertEquals(content.length, ipfs.get(HASHES[0], file));
+                assertArrayEquals(content, Files.readAllBytes(file));
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        @Test
+        public void keepExistingFileOnFailure() throws IOException {
+            Path directory = Files.createTempDirectory("ipfs");
+            Path file = directory.resolve("file.bin");
+            Files.write(file, "old".getBytes(StandardCharsets.UTF_8));
+            try {
+                ipfs.get(HASHES[1], file);
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("IOException contacting IPFS daemon."));
+            } finally {
+                assertArrayEquals("old".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+                // The temporary file is removed.
+                assertEquals(1, directory.toFile().list().length);
+
+                Files.delete(file);
+                Files.delete(directory);
+            }
+        }
+
+        @Test
+        public void throwLocalIOException() throws IOException {
+            Path directory = Files.createTempDirectory("ipfs");
+            try {
+                ipfs.get(HASHES[0], directory.resolve("missing").resolve("file.bin"));
+                fail();
+            } catch(NoSuchFileException e) {
+                assertEquals(0, daemon.catCount.get());
+            } finally {
+                Files.delete(directory);
+            }
+        }
+
+        @Test
+        public void getUnknownFile() throws IOException {
+            try {
+                ipfs.getStream(HASHES[1]);
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("IOException contacting IPFS daemon."));
+            }
+        }
+    }
+}
@@ -20,7 +20,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.account.Account;
 import com.klaytn.caver.account.AccountKeyLegacy;
+import com.klaytn.caver.account.AccountKeyPublic;
 import com.klaytn.caver.methods.response.AccountKey;
+import com.klaytn.caver.methods.response.TransactionReceipt;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.type.*;
@@ -30,20 +32,31 @@ import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.MessageSigned;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -209,6 +222,22 @@ public class ValidatorTest {
             Validator validator = new Validator(klay);
             assertFalse(validator.validateSignedMessage(message, invalid, keyring.getAddress()));
         }
+
+        @Test
+        public void returnFalse_invalidPublicKeyInAccountKey() throws IOException {
+            // An invalid public key must not match a public key which can't be recovered.
+            AccountKeyPublic invalidKey = mock(AccountKeyPublic.class);
+            when(invalidKey.getPublicKey()).thenReturn("0x1234");
+
+            AccountKey invalidAccountKey = new AccountKey();
+            invalidAccountKey.setResult(new AccountKey.AccountKeyData(AccountKeyPublic.getType(), invalidKey));
+
+            Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            when(klay.getAccountKey(anyString()).send()).thenReturn(invalidAccountKey);
+
+            Validator validator = new Validator(klay);
+            assertFalse(validator.validateSignedMessage(message, signatureData, address));
+        }
     }
 
     public static class validatedSignedMessage_AccountKeyFail {
@@ -1743,4 +1772,200 @@ public class ValidatorTest {
             assertTrue(validator.validateTransaction(accessTxBuilder.build()));
         }
     }
-}
\ No newline at end of file
+
+    public static class accountKeyCacheTest {
+        static String address = "0xa84a1ce657e9d5b383cece6f4ba365e23fa234dd";
+        static String message = "Some Message";
+        static SignatureData signatureData = new SignatureData("0x1b", "0x8213e560e7bbe1f2e28fd69cbbb41c9108b84c98cd7c2c88d3c8e3549fd6ab10", "0x3ca40c9e20c1525348d734a6724db152b9244bff6e0ff0c2b811d61d8f874f00");
+
+        Klay klay;
+
+        @Before
+        @SuppressWarnings("unchecked")
+        public void before() throws IOException {
+            AccountKey accountKey = new AccountKey();
+            accountKey.setResult(new AccountKey.AccountKeyData(AccountKeyLegacy.getType(), new AccountKeyLegacy()));
+
+            Request<?, AccountKey> request = mock(Request.class);
+            when(request.send()).thenReturn(accountKey);
+
+            klay = mock(Klay.class);
+            doReturn(request).when(klay).getAccountKey(anyString());
+        }
+
+        @Test
+        public void useCachedAccountKey() {
+            Validator validator = new Validator(klay, new AccountKeyCache());
+
+            assertTrue(validator.validateSignedMessage(message, signatureData, address));
+            assertTrue(validator.validateSignedMessage(message, signatureData, address.toUpperCase().replace("0X", "0x")));
+
+            verify(klay, times(1)).getAccountKey(anyString());
+        }
+
+        @Test
+        public void requestEveryTimeWithoutCache() {
+            Validator validator = new Validator(klay);
+
+            assertTrue(validator.validateSignedMessage(message, signatureData, address));
+            assertTrue(validator.validateSignedMessage(message, signatureData, address));
+
+            verify(klay, times(2)).getAccountKey(anyString());
+        }
+
+        @Test
+        public void invalidateAccountUpdates() {
+            AccountKeyCache cache = new AccountKeyCache();
+            Validator validator = new Validator(klay, cache);
+            validator.validateSignedMessage(message, signatureData, address);
+
+            TransactionReceipt.TransactionReceiptData valueTransfer = new TransactionReceipt.TransactionReceiptData();
+            valueTransfer.setType("TxTypeValueTransfer");
+            valueTransfer.setFrom(address);
+            cache.invalidateAccountUpdates(Collections.singletonList(valueTransfer));
+            assertEquals(1, cache.size());
+
+            TransactionReceipt.TransactionReceiptData accountUpdate = new TransactionReceipt.TransactionReceiptData();
+            accountUpdate.setType("TxTypeFeeDelegatedAccountUpdate");
+            accountUpdate.setFrom(address);
+            cache.invalidateAccountUpdates(Collections.singletonList(accountUpdate));
+            assertEquals(0, cache.size());
+
+            validator.validateSignedMessage(message, signatureData, address);
+            verify(klay, times(2)).getAccountKey(anyString());
+        }
+
+        @Test
+        public void expireAfterTimeToLive() throws InterruptedException {
+            AccountKeyCache cache = new AccountKeyCache(10, 1);
+            cache.put(address, new AccountKeyLegacy());
+
+            Thread.sleep(10);
+
+            assertNull(cache.get(address));
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        public void removeLeastRecentlyUsed() {
+            AccountKeyCache cache = new AccountKeyCache(2, AccountKeyCache.DEFAULT_TIME_TO_LIVE);
+            cache.put("0x01", new AccountKeyLegacy());
+            cache.put("0x02", new AccountKeyLegacy());
+            cache.get("0x01");
+            cache.put("0x03", new AccountKeyLegacy());
+
+            assertEquals(2, cache.size());
+            assertNotNull(cache.get("0x01"));
+            assertNull(cache.get("0x02"));
+            assertNotNull(cache.get("0x03"));
+        }
+    }
+
+    public static class validateAllTest {
+        static String message = "Some Message";
+
+        Web3jService web3jService;
+        Klay klay;
+
+        @Before
+        public void before() throws IOException {
+            web3jService = mock(Web3jService.class);
+            klay = new Klay(web3jService);
+
+            when(web3jService.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+                BatchRequest batchRequest = invocation.getArgument(0);
+
+                List<Response<?>> responses = new ArrayList<>();
+                for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                    AccountKey accountKey = new AccountKey();
+                    accountKey.setId(request.getId());
+                    accountKey.setResult(new AccountKey.AccountKeyData(AccountKeyLegacy.getType(), new AccountKeyLegacy()));
+                    responses.add(accountKey);
+                }
+                // Responses of a batch may be returned in any order.
+                Collections.reverse(responses);
+                return new BatchResponse(batchRequest.getRequests(), responses);
+            });
+        }
+
+        @Test
+        public void validateAllSignedMessages() throws IOException {
+            List<SignedMessage> signedMessages = new ArrayList<>();
+            List<Boolean> expected = new ArrayList<>();
+            for(int i = 0; i < 150; i++) {
+                SingleKeyring keyring = KeyringFactory.generate();
+                MessageSigned signed = keyring.signMessage(message, 0);
+                signedMessages.add(new SignedMessage(message, signed.getSignatures(), keyring.getAddress(), false));
+                expected.add(true);
+
+                if(i % 10 == 0) {
+                    // Signed by another account.
+                    signedMessages.add(new SignedMessage(message, signed.getSignatures(), KeyringFactory.generate().getAddress(), false));
+                    expected.add(false);
+                }
+            }
+            // A signature which can't be recovered.
+            signedMessages.add(new SignedMessage(message, new SignatureData("0x1b", "0x00", "0x00"), KeyringFactory.generate().getAddress()));
+            expected.add(false);
+
+            Validator validator = new Validator(klay, new AccountKeyCache());
+            assertEquals(expected, validator.validateAllSignedMessages(signedMessages));
+
+            // 166 accounts in 2 batches.
+            verify(web3jService, times(2)).sendBatch(any(BatchRequest.class));
+
+            // All account keys are cached.
+            assertEquals(expected, validator.validateAllSignedMessages(signedMessages));
+            verify(web3jService, times(2)).sendBatch(any(BatchRequest.class));
+        }
+
+        @Test
+        public void validateAllTransactions() throws IOException {
+            LegacyTransaction valid = new LegacyTransaction.Builder()
+                    .setFrom("0xf21460730845e3652aa3cc9bc13b345e4f53984a")
+                    .setTo("0x59177716c34ac6e49e295a0e78e33522f14d61ee")
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setGasPrice("0x5d21dba00")
+                    .setNonce("0x0")
+                    .setGas("0x2faf080")
+                    .setSignatures(new SignatureData(
+                            "0x0fe9",
+                            "0xecdec357060dbbb4bd3790e98b1733ec3a0b02b7e4ec7a5622f93cd9bee229fe",
+                            "0x0a4a5e28753e7c1d999b286fb07933c5bf353079b8ed4d1ed509a838b48be02c"
+                    ))
+                    .build();
+
+            LegacyTransaction invalid = new LegacyTransaction.Builder()
+                    .setFrom("0x59177716c34ac6e49e295a0e78e33522f14d61ee")
+                    .setTo("0x59177716c34ac6e49e295a0e78e33522f14d61ee")
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setGasPrice("0x5d21dba00")
+                    .setNonce("0x0")
+                    .setGas("0x2faf080")
+                    .setSignatures(new SignatureData(
+                            "0x0fe9",
+                            "0xecdec357060dbbb4bd3790e98b1733ec3a0b02b7e4ec7a5622f93cd9bee229fe",
+                            "0x0a4a5e28753e7c1d999b286fb07933c5bf353079b8ed4d1ed509a838b48be02c"
+                    ))
+                    .build();
+
+            // A signature which can't be recovered.
+            LegacyTransaction unrecoverable = new LegacyTransaction.Builder()
+                    .setFrom("0xf21460730845e3652aa3cc9bc13b345e4f53984a")
+                    .setTo("0x59177716c34ac6e49e295a0e78e33522f14d61ee")
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setGasPrice("0x5d21dba00")
+                    .setNonce("0x0")
+                    .setGas("0x2faf080")
+                    .setSignatures(new SignatureData("0x0fe9", "0x00", "0x00"))
+                    .build();
+
+            Validator validator = new Validator(klay);
+            assertEquals(Arrays.asList(true, false, false, true), validator.validateAll(Arrays.asList(valid, invalid, unrecoverable, valid)));
+            verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+        }
+    }
+}